@@ -25,6 +25,8 @@
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /// The main runtime interface between a Java application and Hibernate. Represents the
 /// notion of a _persistence context_, a set of managed entity instances associated
@@ -486,6 +488,38 @@ public interface Session extends SharedSessionContract, EntityManager {
 	@Override
 	<T> T find(Class<T> entityType, Object id, FindOption... options);
 
+	/// Asynchronously return the persistent instance of the given entity class with the
+	/// given identifier, or null if there is no such persistent instance, as specified
+	/// by [#find(Class,Object,FindOption...)].
+	///
+	/// The operation is executed on the [executor][org.hibernate.cfg.QuerySettings#ASYNC_EXECUTOR]
+	/// configured for asynchronous operations, after every asynchronous operation previously
+	/// requested from this session completes. This session must not be used by the calling
+	/// thread until the returned stage completes.
+	///
+	/// Since the asynchronous operations of a session are executed one at a time, this is
+	/// not a way to execute several operations concurrently. It only frees the calling thread.
+	///
+	/// @implSpec The default implementation executes the operation immediately, on the
+	/// calling thread.
+	///
+	/// @param entityType the entity type
+	/// @param id an identifier
+	/// @param options options controlling the behavior of the operation
+	///
+	/// @return a stage completed with a fully-fetched persistent instance or null
+	///
+	/// @since 7.4
+	@Incubating
+	default <T> CompletionStage<T> findAsync(Class<T> entityType, Object id, FindOption... options) {
+		try {
+			return CompletableFuture.completedFuture( find( entityType, id, options ) );
+		}
+		catch (RuntimeException e) {
+			return CompletableFuture.failedFuture( e );
+		}
+	}
+
 	/// Return the persistent instance of the named entity type with the given identifier,
 	/// or null if there is no such persistent instance.
 	///
@@ -48,6 +48,11 @@
  * <p>
  * will initialize up to 5 unfetched collections of {@code Product}s in
  * each SQL {@code select}.
+ * <p>
+ * For a bytecode-enhanced entity, the batch size also limits the number
+ * of entities associated with the session whose {@linkplain LazyGroup
+ * lazy group} of basic attributes is initialized in a single SQL
+ * {@code select} when the group is accessed for one of them.
  *
  * @see org.hibernate.cfg.AvailableSettings#DEFAULT_BATCH_FETCH_SIZE
  *
@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.internal;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryEngine;
+
+/**
+ * Responsible for {@linkplain QueryEngine#startInterpretationCacheWarmup()
+ * warming up the query interpretation cache} when the {@link SessionFactory}
+ * is created, after the domain model is fully built.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_WARMUP_FILE
+ *
+ * @since 7.4
+ */
+class SessionFactoryObserverForQueryPlanWarmup implements SessionFactoryObserver {
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		( (SessionFactoryImplementor) factory ).getQueryEngine().startInterpretationCacheWarmup();
+	}
+}
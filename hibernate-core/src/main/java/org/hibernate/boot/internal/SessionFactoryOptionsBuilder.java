@@ -15,6 +15,12 @@
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -29,6 +35,7 @@
 import org.hibernate.Interceptor;
 import org.hibernate.LockOptions;
 import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.model.internal.TemporalHelper;
 import org.hibernate.temporal.TemporalTableStrategy;
@@ -56,8 +63,10 @@
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.internal.CompactLoadedStateStore;
 import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.LoadedStateStore;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.internal.EmptyInterceptor;
 import org.hibernate.internal.util.NullnessHelper;
@@ -92,6 +101,7 @@
 import static org.hibernate.cfg.AvailableSettings.*;
 import static org.hibernate.cfg.DialectSpecificSettings.ORACLE_OSON_DISABLED;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
+import static org.hibernate.engine.config.spi.StandardConverters.INTEGER;
 import static org.hibernate.id.uuid.LocalObjectUuidHelper.generateLocalObjectUuid;
 import static org.hibernate.internal.LockOptionsHelper.applyPropertiesToLockOptions;
 import static org.hibernate.internal.log.DeprecationLogger.DEPRECATION_LOGGER;
@@ -101,6 +111,7 @@
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 import static org.hibernate.jpa.internal.util.CacheModeHelper.interpretCacheMode;
 import static org.hibernate.jpa.internal.util.ConfigurationHelper.getFlushMode;
@@ -156,6 +167,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private Interceptor interceptor;
 	private Supplier<? extends Interceptor> statelessInterceptorSupplier;
 	private StatementInspector statementInspector;
+	private Executor asyncExecutor;
 	private final List<SessionFactoryObserver> sessionFactoryObserverList = new ArrayList<>();
 
 	// persistence behavior
@@ -168,6 +180,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TemporalTableStrategy temporalTableStrategy;
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
+	private int multiLoadConcurrency;
+	private int adaptiveBatchFetchThreshold;
 	private boolean subselectFetchEnabled;
 	private Nulls defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
@@ -176,6 +190,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean unownedAssociationTransientCheck;
 	private final boolean passProcedureParameterNames;
 	private final boolean preferJdbcDatetimeTypes;
+	private final boolean adaptiveFetchSizeEnabled;
+	private final boolean bulkInsertsEnabled;
+	private final boolean multiRowInsertsEnabled;
+	private final boolean batchPipeliningEnabled;
+	private final int parallelDirtyCheckThreshold;
+	private final LoadedStateStore loadedStateStore;
+	private final boolean compactEntityMapEnabled;
 
 	// JPA callbacks
 	private final boolean callbacksEnabled;
@@ -210,10 +231,15 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean queryCacheBatchLoadEnabled;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean binaryCacheEntriesEnabled;
+	private int nearCacheMaxEntries;
+	private int nearCacheTimeToLive;
+	private int timestampsFlushInterval;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -250,6 +276,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean xmlFunctionsEnabled;
 
 	private final int queryStatisticsMaxSize;
+	private final boolean sqlProfilingEnabled;
+	private final long sqlProfilingSlowThreshold;
+	private final int sqlProfilingSlowSamples;
 
 	private final Map<String, Object> defaultSessionProperties;
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -354,6 +383,22 @@ public BootstrapContext getBootstrapContext() {
 						settings.get( STATEMENT_INSPECTOR )
 				);
 
+		final Object explicitAsyncExecutor = settings.get( ASYNC_EXECUTOR );
+		if ( explicitAsyncExecutor == null ) {
+			final var defaultAsyncExecutor = defaultAsyncExecutor();
+			// the executor belongs to the factory, and goes away with it
+			sessionFactoryObserverList.add( new SessionFactoryObserver() {
+				@Override
+				public void sessionFactoryClosed(SessionFactory factory) {
+					defaultAsyncExecutor.shutdown();
+				}
+			} );
+			asyncExecutor = defaultAsyncExecutor;
+		}
+		else {
+			asyncExecutor = strategySelector.resolveStrategy( Executor.class, explicitAsyncExecutor );
+		}
+
 
 		baselineSessionEventsListenerBuilder =
 				new BaselineSessionEventsListenerBuilder( getAutoSessionEventsListener( settings, strategySelector ) );
@@ -390,6 +435,8 @@ public BootstrapContext getBootstrapContext() {
 		defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, settings, -1 );
 		subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, settings );
 		maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, settings );
+		multiLoadConcurrency = Math.max( 1, getInt( MULTI_LOAD_CONCURRENCY, settings, 1 ) );
+		adaptiveBatchFetchThreshold = Math.max( 0, getInt( ADAPTIVE_BATCH_FETCH_THRESHOLD, settings, 0 ) );
 
 		defaultNullPrecedence = getDefaultNullPrecedence( settings.get( DEFAULT_NULL_ORDERING ) );
 
@@ -450,6 +497,8 @@ public BootstrapContext getBootstrapContext() {
 							value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 							CacheLayout.FULL
 					);
+			queryCacheBatchLoadEnabled =
+					configurationService.getSetting( QUERY_CACHE_BATCH_LOAD, BOOLEAN, false );
 			timestampsCacheFactory =
 					strategySelector.resolveDefaultableStrategy(
 							TimestampsCacheFactory.class,
@@ -463,6 +512,14 @@ public BootstrapContext getBootstrapContext() {
 					);
 			structuredCacheEntriesEnabled =
 					configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			binaryCacheEntriesEnabled =
+					configurationService.getSetting( USE_BINARY_CACHE, BOOLEAN, false );
+			nearCacheMaxEntries =
+					configurationService.getSetting( NEAR_CACHE_MAX_ENTRIES, INTEGER, 0 );
+			nearCacheTimeToLive =
+					configurationService.getSetting( NEAR_CACHE_TTL, INTEGER, 60_000 );
+			timestampsFlushInterval =
+					configurationService.getSetting( TIMESTAMPS_FLUSH_INTERVAL, INTEGER, 0 );
 			directReferenceCacheEntriesEnabled =
 					configurationService.getSetting( USE_DIRECT_REFERENCE_CACHE_ENTRIES, BOOLEAN, false );
 			autoEvictCollectionCache =
@@ -472,10 +529,15 @@ public BootstrapContext getBootstrapContext() {
 			secondLevelCacheEnabled = false;
 			queryCacheEnabled = false;
 			queryCacheLayout = CacheLayout.AUTO;
+			queryCacheBatchLoadEnabled = false;
 			timestampsCacheFactory = null;
 			cacheRegionPrefix = null;
 			minimalPutsEnabled = false;
 			structuredCacheEntriesEnabled = false;
+			binaryCacheEntriesEnabled = false;
+			nearCacheMaxEntries = 0;
+			nearCacheTimeToLive = 0;
+			timestampsFlushInterval = 0;
 			directReferenceCacheEntriesEnabled = false;
 			autoEvictCollectionCache = false;
 		}
@@ -548,6 +610,9 @@ public BootstrapContext getBootstrapContext() {
 
 		queryStatisticsMaxSize =
 				getInt( QUERY_STATISTICS_MAX_SIZE, settings, DEFAULT_QUERY_STATISTICS_MAX_SIZE );
+		sqlProfilingEnabled = getBoolean( SQL_PROFILING, settings );
+		sqlProfilingSlowThreshold = getLong( SQL_PROFILING_SLOW_THRESHOLD, settings, 1000 );
+		sqlProfilingSlowSamples = getInt( SQL_PROFILING_SLOW_SAMPLES, settings, 100 );
 
 		unownedAssociationTransientCheck =
 				getBoolean( UNOWNED_ASSOCIATION_TRANSIENT_CHECK, settings, isJpaBootstrap() );
@@ -556,6 +621,19 @@ public BootstrapContext getBootstrapContext() {
 
 		preferJdbcDatetimeTypes = getBoolean( NATIVE_PREFER_JDBC_DATETIME_TYPES, settings );
 
+		adaptiveFetchSizeEnabled = getBoolean( ADAPTIVE_FETCH_SIZE, settings );
+
+		bulkInsertsEnabled = getBoolean( BULK_INSERTS, settings );
+
+		multiRowInsertsEnabled = getBoolean( MULTI_ROW_INSERTS, settings );
+		batchPipeliningEnabled = getBoolean( BATCH_PIPELINING, settings );
+
+		parallelDirtyCheckThreshold = getInt( FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD, settings, 0 );
+
+		loadedStateStore = resolveLoadedStateStore( settings.get( PERSISTENCE_CONTEXT_LOADED_STATE_STORE ), strategySelector );
+
+		compactEntityMapEnabled = getBoolean( PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP, settings );
+
 		defaultSessionProperties = initializeDefaultSessionProperties( configurationService );
 
 		defaultCacheStoreMode = defaultCacheStoreMode( defaultSessionProperties );
@@ -831,6 +909,18 @@ private SqmTranslatorFactory resolveSqmTranslator(
 		}
 	}
 
+	private static LoadedStateStore resolveLoadedStateStore(
+			Object setting,
+			StrategySelector strategySelector) {
+		if ( setting instanceof String name
+				&& CompactLoadedStateStore.SHORT_NAME.equalsIgnoreCase( name.trim() ) ) {
+			return CompactLoadedStateStore.INSTANCE;
+		}
+		else {
+			return strategySelector.resolveStrategy( LoadedStateStore.class, setting );
+		}
+	}
+
 	private static Interceptor determineInterceptor(
 			Map<String, Object> configurationSettings,
 			StrategySelector strategySelector) {
@@ -1132,6 +1222,33 @@ public StatementInspector getStatementInspector() {
 		return statementInspector;
 	}
 
+	@Override
+	public Executor getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
+	/**
+	 * A pool of daemon threads, one per processor, which never competes
+	 * with unrelated work for the {@linkplain java.util.concurrent.ForkJoinPool#commonPool
+	 * common pool}.
+	 */
+	private static ExecutorService defaultAsyncExecutor() {
+		final var threadCount = new AtomicInteger();
+		final int poolSize = Runtime.getRuntime().availableProcessors();
+		final var executor = new ThreadPoolExecutor(
+				poolSize, poolSize,
+				60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				runnable -> {
+					final var thread = new Thread( runnable, "Hibernate async " + threadCount.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		executor.allowCoreThreadTimeOut( true );
+		return executor;
+	}
+
 	@Override
 	public SessionFactoryObserver[] getSessionFactoryObservers() {
 		return sessionFactoryObserverList.toArray( new SessionFactoryObserver[0] );
@@ -1183,6 +1300,16 @@ public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
 	}
 
+	@Override
+	public int getMultiLoadConcurrency() {
+		return multiLoadConcurrency;
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchThreshold() {
+		return adaptiveBatchFetchThreshold;
+	}
+
 	@Override
 	public boolean isSubselectFetchEnabled() {
 		return subselectFetchEnabled;
@@ -1248,6 +1375,11 @@ public CacheLayout getQueryCacheLayout() {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isQueryCacheBatchLoadEnabled() {
+		return queryCacheBatchLoadEnabled;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1268,6 +1400,26 @@ public boolean isStructuredCacheEntriesEnabled() {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return binaryCacheEntriesEnabled;
+	}
+
+	@Override
+	public int getNearCacheMaxEntries() {
+		return nearCacheMaxEntries;
+	}
+
+	@Override
+	public int getNearCacheTimeToLive() {
+		return nearCacheTimeToLive;
+	}
+
+	@Override
+	public int getTimestampsFlushInterval() {
+		return timestampsFlushInterval;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1429,6 +1581,21 @@ public int getQueryStatisticsMaxSize() {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public boolean isSqlProfilingEnabled() {
+		return sqlProfilingEnabled;
+	}
+
+	@Override
+	public long getSqlProfilingSlowThreshold() {
+		return sqlProfilingSlowThreshold;
+	}
+
+	@Override
+	public int getSqlProfilingSlowSamples() {
+		return sqlProfilingSlowSamples;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
@@ -1439,6 +1606,41 @@ public boolean isCollectionsInDefaultFetchGroupEnabled() {
 		return collectionsInDefaultFetchGroupEnabled;
 	}
 
+	@Override
+	public boolean isCompactEntityMapEnabled() {
+		return compactEntityMapEnabled;
+	}
+
+	@Override
+	public LoadedStateStore getLoadedStateStore() {
+		return loadedStateStore;
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return parallelDirtyCheckThreshold;
+	}
+
+	@Override
+	public boolean isMultiRowInsertsEnabled() {
+		return multiRowInsertsEnabled;
+	}
+
+	@Override
+	public boolean isBulkInsertsEnabled() {
+		return bulkInsertsEnabled;
+	}
+
+	@Override
+	public boolean isBatchPipeliningEnabled() {
+		return batchPipeliningEnabled;
+	}
+
+	@Override
+	public boolean isAdaptiveFetchSizeEnabled() {
+		return adaptiveFetchSizeEnabled;
+	}
+
 	@Override
 	public boolean isUnownedAssociationTransientCheck() {
 		return unownedAssociationTransientCheck;
@@ -6,6 +6,7 @@
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -30,6 +31,7 @@
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.LoadedStateStore;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.proxy.EntityNotFoundDelegate;
@@ -165,6 +167,11 @@ public StatementInspector getStatementInspector() {
 		return delegate.getStatementInspector();
 	}
 
+	@Override
+	public Executor getAsyncExecutor() {
+		return delegate.getAsyncExecutor();
+	}
+
 	@Override
 	public SessionFactoryObserver[] getSessionFactoryObservers() {
 		return delegate.getSessionFactoryObservers();
@@ -210,6 +217,16 @@ public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
 	}
 
+	@Override
+	public int getMultiLoadConcurrency() {
+		return delegate.getMultiLoadConcurrency();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchThreshold() {
+		return delegate.getAdaptiveBatchFetchThreshold();
+	}
+
 	@Override
 	public boolean isSubselectFetchEnabled() {
 		return delegate.isSubselectFetchEnabled();
@@ -290,6 +307,11 @@ public CacheLayout getQueryCacheLayout() {
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isQueryCacheBatchLoadEnabled() {
+		return delegate.isQueryCacheBatchLoadEnabled();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -310,6 +332,26 @@ public boolean isStructuredCacheEntriesEnabled() {
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return delegate.isBinaryCacheEntriesEnabled();
+	}
+
+	@Override
+	public int getNearCacheMaxEntries() {
+		return delegate.getNearCacheMaxEntries();
+	}
+
+	@Override
+	public int getNearCacheTimeToLive() {
+		return delegate.getNearCacheTimeToLive();
+	}
+
+	@Override
+	public int getTimestampsFlushInterval() {
+		return delegate.getTimestampsFlushInterval();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -499,6 +541,56 @@ public boolean isCollectionsInDefaultFetchGroupEnabled() {
 		return delegate.isCollectionsInDefaultFetchGroupEnabled();
 	}
 
+	@Override
+	public boolean isCompactEntityMapEnabled() {
+		return delegate.isCompactEntityMapEnabled();
+	}
+
+	@Override
+	public LoadedStateStore getLoadedStateStore() {
+		return delegate.getLoadedStateStore();
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return delegate.getParallelDirtyCheckThreshold();
+	}
+
+	@Override
+	public boolean isMultiRowInsertsEnabled() {
+		return delegate.isMultiRowInsertsEnabled();
+	}
+
+	@Override
+	public boolean isBulkInsertsEnabled() {
+		return delegate.isBulkInsertsEnabled();
+	}
+
+	@Override
+	public boolean isBatchPipeliningEnabled() {
+		return delegate.isBatchPipeliningEnabled();
+	}
+
+	@Override
+	public boolean isSqlProfilingEnabled() {
+		return delegate.isSqlProfilingEnabled();
+	}
+
+	@Override
+	public long getSqlProfilingSlowThreshold() {
+		return delegate.getSqlProfilingSlowThreshold();
+	}
+
+	@Override
+	public int getSqlProfilingSlowSamples() {
+		return delegate.getSqlProfilingSlowSamples();
+	}
+
+	@Override
+	public boolean isAdaptiveFetchSizeEnabled() {
+		return delegate.isAdaptiveFetchSizeEnabled();
+	}
+
 	@Override
 	public boolean isUnownedAssociationTransientCheck() {
 		return delegate.isUnownedAssociationTransientCheck();
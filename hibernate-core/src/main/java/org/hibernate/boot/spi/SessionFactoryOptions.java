@@ -6,6 +6,8 @@
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -33,6 +35,7 @@
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.LoadedStateStore;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.jpa.spi.JpaCompliance;
@@ -183,6 +186,18 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	StatementInspector getStatementInspector();
 
+	/**
+	 * The {@link Executor} on which asynchronous operations are executed.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#ASYNC_EXECUTOR
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default Executor getAsyncExecutor() {
+		return ForkJoinPool.commonPool();
+	}
+
 	/**
 	 * {@linkplain SessionFactoryObserver Observers} for events raised by the factory.
 	 *
@@ -274,6 +289,32 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	Integer getMaximumFetchDepth();
 
+	/**
+	 * The maximum number of chunks of a multi-id load which are fetched concurrently.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MULTI_LOAD_CONCURRENCY
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int getMultiLoadConcurrency() {
+		return 1;
+	}
+
+	/**
+	 * The number of lazy fetches of an entity or collection role, one key at a time,
+	 * by a session, after which batch fetching is enabled for the role, or {@code 0}
+	 * if adaptive batch fetching is disabled.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_THRESHOLD
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int getAdaptiveBatchFetchThreshold() {
+		return 0;
+	}
+
 	/**
 	 * Is subselect fetching enabled by default in new sessions?
 	 *
@@ -375,6 +416,18 @@ default SessionEventListener[] buildSessionEventListeners() {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * Are the entities of a shallow query cache entry loaded all at once?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_BATCH_LOAD
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default boolean isQueryCacheBatchLoadEnabled() {
+		return false;
+	}
+
 	/**
 	 * A factory for the {@link TimestampsCache} used to track invalidation
 	 * of cached query result sets.
@@ -409,6 +462,57 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * Are second-level cache entries for entities stored in a compact binary format.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#USE_BINARY_CACHE
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default boolean isBinaryCacheEntriesEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of entries of a second-level cache region kept in a near cache,
+	 * or {@code 0} if there is no near cache.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int getNearCacheMaxEntries() {
+		return 0;
+	}
+
+	/**
+	 * The time to live of an entry of the near cache in milliseconds.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_TTL
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int getNearCacheTimeToLive() {
+		return 60_000;
+	}
+
+	/**
+	 * The interval in milliseconds at which invalidations of query spaces are
+	 * written to the timestamps region, or {@code 0} if every invalidation is
+	 * written immediately.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#TIMESTAMPS_FLUSH_INTERVAL
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int getTimestampsFlushInterval() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#USE_DIRECT_REFERENCE_CACHE_ENTRIES
 	 */
@@ -825,4 +929,131 @@ default JavaType<Object> getDefaultTenantIdentifierJavaType() {
 	 */
 	GraphParserMode getGraphParserMode();
 
+	/**
+	 * Should the persistence context store its entities in an
+	 * {@link org.hibernate.engine.internal.EntityKeyMap}?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default boolean isCompactEntityMapEnabled() {
+		return false;
+	}
+
+	/**
+	 * The {@link LoadedStateStore} used to hold the loaded state of managed entities,
+	 * or {@code null} if the loaded state is held as an array of property values.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_LOADED_STATE_STORE
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default LoadedStateStore getLoadedStateStore() {
+		return null;
+	}
+
+	/**
+	 * The minimum number of managed entities at which the flush-time dirty
+	 * check is performed in parallel, or {@code 0} if it is never parallelized.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int getParallelDirtyCheckThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Should batched inserts into the same table be coalesced into multi-row
+	 * {@code insert} statements?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default boolean isMultiRowInsertsEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should batched inserts into the same table be streamed using the bulk
+	 * loading protocol of the dialect?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BULK_INSERTS
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default boolean isBulkInsertsEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should a full JDBC batch be executed in the background while the next
+	 * batch is being built?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default boolean isBatchPipeliningEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should every SQL query be profiled, when statistics are enabled?
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SQL_PROFILING
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default boolean isSqlProfilingEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of milliseconds a profiled SQL query must take to be
+	 * sampled as a slow query.
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SQL_PROFILING_SLOW_THRESHOLD
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default long getSqlProfilingSlowThreshold() {
+		return 1000L;
+	}
+
+	/**
+	 * The number of samples of slow SQL queries to keep.
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SQL_PROFILING_SLOW_SAMPLES
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int getSqlProfilingSlowSamples() {
+		return 100;
+	}
+
+	/**
+	 * Should the JDBC fetch size of scrollable results grow as rows are consumed?
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default boolean isAdaptiveFetchSizeEnabled() {
+		return false;
+	}
+
 }
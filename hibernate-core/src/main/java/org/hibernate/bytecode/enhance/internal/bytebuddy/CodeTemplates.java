@@ -8,8 +8,11 @@
 import java.lang.annotation.RetentionPolicy;
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.ToIntFunction;
+
 
 import org.hibernate.bytecode.enhance.internal.tracker.CompositeOwnerTracker;
+import org.hibernate.bytecode.enhance.spi.DirtyAttributeMasks;
 import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.NoopCollectionTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleCollectionTracker;
@@ -124,6 +127,41 @@ static class GetDirtyAttributesWithoutCollections {
 		}
 	}
 
+	static class GetDirtyAttributeMask {
+		@Advice.OnMethodExit
+		static void $$_hibernate_getDirtyAttributeMask(
+				@Advice.This ExtendedSelfDirtinessTracker self,
+				@Advice.Argument(0) ToIntFunction<String> attributePositions,
+				@Advice.Return(readOnly = false) long[] returned,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_COLLECTION_NAME, readOnly = false) CollectionTracker $$_hibernate_collectionTracker) {
+			if ( $$_hibernate_collectionTracker == null ) {
+				returned = ( $$_hibernate_tracker == null )
+						? DirtyAttributeMasks.EMPTY_MASK
+						: $$_hibernate_tracker.getMask( attributePositions );
+			}
+			else {
+				if ( $$_hibernate_tracker == null ) {
+					$$_hibernate_tracker = new SimpleFieldTracker();
+				}
+				self.$$_hibernate_getCollectionFieldDirtyNames( $$_hibernate_tracker );
+				returned = $$_hibernate_tracker.getMask( attributePositions );
+			}
+		}
+	}
+
+	static class GetDirtyAttributeMaskWithoutCollections {
+		@Advice.OnMethodExit
+		static void $$_hibernate_getDirtyAttributeMask(
+				@Advice.Argument(0) ToIntFunction<String> attributePositions,
+				@Advice.Return(readOnly = false) long[] returned,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME) DirtyTracker $$_hibernate_tracker) {
+			returned = $$_hibernate_tracker == null
+					? DirtyAttributeMasks.EMPTY_MASK
+					: $$_hibernate_tracker.getMask( attributePositions );
+		}
+	}
+
 	static class GetCollectionTrackerWithoutCollections {
 		@Advice.OnMethodExit
 		static void $$_hibernate_getCollectionTracker( @Advice.Return(readOnly = false) CollectionTracker returned) {
@@ -85,6 +85,7 @@
 import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.TRACKER_COMPOSITE_FIELD_NAME;
 import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.TRACKER_COMPOSITE_SET_OWNER;
 import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.TRACKER_FIELD_NAME;
+import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.TRACKER_GET_MASK_NAME;
 import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.TRACKER_GET_NAME;
 import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.TRACKER_HAS_CHANGED_NAME;
 import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.TRACKER_SUSPEND_NAME;
@@ -394,6 +395,9 @@ private DynamicType.Builder<?> implementExtendedSelfDirtinessTracker(DynamicType
 						.intercept( constants.implementationTrackChange )
 				.defineMethod( TRACKER_GET_NAME, constants.Type_Array_String, constants.modifierPUBLIC )
 						.intercept( constants.implementationGetDirtyAttributes )
+				.defineMethod( TRACKER_GET_MASK_NAME, constants.Type_Array_Long, constants.modifierPUBLIC )
+						.withParameter( constants.TypeToIntFunction )
+						.intercept( constants.implementationGetDirtyAttributeMask )
 				.defineMethod( TRACKER_HAS_CHANGED_NAME, constants.TypeBooleanPrimitive, constants.modifierPUBLIC )
 						.intercept( constants.implementationAreFieldsDirty )
 				.defineMethod( TRACKER_CLEAR_NAME, constants.TypeVoid, constants.modifierPUBLIC )
@@ -414,6 +418,9 @@ private DynamicType.Builder<?> implementSelfDirtinessTracker(DynamicType.Builder
 						.intercept( constants.implementationTrackChange )
 				.defineMethod( TRACKER_GET_NAME, constants.Type_Array_String, constants.modifierPUBLIC )
 						.intercept( constants.implementationGetDirtyAttributesWithoutCollections )
+				.defineMethod( TRACKER_GET_MASK_NAME, constants.Type_Array_Long, constants.modifierPUBLIC )
+						.withParameter( constants.TypeToIntFunction )
+						.intercept( constants.implementationGetDirtyAttributeMaskWithoutCollections )
 				.defineMethod( TRACKER_HAS_CHANGED_NAME, constants.TypeBooleanPrimitive, constants.modifierPUBLIC )
 						.intercept( constants.implementationAreFieldsDirtyWithoutCollections )
 				.defineMethod( TRACKER_CLEAR_NAME, constants.TypeVoid, constants.modifierPUBLIC )
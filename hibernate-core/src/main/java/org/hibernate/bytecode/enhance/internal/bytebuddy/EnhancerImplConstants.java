@@ -21,6 +21,7 @@
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.ToIntFunction;
 
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.jar.asm.Opcodes;
@@ -60,10 +61,12 @@ public final class EnhancerImplConstants {
 
 	final Implementation implementationTrackChange;
 	final Implementation implementationGetDirtyAttributesWithoutCollections;
+	final Implementation implementationGetDirtyAttributeMaskWithoutCollections;
 	final Implementation implementationAreFieldsDirtyWithoutCollections;
 	final Implementation implementationClearDirtyAttributesWithoutCollections;
 	final Implementation implementationSuspendDirtyTracking;
 	final Implementation implementationGetDirtyAttributes;
+	final Implementation implementationGetDirtyAttributeMask;
 	final Implementation implementationAreFieldsDirty;
 	final Implementation implementationGetCollectionTrackerWithoutCollections;
 	final Implementation implementationClearDirtyAttributes;
@@ -94,6 +97,8 @@ public final class EnhancerImplConstants {
 	public final TypeDefinition TypeObject = TypeDescription.ForLoadedType.of( Object.class );
 	final TypeDefinition TypeString = TypeDescription.ForLoadedType.of( String.class );
 	final TypeDefinition Type_Array_String = TypeDescription.ForLoadedType.of( String[].class );
+	final TypeDefinition Type_Array_Long = TypeDescription.ForLoadedType.of( long[].class );
+	final TypeDefinition TypeToIntFunction = TypeDescription.ForLoadedType.of( ToIntFunction.class );
 	final TypeDefinition TypeCollectionTracker = TypeDescription.ForLoadedType.of( CollectionTracker.class );
 	final TypeDefinition Type_Array_Object = TypeDescription.ForLoadedType.of( Object[].class );
 	final TypeDefinition TypeLazyAttributeLoadingInterceptor = TypeDescription.ForLoadedType.of(
@@ -184,6 +189,10 @@ public EnhancerImplConstants() {
 				CodeTemplates.GetDirtyAttributesWithoutCollections.class,
 				adviceLocator
 		).wrap( StubMethod.INSTANCE );
+		implementationGetDirtyAttributeMaskWithoutCollections = Advice.to(
+				CodeTemplates.GetDirtyAttributeMaskWithoutCollections.class,
+				adviceLocator
+		).wrap( StubMethod.INSTANCE );
 		implementationAreFieldsDirtyWithoutCollections = Advice.to(
 				CodeTemplates.AreFieldsDirtyWithoutCollections.class,
 				adviceLocator
@@ -196,6 +205,8 @@ public EnhancerImplConstants() {
 				.wrap( StubMethod.INSTANCE );
 		implementationGetDirtyAttributes = Advice.to( CodeTemplates.GetDirtyAttributes.class, adviceLocator ).wrap(
 				StubMethod.INSTANCE );
+		implementationGetDirtyAttributeMask = Advice.to( CodeTemplates.GetDirtyAttributeMask.class, adviceLocator ).wrap(
+				StubMethod.INSTANCE );
 		implementationAreFieldsDirty = Advice.to( CodeTemplates.AreFieldsDirty.class, adviceLocator ).wrap(
 				StubMethod.INSTANCE );
 		implementationGetCollectionTrackerWithoutCollections = Advice.to(
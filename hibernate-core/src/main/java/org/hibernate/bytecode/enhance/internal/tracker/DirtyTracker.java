@@ -4,6 +4,10 @@
  */
 package org.hibernate.bytecode.enhance.internal.tracker;
 
+import java.util.function.ToIntFunction;
+
+import org.hibernate.bytecode.enhance.spi.DirtyAttributeMasks;
+
 /**
  * Interface to be implemented by dirty trackers, a simplified Set of String.
  *
@@ -21,5 +25,18 @@ public interface DirtyTracker {
 
 	String[] get();
 
+	/**
+	 * The {@linkplain DirtyAttributeMasks bitmask} of the tracked names,
+	 * which must not be modified by the caller.
+	 *
+	 * @param attributePositions resolves the position of an attribute in
+	 *                           the entity state, or {@code -1} if unknown
+	 *
+	 * @since 7.4
+	 */
+	default long[] getMask(ToIntFunction<String> attributePositions) {
+		return DirtyAttributeMasks.of( get(), attributePositions );
+	}
+
 	void suspend(boolean suspend);
 }
@@ -5,7 +5,9 @@
 package org.hibernate.bytecode.enhance.internal.tracker;
 
 import java.util.Arrays;
+import java.util.function.ToIntFunction;
 
+import org.hibernate.bytecode.enhance.spi.DirtyAttributeMasks;
 import org.hibernate.internal.util.collections.ArrayHelper;
 
 /**
@@ -20,6 +22,9 @@ public final class SimpleFieldTracker implements DirtyTracker {
 
 	private String[] names;
 	private boolean suspended;
+	// the mask of the names, cached until the next change
+	private long[] mask;
+	private ToIntFunction<String> maskAttributePositions;
 
 	public SimpleFieldTracker() {
 		names = ArrayHelper.EMPTY_STRING_ARRAY;
@@ -33,6 +38,7 @@ public void add(String name) {
 		if ( !contains( name ) ) {
 			names = Arrays.copyOf( names, names.length + 1 );
 			names[names.length - 1] = name;
+			mask = null;
 		}
 	}
 
@@ -50,6 +56,7 @@ public boolean contains(String name) {
 	public void clear() {
 		if ( !isEmpty() ) {
 			names = ArrayHelper.EMPTY_STRING_ARRAY;
+			mask = null;
 		}
 	}
 
@@ -63,6 +70,15 @@ public String[] get() {
 		return names;
 	}
 
+	@Override
+	public long[] getMask(ToIntFunction<String> attributePositions) {
+		if ( mask == null || maskAttributePositions != attributePositions ) {
+			mask = DirtyAttributeMasks.of( names, attributePositions );
+			maskAttributePositions = attributePositions;
+		}
+		return mask;
+	}
+
 	@Override
 	public void suspend(boolean suspend) {
 		this.suspended = suspend;
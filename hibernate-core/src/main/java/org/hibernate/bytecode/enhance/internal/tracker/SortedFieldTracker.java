@@ -4,6 +4,9 @@
  */
 package org.hibernate.bytecode.enhance.internal.tracker;
 
+import java.util.function.ToIntFunction;
+
+import org.hibernate.bytecode.enhance.spi.DirtyAttributeMasks;
 import org.hibernate.internal.util.collections.ArrayHelper;
 
 /**
@@ -17,6 +20,9 @@ public final class SortedFieldTracker implements DirtyTracker {
 
 	private String[] names;
 	private boolean suspended;
+	// the mask of the names, cached until the next change
+	private long[] mask;
+	private ToIntFunction<String> maskAttributePositions;
 
 	public SortedFieldTracker() {
 		names = ArrayHelper.EMPTY_STRING_ARRAY;
@@ -50,6 +56,7 @@ else if( compare < 0 ) {
 		System.arraycopy( names, insert, newNames, insert + 1, names.length - insert );
 		newNames[insert] = name;
 		names = newNames;
+		mask = null;
 	}
 
 	@Override
@@ -76,6 +83,7 @@ else if( compare < 0 ) {
 	public void clear() {
 		if ( !isEmpty() ) {
 			names = ArrayHelper.EMPTY_STRING_ARRAY;
+			mask = null;
 		}
 	}
 
@@ -89,6 +97,15 @@ public String[] get() {
 		return names;
 	}
 
+	@Override
+	public long[] getMask(ToIntFunction<String> attributePositions) {
+		if ( mask == null || maskAttributePositions != attributePositions ) {
+			mask = DirtyAttributeMasks.of( names, attributePositions );
+			maskAttributePositions = attributePositions;
+		}
+		return mask;
+	}
+
 	@Override
 	public void suspend(boolean suspend) {
 		this.suspended = suspend;
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.enhance.spi;
+
+import java.util.function.ToIntFunction;
+
+import org.hibernate.Incubating;
+
+/**
+ * Operations on bitmasks of dirty attributes, where bit {@code i} of the
+ * mask is set if the attribute at position {@code i} of the entity state
+ * is dirty.
+ *
+ * @see org.hibernate.engine.spi.SelfDirtinessTracker#$$_hibernate_getDirtyAttributeMask
+ *
+ * @since 7.4
+ */
+@Incubating
+public final class DirtyAttributeMasks {
+
+	public static final long[] EMPTY_MASK = new long[0];
+
+	private DirtyAttributeMasks() {
+	}
+
+	/**
+	 * Build the mask of the given dirty attributes.
+	 *
+	 * @param names the names of the dirty attributes, possibly paths to
+	 *              attributes of embeddables, for example {@code address.city}
+	 * @param attributePositions resolves the position of an attribute in the
+	 *                           entity state, or {@code -1} if it is unknown
+	 */
+	public static long[] of(String[] names, ToIntFunction<String> attributePositions) {
+		if ( names == null || names.length == 0 ) {
+			return EMPTY_MASK;
+		}
+		final int[] positions = new int[names.length];
+		for ( int i = 0; i < names.length; i++ ) {
+			positions[i] = attributePositions.applyAsInt( names[i] );
+		}
+		return ofPositions( positions );
+	}
+
+	/**
+	 * Build the mask of the attributes at the given positions, ignoring
+	 * any negative position of an unknown attribute.
+	 */
+	public static long[] ofPositions(int[] positions) {
+		int maxPosition = -1;
+		for ( int position : positions ) {
+			maxPosition = Math.max( maxPosition, position );
+		}
+		if ( maxPosition < 0 ) {
+			return EMPTY_MASK;
+		}
+		final long[] mask = new long[( maxPosition >>> 6 ) + 1];
+		for ( int position : positions ) {
+			if ( position >= 0 ) {
+				mask[position >>> 6] |= 1L << position;
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Is the bit for the given attribute position set in the given mask?
+	 */
+	public static boolean isDirty(long[] mask, int position) {
+		final int word = position >>> 6;
+		return word < mask.length && ( mask[word] & ( 1L << position ) ) != 0;
+	}
+
+	/**
+	 * Set the bit for the given attribute position in the given mask, which
+	 * must be large enough to hold it.
+	 */
+	public static void setDirty(long[] mask, int position) {
+		mask[position >>> 6] |= 1L << position;
+	}
+
+	/**
+	 * The number of words of a mask holding the given number of attributes.
+	 */
+	public static int wordCount(int attributeCount) {
+		return ( attributeCount + 63 ) >>> 6;
+	}
+
+	/**
+	 * The positions of the attributes whose bit is set in the given mask,
+	 * in ascending order.
+	 */
+	public static int[] toPositions(long[] mask) {
+		int count = 0;
+		for ( long word : mask ) {
+			count += Long.bitCount( word );
+		}
+		final int[] positions = new int[count];
+		int index = 0;
+		for ( int i = 0; i < mask.length; i++ ) {
+			long word = mask[i];
+			while ( word != 0 ) {
+				positions[index++] = ( i << 6 ) + Long.numberOfTrailingZeros( word );
+				word &= word - 1;
+			}
+		}
+		return positions;
+	}
+}
@@ -130,6 +130,11 @@ public final class EnhancerConstants {
 	 */
 	public static final String TRACKER_GET_NAME = "$$_hibernate_getDirtyAttributes";
 
+	/**
+	 * Name of method to fetch the bitmask of dirty attributes
+	 */
+	public static final String TRACKER_GET_MASK_NAME = "$$_hibernate_getDirtyAttributeMask";
+
 	/**
 	 * Name of method to clear stored dirty attributes
 	 */
@@ -106,8 +106,24 @@ protected Object loadAttribute(final Object target, final String attributeName)
 					}
 
 					final var initializer = (LazyPropertyInitializer) persister;
-					final Object loadedValue =
-							initializer.initializeLazyProperty( attributeName, target, session );
+					final var eventMonitor = session.getEventMonitor();
+					final var fetchEvent = eventMonitor.beginLazyAttributeFetchEvent();
+					boolean success = false;
+					final Object loadedValue;
+					try {
+						loadedValue = initializer.initializeLazyProperty( attributeName, target, session );
+						success = true;
+					}
+					finally {
+						eventMonitor.completeLazyAttributeFetchEvent(
+								fetchEvent,
+								session,
+								getEntityName(),
+								attributeName,
+								identifier,
+								success
+						);
+					}
 
 					takeCollectionSizeSnapshot( target, attributeName, loadedValue );
 					return loadedValue;
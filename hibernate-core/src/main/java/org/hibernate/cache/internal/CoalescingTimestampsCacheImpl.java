@@ -0,0 +1,466 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.event.monitor.spi.EventMonitor.CacheActionDescription.TIMESTAMP_INVALIDATE;
+import static org.hibernate.event.monitor.spi.EventMonitor.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE;
+
+/**
+ * A {@link TimestampsCache} which keeps a clock for each query space in memory,
+ * and coalesces the invalidations of concurrent transactions into periodic
+ * writes to the {@linkplain TimestampsRegion timestamps region}.
+ * <p>
+ * The clock of a query space holds the timestamp of its latest completed
+ * invalidation, which only ever moves forward, along with the pre-invalidations
+ * of the transactions which are still in progress. Therefore, unlike
+ * {@link TimestampsCacheEnabledImpl}, the completion of one transaction doesn't
+ * cancel the pre-invalidation of a concurrent transaction. The clocks are updated
+ * and read without locking, and the sessions of this {@code SessionFactory} see
+ * every invalidation immediately.
+ * <p>
+ * The region is shared with other nodes of a cluster, and so:
+ * <ul>
+ * <li>a pre-invalidation is written to the region immediately, unless the
+ *     timestamp already written for the same space covers it,
+ * <li>other invalidations are written at most once per flush interval, by the
+ *     next session which interacts with the cache after the interval elapsed,
+ *     or else by a background thread, and when the cache is destroyed, and
+ * <li>the timestamp read from the region for a query space is reused for a flush
+ *     interval, and so a pre-invalidation written by another node is only seen
+ *     once the interval has elapsed.
+ * </ul>
+ *
+ * @see org.hibernate.cfg.CacheSettings#TIMESTAMPS_FLUSH_INTERVAL
+ *
+ * @since 7.4
+ */
+public class CoalescingTimestampsCacheImpl implements TimestampsCache {
+
+	private final TimestampsRegion timestampsRegion;
+	private final SessionFactoryImplementor sessionFactory;
+	private final long flushIntervalNanos;
+
+	private final Map<String, SpaceClock> clocks = new ConcurrentHashMap<>();
+	private final AtomicLong lastFlush;
+	// started by the first invalidation
+	private final AtomicReference<ScheduledExecutorService> flushScheduler = new AtomicReference<>();
+	private volatile boolean destroyed;
+
+	/**
+	 * @param timestampsRegion the region in which the timestamps are stored
+	 * @param flushInterval the flush interval in milliseconds
+	 * @param sessionFactory the {@code SessionFactory}, used to flush the
+	 *                       invalidations when no session does
+	 */
+	public CoalescingTimestampsCacheImpl(
+			TimestampsRegion timestampsRegion,
+			long flushInterval,
+			SessionFactoryImplementor sessionFactory) {
+		this.timestampsRegion = timestampsRegion;
+		this.sessionFactory = sessionFactory;
+		this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos( flushInterval );
+		this.lastFlush = new AtomicLong( System.nanoTime() );
+	}
+
+	@Override
+	public TimestampsRegion getRegion() {
+		return timestampsRegion;
+	}
+
+	@Override
+	public void preInvalidate(
+			String[] spaces,
+			SharedSessionContractImplementor session) {
+		final var factory = session.getFactory();
+		final var regionFactory = factory.getCache().getRegionFactory();
+		final var statistics = factory.getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+
+		final long timestamp = regionFactory.nextTimestamp() + regionFactory.getTimeout();
+
+		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
+		for ( String space : spaces ) {
+			if ( traceEnabled ) {
+				L2CACHE_LOGGER.preInvalidatingSpace( space, timestamp );
+			}
+			final var clock = clock( space );
+			final Long previous = clock.inFlight.put( session.getSessionIdentifier(), timestamp );
+			if ( stats && previous == null && clock.inFlight.size() > 1 ) {
+				statistics.updateTimestampsCacheContendedInvalidation();
+			}
+			// the other nodes must see that the space is invalidated before
+			// the transaction commits, unless the timestamp already written
+			// to the region says so
+			if ( !writePreInvalidation( space, clock, timestamp, session ) && stats ) {
+				statistics.updateTimestampsCacheCoalescedPut();
+			}
+		}
+	}
+
+	@Override
+	public void invalidate(
+			String[] spaces,
+			SharedSessionContractImplementor session) {
+		final var factory = session.getFactory();
+		final var statistics = factory.getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+
+		final long timestamp = factory.getCache().getRegionFactory().nextTimestamp();
+		final UUID sessionIdentifier = session.getSessionIdentifier();
+
+		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
+		for ( String space : spaces ) {
+			if ( traceEnabled ) {
+				L2CACHE_LOGGER.invalidatingSpace( space, timestamp );
+			}
+			final var clock = clock( space );
+			clock.invalidated.accumulateAndGet( timestamp, Math::max );
+			// if the write of an earlier invalidation is still pending,
+			// this invalidation is coalesced with it
+			if ( clock.dirty.getAndSet( true ) && stats ) {
+				statistics.updateTimestampsCacheCoalescedPut();
+			}
+		}
+		// the transaction is complete, so forget its pre-invalidations,
+		// including those of spaces not passed here
+		for ( var clock : clocks.values() ) {
+			clock.inFlight.remove( sessionIdentifier );
+		}
+
+		startFlushScheduler();
+		flushIfDue( session );
+	}
+
+	@Override
+	public boolean isUpToDate(
+			String[] spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		flushIfDue( session );
+		final var statistics = session.getFactory().getStatistics();
+		for ( String space : spaces ) {
+			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		flushIfDue( session );
+		final var statistics = session.getFactory().getStatistics();
+		for ( String space : spaces ) {
+			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		clocks.clear();
+		TimestampsCache.super.clear();
+	}
+
+	@Override
+	public void destroy() {
+		destroyed = true;
+		final var scheduler = flushScheduler.getAndSet( null );
+		if ( scheduler != null ) {
+			scheduler.shutdownNow();
+		}
+		// write the pending invalidations before the region goes away
+		if ( hasPendingWrites() ) {
+			try ( var session = sessionFactory.openTemporarySession() ) {
+				flush( session );
+			}
+			catch (RuntimeException e) {
+				L2CACHE_LOGGER.unableToFlushTimestamps( e );
+			}
+		}
+	}
+
+	private SpaceClock clock(String space) {
+		return clocks.computeIfAbsent( space, key -> new SpaceClock() );
+	}
+
+	private boolean isSpaceOutOfDate(
+			String space,
+			Long timestamp,
+			SharedSessionContractImplementor session,
+			StatisticsImplementor statistics) {
+		final var clock = clock( space );
+		final long localUpdate = clock.currentTimestamp();
+		if ( localUpdate >= timestamp ) {
+			// invalidated by a session of this SessionFactory
+			L2CACHE_LOGGER.lastUpdateTimestampForSpace( space, localUpdate, timestamp );
+			return true;
+		}
+		final Long lastUpdate = getLastUpdateTimestampForSpace( space, clock, session, statistics );
+		if ( lastUpdate == null ) {
+			// the last update timestamp for the given space was evicted from the
+			// cache or there have been no writes to it since startup
+			return false;
+		}
+		else if ( lastUpdate == clock.written ) {
+			// the timestamp was written by this SessionFactory,
+			// and so the clock is at least as recent
+			return false;
+		}
+		else {
+			L2CACHE_LOGGER.lastUpdateTimestampForSpace( space, lastUpdate, timestamp );
+			return lastUpdate >= timestamp;
+		}
+	}
+
+	/**
+	 * The timestamp stored in the region, as read at most a flush interval ago.
+	 */
+	private Long getLastUpdateTimestampForSpace(
+			String space,
+			SpaceClock clock,
+			SharedSessionContractImplementor session,
+			StatisticsImplementor statistics) {
+		final long now = System.nanoTime();
+		final var regionTimestamp = clock.regionTimestamp;
+		if ( regionTimestamp != null && now - regionTimestamp.readAt < flushIntervalNanos ) {
+			return regionTimestamp.timestamp;
+		}
+		else {
+			final Long timestamp = getFromRegion( space, session );
+			clock.regionTimestamp = new RegionTimestamp( timestamp, now );
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( timestamp == null ) {
+					statistics.updateTimestampsCacheMiss();
+				}
+				else {
+					statistics.updateTimestampsCacheHit();
+				}
+			}
+			return timestamp;
+		}
+	}
+
+	/**
+	 * Start the background thread which flushes the pending invalidations,
+	 * unless it's already running, or the cache was destroyed. It is not
+	 * started before the first invalidation, since there is nothing to
+	 * flush, and the {@code SessionFactory} might not even be initialized.
+	 */
+	private void startFlushScheduler() {
+		if ( flushScheduler.get() == null && !destroyed ) {
+			// no thread is created until a task is scheduled
+			final var scheduler = Executors.newSingleThreadScheduledExecutor( runnable -> {
+				final var thread = new Thread( runnable, "Hibernate timestamps flush" );
+				thread.setDaemon( true );
+				return thread;
+			} );
+			if ( flushScheduler.compareAndSet( null, scheduler ) ) {
+				final long interval = TimeUnit.NANOSECONDS.toMillis( flushIntervalNanos );
+				scheduler.scheduleWithFixedDelay( this::scheduledFlush, interval, interval, TimeUnit.MILLISECONDS );
+				if ( destroyed && flushScheduler.compareAndSet( scheduler, null ) ) {
+					// destroyed concurrently
+					scheduler.shutdownNow();
+				}
+			}
+			else {
+				scheduler.shutdown();
+			}
+		}
+	}
+
+	private void flushIfDue(SharedSessionContractImplementor session) {
+		final long now = System.nanoTime();
+		final long last = lastFlush.get();
+		if ( now - last >= flushIntervalNanos && lastFlush.compareAndSet( last, now ) ) {
+			flush( session );
+		}
+	}
+
+	/**
+	 * Flush the pending invalidations when no session did during the
+	 * last interval.
+	 */
+	private void scheduledFlush() {
+		final long now = System.nanoTime();
+		final long last = lastFlush.get();
+		if ( now - last >= flushIntervalNanos && hasPendingWrites() && !sessionFactory.isClosed()
+				&& lastFlush.compareAndSet( last, now ) ) {
+			try ( var session = sessionFactory.openTemporarySession() ) {
+				flush( session );
+			}
+			catch (RuntimeException e) {
+				L2CACHE_LOGGER.unableToFlushTimestamps( e );
+			}
+		}
+	}
+
+	private boolean hasPendingWrites() {
+		for ( var clock : clocks.values() ) {
+			if ( clock.dirty.get() || !clock.inFlight.isEmpty() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Write the current timestamp of every query space invalidated
+	 * since the last flush to the region.
+	 */
+	private void flush(SharedSessionContractImplementor session) {
+		final long now = session.getFactory().getCache().getRegionFactory().nextTimestamp();
+		clocks.forEach( (space, clock) -> {
+			// forget the pre-invalidations of transactions
+			// which never completed
+			clock.inFlight.values().removeIf( expiry -> expiry < now );
+			if ( clock.dirty.getAndSet( false ) ) {
+				clock.lock();
+				try {
+					final long timestamp = clock.currentTimestamp();
+					if ( timestamp != clock.written ) {
+						write( space, clock, timestamp, session, TIMESTAMP_INVALIDATE );
+					}
+					else if ( session.getFactory().getStatistics().isStatisticsEnabled() ) {
+						session.getFactory().getStatistics().updateTimestampsCacheCoalescedPut();
+					}
+				}
+				finally {
+					clock.unlock();
+				}
+			}
+		} );
+	}
+
+	/**
+	 * Write the current timestamp of the given space to the region, unless
+	 * the timestamp already written covers the given pre-invalidation.
+	 *
+	 * @return {@code true} if the timestamp was written
+	 */
+	private boolean writePreInvalidation(
+			String space,
+			SpaceClock clock,
+			long timestamp,
+			SharedSessionContractImplementor session) {
+		clock.lock();
+		try {
+			if ( clock.written >= timestamp ) {
+				return false;
+			}
+			else {
+				write( space, clock, clock.currentTimestamp(), session, TIMESTAMP_PRE_INVALIDATE );
+				return true;
+			}
+		}
+		finally {
+			clock.unlock();
+		}
+	}
+
+	private void write(
+			String space,
+			SpaceClock clock,
+			long timestamp,
+			SharedSessionContractImplementor session,
+			EventMonitor.CacheActionDescription description) {
+		final var eventListenerManager = session.getEventListenerManager();
+		final var eventMonitor = session.getEventMonitor();
+		final var cachePutEvent = eventMonitor.beginCachePutEvent();
+		try {
+			eventListenerManager.cachePutStart();
+			timestampsRegion.putIntoCache( space, timestamp, session );
+			clock.written = timestamp;
+		}
+		finally {
+			eventMonitor.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					timestampsRegion,
+					true,
+					description
+			);
+			eventListenerManager.cachePutEnd();
+		}
+
+		final var statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.updateTimestampsCachePut();
+		}
+	}
+
+	private Long getFromRegion(String space, SharedSessionContractImplementor session) {
+		boolean found = false;
+		final var eventMonitor = session.getEventMonitor();
+		final var eventListenerManager = session.getEventListenerManager();
+		final var cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		try {
+			eventListenerManager.cacheGetStart();
+			final Long timestamp = (Long) timestampsRegion.getFromCache( space, session );
+			found = timestamp != null;
+			return timestamp;
+		}
+		finally {
+			eventMonitor.completeCacheGetEvent( cacheGetEvent, session, timestampsRegion, found );
+			eventListenerManager.cacheGetEnd( found );
+		}
+	}
+
+	/**
+	 * The state of a query space held in memory. The lock is held
+	 * while the timestamp is written to the region, so that writes
+	 * of the same space are never reordered.
+	 */
+	private static final class SpaceClock extends ReentrantLock {
+		// the timestamp of the latest completed invalidation
+		private final AtomicLong invalidated = new AtomicLong( Long.MIN_VALUE );
+		// the expiry of the pre-invalidation of each transaction in progress,
+		// by session identifier, so that no session is kept reachable
+		private final Map<UUID, Long> inFlight = new ConcurrentHashMap<>();
+		// whether the clock moved since it was last written to the region
+		private final AtomicBoolean dirty = new AtomicBoolean();
+		// the timestamp last written to the region
+		private volatile long written = Long.MIN_VALUE;
+		// the timestamp last read from the region
+		private volatile RegionTimestamp regionTimestamp;
+
+		private long currentTimestamp() {
+			long timestamp = invalidated.get();
+			for ( long expiry : inFlight.values() ) {
+				timestamp = Math.max( timestamp, expiry );
+			}
+			return timestamp;
+		}
+	}
+
+	private record RegionTimestamp(Long timestamp, long readAt) {
+	}
+}
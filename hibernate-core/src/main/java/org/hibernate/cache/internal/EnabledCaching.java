@@ -512,6 +512,7 @@ else if ( type.isAssignableFrom( RegionFactory.class ) ) {
 
 	@Override
 	public void close() {
+		timestampsCache.destroy();
 		for ( var region : regionsByName.values() ) {
 			region.destroy();
 		}
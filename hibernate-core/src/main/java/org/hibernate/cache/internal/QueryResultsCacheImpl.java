@@ -6,6 +6,7 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -93,27 +94,44 @@ public List<?> get(
 			L2CACHE_LOGGER.checkingCachedQueryResults( cacheRegion.getName() );
 		}
 
-		final var cacheItem = getCachedData( key, session );
-		if ( cacheItem == null ) {
-			if ( loggerTraceEnabled ) {
-				L2CACHE_LOGGER.queryResultsNotFound();
+		final var eventMonitor = session.getEventMonitor();
+		final var queryCacheGetEvent = eventMonitor.beginQueryCacheGetEvent();
+		CacheItem cacheItem = null;
+		boolean upToDate = false;
+		try {
+			cacheItem = getCachedData( key, session );
+			if ( cacheItem == null ) {
+				if ( loggerTraceEnabled ) {
+					L2CACHE_LOGGER.queryResultsNotFound();
+				}
+				return null;
+			}
+
+			upToDate = timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session );
+			if ( !upToDate ) {
+				if ( loggerTraceEnabled ) {
+					L2CACHE_LOGGER.cachedQueryResultsStale();
+				}
+				return null;
 			}
-			return null;
-		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
 			if ( loggerTraceEnabled ) {
-				L2CACHE_LOGGER.cachedQueryResultsStale();
+				L2CACHE_LOGGER.returningCachedQueryResults();
 			}
-			return null;
-		}
 
-		if ( loggerTraceEnabled ) {
-			L2CACHE_LOGGER.returningCachedQueryResults();
+			// No need to copy results, since consumers will never mutate
+			return cacheItem.results;
+		}
+		finally {
+			eventMonitor.completeQueryCacheGetEvent(
+					queryCacheGetEvent,
+					session,
+					cacheRegion,
+					spaces,
+					upToDate,
+					cacheItem != null && !upToDate
+			);
 		}
-
-		// No need to copy results, since consumers will never mutate
-		return cacheItem.results;
 	}
 
 	@Override
@@ -122,31 +140,47 @@ public List<?> get(
 			final String[] spaces,
 			final SharedSessionContractImplementor session) {
 		final boolean loggerTraceEnabled = L2CACHE_LOGGER.isTraceEnabled();
-
 		if ( loggerTraceEnabled ) {
 			L2CACHE_LOGGER.checkingCachedQueryResults( cacheRegion.getName() );
 		}
 
-		final var cacheItem = getCachedData( key, session );
-		if ( cacheItem == null ) {
-			if ( loggerTraceEnabled ) {
-				L2CACHE_LOGGER.queryResultsNotFound();
+		final var eventMonitor = session.getEventMonitor();
+		final var queryCacheGetEvent = eventMonitor.beginQueryCacheGetEvent();
+		CacheItem cacheItem = null;
+		boolean upToDate = false;
+		try {
+			cacheItem = getCachedData( key, session );
+			if ( cacheItem == null ) {
+				if ( loggerTraceEnabled ) {
+					L2CACHE_LOGGER.queryResultsNotFound();
+				}
+				return null;
+			}
+
+			upToDate = timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session );
+			if ( !upToDate ) {
+				if ( loggerTraceEnabled ) {
+					L2CACHE_LOGGER.cachedQueryResultsStale();
+				}
+				return null;
 			}
-			return null;
-		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
 			if ( loggerTraceEnabled ) {
-				L2CACHE_LOGGER.cachedQueryResultsStale();
+				L2CACHE_LOGGER.returningCachedQueryResults();
 			}
-			return null;
-		}
 
-		if ( loggerTraceEnabled ) {
-			L2CACHE_LOGGER.returningCachedQueryResults();
+			return deepCopy( cacheItem.results );
+		}
+		finally {
+			eventMonitor.completeQueryCacheGetEvent(
+					queryCacheGetEvent,
+					session,
+					cacheRegion,
+					Arrays.asList( spaces ),
+					upToDate,
+					cacheItem != null && !upToDate
+			);
 		}
-
-		return deepCopy( cacheItem.results );
 	}
 
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
@@ -23,6 +23,10 @@ public class StandardTimestampsCacheFactory implements TimestampsCacheFactory {
 	public TimestampsCache buildTimestampsCache(
 			CacheImplementor cacheManager,
 			TimestampsRegion timestampsRegion) {
-		return new TimestampsCacheEnabledImpl( timestampsRegion );
+		final var sessionFactory = cacheManager.getSessionFactory();
+		final int flushInterval = sessionFactory.getSessionFactoryOptions().getTimestampsFlushInterval();
+		return flushInterval > 0
+				? new CoalescingTimestampsCacheImpl( timestampsRegion, flushInterval, sessionFactory )
+				: new TimestampsCacheEnabledImpl( timestampsRegion );
 	}
 }
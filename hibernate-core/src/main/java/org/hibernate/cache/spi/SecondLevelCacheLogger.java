@@ -10,6 +10,7 @@
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -388,4 +389,20 @@ void checkingReadWriteLockWriteability(
 			long unlockTimestamp,
 			long txTimestamp,
 			Object newVersion);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Unable to write coalesced invalidations to the timestamps region",
+			id = NAMESPACE + 50
+	)
+	void unableToFlushTimestamps(@Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Near cache enabled for region factory [%s] whose storage might be shared with other nodes:"
+					+ " an entry of the near cache does not reflect changes made by other nodes until it expires"
+					+ " (near cache time to live: %s ms)",
+			id = NAMESPACE + 51
+	)
+	void nearCacheOnSharedStorage(String regionFactory, long timeToLive);
 }
@@ -4,12 +4,19 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
+
 /**
  * Base contract for accessing the cached data for a particular element of
  * the domain model in a transactionally ACID manner.
@@ -95,6 +102,68 @@ boolean putFromLoad(
 			Object version,
 			boolean minimalPutOverride);
 
+	/**
+	 * Attempt to retrieve multiple objects from the cache, ideally in a
+	 * single interaction with the underlying cache. Usually used when
+	 * batch loading entities or collections.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data for the keys which were found, by key
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #get} for each key
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> values = mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Attempt to cache multiple objects, after loading them from the
+	 * database, ideally in a single interaction with the underlying cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The item keys
+	 * @param values The items, in the same order as the keys
+	 * @param versions The item version numbers, in the same order as the keys
+	 * @param minimalPutOverride Explicit minimalPut flag
+	 *
+	 * @return the number of objects which were cached
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each item
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			List<?> keys,
+			List<?> values,
+			List<?> versions,
+			boolean minimalPutOverride) {
+		int count = 0;
+		for ( int i = 0; i < keys.size(); i++ ) {
+			if ( putFromLoad( session, keys.get( i ), values.get( i ), versions.get( i ), minimalPutOverride ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * Notify before an attempt to update or delete the keyed object.
 	 * This operation is used by "asynchronous" concurrency strategies.
@@ -0,0 +1,374 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * Binary CacheEntry format for entities. Used to store the entry into the second-level
+ * cache as an array of bytes, which is much more compact, and much cheaper to copy,
+ * than the Java serialization of a {@link StandardCacheEntryImpl}.
+ * <p>
+ * Values of common basic types, and arrays of such values, are written using a dedicated
+ * encoding. Any other value is written using Java serialization.
+ * <p>
+ * The entry starts with a fingerprint of the names and types of the attributes of the
+ * entity. An entry whose fingerprint doesn't match the current mapping of the entity is
+ * {@linkplain #destructure rejected} instead of being misread.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_BINARY_CACHE
+ *
+ * @since 7.4
+ */
+public class BinaryCacheEntry implements CacheEntryStructure {
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte UNFETCHED = 1;
+	private static final byte UNKNOWN = 2;
+	private static final byte STRING = 3;
+	private static final byte INTEGER = 4;
+	private static final byte LONG = 5;
+	private static final byte SHORT = 6;
+	private static final byte BYTE = 7;
+	private static final byte TRUE = 8;
+	private static final byte FALSE = 9;
+	private static final byte DOUBLE = 10;
+	private static final byte FLOAT = 11;
+	private static final byte CHARACTER = 12;
+	private static final byte BIG_DECIMAL = 13;
+	private static final byte BIG_INTEGER = 14;
+	private static final byte BYTES = 15;
+	private static final byte UUID_VALUE = 16;
+	private static final byte LOCAL_DATE = 17;
+	private static final byte LOCAL_TIME = 18;
+	private static final byte LOCAL_DATE_TIME = 19;
+	private static final byte INSTANT = 20;
+	private static final byte DATE = 21;
+	private static final byte SQL_DATE = 22;
+	private static final byte SQL_TIME = 23;
+	private static final byte SQL_TIMESTAMP = 24;
+	private static final byte ARRAY = 25;
+	private static final byte SERIALIZED = 26;
+
+	private final EntityPersister persister;
+	private volatile long fingerprint;
+
+	/**
+	 * Constructs a BinaryCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public BinaryCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final var entry = (CacheEntry) item;
+		final var bytes = new ByteArrayOutputStream( 128 );
+		try ( var output = new DataOutputStream( bytes ) ) {
+			output.writeByte( FORMAT_VERSION );
+			output.writeUTF( entry.getSubclass() );
+			output.writeLong( getFingerprint() );
+			writeValue( output, entry.getVersion() );
+			final var state = entry.getDisassembledState();
+			output.writeInt( state.length );
+			for ( Serializable value : state ) {
+				writeValue( output, value );
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @return The {@link CacheEntry}, or {@code null} if the entry was written
+	 *         for a different mapping of the entity, or in a different format
+	 */
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] bytes ) ) {
+			return null;
+		}
+		try ( var input = new DataInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			if ( input.readByte() != FORMAT_VERSION ) {
+				return null;
+			}
+			final String subclass = input.readUTF();
+			final var subclassPersister =
+					factory.getMappingMetamodel().findEntityDescriptor( subclass );
+			if ( subclassPersister == null
+					|| !( subclassPersister.getCacheEntryStructure() instanceof BinaryCacheEntry structure )
+					|| input.readLong() != structure.getFingerprint() ) {
+				return null;
+			}
+			final Object version = readValue( input );
+			final Serializable[] disassembledState = new Serializable[input.readInt()];
+			for ( int i = 0; i < disassembledState.length; i++ ) {
+				disassembledState[i] = readValue( input );
+			}
+			return new StandardCacheEntryImpl( disassembledState, subclass, version );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private long getFingerprint() {
+		// computed lazily, since the attribute types
+		// aren't available when the persister is built
+		long fingerprint = this.fingerprint;
+		if ( fingerprint == 0 ) {
+			fingerprint = fingerprint( persister );
+			this.fingerprint = fingerprint;
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * A 64-bit FNV-1a hash of the names and types of the attributes.
+	 */
+	private static long fingerprint(EntityPersister persister) {
+		long hash = 0xcbf29ce484222325L;
+		hash = hash( hash, persister.getEntityName() );
+		final var versionType = persister.getVersionType();
+		hash = hash( hash, versionType == null ? "" : versionType.getName() );
+		final String[] names = persister.getPropertyNames();
+		final var types = persister.getPropertyTypes();
+		for ( int i = 0; i < names.length; i++ ) {
+			hash = hash( hash, names[i] );
+			hash = hash( hash, types[i].getName() );
+			hash = hash( hash, types[i].getReturnedClassName() );
+		}
+		// zero means not yet computed
+		return hash == 0 ? 1 : hash;
+	}
+
+	private static long hash(long hash, String string) {
+		for ( byte b : string.getBytes( StandardCharsets.UTF_8 ) ) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		// separator
+		hash ^= 0xff;
+		hash *= 0x100000001b3L;
+		return hash;
+	}
+
+	private static void writeValue(DataOutputStream output, Object value) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN );
+		}
+		else if ( value instanceof String string ) {
+			output.writeByte( STRING );
+			writeString( output, string );
+		}
+		else if ( value instanceof Integer integer ) {
+			output.writeByte( INTEGER );
+			output.writeInt( integer );
+		}
+		else if ( value instanceof Long longValue ) {
+			output.writeByte( LONG );
+			output.writeLong( longValue );
+		}
+		else if ( value instanceof Short shortValue ) {
+			output.writeByte( SHORT );
+			output.writeShort( shortValue );
+		}
+		else if ( value instanceof Byte byteValue ) {
+			output.writeByte( BYTE );
+			output.writeByte( byteValue );
+		}
+		else if ( value instanceof Boolean booleanValue ) {
+			output.writeByte( booleanValue ? TRUE : FALSE );
+		}
+		else if ( value instanceof Double doubleValue ) {
+			output.writeByte( DOUBLE );
+			output.writeDouble( doubleValue );
+		}
+		else if ( value instanceof Float floatValue ) {
+			output.writeByte( FLOAT );
+			output.writeFloat( floatValue );
+		}
+		else if ( value instanceof Character character ) {
+			output.writeByte( CHARACTER );
+			output.writeChar( character );
+		}
+		else if ( value.getClass() == BigDecimal.class ) {
+			final var bigDecimal = (BigDecimal) value;
+			output.writeByte( BIG_DECIMAL );
+			output.writeInt( bigDecimal.scale() );
+			writeBytes( output, bigDecimal.unscaledValue().toByteArray() );
+		}
+		else if ( value.getClass() == BigInteger.class ) {
+			output.writeByte( BIG_INTEGER );
+			writeBytes( output, ( (BigInteger) value ).toByteArray() );
+		}
+		else if ( value instanceof byte[] bytes ) {
+			output.writeByte( BYTES );
+			writeBytes( output, bytes );
+		}
+		else if ( value instanceof UUID uuid ) {
+			output.writeByte( UUID_VALUE );
+			output.writeLong( uuid.getMostSignificantBits() );
+			output.writeLong( uuid.getLeastSignificantBits() );
+		}
+		else if ( value instanceof LocalDate localDate ) {
+			output.writeByte( LOCAL_DATE );
+			output.writeLong( localDate.toEpochDay() );
+		}
+		else if ( value instanceof LocalTime localTime ) {
+			output.writeByte( LOCAL_TIME );
+			output.writeLong( localTime.toNanoOfDay() );
+		}
+		else if ( value instanceof LocalDateTime localDateTime ) {
+			output.writeByte( LOCAL_DATE_TIME );
+			output.writeLong( localDateTime.toLocalDate().toEpochDay() );
+			output.writeLong( localDateTime.toLocalTime().toNanoOfDay() );
+		}
+		else if ( value instanceof Instant instant ) {
+			output.writeByte( INSTANT );
+			output.writeLong( instant.getEpochSecond() );
+			output.writeInt( instant.getNano() );
+		}
+		else if ( value.getClass() == java.util.Date.class ) {
+			output.writeByte( DATE );
+			output.writeLong( ( (java.util.Date) value ).getTime() );
+		}
+		else if ( value.getClass() == java.sql.Date.class ) {
+			output.writeByte( SQL_DATE );
+			output.writeLong( ( (java.sql.Date) value ).getTime() );
+		}
+		else if ( value.getClass() == java.sql.Time.class ) {
+			output.writeByte( SQL_TIME );
+			output.writeLong( ( (java.sql.Time) value ).getTime() );
+		}
+		else if ( value.getClass() == java.sql.Timestamp.class ) {
+			final var timestamp = (java.sql.Timestamp) value;
+			output.writeByte( SQL_TIMESTAMP );
+			output.writeLong( timestamp.getTime() );
+			output.writeInt( timestamp.getNanos() );
+		}
+		else if ( value.getClass() == Serializable[].class || value.getClass() == Object[].class ) {
+			// the disassembled state of an embeddable,
+			// or of a composite identifier
+			final Object[] array = (Object[]) value;
+			output.writeByte( ARRAY );
+			output.writeBoolean( value.getClass() == Serializable[].class );
+			output.writeInt( array.length );
+			for ( Object element : array ) {
+				writeValue( output, element );
+			}
+		}
+		else {
+			output.writeByte( SERIALIZED );
+			writeBytes( output, SerializationHelper.serialize( (Serializable) value ) );
+		}
+	}
+
+	private static Serializable readValue(DataInputStream input) throws IOException {
+		final byte tag = input.readByte();
+		return switch ( tag ) {
+			case NULL -> null;
+			case UNFETCHED -> LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN -> PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case STRING -> readString( input );
+			case INTEGER -> input.readInt();
+			case LONG -> input.readLong();
+			case SHORT -> input.readShort();
+			case BYTE -> input.readByte();
+			case TRUE -> Boolean.TRUE;
+			case FALSE -> Boolean.FALSE;
+			case DOUBLE -> input.readDouble();
+			case FLOAT -> input.readFloat();
+			case CHARACTER -> input.readChar();
+			case BIG_DECIMAL -> {
+				final int scale = input.readInt();
+				yield new BigDecimal( new BigInteger( readBytes( input ) ), scale );
+			}
+			case BIG_INTEGER -> new BigInteger( readBytes( input ) );
+			case BYTES -> readBytes( input );
+			case UUID_VALUE -> new UUID( input.readLong(), input.readLong() );
+			case LOCAL_DATE -> LocalDate.ofEpochDay( input.readLong() );
+			case LOCAL_TIME -> LocalTime.ofNanoOfDay( input.readLong() );
+			case LOCAL_DATE_TIME -> {
+				final var date = LocalDate.ofEpochDay( input.readLong() );
+				yield LocalDateTime.of( date, LocalTime.ofNanoOfDay( input.readLong() ) );
+			}
+			case INSTANT -> {
+				final long seconds = input.readLong();
+				yield Instant.ofEpochSecond( seconds, input.readInt() );
+			}
+			case DATE -> new java.util.Date( input.readLong() );
+			case SQL_DATE -> new java.sql.Date( input.readLong() );
+			case SQL_TIME -> new java.sql.Time( input.readLong() );
+			case SQL_TIMESTAMP -> {
+				final var timestamp = new java.sql.Timestamp( input.readLong() );
+				timestamp.setNanos( input.readInt() );
+				yield timestamp;
+			}
+			case ARRAY -> {
+				final boolean serializableArray = input.readBoolean();
+				final int length = input.readInt();
+				final Object[] array = serializableArray ? new Serializable[length] : new Object[length];
+				for ( int i = 0; i < length; i++ ) {
+					array[i] = readValue( input );
+				}
+				yield array;
+			}
+			case SERIALIZED -> (Serializable) SerializationHelper.deserialize( readBytes( input ) );
+			default -> throw new IllegalStateException( "Unknown value tag in binary cache entry: " + tag );
+		};
+	}
+
+	// writeUTF() is limited to 64K bytes
+	private static void writeString(DataOutputStream output, String string) throws IOException {
+		writeBytes( output, string.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String( readBytes( input ), StandardCharsets.UTF_8 );
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return bytes;
+	}
+}
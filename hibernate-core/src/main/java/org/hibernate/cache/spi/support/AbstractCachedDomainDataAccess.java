@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.Internal;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
@@ -12,6 +16,7 @@
 
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.internal.util.collections.CollectionHelper.linkedMapOfSize;
 
 /**
  * @author Steve Ebersole
@@ -97,6 +102,48 @@ public boolean putFromLoad(
 		}
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( L2CACHE_LOGGER.isTraceEnabled() ) {
+			L2CACHE_LOGGER.gettingCachedData( region.getName(), getAccessType(), keys );
+		}
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			List<?> keys,
+			List<?> values,
+			List<?> versions,
+			boolean minimalPutOverride) {
+		final var storageAccess = getStorageAccess();
+		final var cached =
+				minimalPutOverride
+						? storageAccess.getAllFromCache( keys, session ).keySet()
+						: null;
+		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
+		final Map<Object, Object> items = linkedMapOfSize( keys.size() );
+		for ( int i = 0; i < keys.size(); i++ ) {
+			final Object key = keys.get( i );
+			if ( cached != null && cached.contains( key ) ) {
+				if ( traceEnabled ) {
+					L2CACHE_LOGGER.cachePutFromLoadSkippedDueToMinimalPut( region.getName(), getAccessType(), key );
+				}
+			}
+			else {
+				if ( traceEnabled ) {
+					L2CACHE_LOGGER.cachingDataFromLoad( region.getName(), getAccessType(), key, values.get( i ) );
+				}
+				items.put( key, values.get( i ) );
+			}
+		}
+		if ( !items.isEmpty() ) {
+			storageAccess.putAllFromLoad( items, session );
+		}
+		return items.size();
+	}
+
 	private static final SoftLock REGION_LOCK = new SoftLock() {
 	};
 
@@ -6,8 +6,11 @@
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -19,6 +22,8 @@
 
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.internal.util.collections.CollectionHelper.linkedMapOfSize;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 
 /**
  * @author Steve Ebersole
@@ -93,6 +98,28 @@ public Object get(SharedSessionContractImplementor session, Object key) {
 		}
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		try {
+			if ( L2CACHE_LOGGER.isTraceEnabled() ) {
+				L2CACHE_LOGGER.gettingCachedData( getRegion().getName(), getAccessType(), keys );
+			}
+			readLock.lock();
+			final var items = getStorageAccess().getAllFromCache( keys, session );
+			final Map<Object, Object> values = mapOfSize( items.size() );
+			items.forEach( (key, item) -> {
+				final var lockable = (Lockable) item;
+				if ( isReadable( session, lockable ) ) {
+					values.put( key, lockable.getValue() );
+				}
+			} );
+			return values;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	private static boolean isReadable(SharedSessionContractImplementor session, Lockable item) {
 		return item.isReadable( session.getCacheTransactionSynchronization().getCachingTimestamp() );
 	}
@@ -171,6 +198,61 @@ private boolean doPutFromLoad(
 		}
 	}
 
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			List<?> keys,
+			List<?> values,
+			List<?> versions,
+			boolean minimalPutOverride) {
+		try {
+			final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
+			writeLock.lock();
+			final var storageAccess = getStorageAccess();
+			final var existing = storageAccess.getAllFromCache( keys, session );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Map<Object, Object> items = linkedMapOfSize( keys.size() );
+			for ( int i = 0; i < keys.size(); i++ ) {
+				final Object key = keys.get( i );
+				final Object value = values.get( i );
+				final Object version = versions.get( i );
+				final var item = (Lockable) existing.get( key );
+				if ( !isWritable( session, version, item ) ) {
+					if ( traceEnabled ) {
+						L2CACHE_LOGGER.cachePutFromLoadFailedNonWritable(
+								getRegion().getName(),
+								getAccessType(),
+								key,
+								value
+						);
+					}
+				}
+				else if ( minimalPutOverride && version == null && item != null ) {
+					if ( traceEnabled ) {
+						L2CACHE_LOGGER.cachePutFromLoadSkippedDueToMinimalPut(
+								getRegion().getName(),
+								getAccessType(),
+								key
+						);
+					}
+				}
+				else {
+					if ( traceEnabled ) {
+						L2CACHE_LOGGER.cachingDataFromLoad( getRegion().getName(), getAccessType(), key, value );
+					}
+					items.put( key, new Item( value, version, timestamp ) );
+				}
+			}
+			if ( !items.isEmpty() ) {
+				storageAccess.putAllIntoCache( items, session );
+			}
+			return items.size();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
 	private boolean isWritable(SharedSessionContractImplementor session, Object version, Lockable item) {
 		return item == null
 			|| item.isWriteable( session.getCacheTransactionSynchronization().getCachingTimestamp(),
@@ -4,8 +4,14 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
+
 /**
  * Specialization of {@link StorageAccess} for domain data regions.
  *
@@ -22,4 +28,55 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get multiple items from the cache, ideally in a single
+	 * interaction with the underlying cache.
+	 *
+	 * @return the items which were found, by key
+	 *
+	 * @implNote the method default is to call {@link #getFromCache}
+	 *           for each key
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Put multiple items into the cache, ideally in a single
+	 * interaction with the underlying cache.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache}
+	 *           for each item
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		items.forEach( (key, value) -> putIntoCache( key, value, session ) );
+	}
+
+	/**
+	 * Specialized form of {@link #putAllIntoCache} in cases where
+	 * the items were loaded (read) from the database.
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad}
+	 *           for each item
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default void putAllFromLoad(Map<?, ?> items, SharedSessionContractImplementor session) {
+		items.forEach( (key, value) -> putFromLoad( key, value, session ) );
+	}
 }
@@ -0,0 +1,552 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.cfg.spi.DomainDataCachingConfig;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static java.util.Collections.addAll;
+import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_STRING_ARRAY;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
+
+/**
+ * A {@link DomainDataStorageAccess} which keeps the most frequently used entries
+ * of the region in a bounded map in the memory of the JVM, in front of the storage
+ * of the caching provider, which might be remote, or might copy or deserialize the
+ * entries it returns.
+ * <p>
+ * An entry is only admitted to the near cache if it was used more often than the
+ * least-recently used entry it would replace, according to a count-min sketch of
+ * the frequency of recent accesses, as in TinyLFU. Reads never wait for a lock:
+ * the least-recently used entry is approximated from a random sample of entries,
+ * and an access is not counted by the sketch when another thread holds its lock.
+ * A value read from the region, or written to it, is not admitted if its key was
+ * removed or evicted in the meantime.
+ * <p>
+ * An entry of the near cache is discarded when:
+ * <ul>
+ * <li>the entry is removed from the region, or the region is cleared or evicted,
+ * <li>its time to live has elapsed, or
+ * <li>when the query cache is enabled, one of the tables the region maps has been
+ *     updated, according to the {@link org.hibernate.cache.spi.TimestampsCache},
+ *     since it was cached.
+ * </ul>
+ * <p>
+ * Removals and evictions performed by other nodes of a cluster are not seen by the
+ * near cache, so, when the query cache is disabled, an entry changed by another
+ * node may be returned until its time to live has elapsed.
+ * <p>
+ * Only suitable for regions where every cached entity, natural id, and collection
+ * has {@linkplain AccessType#READ_ONLY read-only} or
+ * {@linkplain AccessType#NONSTRICT_READ_WRITE nonstrict read-write} access, since
+ * the other access types keep soft locks in the region.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+ *
+ * @since 7.4
+ */
+@Incubating
+public class NearCacheDomainDataStorageAccess implements DomainDataStorageAccess {
+	private static final int EVICTION_SAMPLE_SIZE = 16;
+	private static final int STAMP_STRIPES = 64;
+
+	private final DomainDataStorageAccess delegate;
+	private final DomainDataRegionConfig regionConfig;
+	private final int maxEntries;
+	private final long timeToLiveNanos;
+
+	private final ConcurrentHashMap<Object, NearEntry> entries;
+	// guards the slots, the size, and the sketch
+	private final Lock lock = new ReentrantLock();
+	// the entries, densely packed for sampling
+	private final NearEntry[] slots;
+	private int size;
+	private final FrequencySketch sketch;
+
+	// incremented whenever entries are removed, so that a value read from,
+	// or written to, the region concurrently with a removal is not admitted
+	private final AtomicLongArray removalStamps = new AtomicLongArray( STAMP_STRIPES );
+	private final AtomicLong clearStamp = new AtomicLong();
+
+	private volatile String[] spaces;
+
+	/**
+	 * @param delegate the storage of the caching provider
+	 * @param regionConfig the configuration of the region
+	 * @param maxEntries the maximum number of entries kept in memory
+	 * @param timeToLive the time to live of an entry in milliseconds,
+	 *                   or zero if entries don't expire
+	 */
+	public NearCacheDomainDataStorageAccess(
+			DomainDataStorageAccess delegate,
+			DomainDataRegionConfig regionConfig,
+			int maxEntries,
+			long timeToLive) {
+		this.delegate = delegate;
+		this.regionConfig = regionConfig;
+		this.maxEntries = maxEntries;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLive );
+		this.entries = new ConcurrentHashMap<>( Math.min( maxEntries, 1024 ) );
+		this.slots = new NearEntry[maxEntries];
+		this.sketch = new FrequencySketch( maxEntries );
+	}
+
+	/**
+	 * Can the given region be fronted by a near cache?
+	 */
+	public static boolean isApplicable(DomainDataRegionConfig regionConfig) {
+		final List<DomainDataCachingConfig> configs = new ArrayList<>();
+		configs.addAll( regionConfig.getEntityCaching() );
+		configs.addAll( regionConfig.getNaturalIdCaching() );
+		configs.addAll( regionConfig.getCollectionCaching() );
+		if ( configs.isEmpty() ) {
+			return false;
+		}
+		for ( var config : configs ) {
+			final var accessType = config.getAccessType();
+			if ( accessType != AccessType.READ_ONLY && accessType != AccessType.NONSTRICT_READ_WRITE ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The storage of the caching provider.
+	 */
+	public DomainDataStorageAccess getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * The number of entries currently held in memory.
+	 */
+	public int getNearCacheSize() {
+		return entries.size();
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final var entry = access( key );
+		if ( entry != null ) {
+			if ( isValid( entry, session ) ) {
+				return entry.value;
+			}
+			discard( entry );
+		}
+		final long stamp = stamp( key );
+		final Object value = delegate.getFromCache( key, session );
+		if ( value != null ) {
+			admit( key, value, stamp, session );
+		}
+		return value;
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = mapOfSize( keys.size() );
+		final List<Object> missing = new ArrayList<>();
+		for ( Object key : keys ) {
+			final var entry = access( key );
+			if ( entry != null && isValid( entry, session ) ) {
+				values.put( key, entry.value );
+			}
+			else {
+				if ( entry != null ) {
+					discard( entry );
+				}
+				missing.add( key );
+			}
+		}
+		if ( !missing.isEmpty() ) {
+			final Map<Object, Long> stamps = mapOfSize( missing.size() );
+			for ( Object key : missing ) {
+				stamps.put( key, stamp( key ) );
+			}
+			final var loaded = delegate.getAllFromCache( missing, session );
+			loaded.forEach( (key, value) -> {
+				final Long stamp = stamps.get( key );
+				if ( stamp != null ) {
+					admit( key, value, stamp, session );
+				}
+			} );
+			values.putAll( loaded );
+		}
+		return values;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final long stamp = stamp( key );
+		delegate.putIntoCache( key, value, session );
+		admit( key, value, stamp, session );
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		final long stamp = stamp( key );
+		delegate.putFromLoad( key, value, session );
+		admit( key, value, stamp, session );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		final Map<Object, Long> stamps = stamps( items );
+		delegate.putAllIntoCache( items, session );
+		items.forEach( (key, value) -> admit( key, value, stamps.get( key ), session ) );
+	}
+
+	@Override
+	public void putAllFromLoad(Map<?, ?> items, SharedSessionContractImplementor session) {
+		final Map<Object, Long> stamps = stamps( items );
+		delegate.putAllFromLoad( items, session );
+		items.forEach( (key, value) -> admit( key, value, stamps.get( key ), session ) );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		// discard before and after, so that a value read from the region
+		// in the meantime is never admitted
+		discard( key );
+		delegate.removeFromCache( key, session );
+		discard( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		discardAll();
+		delegate.clearCache( session );
+		discardAll();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		discardAll();
+		delegate.evictData();
+		discardAll();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		discard( key );
+		delegate.evictData( key );
+		discard( key );
+	}
+
+	@Override
+	public void release() {
+		discardAll();
+		delegate.release();
+	}
+
+	private boolean isValid(NearEntry entry, SharedSessionContractImplementor session) {
+		if ( timeToLiveNanos > 0 && System.nanoTime() - entry.expiry >= 0 ) {
+			return false;
+		}
+		// without the query cache, there are no update timestamps, and
+		// entries are only invalidated by removal and eviction
+		if ( !session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
+			return true;
+		}
+		final String[] spaces = getSpaces( session );
+		return spaces.length == 0
+			|| session.getFactory().getCache().getTimestampsCache()
+					.isUpToDate( spaces, entry.timestamp, session );
+	}
+
+	/**
+	 * Record an access to the given key, and return its entry, if any.
+	 * Reads don't wait for the lock: under contention, an access is simply
+	 * not counted by the sketch.
+	 */
+	private NearEntry access(Object key) {
+		if ( lock.tryLock() ) {
+			try {
+				sketch.increment( key );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+		final var entry = entries.get( key );
+		if ( entry != null ) {
+			entry.lastAccess = System.nanoTime();
+		}
+		return entry;
+	}
+
+	private int stripe(Object key) {
+		final int hash = key.hashCode();
+		return ( hash ^ ( hash >>> 16 ) ) & ( STAMP_STRIPES - 1 );
+	}
+
+	/**
+	 * A stamp which changes whenever the given key might have been removed.
+	 */
+	private long stamp(Object key) {
+		return clearStamp.get() + removalStamps.get( stripe( key ) );
+	}
+
+	private Map<Object, Long> stamps(Map<?, ?> items) {
+		final Map<Object, Long> stamps = mapOfSize( items.size() );
+		for ( Object key : items.keySet() ) {
+			stamps.put( key, stamp( key ) );
+		}
+		return stamps;
+	}
+
+	/**
+	 * Admit the given value, unless the key was removed since the given
+	 * stamp was taken.
+	 */
+	private void admit(Object key, Object value, long stamp, SharedSessionContractImplementor session) {
+		final long now = System.nanoTime();
+		final var entry = new NearEntry(
+				key,
+				value,
+				session.getCacheTransactionSynchronization().getCachingTimestamp(),
+				now + timeToLiveNanos,
+				now
+		);
+		lock.lock();
+		try {
+			if ( stamp( key ) != stamp ) {
+				return;
+			}
+			final var existing = entries.get( key );
+			if ( existing != null ) {
+				entry.slot = existing.slot;
+				slots[entry.slot] = entry;
+				entries.put( key, entry );
+			}
+			else if ( size < maxEntries ) {
+				add( entry );
+			}
+			else {
+				final var victim = leastRecentlyUsed();
+				if ( sketch.frequency( key ) > sketch.frequency( victim.key ) ) {
+					remove( victim );
+					add( entry );
+				}
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The least recently used among a random sample of the entries, or
+	 * among all entries if there are few. Must be called while holding
+	 * the lock, and only when the near cache is full.
+	 */
+	private NearEntry leastRecentlyUsed() {
+		NearEntry victim = null;
+		if ( size <= EVICTION_SAMPLE_SIZE ) {
+			for ( int slot = 0; slot < size; slot++ ) {
+				victim = lessRecentlyUsed( victim, slots[slot] );
+			}
+		}
+		else {
+			final var random = ThreadLocalRandom.current();
+			for ( int i = 0; i < EVICTION_SAMPLE_SIZE; i++ ) {
+				victim = lessRecentlyUsed( victim, slots[random.nextInt( size )] );
+			}
+		}
+		return victim;
+	}
+
+	private static NearEntry lessRecentlyUsed(NearEntry victim, NearEntry candidate) {
+		return victim == null || candidate.lastAccess - victim.lastAccess < 0 ? candidate : victim;
+	}
+
+	// Must be called while holding the lock
+	private void add(NearEntry entry) {
+		entry.slot = size++;
+		slots[entry.slot] = entry;
+		entries.put( entry.key, entry );
+	}
+
+	// Must be called while holding the lock
+	private void remove(NearEntry entry) {
+		if ( entries.remove( entry.key, entry ) ) {
+			final int last = --size;
+			final var moved = slots[last];
+			slots[entry.slot] = moved;
+			moved.slot = entry.slot;
+			slots[last] = null;
+		}
+	}
+
+	private void discard(Object key) {
+		lock.lock();
+		try {
+			removalStamps.incrementAndGet( stripe( key ) );
+			final var entry = entries.get( key );
+			if ( entry != null ) {
+				remove( entry );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void discard(NearEntry entry) {
+		lock.lock();
+		try {
+			remove( entry );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void discardAll() {
+		lock.lock();
+		try {
+			clearStamp.incrementAndGet();
+			entries.clear();
+			Arrays.fill( slots, null );
+			size = 0;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The tables mapped by the entities and collections cached in the region,
+	 * which can't be resolved until the persisters have been created.
+	 */
+	private String[] getSpaces(SharedSessionContractImplementor session) {
+		String[] result = spaces;
+		if ( result == null ) {
+			final var metamodel = session.getFactory().getMappingMetamodel();
+			final var spaceSet = new LinkedHashSet<String>();
+			for ( var entityCaching : regionConfig.getEntityCaching() ) {
+				for ( var cachedType : entityCaching.getCachedTypes() ) {
+					addAll( spaceSet, metamodel.getEntityDescriptor( cachedType.getFullPath() ).getPropertySpaces() );
+				}
+			}
+			for ( var naturalIdCaching : regionConfig.getNaturalIdCaching() ) {
+				addAll( spaceSet,
+						metamodel.getEntityDescriptor( naturalIdCaching.getNavigableRole().getFullPath() )
+								.getPropertySpaces() );
+			}
+			for ( var collectionCaching : regionConfig.getCollectionCaching() ) {
+				addAll( spaceSet,
+						metamodel.getCollectionDescriptor( collectionCaching.getNavigableRole().getFullPath() )
+								.getCollectionSpaces() );
+			}
+			result = spaceSet.toArray( EMPTY_STRING_ARRAY );
+			spaces = result;
+		}
+		return result;
+	}
+
+	private static final class NearEntry {
+		private final Object key;
+		private final Object value;
+		private final long timestamp;
+		private final long expiry;
+		private volatile long lastAccess;
+		// the position in the slots, only accessed while holding the lock
+		private int slot;
+
+		private NearEntry(Object key, Object value, long timestamp, long expiry, long lastAccess) {
+			this.key = key;
+			this.value = value;
+			this.timestamp = timestamp;
+			this.expiry = expiry;
+			this.lastAccess = lastAccess;
+		}
+	}
+
+	/**
+	 * A count-min sketch of the frequency of access to keys, with four hash
+	 * functions over a single table of counters which saturate at 15. The
+	 * counters are halved after a number of increments proportional to the
+	 * size of the cache, so that the frequencies reflect recent accesses.
+	 */
+	private static final class FrequencySketch {
+		private static final int MAX_COUNT = 15;
+
+		private final byte[] table;
+		private final int mask;
+		private final int sampleSize;
+		private int additions;
+
+		FrequencySketch(int maxEntries) {
+			final int capacity = Math.max( 16, Math.min( maxEntries, 1 << 28 ) );
+			final int length = 1 << ( 32 - Integer.numberOfLeadingZeros( capacity - 1 ) );
+			table = new byte[length];
+			mask = length - 1;
+			sampleSize = 10 * capacity;
+		}
+
+		void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int step = spread( hash ) | 1;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = ( hash + i * step ) & mask;
+				if ( table[index] < MAX_COUNT ) {
+					table[index]++;
+					added = true;
+				}
+			}
+			if ( added && ++additions >= sampleSize ) {
+				reset();
+			}
+		}
+
+		int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int step = spread( hash ) | 1;
+			int frequency = MAX_COUNT;
+			for ( int i = 0; i < 4; i++ ) {
+				frequency = Math.min( frequency, table[( hash + i * step ) & mask] );
+			}
+			return frequency;
+		}
+
+		private void reset() {
+			for ( int i = 0; i < table.length; i++ ) {
+				table[i] >>>= 1;
+			}
+			additions >>>= 1;
+		}
+
+		private static int spread(int hash) {
+			int h = hash * 0x9E3779B9;
+			h ^= h >>> 16;
+			h *= 0x85EBCA6B;
+			return h ^ ( h >>> 13 );
+		}
+	}
+}
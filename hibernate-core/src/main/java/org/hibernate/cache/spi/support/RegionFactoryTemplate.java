@@ -14,10 +14,14 @@
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
 /**
  * @author Steve Ebersole
  */
 public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
+	private boolean nearCacheWarningLogged;
+
 	@Override
 	public DomainDataRegion buildDomainDataRegion(
 			DomainDataRegionConfig regionConfig,
@@ -26,7 +30,8 @@ public DomainDataRegion buildDomainDataRegion(
 		return new DomainDataRegionTemplate(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				applyNearCache( createDomainDataStorageAccess( regionConfig, buildingContext ),
+						regionConfig, buildingContext ),
 				getImplicitCacheKeysFactory(),
 				buildingContext
 		);
@@ -42,6 +47,46 @@ protected DomainDataStorageAccess createDomainDataStorageAccess(
 		throw new UnsupportedOperationException( "Not implemented by caching provider" );
 	}
 
+	/**
+	 * Wrap the given storage in a {@link NearCacheDomainDataStorageAccess} if
+	 * {@value org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES} is set
+	 * and the {@linkplain NearCacheDomainDataStorageAccess#isApplicable region
+	 * allows it}.
+	 *
+	 * @since 7.4
+	 */
+	protected DomainDataStorageAccess applyNearCache(
+			DomainDataStorageAccess storageAccess,
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		final var options = buildingContext.getSessionFactory().getSessionFactoryOptions();
+		final int maxEntries = options.getNearCacheMaxEntries();
+		if ( maxEntries > 0 && NearCacheDomainDataStorageAccess.isApplicable( regionConfig ) ) {
+			final long timeToLive = options.getNearCacheTimeToLive();
+			if ( !isStorageLocal() && !nearCacheWarningLogged ) {
+				nearCacheWarningLogged = true;
+				L2CACHE_LOGGER.nearCacheOnSharedStorage( getClass().getName(), timeToLive );
+			}
+			return new NearCacheDomainDataStorageAccess( storageAccess, regionConfig, maxEntries, timeToLive );
+		}
+		else {
+			return storageAccess;
+		}
+	}
+
+	/**
+	 * Is the storage of the regions built by this factory private to this JVM,
+	 * so that it is never modified by another node of a cluster? If it might
+	 * be shared, a {@linkplain #applyNearCache near cache} does not see the
+	 * changes made by other nodes until its entries expire, and so a warning
+	 * is logged when a near cache is enabled.
+	 *
+	 * @since 7.4
+	 */
+	protected boolean isStorageLocal() {
+		return false;
+	}
+
 	@Override
 	public QueryResultsRegion buildQueryResultsRegion(
 			String regionName,
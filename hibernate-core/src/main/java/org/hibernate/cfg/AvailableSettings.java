@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.jpa.LegacySpecHints;
 import org.hibernate.jpa.SpecHints;
 
@@ -180,6 +181,70 @@
 	 */
 	String CUSTOM_ENTITY_DIRTINESS_STRATEGY = "hibernate.entity_dirtiness_strategy";
 
+	/**
+	 * When enabled, specifies that the persistence context should keep its managed
+	 * entities and database snapshots in compact open-addressing hash tables, with
+	 * one table per entity hierarchy, instead of in a {@link java.util.HashMap}.
+	 * For entities with a {@code Long} or {@code Integer} identifier, the identifier
+	 * values are stored and compared as primitive {@code long}s.
+	 * <p>
+	 * This reduces the memory footprint and allocation rate of sessions holding a
+	 * very large number of managed entities.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.engine.internal.EntityKeyMap
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP = "hibernate.persistence_context.compact_entity_map";
+
+	/**
+	 * Specifies a {@link org.hibernate.engine.spi.LoadedStateStore} used to hold the
+	 * loaded state of managed entities in a compact form, instead of in an array of
+	 * property values. The flush-time dirty check then compares the current state of
+	 * an entity directly against its compact loaded state.
+	 * <p>
+	 * Accepts any of:
+	 * <ul>
+	 *     <li>an instance of {@code LoadedStateStore},
+	 *     <li>a {@link Class} representing a class that implements {@code LoadedStateStore},
+	 *     <li>the name of a class that implements {@code LoadedStateStore}, or
+	 *     <li>{@code compact}, for {@link org.hibernate.engine.internal.CompactLoadedStateStore}.
+	 * </ul>
+	 * <p>
+	 * This is most useful in read-mostly sessions holding many entities with wide rows.
+	 *
+	 * @settingDefault none, the loaded state is held as an array of property values
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String PERSISTENCE_CONTEXT_LOADED_STATE_STORE = "hibernate.persistence_context.loaded_state_store";
+
+	/**
+	 * Specifies the minimum number of managed entities in the persistence context
+	 * at which the flush-time dirty check of entities is performed in parallel on
+	 * the {@linkplain QuerySettings#ASYNC_EXECUTOR asynchronous executor}. Only the
+	 * comparison of the current state of an entity with its loaded state is
+	 * parallelized, and only for entities which have no association and no
+	 * collection and are not enhanced. Events are still fired and actions are still
+	 * scheduled by the flushing thread, in the usual order.
+	 * <p>
+	 * The dirty check is never parallelized for a session with an
+	 * {@linkplain org.hibernate.Interceptor interceptor}, when a custom
+	 * {@link org.hibernate.event.spi.FlushEntityEventListener} is registered, or
+	 * when any of the flushed entities has a {@link jakarta.persistence.PreUpdate}
+	 * callback.
+	 *
+	 * @settingDefault {@code 0}, meaning that the dirty check is never parallelized
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
+
 	/**
 	 * Event listener configuration properties follow the pattern
 	 * {@code hibernate.event.listener.eventType packageName.ClassName1, packageName.ClassName2}
@@ -6,6 +6,7 @@
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -65,6 +66,79 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * When enabled, batched inserts of rows into the same table are coalesced
+	 * into multi-row {@code insert ... values (...), (...), ...} statements,
+	 * instead of adding one set of parameters per row to the JDBC batch.
+	 * <p>
+	 * The number of rows inserted by a single statement is limited by the
+	 * {@linkplain #STATEMENT_BATCH_SIZE batch size} and by the
+	 * {@linkplain org.hibernate.dialect.Dialect#getMultiRowInsertChunkSize
+	 * limit of the dialect}. Inserts which return generated values are never
+	 * coalesced, and this setting has no effect unless batching is enabled.
+	 * It is most useful in combination with {@link #ORDER_INSERTS}.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isMultiRowInsertsEnabled
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
+	/**
+	 * When enabled, the rows of a batch of inserts into the same table are
+	 * streamed to the database using the bulk loading protocol of the
+	 * {@linkplain org.hibernate.dialect.Dialect#getBulkInsertSupport dialect},
+	 * for example, {@code COPY ... FROM STDIN} on PostgreSQL, instead of being
+	 * executed as a batch of {@code insert} statements.
+	 * <p>
+	 * This is most useful with {@link org.hibernate.StatelessSession#insertMultiple},
+	 * which executes all the given inserts as a single batch. If the dialect has
+	 * no bulk loading protocol, or if some value of a row can't be transferred by
+	 * the protocol, the inserts are executed as a usual batch. This setting takes
+	 * precedence over {@link #MULTI_ROW_INSERTS}.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isBulkInsertsEnabled
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String BULK_INSERTS = "hibernate.jdbc.batch_bulk_inserts";
+
+	/**
+	 * When enabled, a full JDBC batch is executed in the background, on the
+	 * {@linkplain QuerySettings#ASYNC_EXECUTOR asynchronous executor}, while
+	 * the statements of the next batch are prepared and their parameters bound.
+	 * At most one batch is executing at any time, and the batches are executed
+	 * in order, so the order of the statements is preserved. The row counts of
+	 * a batch are checked when its execution completes, that is, before the
+	 * next batch is executed, or at the end of the flush.
+	 * <p>
+	 * This reduces the time spent by a flush which executes many batches when
+	 * the round trip to the database dominates. It requires a JDBC driver which
+	 * allows a connection to be used by a second thread while a batch executes,
+	 * and so it has no effect unless the {@linkplain org.hibernate.dialect.Dialect#supportsBatchPipelining
+	 * dialect} declares such support, as PostgreSQL does for PgJDBC. It has no
+	 * effect unless batching is enabled.
+	 * <p>
+	 * A failure of a batch executing in the background is reported when the next
+	 * statement is added to the batch after the failure is detected, or when the
+	 * next batch is full, or at the end of the flush, whichever comes first. The
+	 * exception refers to the statement and rows of the failed batch.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isBatchPipeliningEnabled
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -107,6 +107,25 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, the entities of a query result which was cached using the
+	 * {@linkplain org.hibernate.annotations.CacheLayout#SHALLOW shallow layout}
+	 * are loaded all at once when the result is read from the query cache: first
+	 * from the second-level cache, and then, for entities which aren't cached,
+	 * by a single multi-id select. Otherwise, each entity is loaded individually
+	 * as its row is processed, which may require one select per row.
+	 * <p>
+	 * Has no effect for entities with a composite or converted identifier.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #QUERY_CACHE_LAYOUT
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String QUERY_CACHE_BATCH_LOAD = "hibernate.cache.query_cache_batch_load";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -135,6 +154,37 @@ public interface CacheSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * When the {@linkplain #USE_QUERY_CACHE query cache} is enabled, the interval in
+	 * milliseconds at which the invalidations of query spaces are written to the region
+	 * holding the update timestamps, if greater than zero.
+	 * <p>
+	 * Invalidations are tracked by a clock held in memory for each query space, so that
+	 * they're visible to the sessions of the same {@code SessionFactory} immediately.
+	 * They're written to the timestamps region at most once per interval, either by
+	 * a session or by a background thread, and when the {@code SessionFactory} is
+	 * closed, and the timestamps read from the region are reused for the interval. Therefore, in a
+	 * cluster, a node might use a stale cached query result for up to twice the interval
+	 * after another node modified a table it depends on.
+	 * <p>
+	 * The same bound applies to the pre-invalidations written by another node when one
+	 * of its transactions starts modifying a table. Although they're written to the region
+	 * immediately, a node which read the timestamp of the table less than an interval ago
+	 * doesn't see them, and might cache, or use, a query result which is made stale by the
+	 * transaction still in progress on the other node.
+	 * <p>
+	 * Only applies to the default {@linkplain #QUERY_CACHE_FACTORY timestamps cache}.
+	 *
+	 * @settingDefault {@code 0}, meaning that every invalidation is written to the region
+	 *                 immediately
+	 *
+	 * @see org.hibernate.cache.internal.CoalescingTimestampsCacheImpl
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String TIMESTAMPS_FLUSH_INTERVAL = "hibernate.cache.timestamps_flush_interval";
+
 	/**
 	 * The {@code CacheProvider} region name prefix
 	 *
@@ -185,6 +235,79 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of a compact binary format for second-level cache entries for
+	 * entities. The disassembled state of the entity is written as an array of bytes,
+	 * using a dedicated encoding for values of common basic types, and Java
+	 * serialization only for values of other types. This reduces the size of the
+	 * entries, and the cost of copying them, for cache providers which store entries
+	 * off-heap or remotely.
+	 * <p>
+	 * Each entry carries a fingerprint of the mapping of the entity, and an entry
+	 * written for a different mapping of the entity is treated as a cache miss.
+	 * <p>
+	 * Ignored if {@value #USE_STRUCTURED_CACHE} is enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.BinaryCacheEntry
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String USE_BINARY_CACHE = "hibernate.cache.use_binary_entries";
+
+	/**
+	 * The maximum number of entries of each second-level cache region kept in an
+	 * in-memory near cache in front of the storage of the {@link RegionFactory},
+	 * so that frequently used entries are served without a round trip to a remote
+	 * or off-heap cache. Only regions where every cached entity and collection has
+	 * {@linkplain org.hibernate.annotations.CacheConcurrencyStrategy#READ_ONLY read-only}
+	 * or {@linkplain org.hibernate.annotations.CacheConcurrencyStrategy#NONSTRICT_READ_WRITE
+	 * nonstrict read-write} access have a near cache.
+	 * <p>
+	 * When the query cache is enabled, an entry of the near cache is also discarded
+	 * once the {@linkplain #USE_QUERY_CACHE update timestamps} show that a table
+	 * mapped by the region was modified after the entry was cached. Every hit then
+	 * consults the update timestamps, which costs a round trip to the cache when the
+	 * timestamps region is remote.
+	 * <p>
+	 * The near cache is not notified when another node of a cluster removes an entry
+	 * from the region, or evicts the region. Without the query cache, an entry of the
+	 * near cache may therefore be stale for as long as its {@linkplain #NEAR_CACHE_TTL
+	 * time to live}, and a warning is logged when a near cache is enabled in front of
+	 * storage which might be shared with other nodes.
+	 * <p>
+	 * Only supported by region factories extending
+	 * {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}.
+	 *
+	 * @settingDefault {@code 0}, meaning that there is no near cache
+	 *
+	 * @see org.hibernate.cache.spi.support.NearCacheDomainDataStorageAccess
+	 * @see #NEAR_CACHE_TTL
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache_max_entries";
+
+	/**
+	 * The time in milliseconds after which an entry of the near cache expires, and
+	 * must be read again from the second-level cache region, or {@code 0} if the
+	 * entries only leave the near cache when they're removed or evicted.
+	 * <p>
+	 * This is also the maximum time for which a near cache might return an entry
+	 * made stale by another node of a cluster, when the query cache is disabled.
+	 *
+	 * @settingDefault {@code 60000}
+	 *
+	 * @see #NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String NEAR_CACHE_TTL = "hibernate.cache.near_cache_ttl";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
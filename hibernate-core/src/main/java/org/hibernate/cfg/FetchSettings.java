@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -46,4 +47,61 @@ public interface FetchSettings {
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applySubselectFetchEnabled(boolean)
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
+
+	/**
+	 * The maximum number of chunks of a {@linkplain org.hibernate.Session#findMultiple
+	 * multi-id load} which are fetched concurrently. A multi-id load is split into chunks
+	 * when the number of identifiers exceeds the number of JDBC parameters which may be
+	 * used in a single SQL {@code select}. When this setting is greater than {@code 1},
+	 * the statements for the later chunks are executed ahead of time, on separate JDBC
+	 * connections, using the {@linkplain QuerySettings#ASYNC_EXECUTOR asynchronous
+	 * executor}, while the results of the earlier chunks are being processed. The results
+	 * are still read, and the entities added to the persistence context, by the thread
+	 * which owns the session, one chunk at a time, in order.
+	 * <p>
+	 * The separate connections do not participate in the transaction of the session.
+	 * The statements executed on them do not see any change made, but not yet committed,
+	 * by the transaction, including entities flushed, bulk updates and deletes, and
+	 * native SQL, and do not share the snapshot of the database which the transaction
+	 * holds under {@code REPEATABLE_READ} or {@code SERIALIZABLE} isolation. Therefore,
+	 * chunks are only fetched concurrently by a session with no transaction in progress,
+	 * which does not use JTA, and never when a {@linkplain jakarta.persistence.LockModeType
+	 * lock} is requested. Even then, the chunks are read by separate statements, which
+	 * might observe different committed states of the database. When no separate
+	 * connection can be obtained promptly, the remaining chunks are fetched one after
+	 * the other, using the connection of the session.
+	 *
+	 * @settingDefault 1, chunks are fetched one after the other
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String MULTI_LOAD_CONCURRENCY = "hibernate.multi_load_concurrency";
+
+	/**
+	 * Enables adaptive batch fetching, and specifies the number of times a single
+	 * entity or collection must be lazily fetched by one session, one key at a time,
+	 * before Hibernate concludes that it is witnessing an "N+1 selects" problem.
+	 * <p>
+	 * When this happens, Hibernate learns a batch size for the entity or collection
+	 * role, and from then on, for every session, uses batch fetching as if the role
+	 * had been annotated {@link BatchSize @BatchSize}. Unfetched proxies and collections
+	 * of that role already belonging to the session are immediately made available for
+	 * batch fetching. Lazy fetches which load several keys in one batch are not counted.
+	 * If the problem reappears in a session with more unfetched proxies or collections
+	 * than the learned batch size, the learned batch size is increased.
+	 * <p>
+	 * Entities and collections with an explicit {@link BatchSize#size() batch size},
+	 * and sessions with a {@linkplain org.hibernate.Session#setFetchBatchSize(int)
+	 * batch size}, are not affected. The learned batch sizes are reported by
+	 * {@link org.hibernate.stat.Statistics#getAdaptiveBatchSizes()}.
+	 *
+	 * @settingDefault 0, adaptive batch fetching is disabled
+	 *
+	 * @see #DEFAULT_BATCH_FETCH_SIZE
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH_THRESHOLD = "hibernate.adaptive_batch_fetch_threshold";
 }
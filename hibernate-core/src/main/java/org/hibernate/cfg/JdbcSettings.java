@@ -421,6 +421,27 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * When enabled, the JDBC fetch size of a {@linkplain org.hibernate.ScrollableResults
+	 * scrollable result} or {@linkplain org.hibernate.query.SelectionQuery#getResultStream
+	 * result stream} grows as rows are consumed, starting from the fetch size specified by
+	 * {@value #STATEMENT_FETCH_SIZE} or {@link org.hibernate.query.SelectionQuery#setFetchSize}.
+	 * <p>
+	 * The fetch size is doubled each time a full fetch has been consumed, limited by the
+	 * measured width of the rows, so that a single fetch occupies a bounded amount of
+	 * memory. It stops growing when processing the rows, rather than fetching them,
+	 * dominates the time spent per fetch.
+	 * <p>
+	 * The fetch size is never adapted if no positive initial fetch size is specified, nor
+	 * after the program calls {@link org.hibernate.ScrollableResults#setFetchSize}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String ADAPTIVE_FETCH_SIZE = "hibernate.jdbc.adaptive_fetch_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results:
 	 * <ul>
@@ -305,6 +305,71 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * When enabled, the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache} evicts the entries which were cheapest to produce,
+	 * as measured by the time spent interpreting the HQL or translating the query to
+	 * SQL, instead of the least recently used entries. This is useful when the number
+	 * of distinct queries exceeds {@value #QUERY_PLAN_CACHE_MAX_SIZE}, so that cheap
+	 * query plans don't force expensive ones out of the cache.
+	 * <p>
+	 * Evictions are counted by {@link org.hibernate.stat.Statistics#getQueryPlanCacheEvictionCount()}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_COST_AWARE = "hibernate.query.plan_cache_cost_aware";
+
+	/**
+	 * The path of a file to which the HQL queries interpreted by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache} are saved when the {@code SessionFactory} is closed.
+	 * When the next {@code SessionFactory} is started, the saved queries are
+	 * interpreted again on a background thread, so that the first executions
+	 * of these queries don't pay the cost of parsing and validating them.
+	 * <p>
+	 * The file is ignored if it was written by a different version of Hibernate,
+	 * for a different dialect, or for a different domain model.
+	 *
+	 * @settingDefault none, queries are not saved
+	 *
+	 * @see org.hibernate.query.spi.QueryEngine#saveInterpretationCacheWarmup()
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_WARMUP_FILE = "hibernate.query.plan_cache_warmup_file";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} on which asynchronous
+	 * operations, such as {@link org.hibernate.query.SelectionQuery#getResultListAsync()}
+	 * and {@link org.hibernate.Session#findAsync}, are executed, either:
+	 * <ul>
+	 *     <li>an instance of {@code Executor},
+	 *     <li>a {@link Class} representing a class that implements {@code Executor}, or
+	 *     <li>the name of a class that implements {@code Executor}.
+	 * </ul>
+	 * <p>
+	 * The asynchronous operations of a session are executed one at a time, in
+	 * the order they were requested.
+	 * <p>
+	 * An executor created by Hibernate is shut down when the
+	 * {@link org.hibernate.SessionFactory} is closed. An executor supplied by
+	 * the application is never shut down by Hibernate.
+	 * <p>
+	 * Asynchronous operations may not be used by a session which is joined to
+	 * a JTA transaction, since the transaction is bound to the calling thread.
+	 *
+	 * @settingDefault A dedicated pool of daemon threads, with one thread for
+	 *                 each available processor.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	String ASYNC_EXECUTOR = "hibernate.query.async_executor";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.stat.spi.StatisticsFactory;
 
 /**
@@ -41,4 +42,52 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * When enabled, and statistics are {@linkplain #GENERATE_STATISTICS enabled},
+	 * specifies that every SQL query executed via JDBC should be profiled, and its
+	 * profile aggregated with the profiles of other executions of the same SQL, as
+	 * {@link org.hibernate.stat.SqlStatistics}.
+	 * <p>
+	 * The number of SQL statements tracked is limited by
+	 * {@value #QUERY_STATISTICS_MAX_SIZE}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.4
+	 *
+	 * @see org.hibernate.stat.Statistics#getSqlStatistics(String)
+	 * @see #SQL_PROFILING_SLOW_THRESHOLD
+	 */
+	@Incubating
+	String SQL_PROFILING = "hibernate.statistics.sql_profiling";
+
+	/**
+	 * When {@linkplain #SQL_PROFILING SQL profiling} is enabled, the number of
+	 * milliseconds an execution of a SQL query, including the processing of its
+	 * results, must take before its profile is kept as a sample of a slow query.
+	 * A value of {@code 0} means that every execution is sampled.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @since 7.4
+	 *
+	 * @see org.hibernate.stat.Statistics#getSlowSqlSamples()
+	 */
+	@Incubating
+	String SQL_PROFILING_SLOW_THRESHOLD = "hibernate.statistics.sql_profiling.slow_threshold";
+
+	/**
+	 * When {@linkplain #SQL_PROFILING SQL profiling} is enabled, the number of
+	 * samples of slow queries to keep. Once this number is reached, each new
+	 * sample replaces the oldest sample.
+	 *
+	 * @settingDefault {@code 100}
+	 *
+	 * @since 7.4
+	 *
+	 * @see org.hibernate.stat.Statistics#getSlowSqlSamples()
+	 */
+	@Incubating
+	String SQL_PROFILING_SLOW_SAMPLES = "hibernate.statistics.sql_profiling.slow_samples";
 }
@@ -604,6 +604,12 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertChunkSize(int parametersPerRow) {
+		// the protocol limits the number of parameters of a statement to 32767
+		return Math.min( 1_000, Short.MAX_VALUE / parametersPerRow );
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
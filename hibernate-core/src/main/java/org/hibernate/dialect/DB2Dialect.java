@@ -1153,6 +1153,11 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertChunkSize(int parametersPerRow) {
+		return Math.min( 1_000, getParameterCountLimit() / parametersPerRow );
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
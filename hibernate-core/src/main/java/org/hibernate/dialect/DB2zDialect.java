@@ -209,4 +209,9 @@ public boolean supportsValuesList() {
 		// DB2 z/OS has a VALUES statement, but that doesn't support multiple values
 		return false;
 	}
+
+	@Override
+	public int getMultiRowInsertChunkSize(int parametersPerRow) {
+		return 0;
+	}
 }
@@ -27,6 +27,8 @@
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.AggregateSupportImpl;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.NoBulkInsertSupport;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.CastStrEmulation;
 import org.hibernate.dialect.function.CoalesceIfnullEmulation;
@@ -4576,6 +4578,54 @@ public int getParameterCountLimit() {
 		return getInExpressionCountLimit();
 	}
 
+	/**
+	 * The maximum number of rows which may be inserted by a single multi-row
+	 * {@code insert ... values (...), (...), ...} statement, when batched
+	 * inserts are {@linkplain org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 * coalesced}. A value less than two indicates that such statements are not
+	 * supported, and that batched inserts are never coalesced.
+	 *
+	 * @param parametersPerRow The number of JDBC parameters of each row, always positive
+	 *
+	 * @return The number of rows, or {@code 0} if multi-row inserts are not supported
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public int getMultiRowInsertChunkSize(int parametersPerRow) {
+		return 0;
+	}
+
+	/**
+	 * Get the appropriate {@link BulkInsertSupport} for this dialect, used
+	 * to insert the rows of a batch using a bulk loading protocol, when
+	 * {@linkplain org.hibernate.cfg.BatchSettings#BULK_INSERTS enabled}.
+	 *
+	 * @return the BulkInsertSupport
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public BulkInsertSupport getBulkInsertSupport() {
+		return NoBulkInsertSupport.INSTANCE;
+	}
+
+	/**
+	 * Does the JDBC driver allow statements to be prepared, and their parameters
+	 * bound, on one thread, while a batch is executed on the same connection by
+	 * another thread? If so, a full batch may be {@linkplain
+	 * org.hibernate.cfg.BatchSettings#BATCH_PIPELINING executed in the background}
+	 * while the statements of the next batch are bound.
+	 *
+	 * @return {@code true} if batch pipelining is supported
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public boolean supportsBatchPipelining() {
+		return false;
+	}
+
 	/**
 	 * Must LOB values occur last in inserts and updates?
 	 *
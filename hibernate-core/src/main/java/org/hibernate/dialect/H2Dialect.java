@@ -1100,6 +1100,11 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertChunkSize(int parametersPerRow) {
+		return 1_000;
+	}
+
 	@Override
 	public String getDual() {
 		return "dual";
@@ -659,6 +659,11 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertChunkSize(int parametersPerRow) {
+		return 1_000;
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return identityColumnSupport;
@@ -1634,6 +1634,12 @@ public boolean supportsFromClauseInUpdate() {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertChunkSize(int parametersPerRow) {
+		// the protocol limits the number of parameters of a statement to 65535
+		return Math.min( 1_000, 65_535 / parametersPerRow );
+	}
+
 	@Override
 	public String appendCheckConstraintOptions(CheckConstraint checkConstraint, String sqlCheckConstraint) {
 		return isNotEmpty( checkConstraint.getOptions() )
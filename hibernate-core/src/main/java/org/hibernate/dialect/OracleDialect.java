@@ -1136,6 +1136,13 @@ public boolean supportsValuesList() {
 		return getVersion().isSameOrAfter( 23 );
 	}
 
+	@Override
+	public int getMultiRowInsertChunkSize(int parametersPerRow) {
+		return getVersion().isSameOrAfter( 23 )
+				? Math.min( 1_000, getParameterCountLimit() / parametersPerRow )
+				: 0;
+	}
+
 	// features which remain constant across 8i, 9i, and 10g ~~~~~~~~~~~~~~~~~~
 
 	@Override
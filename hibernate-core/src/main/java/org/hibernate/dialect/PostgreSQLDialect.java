@@ -17,6 +17,8 @@
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.PostgreSQLAggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.PostgreSQLCopyBulkInsertSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.function.PostgreSQLMinMaxFunction;
 import org.hibernate.dialect.function.PostgreSQLTruncFunction;
@@ -858,6 +860,26 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertChunkSize(int parametersPerRow) {
+		// the protocol limits the number of parameters of a statement to 32767
+		return Math.min( 1_000, Short.MAX_VALUE / parametersPerRow );
+	}
+
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return driverKind == PostgreSQLDriverKind.PG_JDBC
+				? PostgreSQLCopyBulkInsertSupport.INSTANCE
+				: super.getBulkInsertSupport();
+	}
+
+	@Override
+	public boolean supportsBatchPipelining() {
+		// PgJDBC serializes the use of the connection, and
+		// prepares statements and binds parameters on the client
+		return driverKind == PostgreSQLDriverKind.PG_JDBC;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
@@ -622,6 +622,12 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertChunkSize(int parametersPerRow) {
+		// a table value constructor is limited to 1000 rows
+		return Math.min( 1_000, getParameterCountLimit() / parametersPerRow );
+	}
+
 	@Override
 	public boolean supportsDistinctFromPredicate() {
 		return getVersion().isSameOrAfter( 16 );
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * Support for inserting many rows into a table using a bulk loading
+ * protocol of the database, for example, the {@code COPY} command of
+ * PostgreSQL, instead of a batch of {@code insert} statements.
+ * <p>
+ * The rows are given as arrays of JDBC values, that is, of the values
+ * which would otherwise have been passed to the setter methods of
+ * {@link java.sql.PreparedStatement}, with {@code null} representing
+ * SQL {@code null}. Before inserting rows, the caller makes sure that
+ * every value is {@linkplain #supportsValue supported}, and falls back
+ * to a batch of {@code insert} statements if not.
+ *
+ * @see org.hibernate.dialect.Dialect#getBulkInsertSupport()
+ * @see org.hibernate.cfg.BatchSettings#BULK_INSERTS
+ *
+ * @since 7.4
+ */
+@Incubating
+public interface BulkInsertSupport {
+
+	/**
+	 * Does this dialect support bulk inserts?
+	 *
+	 * @return True if bulk inserts are supported; false otherwise.
+	 */
+	default boolean supportsBulkInserts() {
+		return true;
+	}
+
+	/**
+	 * Can the bulk loading protocol be used with the given connection?
+	 * This might not be the case if the connection was not obtained from
+	 * the expected JDBC driver.
+	 */
+	default boolean isUsable(Connection connection) {
+		return true;
+	}
+
+	/**
+	 * Can the given non-null JDBC value be transferred using the bulk
+	 * loading protocol?
+	 */
+	boolean supportsValue(Object value);
+
+	/**
+	 * Insert the given rows into the given table.
+	 *
+	 * @param connection The JDBC connection
+	 * @param tableName The name of the table
+	 * @param columnNames The names of the columns, in the order of the values of each row
+	 * @param rows The JDBC values of the rows
+	 *
+	 * @return The number of inserted rows, or a negative number if it is unknown
+	 */
+	long insertRows(Connection connection, String tableName, List<String> columnNames, List<Object[]> rows)
+			throws SQLException;
+}
@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * An instance of {@link BulkInsertSupport} indicating that the
+ * SQL dialect does not support bulk inserts.
+ *
+ * @since 7.4
+ */
+public class NoBulkInsertSupport implements BulkInsertSupport {
+
+	public static final BulkInsertSupport INSTANCE = new NoBulkInsertSupport();
+
+	@Override
+	public boolean supportsBulkInserts() {
+		return false;
+	}
+
+	@Override
+	public boolean supportsValue(Object value) {
+		return false;
+	}
+
+	@Override
+	public long insertRows(Connection connection, String tableName, List<String> columnNames, List<Object[]> rows) {
+		throw new UnsupportedOperationException( "dialect does not support bulk inserts" );
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * {@link BulkInsertSupport} for PostgreSQL, streaming the rows to a
+ * {@code COPY ... FROM STDIN} command of the PostgreSQL JDBC driver,
+ * in the text format of {@code COPY}.
+ * <p>
+ * The rows are encoded one at a time while the driver reads them,
+ * so that the whole payload is never held in memory.
+ *
+ * @since 7.4
+ */
+public class PostgreSQLCopyBulkInsertSupport implements BulkInsertSupport {
+
+	public static final PostgreSQLCopyBulkInsertSupport INSTANCE = new PostgreSQLCopyBulkInsertSupport();
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	@Override
+	public boolean isUsable(Connection connection) {
+		try {
+			return connection.isWrapperFor( PGConnection.class );
+		}
+		catch (SQLException | LinkageError e) {
+			// not the PostgreSQL JDBC driver
+			return false;
+		}
+	}
+
+	@Override
+	public boolean supportsValue(Object value) {
+		return value instanceof String
+			|| value instanceof Character
+			|| value instanceof Boolean
+			|| value instanceof Byte
+			|| value instanceof Short
+			|| value instanceof Integer
+			|| value instanceof Long
+			|| value instanceof BigInteger
+			|| value instanceof BigDecimal
+			|| value instanceof Float
+			|| value instanceof Double
+			|| value instanceof byte[]
+			|| value instanceof java.sql.Date
+			|| value instanceof java.sql.Time
+			|| value instanceof Timestamp
+			|| value instanceof LocalDate
+			|| value instanceof LocalTime
+			|| value instanceof LocalDateTime
+			|| value instanceof OffsetDateTime
+			|| value instanceof OffsetTime
+			|| value instanceof Instant
+			|| value instanceof UUID;
+	}
+
+	@Override
+	public long insertRows(Connection connection, String tableName, List<String> columnNames, List<Object[]> rows)
+			throws SQLException {
+		try {
+			return copyIn( connection, getCopyString( tableName, columnNames ), new RowsInputStream( rows.iterator() ) );
+		}
+		catch (IOException e) {
+			throw new SQLException( "Could not stream rows to COPY command", e );
+		}
+	}
+
+	/**
+	 * The {@code COPY} command which reads rows into the given columns of the given table.
+	 */
+	protected String getCopyString(String tableName, List<String> columnNames) {
+		return "copy " + tableName + " (" + String.join( ",", columnNames ) + ") from stdin";
+	}
+
+	/**
+	 * Execute the given {@code COPY} command, reading the rows from the given stream.
+	 *
+	 * @return The number of rows copied
+	 */
+	protected long copyIn(Connection connection, String sql, InputStream rows)
+			throws SQLException, IOException {
+		return connection.unwrap( PGConnection.class ).getCopyAPI().copyIn( sql, rows );
+	}
+
+	/**
+	 * Append the given row to the given buffer, in the text format of {@code COPY}.
+	 */
+	protected void appendRow(StringBuilder buffer, Object[] row) {
+		for ( int i = 0; i < row.length; i++ ) {
+			if ( i > 0 ) {
+				buffer.append( '\t' );
+			}
+			appendValue( buffer, row[i] );
+		}
+		buffer.append( '\n' );
+	}
+
+	protected void appendValue(StringBuilder buffer, Object value) {
+		if ( value == null ) {
+			buffer.append( "\\N" );
+		}
+		else if ( value instanceof String string ) {
+			appendEscaped( buffer, string );
+		}
+		else if ( value instanceof Character character ) {
+			appendEscaped( buffer, character.toString() );
+		}
+		else if ( value instanceof Boolean bool ) {
+			buffer.append( bool ? 't' : 'f' );
+		}
+		else if ( value instanceof BigDecimal bigDecimal ) {
+			buffer.append( bigDecimal.toPlainString() );
+		}
+		else if ( value instanceof byte[] bytes ) {
+			// the hex format of bytea, with the backslash escaped
+			buffer.append( "\\\\x" );
+			for ( byte b : bytes ) {
+				buffer.append( HEX_DIGITS[( b >> 4 ) & 0xF] ).append( HEX_DIGITS[b & 0xF] );
+			}
+		}
+		else if ( value instanceof Timestamp timestamp ) {
+			// like the driver, interpret the timestamp in the JVM time zone, and send
+			// the offset explicitly, which is ignored by 'timestamp' columns
+			buffer.append( timestamp.toLocalDateTime().atZone( ZoneId.systemDefault() ).toOffsetDateTime() );
+		}
+		else {
+			// numbers, dates, times, and UUIDs
+			buffer.append( value );
+		}
+	}
+
+	private static void appendEscaped(StringBuilder buffer, String string) {
+		for ( int i = 0; i < string.length(); i++ ) {
+			final char c = string.charAt( i );
+			switch ( c ) {
+				case '\\' -> buffer.append( "\\\\" );
+				case '\n' -> buffer.append( "\\n" );
+				case '\r' -> buffer.append( "\\r" );
+				case '\t' -> buffer.append( "\\t" );
+				default -> buffer.append( c );
+			}
+		}
+	}
+
+	/**
+	 * Encodes the rows lazily, as they are read by the driver.
+	 */
+	private final class RowsInputStream extends InputStream {
+		private final Iterator<Object[]> rows;
+		private final StringBuilder line = new StringBuilder();
+		private byte[] buffer = new byte[0];
+		private int position;
+
+		private RowsInputStream(Iterator<Object[]> rows) {
+			this.rows = rows;
+		}
+
+		private boolean fill() {
+			while ( position >= buffer.length ) {
+				if ( !rows.hasNext() ) {
+					return false;
+				}
+				line.setLength( 0 );
+				appendRow( line, rows.next() );
+				buffer = line.toString().getBytes( UTF_8 );
+				position = 0;
+			}
+			return true;
+		}
+
+		@Override
+		public int read() {
+			return fill() ? buffer[position++] & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if ( length == 0 ) {
+				return 0;
+			}
+			else if ( !fill() ) {
+				return -1;
+			}
+			else {
+				final int count = Math.min( length, buffer.length - position );
+				System.arraycopy( buffer, position, bytes, offset, count );
+				position += count;
+				return count;
+			}
+		}
+	}
+}
@@ -4,15 +4,21 @@
  */
 package org.hibernate.engine.internal;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.MutableCacheKeyBuilder;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 /**
  * @author Steve Ebersole
  * @author Sanne Grinovero
@@ -41,6 +47,9 @@ public static Object fromSharedCache(
 		eventListenerManager.cacheGetStart();
 		final var eventMonitor = session.getEventMonitor();
 		final var cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		final var statistics = session.getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
 		try {
 			cachedValue = cacheAccess.get( session, cacheKey );
 		}
@@ -54,6 +63,9 @@ public static Object fromSharedCache(
 					cachedValue != null
 			);
 			eventListenerManager.cacheGetEnd( cachedValue != null );
+			if ( stats ) {
+				lookupTime( statistics, cacheAccess, startTime );
+			}
 		}
 		return cachedValue;
 	}
@@ -68,6 +80,9 @@ public static Object fromSharedCache(
 		eventListenerManager.cacheGetStart();
 		final var eventMonitor = session.getEventMonitor();
 		final var cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		final var statistics = session.getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
 		try {
 			cachedValue = cacheAccess.get( session, cacheKey );
 		}
@@ -80,9 +95,120 @@ public static Object fromSharedCache(
 					cachedValue != null
 			);
 			eventListenerManager.cacheGetEnd( cachedValue != null );
+			if ( stats ) {
+				lookupTime( statistics, cacheAccess, startTime );
+			}
 		}
 		return cachedValue;
 	}
+
+	/**
+	 * Look up multiple entities in the second-level cache at once.
+	 *
+	 * @return the cached entries which were found, by cache key
+	 *
+	 * @since 7.4
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			EntityPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		return fromSharedCache( session, cacheKeys, persister, false, cacheAccess );
+	}
+
+	/**
+	 * Look up multiple entities or natural ids in the second-level cache at once.
+	 *
+	 * @return the cached entries which were found, by cache key
+	 *
+	 * @since 7.4
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			EntityPersister persister,
+			boolean isNaturalKey,
+			CachedDomainDataAccess cacheAccess) {
+		final var eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final var eventMonitor = session.getEventMonitor();
+		final var cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		final var statistics = session.getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = cachedValues != null && !cachedValues.isEmpty();
+			eventMonitor.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					isNaturalKey,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+			if ( stats ) {
+				lookupTime( statistics, cacheAccess, startTime );
+			}
+		}
+		return cachedValues;
+	}
+
+	/**
+	 * Look up multiple collections in the second-level cache at once.
+	 *
+	 * @return the cached entries which were found, by cache key
+	 *
+	 * @since 7.4
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			CollectionPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		final var eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final var eventMonitor = session.getEventMonitor();
+		final var cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		final var statistics = session.getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = cachedValues != null && !cachedValues.isEmpty();
+			eventMonitor.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+			if ( stats ) {
+				lookupTime( statistics, cacheAccess, startTime );
+			}
+		}
+		return cachedValues;
+	}
+
+	private static void lookupTime(
+			StatisticsImplementor statistics,
+			CachedDomainDataAccess cacheAccess,
+			long startTime) {
+		statistics.secondLevelCacheLookupTime(
+				cacheAccess.getRegion().getName(),
+				NANOSECONDS.toMicros( System.nanoTime() - startTime )
+		);
+	}
+
 	public static void addBasicValueToCacheKey(
 			MutableCacheKeyBuilder cacheKey,
 			Object value,
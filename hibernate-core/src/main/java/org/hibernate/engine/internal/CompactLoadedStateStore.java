@@ -0,0 +1,301 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.LoadedStateStore;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * A {@link LoadedStateStore} which encodes the loaded state in a single exactly-sized
+ * {@code byte[]}, holding a one-byte tag per attribute followed by the value itself.
+ * <p>
+ * Only states made exclusively of {@code null}s, {@link String}s, and boxed primitive
+ * values are compacted. Strings made of ISO-8859-1 characters only are stored with
+ * one byte per character. Any other state, for example a state containing an entity
+ * reference, a collection, an embeddable, or a mutable value, is left untouched.
+ *
+ * @since 7.4
+ */
+public final class CompactLoadedStateStore implements LoadedStateStore {
+	/**
+	 * Singleton access
+	 */
+	public static final CompactLoadedStateStore INSTANCE = new CompactLoadedStateStore();
+
+	/**
+	 * The short name of this strategy.
+	 */
+	public static final String SHORT_NAME = "compact";
+
+	private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle( short[].class, ByteOrder.LITTLE_ENDIAN );
+	private static final VarHandle CHAR = MethodHandles.byteArrayViewVarHandle( char[].class, ByteOrder.LITTLE_ENDIAN );
+	private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle( int[].class, ByteOrder.LITTLE_ENDIAN );
+	private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle( long[].class, ByteOrder.LITTLE_ENDIAN );
+
+	private static final byte NULL = 0;
+	private static final byte FALSE = 1;
+	private static final byte TRUE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT_VALUE = 4;
+	private static final byte CHAR_VALUE = 5;
+	private static final byte INT_VALUE = 6;
+	private static final byte LONG_VALUE = 7;
+	private static final byte FLOAT = 8;
+	private static final byte DOUBLE = 9;
+	private static final byte LATIN1_STRING = 10;
+	private static final byte UTF16_STRING = 11;
+
+	private CompactLoadedStateStore() {
+	}
+
+	@Override
+	public @Nullable Object compact(Object[] loadedState, EntityPersister persister) {
+		int size = 0;
+		for ( Object value : loadedState ) {
+			final int valueSize = encodedSize( value );
+			if ( valueSize < 0 ) {
+				return null;
+			}
+			size += valueSize;
+		}
+		final byte[] bytes = new byte[size];
+		int position = 0;
+		for ( Object value : loadedState ) {
+			position = encode( value, bytes, position );
+		}
+		assert position == size;
+		return bytes;
+	}
+
+	@Override
+	public Object[] expand(Object compactState, EntityPersister persister) {
+		final byte[] bytes = (byte[]) compactState;
+		final Object[] loadedState = new Object[persister.getPropertySpan()];
+		int position = 0;
+		for ( int i = 0; i < loadedState.length; i++ ) {
+			final byte tag = bytes[position++];
+			switch ( tag ) {
+				case NULL -> loadedState[i] = null;
+				case FALSE -> loadedState[i] = Boolean.FALSE;
+				case TRUE -> loadedState[i] = Boolean.TRUE;
+				case BYTE -> loadedState[i] = bytes[position];
+				case SHORT_VALUE -> loadedState[i] = (short) SHORT.get( bytes, position );
+				case CHAR_VALUE -> loadedState[i] = (char) CHAR.get( bytes, position );
+				case INT_VALUE -> loadedState[i] = (int) INT.get( bytes, position );
+				case LONG_VALUE -> loadedState[i] = (long) LONG.get( bytes, position );
+				case FLOAT -> loadedState[i] = Float.intBitsToFloat( (int) INT.get( bytes, position ) );
+				case DOUBLE -> loadedState[i] = Double.longBitsToDouble( (long) LONG.get( bytes, position ) );
+				case LATIN1_STRING -> {
+					final int length = (int) INT.get( bytes, position );
+					loadedState[i] = new String( bytes, position + 4, length, ISO_8859_1 );
+				}
+				case UTF16_STRING -> {
+					final int length = (int) INT.get( bytes, position );
+					final char[] chars = new char[length];
+					for ( int j = 0; j < length; j++ ) {
+						chars[j] = (char) CHAR.get( bytes, position + 4 + j * 2 );
+					}
+					loadedState[i] = new String( chars );
+				}
+				default -> throw new IllegalStateException( "Unknown tag in compact loaded state: " + tag );
+			}
+			position += payloadSize( tag, bytes, position );
+		}
+		return loadedState;
+	}
+
+	@Override
+	public boolean isIdentical(Object compactState, Object[] currentState, EntityPersister persister) {
+		final byte[] bytes = (byte[]) compactState;
+		int position = 0;
+		for ( Object value : currentState ) {
+			final byte tag = bytes[position++];
+			if ( value != LazyPropertyInitializer.UNFETCHED_PROPERTY
+					&& !isIdentical( tag, bytes, position, value ) ) {
+				return false;
+			}
+			position += payloadSize( tag, bytes, position );
+		}
+		return true;
+	}
+
+	private static boolean isIdentical(byte tag, byte[] bytes, int position, Object value) {
+		return switch ( tag ) {
+			case NULL -> value == null;
+			case FALSE -> Boolean.FALSE.equals( value );
+			case TRUE -> Boolean.TRUE.equals( value );
+			case BYTE -> value instanceof Byte b && b == bytes[position];
+			case SHORT_VALUE -> value instanceof Short s && s == (short) SHORT.get( bytes, position );
+			case CHAR_VALUE -> value instanceof Character c && c == (char) CHAR.get( bytes, position );
+			case INT_VALUE -> value instanceof Integer n && n == (int) INT.get( bytes, position );
+			case LONG_VALUE -> value instanceof Long n && n == (long) LONG.get( bytes, position );
+			case FLOAT -> value instanceof Float f
+					&& Float.floatToRawIntBits( f ) == (int) INT.get( bytes, position );
+			case DOUBLE -> value instanceof Double d
+					&& Double.doubleToRawLongBits( d ) == (long) LONG.get( bytes, position );
+			case LATIN1_STRING -> value instanceof String string && isLatin1( string, bytes, position );
+			case UTF16_STRING -> value instanceof String string && isUtf16( string, bytes, position );
+			default -> false;
+		};
+	}
+
+	private static boolean isLatin1(String string, byte[] bytes, int position) {
+		final int length = (int) INT.get( bytes, position );
+		if ( string.length() != length ) {
+			return false;
+		}
+		final int start = position + 4;
+		for ( int i = 0; i < length; i++ ) {
+			if ( string.charAt( i ) != ( bytes[start + i] & 0xFF ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isUtf16(String string, byte[] bytes, int position) {
+		final int length = (int) INT.get( bytes, position );
+		if ( string.length() != length ) {
+			return false;
+		}
+		final int start = position + 4;
+		for ( int i = 0; i < length; i++ ) {
+			if ( string.charAt( i ) != (char) CHAR.get( bytes, start + i * 2 ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the size of the payload following the tag at {@code position - 1}
+	 */
+	private static int payloadSize(byte tag, byte[] bytes, int position) {
+		return switch ( tag ) {
+			case NULL, FALSE, TRUE -> 0;
+			case BYTE -> 1;
+			case SHORT_VALUE, CHAR_VALUE -> 2;
+			case INT_VALUE, FLOAT -> 4;
+			case LONG_VALUE, DOUBLE -> 8;
+			case LATIN1_STRING -> 4 + (int) INT.get( bytes, position );
+			case UTF16_STRING -> 4 + 2 * (int) INT.get( bytes, position );
+			default -> throw new IllegalStateException( "Unknown tag in compact loaded state: " + tag );
+		};
+	}
+
+	/**
+	 * @return the size of the tag and payload for the given value,
+	 *         or {@code -1} if the value cannot be encoded
+	 */
+	private static int encodedSize(Object value) {
+		if ( value == null || value instanceof Boolean ) {
+			return 1;
+		}
+		else if ( value instanceof String string ) {
+			return 5 + ( isLatin1( string ) ? string.length() : 2 * string.length() );
+		}
+		else if ( value instanceof Integer || value instanceof Float ) {
+			return 5;
+		}
+		else if ( value instanceof Long || value instanceof Double ) {
+			return 9;
+		}
+		else if ( value instanceof Short || value instanceof Character ) {
+			return 3;
+		}
+		else if ( value instanceof Byte ) {
+			return 2;
+		}
+		else {
+			return -1;
+		}
+	}
+
+	private static boolean isLatin1(String string) {
+		for ( int i = 0; i < string.length(); i++ ) {
+			if ( string.charAt( i ) > 0xFF ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int encode(Object value, byte[] bytes, int position) {
+		if ( value == null ) {
+			bytes[position] = NULL;
+			return position + 1;
+		}
+		else if ( value instanceof Boolean bool ) {
+			bytes[position] = bool ? TRUE : FALSE;
+			return position + 1;
+		}
+		else if ( value instanceof String string ) {
+			final int length = string.length();
+			final boolean latin1 = isLatin1( string );
+			bytes[position] = latin1 ? LATIN1_STRING : UTF16_STRING;
+			INT.set( bytes, position + 1, length );
+			final int start = position + 5;
+			if ( latin1 ) {
+				for ( int i = 0; i < length; i++ ) {
+					bytes[start + i] = (byte) string.charAt( i );
+				}
+				return start + length;
+			}
+			else {
+				for ( int i = 0; i < length; i++ ) {
+					CHAR.set( bytes, start + i * 2, string.charAt( i ) );
+				}
+				return start + 2 * length;
+			}
+		}
+		else if ( value instanceof Integer integer ) {
+			bytes[position] = INT_VALUE;
+			INT.set( bytes, position + 1, (int) integer );
+			return position + 5;
+		}
+		else if ( value instanceof Long longValue ) {
+			bytes[position] = LONG_VALUE;
+			LONG.set( bytes, position + 1, (long) longValue );
+			return position + 9;
+		}
+		else if ( value instanceof Float floatValue ) {
+			bytes[position] = FLOAT;
+			INT.set( bytes, position + 1, Float.floatToRawIntBits( floatValue ) );
+			return position + 5;
+		}
+		else if ( value instanceof Double doubleValue ) {
+			bytes[position] = DOUBLE;
+			LONG.set( bytes, position + 1, Double.doubleToRawLongBits( doubleValue ) );
+			return position + 9;
+		}
+		else if ( value instanceof Short shortValue ) {
+			bytes[position] = SHORT_VALUE;
+			SHORT.set( bytes, position + 1, (short) shortValue );
+			return position + 3;
+		}
+		else if ( value instanceof Character character ) {
+			bytes[position] = CHAR_VALUE;
+			CHAR.set( bytes, position + 1, (char) character );
+			return position + 3;
+		}
+		else if ( value instanceof Byte byteValue ) {
+			bytes[position] = BYTE;
+			bytes[position + 1] = byteValue;
+			return position + 2;
+		}
+		else {
+			throw new IllegalArgumentException( "Value cannot be encoded: " + value );
+		}
+	}
+}
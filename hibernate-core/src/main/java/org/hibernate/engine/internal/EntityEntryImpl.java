@@ -18,6 +18,7 @@
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityEntryExtraState;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadedStateStore;
 import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
@@ -62,7 +63,8 @@
 public final class EntityEntryImpl implements Serializable, EntityEntry {
 
 	private final Object id;
-	private Object[] loadedState;
+	// either an Object[], or the compact representation produced by the LoadedStateStore
+	private Object loadedState;
 	private Object version;
 	private final EntityPersister persister; // permanent but we only need the entityName state in a non transient way
 	private transient EntityKey cachedEntityKey; // cached EntityKey (lazy-initialized)
@@ -210,7 +212,43 @@ public Object getId() {
 
 	@Override
 	public Object[] getLoadedState() {
-		return loadedState;
+		final Object state = loadedState;
+		if ( state == null || state instanceof Object[] ) {
+			return (Object[]) state;
+		}
+		else {
+			final Object[] expandedState = loadedStateStore().expand( state, persister );
+			loadedState = expandedState;
+			return expandedState;
+		}
+	}
+
+	@Override
+	public boolean isLoadedStateIdentical(Object[] currentState) {
+		final Object state = loadedState;
+		return state != null
+			&& !( state instanceof Object[] )
+			&& loadedStateStore().isIdentical( state, currentState, persister );
+	}
+
+	private LoadedStateStore loadedStateStore() {
+		return persister.getFactory().getSessionFactoryOptions().getLoadedStateStore();
+	}
+
+	/**
+	 * Replace the loaded state by its compact representation, if a
+	 * {@link LoadedStateStore} is configured and the entity is managed.
+	 */
+	private void compactLoadedState() {
+		if ( loadedState instanceof Object[] state && getStatus() == MANAGED ) {
+			final var loadedStateStore = loadedStateStore();
+			if ( loadedStateStore != null ) {
+				final Object compactState = loadedStateStore.compact( state, persister );
+				if ( compactState != null ) {
+					loadedState = compactState;
+				}
+			}
+		}
 	}
 
 	@Override
@@ -283,6 +321,7 @@ public Object getRowId() {
 	@Override
 	public void postUpdate(Object entity, Object[] updatedState, Object nextVersion) {
 		loadedState = updatedState;
+		compactLoadedState();
 		setLockMode( LockMode.WRITE );
 
 		if ( persister.isVersioned() ) {
@@ -307,6 +346,8 @@ public void postLoad(Object entity) {
 			session.getFactory().getCustomEntityDirtinessStrategy()
 					.resetDirty( entity, persister, session );
 		}
+
+		compactLoadedState();
 	}
 
 	private static void clearDirtyAttributes(final SelfDirtinessTracker entity) {
@@ -345,6 +386,7 @@ else if ( earlyInsert ) {
 
 	@Override
 	public Object getLoadedValue(String propertyName) {
+		final Object[] loadedState = getLoadedState();
 		if ( loadedState == null || propertyName == null ) {
 			return null;
 		}
@@ -364,6 +406,7 @@ public void overwriteLoadedStateCollectionValue(String propertyName, PersistentC
 		// nothing to do if status is READ_ONLY
 		if ( getStatus() != READ_ONLY ) {
 			assert propertyName != null;
+			final Object[] loadedState = getLoadedState();
 			assert loadedState != null;
 			loadedState[ propertyIndex( propertyName ) ] = collection;
 		}
@@ -422,7 +465,7 @@ public boolean isModifiableEntity() {
 	public void forceLocked(Object entity, Object nextVersion) {
 		version = nextVersion;
 		final int versionProperty = persister.getVersionPropertyIndex();
-		loadedState[versionProperty] = version;
+		getLoadedState()[versionProperty] = version;
 		setLockMode( PESSIMISTIC_FORCE_INCREMENT );
 		persister.setValue( entity, versionProperty, nextVersion );
 	}
@@ -450,7 +493,8 @@ else if ( !persister.isMutable() ) {
 			}
 			else {
 				setStatus( MANAGED );
-				loadedState = persister.getValues( entity );
+				final Object[] loadedState = persister.getValues( entity );
+				this.loadedState = loadedState;
 				final var context = getPersistenceContext();
 				TypeHelper.deepCopy(
 						loadedState,
@@ -498,7 +542,7 @@ public void serialize(ObjectOutputStream oos) throws IOException {
 		oos.writeInt( getStatus().ordinal() );
 		oos.writeInt( previousStatus == null ? -1 : previousStatus.ordinal() );
 		// todo : potentially look at optimizing these two arrays
-		oos.writeObject( loadedState );
+		oos.writeObject( getLoadedState() );
 		oos.writeObject( getDeletedState() );
 		oos.writeObject( version );
 		oos.writeInt( getLockMode().ordinal() );
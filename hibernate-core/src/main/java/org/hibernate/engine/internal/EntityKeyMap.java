@@ -0,0 +1,529 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link Map} keyed by {@link EntityKey}, used as an alternative to {@link java.util.HashMap}
+ * for the entity maps held by {@link StatefulPersistenceContext}.
+ * <p>
+ * Entries are partitioned into one segment per entity hierarchy (identified by the
+ * {@linkplain EntityPersister#getRootEntityName() root entity name}, which is what
+ * {@link EntityKey#equals} considers). Segments are indexed by persister, so finding
+ * the segment does not depend on the number of entity types. Each segment is an open-addressing hash table
+ * using linear probing and backward-shift deletion, so no per-entry node is allocated.
+ * When the identifier of the hierarchy is a {@link Long} or an {@link Integer}, the
+ * segment stores the identifier values in a {@code long[]} and probes using primitive
+ * comparisons, which also allows lookups by {@linkplain #get(EntityPersister, long)
+ * primitive id} without instantiating an {@code EntityKey}.
+ * <p>
+ * This map does not support {@code null} keys or values, and is not thread-safe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP
+ *
+ * @since 7.4
+ */
+public final class EntityKeyMap<V> extends AbstractMap<EntityKey, V> {
+
+	private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+	@SuppressWarnings("unchecked")
+	private Segment<V>[] segments = new Segment[2];
+	private int segmentCount;
+	// the segment of each persister seen so far, and of each hierarchy
+	private final IdentityHashMap<EntityPersister, Segment<V>> segmentsByPersister = new IdentityHashMap<>();
+	private final HashMap<String, Segment<V>> segmentsByRootEntityName = new HashMap<>();
+	private @Nullable Segment<V> lastSegment;
+	private int size;
+	private int modCount;
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public @Nullable V get(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final var segment = segment( entityKey.getPersister() );
+			return segment == null ? null : segment.get( entityKey );
+		}
+		return null;
+	}
+
+	/**
+	 * Look up the value mapped to the entity of the given hierarchy with the given identifier,
+	 * without requiring an {@link EntityKey}.
+	 *
+	 * @param persister the persister of any entity belonging to the hierarchy
+	 * @param id the identifier value
+	 */
+	public @Nullable V get(EntityPersister persister, Object id) {
+		final var segment = segment( persister );
+		return segment == null ? null : segment.get( id );
+	}
+
+	/**
+	 * Look up the value mapped to the entity of the given hierarchy with the given
+	 * {@code Long} or {@code Integer} identifier, without boxing the identifier value
+	 * or requiring an {@link EntityKey}.
+	 *
+	 * @param persister the persister of any entity belonging to the hierarchy
+	 * @param id the primitive identifier value
+	 */
+	public @Nullable V get(EntityPersister persister, long id) {
+		final var segment = segment( persister );
+		return segment == null || !segment.primitive ? null : segment.getPrimitive( id );
+	}
+
+	@Override
+	public @Nullable V put(EntityKey key, V value) {
+		return put( key, value, false );
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(EntityKey key, V value) {
+		return put( key, value, true );
+	}
+
+	private @Nullable V put(EntityKey key, V value, boolean onlyIfAbsent) {
+		if ( key == null || value == null ) {
+			throw new NullPointerException( "This map does not support null keys or values" );
+		}
+		final V old = getOrCreateSegment( key.getPersister() ).put( key, value, onlyIfAbsent );
+		if ( old == null ) {
+			size++;
+			modCount++;
+		}
+		return old;
+	}
+
+	@Override
+	public @Nullable V remove(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final var segment = segment( entityKey.getPersister() );
+			if ( segment != null ) {
+				final V old = segment.remove( entityKey );
+				if ( old != null ) {
+					size--;
+					modCount++;
+				}
+				return old;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = null;
+		}
+		segmentCount = 0;
+		segmentsByPersister.clear();
+		segmentsByRootEntityName.clear();
+		lastSegment = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, V>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<EntityKey, V>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public void clear() {
+				EntityKeyMap.this.clear();
+			}
+		};
+	}
+
+	private @Nullable Segment<V> segment(EntityPersister persister) {
+		final var last = lastSegment;
+		if ( last != null && last.matches( persister ) ) {
+			return last;
+		}
+		var segment = segmentsByPersister.get( persister );
+		if ( segment == null ) {
+			segment = segmentsByRootEntityName.get( persister.getRootEntityName() );
+			if ( segment == null ) {
+				return null;
+			}
+			segmentsByPersister.put( persister, segment );
+		}
+		lastSegment = segment;
+		return segment;
+	}
+
+	private Segment<V> getOrCreateSegment(EntityPersister persister) {
+		final var existing = segment( persister );
+		if ( existing != null ) {
+			return existing;
+		}
+		if ( segmentCount == segments.length ) {
+			segments = Arrays.copyOf( segments, segmentCount * 2 );
+		}
+		final var segment = new Segment<V>( persister );
+		segments[segmentCount++] = segment;
+		segmentsByPersister.put( persister, segment );
+		segmentsByRootEntityName.put( segment.rootEntityName, segment );
+		lastSegment = segment;
+		return segment;
+	}
+
+	private static boolean isPrimitiveIdentifier(Object id) {
+		return id instanceof Long || id instanceof Integer;
+	}
+
+	private static int hash(long id) {
+		final int h = Long.hashCode( id ) * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	private static int hash(EntityKey key) {
+		final int h = key.hashCode();
+		return h ^ ( h >>> 16 );
+	}
+
+	/**
+	 * The entries belonging to a single entity hierarchy.
+	 */
+	private static final class Segment<V> {
+		private final EntityPersister persister;
+		private final String rootEntityName;
+
+		private boolean primitive;
+		private long @Nullable[] ids;
+		private EntityKey[] keys;
+		private Object[] values;
+		private int mask;
+		private int size;
+
+		private Segment(EntityPersister persister) {
+			this.persister = persister;
+			this.rootEntityName = persister.getRootEntityName();
+			final Class<?> idClass = persister.getIdentifierType().getReturnedClass();
+			this.primitive = idClass == Long.class || idClass == Integer.class;
+			allocate( INITIAL_SEGMENT_CAPACITY );
+		}
+
+		private void allocate(int capacity) {
+			keys = new EntityKey[capacity];
+			values = new Object[capacity];
+			ids = primitive ? new long[capacity] : null;
+			mask = capacity - 1;
+		}
+
+		private boolean matches(EntityPersister persister) {
+			return persister == this.persister
+				|| rootEntityName.equals( persister.getRootEntityName() );
+		}
+
+		private int slot(int index) {
+			//noinspection DataFlowIssue
+			return ( primitive ? hash( ids[index] ) : hash( keys[index] ) ) & mask;
+		}
+
+		private @Nullable V get(EntityKey key) {
+			if ( primitive ) {
+				final Object id = key.getIdentifier();
+				return isPrimitiveIdentifier( id ) ? getPrimitive( ( (Number) id ).longValue() ) : null;
+			}
+			else {
+				final int index = indexOf( key );
+				return index < 0 ? null : value( index );
+			}
+		}
+
+		private @Nullable V get(Object id) {
+			if ( primitive ) {
+				return isPrimitiveIdentifier( id ) ? getPrimitive( ( (Number) id ).longValue() ) : null;
+			}
+			else {
+				// the identifier type does not have a primitive representation,
+				// for example, a UUID, String, or composite identifier, so we
+				// need an EntityKey to hash and compare the identifier value
+				final int index = indexOf( new EntityKey( id, persister ) );
+				return index < 0 ? null : value( index );
+			}
+		}
+
+		private @Nullable V getPrimitive(long id) {
+			final int index = indexOf( id );
+			return index < 0 ? null : value( index );
+		}
+
+		private int indexOf(long id) {
+			final var ids = this.ids;
+			final var keys = this.keys;
+			//noinspection DataFlowIssue
+			for ( int index = hash( id ) & mask; keys[index] != null; index = ( index + 1 ) & mask ) {
+				if ( ids[index] == id ) {
+					return index;
+				}
+			}
+			return -1;
+		}
+
+		private int indexOf(EntityKey key) {
+			final var keys = this.keys;
+			for ( int index = hash( key ) & mask; ; index = ( index + 1 ) & mask ) {
+				final var existing = keys[index];
+				if ( existing == null ) {
+					return -1;
+				}
+				else if ( existing == key || existing.equals( key ) ) {
+					return index;
+				}
+			}
+		}
+
+		private int indexOfKey(EntityKey key) {
+			if ( primitive ) {
+				final Object id = key.getIdentifier();
+				return isPrimitiveIdentifier( id ) ? indexOf( ( (Number) id ).longValue() ) : -1;
+			}
+			else {
+				return indexOf( key );
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private V value(int index) {
+			return (V) values[index];
+		}
+
+		private @Nullable V put(EntityKey key, V value, boolean onlyIfAbsent) {
+			if ( primitive && !isPrimitiveIdentifier( key.getIdentifier() ) ) {
+				// should never happen, but be defensive
+				rehash( keys.length, false );
+			}
+			final int existing = indexOfKey( key );
+			if ( existing >= 0 ) {
+				final V old = value( existing );
+				if ( !onlyIfAbsent ) {
+					values[existing] = value;
+				}
+				return old;
+			}
+			if ( ( size + 1 ) * 4 > keys.length * 3 ) {
+				rehash( keys.length * 2, primitive );
+			}
+			insert( key, value );
+			size++;
+			return null;
+		}
+
+		private void insert(EntityKey key, Object value) {
+			final int index;
+			if ( primitive ) {
+				final long id = ( (Number) key.getIdentifier() ).longValue();
+				index = freeSlot( hash( id ) & mask );
+				//noinspection DataFlowIssue
+				ids[index] = id;
+			}
+			else {
+				index = freeSlot( hash( key ) & mask );
+			}
+			keys[index] = key;
+			values[index] = value;
+		}
+
+		private int freeSlot(int index) {
+			while ( keys[index] != null ) {
+				index = ( index + 1 ) & mask;
+			}
+			return index;
+		}
+
+		private void rehash(int capacity, boolean primitive) {
+			final var oldKeys = keys;
+			final var oldValues = values;
+			this.primitive = primitive;
+			allocate( capacity );
+			for ( int i = 0; i < oldKeys.length; i++ ) {
+				if ( oldKeys[i] != null ) {
+					insert( oldKeys[i], oldValues[i] );
+				}
+			}
+		}
+
+		private @Nullable V remove(EntityKey key) {
+			final int index = indexOfKey( key );
+			return index < 0 ? null : removeAt( index );
+		}
+
+		/**
+		 * Remove the entry at the given index, shifting back any following
+		 * entry of the same probe sequence so that no tombstone is needed.
+		 */
+		private V removeAt(int index) {
+			final V old = value( index );
+			int hole = index;
+			for ( int next = ( index + 1 ) & mask; keys[next] != null; next = ( next + 1 ) & mask ) {
+				final int home = slot( next );
+				if ( ( ( next - home ) & mask ) >= ( ( next - hole ) & mask ) ) {
+					keys[hole] = keys[next];
+					values[hole] = values[next];
+					if ( primitive ) {
+						//noinspection DataFlowIssue
+						ids[hole] = ids[next];
+					}
+					hole = next;
+				}
+			}
+			keys[hole] = null;
+			values[hole] = null;
+			size--;
+			return old;
+		}
+
+		/**
+		 * @return the index of some free slot, which is never filled by a removal
+		 */
+		private int anyFreeSlot() {
+			for ( int index = 0; ; index++ ) {
+				if ( keys[index] == null ) {
+					return index;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Iterates each segment starting just after a free slot, so that no probe
+	 * sequence wraps around the start of the iteration. This makes it safe to
+	 * remove the current entry, since backward-shifting never moves an entry
+	 * which has already been visited.
+	 */
+	private final class EntryIterator implements Iterator<Entry<EntityKey, V>> {
+		private int segmentIndex = -1;
+		private @Nullable Segment<V> segment;
+		private int index;
+		private int remaining;
+		private int lastReturned = -1;
+		private @Nullable Segment<V> lastReturnedSegment;
+		private int expectedModCount = modCount;
+
+		private EntryIterator() {
+			advance();
+		}
+
+		private void nextSegment() {
+			segment = ++segmentIndex < segmentCount ? segments[segmentIndex] : null;
+			if ( segment != null ) {
+				index = segment.anyFreeSlot();
+				remaining = segment.keys.length;
+			}
+		}
+
+		private void advance() {
+			while ( true ) {
+				if ( segment == null || remaining == 0 ) {
+					nextSegment();
+					if ( segment == null ) {
+						return;
+					}
+				}
+				while ( remaining > 0 ) {
+					final int candidate = ( index + 1 ) & segment.mask;
+					if ( segment.keys[candidate] != null ) {
+						return;
+					}
+					index = candidate;
+					remaining--;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return segment != null;
+		}
+
+		@Override
+		public Entry<EntityKey, V> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			final var current = segment;
+			if ( current == null ) {
+				throw new NoSuchElementException();
+			}
+			index = ( index + 1 ) & current.mask;
+			remaining--;
+			lastReturned = index;
+			lastReturnedSegment = current;
+			final var entry = new SimpleEntry<>( current.keys[index], current.value( index ) );
+			advance();
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			final var current = lastReturnedSegment;
+			if ( current == null ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			current.removeAt( lastReturned );
+			size--;
+			expectedModCount = ++modCount;
+			if ( current.keys[lastReturned] != null ) {
+				// an entry was shifted back into the slot we just visited
+				segment = current;
+				index = ( lastReturned - 1 ) & current.mask;
+				remaining++;
+				segmentIndex = indexOfSegment( current );
+			}
+			lastReturnedSegment = null;
+		}
+
+		private int indexOfSegment(Segment<V> segment) {
+			for ( int i = 0; i < segmentCount; i++ ) {
+				if ( segments[i] == segment ) {
+					return i;
+				}
+			}
+			throw new ConcurrentModificationException();
+		}
+	}
+}
@@ -15,6 +15,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.internal.SimpleNaturalIdMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.internal.StatsHelper;
 
@@ -131,7 +132,7 @@ public Object removeResolution(Object id, Object naturalId, EntityMappingType en
 		if ( entityNaturalIdResolutionCache != null ) {
 			final var cachedNaturalId = entityNaturalIdResolutionCache.pkToNaturalIdMap.remove( id );
 			if ( cachedNaturalId != null ) {
-				entityNaturalIdResolutionCache.naturalIdToPkMap.remove( cachedNaturalId );
+				entityNaturalIdResolutionCache.naturalIdToPkMap.remove( entityNaturalIdResolutionCache.naturalIdKey( cachedNaturalId ) );
 				sessionCachedNaturalIdValues = cachedNaturalId.getNaturalIdValue();
 			}
 		}
@@ -205,7 +206,7 @@ private Object removeSessionCachedNaturalIdValue(Object id, EntityPersister pers
 		if ( entityResolutions != null ) {
 			final var cachedNaturalId = entityResolutions.pkToNaturalIdMap.remove( id );
 			if ( cachedNaturalId != null ) {
-				entityResolutions.naturalIdToPkMap.remove( cachedNaturalId );
+				entityResolutions.naturalIdToPkMap.remove( entityResolutions.naturalIdKey( cachedNaturalId ) );
 				return cachedNaturalId.getNaturalIdValue();
 			}
 		}
@@ -590,10 +591,9 @@ public Object findCachedIdByNaturalId(Object naturalId, EntityMappingType entity
 		final var persister = locatePersisterForKey( entityDescriptor.getEntityPersister() );
 		validateNaturalId( persister, naturalId );
 		final var resolutionCache = resolutionsByEntity.get( persister );
-		final Resolution cachedNaturalId = new ResolutionImpl( persister, naturalId, persistenceContext );
 		if ( resolutionCache != null ) {
 			// Try the session cache
-			final Object identifier = resolutionCache.naturalIdToPkMap.get( cachedNaturalId );
+			final Object identifier = resolutionCache.findId( naturalId );
 			if ( identifier != null ) {
 				// Found in session cache
 				if ( NATURAL_ID_LOGGER.isTraceEnabled() ) {
@@ -633,7 +633,8 @@ else if ( resolutionCache.containsInvalidNaturalIdReference( naturalId ) ) {
 					NATURAL_ID_LOGGER.foundNaturalIdInSecondLevelCache( naturalId, id,
 							persister.getRootEntityName() );
 				}
-				storeInResolutionCache( resolutionCache, persister, id, cachedNaturalId );
+				storeInResolutionCache( resolutionCache, persister, id,
+						new ResolutionImpl( persister, naturalId, persistenceContext ) );
 				return id;
 			}
 			else {
@@ -649,6 +650,77 @@ else if ( resolutionCache.containsInvalidNaturalIdReference( naturalId ) ) {
 		}
 	}
 
+	@Override
+	public Object[] findCachedIdsByNaturalIds(Object[] naturalIds, EntityMappingType entityDescriptor) {
+		final var persister = locatePersisterForKey( entityDescriptor.getEntityPersister() );
+		final var resolutionCache = resolutionsByEntity.get( persister );
+		final Object[] ids = new Object[naturalIds.length];
+		final List<Integer> misses = new ArrayList<>();
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			final Object naturalId = naturalIds[i];
+			validateNaturalId( persister, naturalId );
+			if ( resolutionCache != null ) {
+				// Try the session cache
+				final Object identifier = resolutionCache.findId( naturalId );
+				if ( identifier != null ) {
+					if ( NATURAL_ID_LOGGER.isTraceEnabled() ) {
+						NATURAL_ID_LOGGER.resolvedNaturalIdInSessionCache( naturalId, identifier,
+								entityDescriptor.getEntityName() );
+					}
+					ids[i] = identifier;
+					continue;
+				}
+				else if ( resolutionCache.containsInvalidNaturalIdReference( naturalId ) ) {
+					ids[i] = INVALID_NATURAL_ID_REFERENCE;
+					continue;
+				}
+			}
+			misses.add( i );
+		}
+
+		if ( persister.hasNaturalIdCache() ) {
+			if ( misses.size() == 1 ) {
+				final int index = misses.get( 0 );
+				ids[index] = findCachedIdByNaturalId( naturalIds[index], entityDescriptor );
+			}
+			else if ( !misses.isEmpty() ) {
+				// Try the second-level cache, for all the misses at once
+				final var cacheAccessStrategy = persister.getNaturalIdCacheAccessStrategy();
+				final var session = session();
+				final List<Object> cacheKeys = new ArrayList<>( misses.size() );
+				for ( int index : misses ) {
+					cacheKeys.add( cacheAccessStrategy.generateCacheKey( naturalIds[index], persister, session ) );
+				}
+				final var cachedIds = fromSharedCache( session, cacheKeys, persister, true, cacheAccessStrategy );
+				final var statistics = session.getFactory().getStatistics();
+				final boolean statisticsEnabled = statistics.isStatisticsEnabled();
+				final String regionName = cacheAccessStrategy.getRegion().getName();
+				for ( int j = 0; j < misses.size(); j++ ) {
+					final int index = misses.get( j );
+					final Object naturalId = naturalIds[index];
+					final Object id = cachedIds.get( cacheKeys.get( j ) );
+					if ( id != null ) {
+						// Found in second-level cache, store in session cache
+						if ( statisticsEnabled ) {
+							statistics.naturalIdCacheHit( StatsHelper.getRootEntityRole( persister ), regionName );
+						}
+						if ( NATURAL_ID_LOGGER.isTraceEnabled() ) {
+							NATURAL_ID_LOGGER.foundNaturalIdInSecondLevelCache( naturalId, id,
+									persister.getRootEntityName() );
+						}
+						storeInResolutionCache( resolutionsByEntity.get( persister ), persister, id,
+								new ResolutionImpl( persister, naturalId, persistenceContext ) );
+						ids[index] = id;
+					}
+					else if ( statisticsEnabled ) {
+						statistics.naturalIdCacheMiss( StatsHelper.getRootEntityRole( persister ), regionName );
+					}
+				}
+			}
+		}
+		return ids;
+	}
+
 	private void storeInResolutionCache(
 			EntityResolutions resolutionCache,
 			EntityPersister persister,
@@ -664,7 +736,7 @@ private void storeInResolutionCache(
 		}
 
 		resolutionCache.pkToNaturalIdMap.put( pk, cachedNaturalId );
-		resolutionCache.naturalIdToPkMap.put( cachedNaturalId, pk );
+		resolutionCache.naturalIdToPkMap.put( resolutionCache.naturalIdKey( cachedNaturalId ), pk );
 	}
 
 	@Override
@@ -727,13 +799,19 @@ public static class EntityResolutions implements Serializable {
 		private final EntityMappingType entityDescriptor;
 
 		private final Map<Object, Resolution> pkToNaturalIdMap = new ConcurrentHashMap<>();
-		private final Map<Resolution, Object> naturalIdToPkMap = new ConcurrentHashMap<>();
+		// keyed by the Resolution, or, when keyedByValue, by the natural id value itself
+		private final Map<Object, Object> naturalIdToPkMap = new ConcurrentHashMap<>();
+
+		private final boolean keyedByValue;
 
 		private List<Resolution> invalidNaturalIdList;
 
 		private EntityResolutions(EntityMappingType entityDescriptor, PersistenceContext persistenceContext) {
 			this.entityDescriptor = entityDescriptor;
 			this.persistenceContext = persistenceContext;
+			this.keyedByValue =
+					entityDescriptor.getNaturalIdMapping() instanceof SimpleNaturalIdMapping simpleNaturalIdMapping
+							&& simpleNaturalIdMapping.isKeyedByValue();
 		}
 
 		public EntityMappingType getEntityDescriptor() {
@@ -780,18 +858,48 @@ public boolean cache(Object pk, Object naturalIdValues) {
 				if ( initial.isSame( naturalIdValues ) ) {
 					return false;
 				}
-				naturalIdToPkMap.remove( initial );
+				naturalIdToPkMap.remove( naturalIdKey( initial ) );
 			}
 
 			final var cachedNaturalId =
 					new ResolutionImpl( getEntityDescriptor(),
 							naturalIdValues, persistenceContext );
 			pkToNaturalIdMap.put( pk, cachedNaturalId );
-			naturalIdToPkMap.put( cachedNaturalId, pk );
+			naturalIdToPkMap.put( naturalIdKey( cachedNaturalId ), pk );
 
 			return true;
 		}
 
+		/**
+		 * The identifier cached for the given natural id value, if any.
+		 * For a simple natural id of a basic type with value equality,
+		 * this doesn't allocate a key for the lookup.
+		 */
+		public Object findId(Object naturalIdValue) {
+			if ( keyedByValue ) {
+				final Object key = valueKey( naturalIdValue );
+				if ( key != null ) {
+					return naturalIdToPkMap.get( key );
+				}
+			}
+			return naturalIdToPkMap.get( new ResolutionImpl( getEntityDescriptor(), naturalIdValue, persistenceContext ) );
+		}
+
+		private Object naturalIdKey(Resolution resolution) {
+			if ( keyedByValue ) {
+				final Object key = valueKey( resolution.getNaturalIdValue() );
+				// a null natural id value can't be a key of the map
+				return key == null ? resolution : key;
+			}
+			else {
+				return resolution;
+			}
+		}
+
+		private static Object valueKey(Object naturalIdValue) {
+			return naturalIdValue instanceof Object[] array && array.length == 1 ? array[0] : naturalIdValue;
+		}
+
 		public void stashInvalidNaturalIdReference(Object invalidNaturalIdValues) {
 			if ( invalidNaturalIdList == null ) {
 				invalidNaturalIdList = new ArrayList<>();
@@ -110,12 +110,15 @@ public Object readResolve() {
 	private final SharedSessionContractImplementor session;
 	private EntityEntryContext entityEntryContext;
 
+	// Whether the maps keyed by EntityKey should be instances of EntityKeyMap
+	private final boolean compactEntityMaps;
+
 	// Everything else below should be carefully initialized only on first need.
 	// This optimization is very effective as null checks are free, while allocation
 	// costs are very often the dominating cost of an application using ORM.
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private Map<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// New entity holder cached instance
 	private EntityHolderImpl newEntityHolder;
@@ -125,7 +128,7 @@ public Object readResolve() {
 
 	// Snapshots of the current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private Map<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -179,11 +182,16 @@ public Object readResolve() {
 	StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.compactEntityMaps = session.getFactory().getSessionFactoryOptions().isCompactEntityMapEnabled();
+	}
+
+	private <V> Map<EntityKey, V> entityKeyMapOfSize(int size) {
+		return compactEntityMaps ? new EntityKeyMap<>() : mapOfSize( size );
 	}
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = entityKeyMapOfSize( INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
@@ -317,18 +325,31 @@ public void afterTransactionCompletion() {
 
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, EntityPersister persister) throws HibernateException {
-		final var key = session.generateEntityKey( id, persister );
-		final Object cached = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
+		final Object cached = getCachedSnapshot( id, persister );
 		if ( cached != null ) {
 			return cached == NO_ROW ? null : (Object[]) cached;
 		}
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
-			getOrInitializeEntitySnapshotsByKey().put( key, snapshot == null ? NO_ROW : snapshot );
+			getOrInitializeEntitySnapshotsByKey()
+					.put( session.generateEntityKey( id, persister ), snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
 		}
 	}
 
+	private Object getCachedSnapshot(Object id, EntityPersister persister) {
+		if ( entitySnapshotsByKey == null ) {
+			return null;
+		}
+		else if ( entitySnapshotsByKey instanceof EntityKeyMap<Object> entityKeyMap ) {
+			// avoid instantiating an EntityKey just for the lookup
+			return entityKeyMap.get( persister, id );
+		}
+		else {
+			return entitySnapshotsByKey.get( session.generateEntityKey( id, persister ) );
+		}
+	}
+
 	@Override
 	public Object getNaturalIdSnapshot(Object id, EntityPersister persister) throws HibernateException {
 		if ( !persister.hasNaturalIdentifier() ) {
@@ -1263,7 +1284,7 @@ public Map<EntityKey, Object> getEntitySnapshotsByKey() {
 	@Override
 	public Map<EntityKey, Object> getOrInitializeEntitySnapshotsByKey() {
 		if ( entitySnapshotsByKey == null ) {
-			entitySnapshotsByKey = mapOfSize( INIT_COLL_SIZE );
+			entitySnapshotsByKey = entityKeyMapOfSize( INIT_COLL_SIZE );
 		}
 		return entitySnapshotsByKey;
 	}
@@ -1924,7 +1945,7 @@ public static StatefulPersistenceContext deserialize(ObjectInputStream ois, Sess
 				if ( traceEnabled ) {
 					PERSISTENCE_CONTEXT_LOGGER.startingDeserializationOfEntries( count, "entitySnapshotsByKey" );
 				}
-				context.entitySnapshotsByKey = mapOfSize( Math.max( count, INIT_COLL_SIZE ) );
+				context.entitySnapshotsByKey = context.entityKeyMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 				for ( int i = 0; i < count; i++ ) {
 					context.entitySnapshotsByKey.put( EntityKey.deserialize( ois, factory ), ois.readObject() );
 				}
@@ -1937,7 +1958,7 @@ public static StatefulPersistenceContext deserialize(ObjectInputStream ois, Sess
 				if ( traceEnabled ) {
 					PERSISTENCE_CONTEXT_LOGGER.startingDeserializationOfEntries( count, "entitiesByKey" );
 				}
-				context.entitiesByKey = mapOfSize( Math.max( count, INIT_COLL_SIZE ) );
+				context.entitiesByKey = context.entityKeyMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 				final var metamodel = factory.getMappingMetamodel();
 				for ( int i = 0; i < count; i++ ) {
 					final var entityKey = EntityKey.deserialize( ois, factory );
@@ -85,4 +85,16 @@ public interface JdbcBatchLogging extends BasicLogger {
 	@LogMessage(level = TRACE)
 	@Message( "Success of batch update unknown: %s")
 	void batchSuccessUnknown(int batchPosition);
+
+	@LogMessage(level = TRACE)
+	@Message("Executing JDBC batch of %s rows as %s multi-row inserts of %s rows - [%s]")
+	void executeMultiRowInsertBatch(int rowCount, int statementCount, int rowsPerStatement, String batchKey);
+
+	@LogMessage(level = TRACE)
+	@Message("Executing bulk insert of %s rows into table '%s' - [%s]")
+	void executeBulkInsertBatch(int rowCount, String tableName, String batchKey);
+
+	@LogMessage(level = TRACE)
+	@Message("Bulk insert not possible, executing JDBC batch of %s rows - [%s]")
+	void bulkInsertFallback(int rowCount, String batchKey);
 }
@@ -0,0 +1,336 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupDeferredInsert;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.jdbc.BatchFailedException;
+
+import static java.util.Objects.requireNonNull;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
+
+/**
+ * Support for a {@link Batch} of inserts into a single table which, instead
+ * of binding the values of each row to the statement as soon as the row is
+ * added, keeps the bindings of the rows until the batch is executed, and then
+ * {@linkplain #executeRows inserts the rows} all at once.
+ *
+ * @since 7.4
+ */
+public abstract class AbstractDeferredInsertBatch<G extends PreparedStatementGroupDeferredInsert> implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	protected final G statementGroup;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private final Binding[][] rows;
+	private int batchPosition;
+	private boolean batchExecuted;
+	private StaleStateMapper[] staleStateMappers;
+
+	protected AbstractDeferredInsertBatch(
+			BatchKey key,
+			G statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		requireNonNull( key, "Batch key cannot be null" );
+		requireNonNull( jdbcCoordinator, "JDBC coordinator cannot be null" );
+
+		this.batchSizeToUse = batchSizeToUse;
+		this.key = key;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.statementGroup = statementGroup;
+		this.rows = new Binding[batchSizeToUse][];
+
+		final var jdbcServices =
+				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.createBatch(
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public G getStatementGroup() {
+		return statementGroup;
+	}
+
+	protected JdbcCoordinator getJdbcCoordinator() {
+		return jdbcCoordinator;
+	}
+
+	protected SqlExceptionHelper getSqlExceptionHelper() {
+		return sqlExceptionHelper;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(
+			JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker,
+			StaleStateMapper staleStateMapper) {
+		if ( staleStateMapper != null ) {
+			if ( staleStateMappers == null ) {
+				staleStateMappers = new StaleStateMapper[batchSizeToUse];
+			}
+			staleStateMappers[batchPosition] = staleStateMapper;
+		}
+		addToBatch( jdbcValueBindings, inclusionChecker );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.addToBatch(
+					batchPosition + 1,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final var tableDetails = statementGroup.getSingleStatementDetails().getMutatingTableDetails();
+		if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+			MODEL_MUTATION_LOGGER.skippingAddBatchForTable( tableDetails.getTableName(), batchPosition + 1 );
+		}
+		else {
+			MODEL_MUTATION_LOGGER.addBatchForTable( tableDetails.getTableName(), batchPosition + 1 );
+			// keep the bindings of the row until the batch is executed
+			final var bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+			rows[batchPosition++] =
+					bindingGroup == null
+							? NO_BINDINGS
+							: bindingGroup.getBindings().toArray( NO_BINDINGS );
+			jdbcValueBindings.afterStatement( tableDetails );
+			if ( batchPosition == batchSizeToUse ) {
+				notifyObserversImplicitExecution();
+				performExecution();
+			}
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an explicit execution of this batch.
+	 */
+	protected final void notifyObserversExplicitExecution() {
+		for ( var observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an implicit execution of this batch.
+	 */
+	protected final void notifyObserversImplicitExecution() {
+		for ( var observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( batchPosition == 0 ) {
+				if ( !batchExecuted && BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+					BATCH_MESSAGE_LOGGER.emptyBatch( getKey().toLoggableString() );
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			statementGroup.release();
+		}
+	}
+
+	protected final void performExecution() {
+		try {
+			executeRows( rows, batchPosition );
+			batchExecuted = true;
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			throw re;
+		}
+		finally {
+			jdbcCoordinator.afterStatementExecution();
+			Arrays.fill( rows, 0, batchPosition, null );
+			batchPosition = 0;
+		}
+	}
+
+	/**
+	 * Insert the given rows.
+	 *
+	 * @param rows The bindings of the rows, the first {@code rowCount} elements of which are non-null
+	 * @param rowCount The number of rows in the batch
+	 */
+	protected abstract void executeRows(Binding[][] rows, int rowCount);
+
+	/**
+	 * Insert the given rows one by one in a single JDBC batch, using the usual
+	 * single-row statement.
+	 */
+	protected void executeSingleRows(Binding[][] rows, int firstRow, int rowCount) {
+		final var statementDetails = statementGroup.getSingleStatementDetails();
+		for ( int position = firstRow; position < rowCount; position++ ) {
+			statementGroup.bindRow( statementDetails, rows[position], 0 );
+			addBatch( statementDetails );
+		}
+		executeBatch( statementDetails, firstRow, 1 );
+	}
+
+	protected void addBatch(PreparedStatementDetails statementDetails) {
+		final String sql = statementDetails.getSqlString();
+		sqlStatementLogger.logStatement( sql );
+		try {
+			statementDetails.resolveStatement().addBatch();
+		}
+		catch (SQLException exception) {
+			throw sqlExceptionHelper.convert( exception, "Could not perform addBatch", sql );
+		}
+	}
+
+	/**
+	 * Execute the JDBC batch of the given statement, each execution of which
+	 * inserts the given number of rows.
+	 */
+	protected void executeBatch(PreparedStatementDetails statementDetails, int firstRow, int rowsPerStatement) {
+		final String sql = statementDetails.getSqlString();
+		final var statement = statementDetails.getStatement();
+		final var jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final var eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		try {
+			if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				final var eventMonitor = jdbcSessionOwner.getEventMonitor();
+				final var executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
+				final int[] rowCounts;
+				try {
+					eventHandler.jdbcExecuteBatchStart();
+					rowCounts = statement.executeBatch();
+				}
+				catch (SQLException sqle) {
+					jdbcCoordinator.afterFailedStatementExecution( sqle );
+					throw sqle;
+				}
+				finally {
+					eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+					eventHandler.jdbcExecuteBatchEnd();
+				}
+				checkRowCounts( rowCounts, statementDetails, firstRow, rowsPerStatement );
+			}
+			else {
+				statement.executeBatch();
+			}
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+	}
+
+	private void checkRowCounts(
+			int[] rowCounts,
+			PreparedStatementDetails statementDetails,
+			int firstRow,
+			int rowsPerStatement)
+			throws SQLException, HibernateException {
+		final String sql = statementDetails.getSqlString();
+		for ( int i = 0; i < rowCounts.length; i++ ) {
+			if ( rowsPerStatement == 1 ) {
+				try {
+					statementDetails.getExpectation()
+							.verifyOutcome( rowCounts[i], statementDetails.getStatement(), i, sql );
+				}
+				catch ( StaleStateException staleStateException ) {
+					if ( staleStateMappers != null && staleStateMappers[firstRow + i] != null ) {
+						throw staleStateMappers[firstRow + i].map( staleStateException );
+					}
+					throw staleStateException;
+				}
+			}
+			else {
+				// the expectation of a single-row insert
+				// can't be applied to a multi-row insert
+				switch ( rowCounts[i] ) {
+					case Statement.SUCCESS_NO_INFO:
+						BATCH_MESSAGE_LOGGER.batchSuccessUnknown( i );
+						break;
+					case Statement.EXECUTE_FAILED:
+						throw new BatchFailedException( "Batch update failed: " + i );
+					default:
+						if ( rowCounts[i] != rowsPerStatement ) {
+							throw new StaleStateException(
+									"Multi-row insert " + i + " inserted " + rowCounts[i]
+											+ " rows instead of " + rowsPerStatement + " [" + sql + "]"
+							);
+						}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() && batchPosition > 0 ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+		}
+		Arrays.fill( rows, 0, batchPosition, null );
+		batchPosition = 0;
+		statementGroup.release();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + getKey().toLoggableString() + ")";
+	}
+}
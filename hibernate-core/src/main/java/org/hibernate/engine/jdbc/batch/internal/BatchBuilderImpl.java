@@ -4,6 +4,7 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
@@ -11,9 +12,12 @@
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupBulkInsert;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupMultiRowInsert;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
@@ -61,7 +65,37 @@ public Batch buildBatch(
 			JdbcCoordinator jdbcCoordinator) {
 		final int batchSize = batchSize( explicitBatchSize );
 		assert batchSize > 1;
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final var statementGroup = statementGroupSupplier.get();
+		if ( statementGroup instanceof PreparedStatementGroupBulkInsert bulkInsertGroup ) {
+			return new BulkInsertBatch( key, bulkInsertGroup, batchSize, jdbcCoordinator );
+		}
+		else if ( statementGroup instanceof PreparedStatementGroupMultiRowInsert multiRowInsertGroup ) {
+			return new MultiRowInsertBatch( key, multiRowInsertGroup, batchSize, jdbcCoordinator );
+		}
+		else {
+			return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator,
+					pipeliningExecutor( jdbcCoordinator ) );
+		}
+	}
+
+	/**
+	 * The executor used to execute full batches in the background, or
+	 * {@code null} if {@linkplain org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 * pipelining} is disabled, or not {@linkplain org.hibernate.dialect.Dialect#supportsBatchPipelining
+	 * supported} by the JDBC driver.
+	 */
+	private static Executor pipeliningExecutor(JdbcCoordinator jdbcCoordinator) {
+		if ( jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor session ) {
+			final var factory = session.getFactory();
+			final var options = factory.getSessionFactoryOptions();
+			return options.isBatchPipeliningEnabled()
+					&& factory.getJdbcServices().getDialect().supportsBatchPipelining()
+							? options.getAsyncExecutor()
+							: null;
+		}
+		else {
+			return null;
+		}
 	}
 
 	/**
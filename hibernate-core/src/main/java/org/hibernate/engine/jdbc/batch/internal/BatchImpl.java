@@ -4,8 +4,14 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.hibernate.HibernateException;
 import org.hibernate.StaleStateException;
@@ -20,6 +26,7 @@
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
 
 import static java.util.Objects.requireNonNull;
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_LOGGER;
@@ -43,15 +50,38 @@ public class BatchImpl implements Batch {
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
+	private final Executor executor;
+
 	private int batchPosition;
 	private boolean batchExecuted;
 	private StaleStateMapper[] staleStateMappers;
+	private InFlightExecution inFlightExecution;
 
 	public BatchImpl(
 			BatchKey key,
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * Create a batch which, if an {@link Executor} is given, executes each
+	 * full batch using the executor, while the next batch is being built.
+	 *
+	 * @param executor the executor used to execute full batches, or
+	 *                 {@code null} if batches are executed synchronously
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 *
+	 * @since 7.4
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor executor) {
 		requireNonNull( key, "Batch key cannot be null" );
 		requireNonNull( jdbcCoordinator, "JDBC coordinator cannot be null" );
 
@@ -59,6 +89,7 @@ public BatchImpl(
 		this.key = key;
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
+		this.executor = executor;
 
 		this.jdbcServices =
 				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
@@ -103,6 +134,13 @@ public void addToBatch(
 
 	@Override
 	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		final var execution = inFlightExecution;
+		if ( execution != null && execution.isDone() ) {
+			// report the failure of the previous batch before
+			// anything more is added to the current batch
+			completeInFlightExecution();
+		}
+
 		final boolean loggerTraceEnabled = BATCH_MESSAGE_LOGGER.isTraceEnabled();
 		if ( loggerTraceEnabled ) {
 			BATCH_MESSAGE_LOGGER.addToBatch(
@@ -157,7 +195,12 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 		batchPosition++;
 		if ( batchPosition == batchSizeToUse ) {
 			notifyObserversImplicitExecution();
-			performExecution();
+			if ( executor == null ) {
+				performExecution();
+			}
+			else {
+				performPipelinedExecution();
+			}
 		}
 	}
 
@@ -217,6 +260,7 @@ public void execute() {
 		notifyObserversExplicitExecution();
 		if ( getStatementGroup().getNumberOfStatements() > 0 ) {
 			try {
+				completeInFlightExecution();
 				if ( batchPosition == 0 ) {
 					if ( !batchExecuted && BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
 						BATCH_MESSAGE_LOGGER.emptyBatch( getKey().toLoggableString() );
@@ -286,17 +330,114 @@ protected void performExecution() {
 		finally {
 			jdbcCoordinator.afterStatementExecution();
 			batchPosition = 0;
+			// the mappers belong to the rows of the executed batch
+			staleStateMappers = null;
+		}
+	}
+
+	/**
+	 * Hand the statements of the full batch over to the {@link #executor},
+	 * which executes them while the statements of the next batch are being
+	 * prepared and bound. The row counts are checked when the execution is
+	 * {@linkplain #completeInFlightExecution completed}, by the thread which
+	 * owns the session, before the next batch is executed, or when the batch
+	 * is explicitly {@linkplain #execute executed}.
+	 * <p>
+	 * At most one batch is executing at any time, and so the batches are
+	 * executed in order. Once the execution completes successfully, each
+	 * statement is handed back to its group, to be reused by a later batch,
+	 * so that each group uses at most two statements. If a statement can't
+	 * be detached from the group, the batch is executed synchronously.
+	 * <p>
+	 * A failure is reported with the SQL and the stale state mappers of the
+	 * rows of the failed batch, as soon as the next row is added after the
+	 * execution completes.
+	 *
+	 * @since 7.4
+	 */
+	protected void performPipelinedExecution() {
+		completeInFlightExecution();
+
+		if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.executeBatch(
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final var jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final var eventMonitor = jdbcSessionOwner.getEventMonitor();
+		final var eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		final List<PendingStatement> statements = new ArrayList<>();
+		getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			final var statement = statementDetails.getStatement();
+			if ( statement != null ) {
+				// a callable statement might have output parameters to read
+				final var detached = statementDetails.isCallable() ? null : statementDetails.detachStatement();
+				final DiagnosticEvent executionEvent;
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
+					eventHandler.jdbcExecuteBatchStart();
+				}
+				else {
+					executionEvent = null;
+				}
+				statements.add( new PendingStatement(
+						statementDetails,
+						detached == null ? statement : detached,
+						detached != null,
+						executionEvent
+				) );
+			}
+		} );
+
+		final var execution = new InFlightExecution( statements, batchPosition, staleStateMappers );
+		batchPosition = 0;
+		staleStateMappers = null;
+		batchExecuted = true;
+		inFlightExecution = execution;
+		if ( execution.isDetached() ) {
+			execution.start( executor );
+		}
+		else {
+			execution.start( Runnable::run );
+			completeInFlightExecution();
+		}
+	}
+
+	private void completeInFlightExecution() {
+		final var execution = inFlightExecution;
+		if ( execution != null ) {
+			inFlightExecution = null;
+			execution.complete();
 		}
 	}
 
 	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails)
 			throws SQLException, HibernateException {
+		checkRowCounts(
+				rowCounts,
+				statementDetails,
+				statementDetails.getStatement(),
+				batchPosition,
+				staleStateMappers
+		);
+	}
+
+	private static void checkRowCounts(
+			int[] rowCounts,
+			PreparedStatementDetails statementDetails,
+			PreparedStatement statement,
+			int batchSize,
+			StaleStateMapper[] staleStateMappers)
+					throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
-		if ( batchPosition != 0 && numberOfRowCounts != batchPosition ) {
+		if ( batchSize != 0 && numberOfRowCounts != batchSize ) {
 			JDBC_LOGGER.unexpectedRowCounts(
 					statementDetails.getMutatingTableDetails().getTableName(),
 					numberOfRowCounts,
-					batchPosition
+					batchSize
 			);
 		}
 
@@ -304,7 +445,7 @@ private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementD
 		for ( int i = 0; i < numberOfRowCounts; i++ ) {
 			try {
 				statementDetails.getExpectation()
-						.verifyOutcome( rowCounts[i], statementDetails.getStatement(), i, sql );
+						.verifyOutcome( rowCounts[i], statement, i, sql );
 			}
 			catch ( StaleStateException staleStateException ) {
 				if ( staleStateMappers != null ) {
@@ -316,6 +457,11 @@ private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementD
 
 	@Override
 	public void release() {
+		final var execution = inFlightExecution;
+		if ( execution != null ) {
+			inFlightExecution = null;
+			execution.discard();
+		}
 		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
 			final var statementGroup = getStatementGroup();
 			if ( statementGroup.getNumberOfStatements() > 0
@@ -331,4 +477,202 @@ public void release() {
 	public String toString() {
 		return "BatchImpl(" + getKey().toLoggableString() + ")";
 	}
+
+	/**
+	 * A statement of a batch which was handed over for execution.
+	 *
+	 * @param detached whether the statement was detached from its group,
+	 *                 and must be released once executed
+	 * @param executionEvent the diagnostic event, for the statement of
+	 *                       the identifier table
+	 */
+	private record PendingStatement(
+			PreparedStatementDetails details,
+			PreparedStatement statement,
+			boolean detached,
+			DiagnosticEvent executionEvent) {
+	}
+
+	/**
+	 * The execution of a full batch, which is pending, or which has
+	 * completed, but whose row counts have not yet been checked.
+	 */
+	private class InFlightExecution {
+		private final List<PendingStatement> statements;
+		private final int batchSize;
+		private final StaleStateMapper[] staleStateMappers;
+		private CompletableFuture<int[][]> rowCounts;
+		// written by the executing thread, and read after the join
+		private int executed;
+
+		private InFlightExecution(
+				List<PendingStatement> statements,
+				int batchSize,
+				StaleStateMapper[] staleStateMappers) {
+			this.statements = statements;
+			this.batchSize = batchSize;
+			this.staleStateMappers = staleStateMappers;
+		}
+
+		private boolean isDone() {
+			return rowCounts.isDone();
+		}
+
+		private boolean isDetached() {
+			for ( var statement : statements ) {
+				if ( !statement.detached() ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void start(Executor executor) {
+			try {
+				rowCounts = CompletableFuture.supplyAsync( this::executeBatches, executor );
+			}
+			catch (RuntimeException e) {
+				// the executor rejected the task
+				rowCounts = CompletableFuture.failedFuture( e );
+			}
+		}
+
+		// may be called on a thread of the executor: must not access the session
+		private int[][] executeBatches() {
+			final int[][] result = new int[statements.size()][];
+			for ( executed = 0; executed < result.length; executed++ ) {
+				try {
+					result[executed] = statements.get( executed ).statement().executeBatch();
+				}
+				catch (SQLException e) {
+					throw new CompletionException( e );
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * Wait for the execution, and check the row counts.
+		 */
+		private void complete() {
+			boolean succeeded = false;
+			try {
+				final int[][] results = join();
+				for ( int i = 0; i < results.length; i++ ) {
+					final var pending = statements.get( i );
+					if ( pending.details().getMutatingTableDetails().isIdentifierTable() ) {
+						try {
+							checkRowCounts(
+									results[i],
+									pending.details(),
+									pending.statement(),
+									batchSize,
+									staleStateMappers
+							);
+						}
+						catch (SQLException e) {
+							abortBatch( e );
+							throw sqlExceptionHelper.convert( e, "could not execute batch",
+									pending.details().getSqlString() );
+						}
+						catch (RuntimeException re) {
+							abortBatch( re );
+							throw re;
+						}
+					}
+				}
+				succeeded = true;
+			}
+			finally {
+				if ( succeeded ) {
+					reattachDetachedStatements();
+				}
+				else {
+					releaseDetachedStatements();
+				}
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+
+		private int[][] join() {
+			try {
+				return rowCounts.join();
+			}
+			catch (CompletionException e) {
+				if ( e.getCause() instanceof SQLException sqle ) {
+					final var failed = statements.get( executed );
+					if ( failed.details().getMutatingTableDetails().isIdentifierTable() ) {
+						jdbcCoordinator.afterFailedStatementExecution( sqle );
+					}
+					abortBatch( sqle );
+					throw sqlExceptionHelper.convert( sqle, "could not execute batch",
+							failed.details().getSqlString() );
+				}
+				else {
+					final var re = e.getCause() instanceof RuntimeException cause
+							? cause
+							: new HibernateException( "could not execute batch", e.getCause() );
+					abortBatch( re );
+					throw re;
+				}
+			}
+			finally {
+				completeExecutionEvents();
+			}
+		}
+
+		private void completeExecutionEvents() {
+			final var jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+			final var eventMonitor = jdbcSessionOwner.getEventMonitor();
+			final var eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+			for ( var pending : statements ) {
+				if ( pending.executionEvent() != null ) {
+					eventMonitor.completeJdbcBatchExecutionEvent(
+							pending.executionEvent(),
+							pending.details().getSqlString()
+					);
+					eventHandler.jdbcExecuteBatchEnd();
+				}
+			}
+		}
+
+		/**
+		 * Wait for the execution, ignoring its outcome, because
+		 * the batch is being released without being executed.
+		 */
+		private void discard() {
+			try {
+				rowCounts.join();
+			}
+			catch (CompletionException e) {
+				BATCH_MESSAGE_LOGGER.unableToReleaseBatchStatement();
+			}
+			finally {
+				completeExecutionEvents();
+				releaseDetachedStatements();
+			}
+		}
+
+		/**
+		 * Hand the executed statements back to their group, so that
+		 * the next batch does not need to prepare new statements.
+		 */
+		private void reattachDetachedStatements() {
+			final var resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+			for ( var pending : statements ) {
+				if ( pending.detached() && !pending.details().reattachStatement( pending.statement() ) ) {
+					resourceRegistry.release( pending.statement() );
+				}
+			}
+		}
+
+		private void releaseDetachedStatements() {
+			final var resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+			for ( var pending : statements ) {
+				if ( pending.detached() ) {
+					resourceRegistry.release( pending.statement() );
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupBulkInsert;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * A {@link Batch} of inserts into a single table which transfers the rows
+ * using the {@linkplain org.hibernate.dialect.bulk.BulkInsertSupport bulk
+ * loading protocol} of the dialect, for example, {@code COPY} on PostgreSQL.
+ * <p>
+ * Instead of binding the values of each row to the statement as soon as
+ * the row is added, the bindings are kept until the batch is executed.
+ * If the JDBC values of every row are supported by the bulk loading protocol,
+ * and the JDBC connection can be used to bulk load the rows, the rows are
+ * transferred all at once. Otherwise, they're inserted using the usual
+ * single-row statement, within a single JDBC batch.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BULK_INSERTS
+ *
+ * @since 7.4
+ */
+public class BulkInsertBatch extends AbstractDeferredInsertBatch<PreparedStatementGroupBulkInsert> {
+
+	public BulkInsertBatch(
+			BatchKey key,
+			PreparedStatementGroupBulkInsert statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		super( key, statementGroup, batchSizeToUse, jdbcCoordinator );
+	}
+
+	@Override
+	protected void executeRows(Binding[][] rows, int rowCount) {
+		final var values = recordRows( rows, rowCount );
+		final var jdbcCoordinator = getJdbcCoordinator();
+		final var connection = jdbcCoordinator.getLogicalConnection().getPhysicalConnection();
+		final var bulkInsertSupport = statementGroup.getBulkInsertSupport();
+		if ( values == null || !bulkInsertSupport.isUsable( connection ) ) {
+			if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+				BATCH_MESSAGE_LOGGER.bulkInsertFallback( rowCount, getKey().toLoggableString() );
+			}
+			executeSingleRows( rows, 0, rowCount );
+		}
+		else {
+			final String tableName =
+					statementGroup.getSingleStatementDetails().getMutatingTableDetails().getTableName();
+			if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+				BATCH_MESSAGE_LOGGER.executeBulkInsertBatch( rowCount, tableName, getKey().toLoggableString() );
+			}
+			final var jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+			final var eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+			final var eventMonitor = jdbcSessionOwner.getEventMonitor();
+			final var executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
+			final long insertedRows;
+			try {
+				eventHandler.jdbcExecuteBatchStart();
+				insertedRows = bulkInsertSupport.insertRows(
+						connection,
+						tableName,
+						statementGroup.getColumnNames(),
+						values
+				);
+			}
+			catch (SQLException e) {
+				jdbcCoordinator.afterFailedStatementExecution( e );
+				throw getSqlExceptionHelper().convert( e, "could not execute bulk insert into table " + tableName );
+			}
+			finally {
+				eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, tableName );
+				eventHandler.jdbcExecuteBatchEnd();
+			}
+			// a negative count means the number of rows is unknown
+			if ( insertedRows >= 0 && insertedRows != rowCount ) {
+				throw new StaleStateException(
+						"Bulk insert inserted " + insertedRows + " rows instead of " + rowCount
+								+ " into table " + tableName
+				);
+			}
+		}
+	}
+
+	/**
+	 * The JDBC values of the given rows, or {@code null} if some row
+	 * can't be transferred using the bulk loading protocol.
+	 */
+	private List<Object[]> recordRows(Binding[][] rows, int rowCount) {
+		final List<Object[]> values = new ArrayList<>( rowCount );
+		for ( int position = 0; position < rowCount; position++ ) {
+			final Object[] row = statementGroup.recordRow( rows[position] );
+			if ( row == null ) {
+				return null;
+			}
+			values.add( row );
+		}
+		return values;
+	}
+}
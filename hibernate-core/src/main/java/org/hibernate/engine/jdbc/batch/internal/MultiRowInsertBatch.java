@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupMultiRowInsert;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * A {@link Batch} of inserts into a single table which coalesces the rows
+ * into multi-row {@code insert ... values (...), (...), ...} statements.
+ * <p>
+ * Instead of binding the values of each row to the statement as soon as
+ * the row is added, the bindings are kept until the batch is executed.
+ * The rows are then inserted in chunks of
+ * {@linkplain PreparedStatementGroupMultiRowInsert#getRowsPerStatement()
+ * a fixed size} using the multi-row statement, and the remaining rows using
+ * the usual single-row statement, each within a single JDBC batch.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+ *
+ * @since 7.4
+ */
+public class MultiRowInsertBatch extends AbstractDeferredInsertBatch<PreparedStatementGroupMultiRowInsert> {
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroupMultiRowInsert statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		super( key, statementGroup, batchSizeToUse, jdbcCoordinator );
+	}
+
+	@Override
+	protected void executeRows(Binding[][] rows, int rowCount) {
+		final int rowsPerStatement = statementGroup.getRowsPerStatement();
+		final int multiRowStatementCount = rowCount / rowsPerStatement;
+		if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.executeMultiRowInsertBatch(
+					rowCount,
+					multiRowStatementCount,
+					rowsPerStatement,
+					getKey().toLoggableString()
+			);
+		}
+
+		int position = 0;
+		if ( multiRowStatementCount > 0 ) {
+			final var statementDetails = statementGroup.getMultiRowStatementDetails();
+			for ( int i = 0; i < multiRowStatementCount; i++ ) {
+				for ( int row = 0; row < rowsPerStatement; row++ ) {
+					statementGroup.bindRow( statementDetails, rows[position++], row );
+				}
+				addBatch( statementDetails );
+			}
+			executeBatch( statementDetails, 0, rowsPerStatement );
+		}
+		if ( position < rowCount ) {
+			executeSingleRows( rows, position, rowCount );
+		}
+	}
+}
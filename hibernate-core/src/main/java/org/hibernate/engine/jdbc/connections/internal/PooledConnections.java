@@ -9,6 +9,8 @@
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.hibernate.internal.log.ConnectionInfoLogger.CONNECTION_INFO_LOGGER;
 
@@ -29,6 +31,12 @@ class PooledConnections {
 
 	private volatile boolean primed;
 
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads,
+	 * since new connections are opened while it is held.
+	 */
+	private final Lock growLock = new ReentrantLock();
+
 	private PooledConnections(
 			Builder builder) {
 		CONNECTION_INFO_LOGGER.initializingConnectionPool( builder.initialSize );
@@ -93,11 +101,8 @@ Connection poll() {
 		do {
 			conn = availableConnections.poll();
 			if ( conn == null ) {
-				synchronized (allConnections) {
-					if ( allConnections.size() < maxSize ) {
-						addConnections( 1 );
-						return poll();
-					}
+				if ( grow() ) {
+					return poll();
 				}
 				throw new HibernateException(
 						"The internal connection pool has reached its maximum size and no connection is currently available" );
@@ -108,6 +113,22 @@ Connection poll() {
 		return conn;
 	}
 
+	private boolean grow() {
+		growLock.lock();
+		try {
+			if ( allConnections.size() < maxSize ) {
+				addConnections( 1 );
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+		finally {
+			growLock.unlock();
+		}
+	}
+
 	protected Connection prepareConnection(Connection conn) {
 		Exception t = null;
 		try {
@@ -57,6 +57,39 @@ default boolean isCallable() {
 
 	void releaseStatement(SharedSessionContractImplementor session);
 
+	/**
+	 * Hand over the {@link PreparedStatement}, if any, without releasing it,
+	 * so that another statement is used by the next call to
+	 * {@link #resolveStatement()}. The caller becomes responsible for
+	 * releasing the detached statement, or for {@linkplain #reattachStatement
+	 * handing it back}.
+	 *
+	 * @return the detached statement, or {@code null} if detaching the
+	 *         statement is not supported
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default PreparedStatement detachStatement() {
+		return null;
+	}
+
+	/**
+	 * Hand back a statement previously {@linkplain #detachStatement detached},
+	 * which is no longer in use, so that it may be reused by a later call to
+	 * {@link #resolveStatement()}, instead of preparing a new statement. The
+	 * statement is then released along with the other statement.
+	 *
+	 * @return {@code true} if the statement was taken back, or {@code false}
+	 *         if the caller remains responsible for releasing it
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default boolean reattachStatement(PreparedStatement statement) {
+		return false;
+	}
+
 	default boolean toRelease(){
 		return false;
 	}
@@ -4,12 +4,17 @@
  */
 package org.hibernate.engine.jdbc.mutation.internal;
 
+import java.util.List;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.ValuesAnalysis;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * @author Steve Ebersole
@@ -42,17 +47,79 @@ protected PreparedStatementGroupSingleTable getStatementGroup() {
 
 	private Batch resolveBatch() {
 		if ( batch == null ) {
-			batch = session.getJdbcCoordinator().getBatch(
-					batchKey,
-					batchSize,
-					() -> new PreparedStatementGroupSingleTable( getMutationOperation(), session )
-			);
+			batch = session.getJdbcCoordinator().getBatch( batchKey, batchSize, this::createStatementGroup );
 			assert batch != null;
 		}
 
 		return batch;
 	}
 
+	private PreparedStatementGroupSingleTable createStatementGroup() {
+		final var mutationOperation = getMutationOperation();
+		if ( mutationOperation instanceof JdbcInsertMutation jdbcInsert ) {
+			final var columnNames = bulkInsertColumnNames( jdbcInsert );
+			if ( columnNames != null ) {
+				return new PreparedStatementGroupBulkInsert(
+						jdbcInsert,
+						columnNames,
+						session.getJdbcServices().getDialect().getBulkInsertSupport(),
+						session
+				);
+			}
+			final int rowsPerStatement = multiRowInsertChunkSize( jdbcInsert );
+			if ( rowsPerStatement > 1 ) {
+				return new PreparedStatementGroupMultiRowInsert( jdbcInsert, rowsPerStatement, session );
+			}
+		}
+		return new PreparedStatementGroupSingleTable( mutationOperation, session );
+	}
+
+	/**
+	 * The names of the columns to insert using the bulk loading protocol
+	 * of the dialect, or {@code null} if the rows are not to be bulk loaded.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BULK_INSERTS
+	 */
+	private @Nullable List<String> bulkInsertColumnNames(JdbcInsertMutation jdbcInsert) {
+		final var factory = session.getFactory();
+		return factory.getSessionFactoryOptions().isBulkInsertsEnabled()
+			&& factory.getJdbcServices().getDialect().getBulkInsertSupport().supportsBulkInserts()
+			&& hasSimpleRowCountExpectation( jdbcInsert.getExpectation() )
+			&& !jdbcInsert.getParameterBinders().isEmpty()
+				? jdbcInsert.getParameterColumnNames()
+				: null;
+	}
+
+	/**
+	 * The number of rows to insert using a single multi-row insert statement,
+	 * or {@code 0} if the inserts are not to be coalesced.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 */
+	private int multiRowInsertChunkSize(JdbcInsertMutation jdbcInsert) {
+		final var factory = session.getFactory();
+		if ( factory.getSessionFactoryOptions().isMultiRowInsertsEnabled()
+				&& jdbcInsert.supportsMultiRowInsert()
+				&& hasSimpleRowCountExpectation( jdbcInsert.getExpectation() ) ) {
+			final int parametersPerRow = jdbcInsert.getParameterBinders().size();
+			return parametersPerRow > 0
+					? Math.min( batchSize, factory.getJdbcServices().getDialect()
+							.getMultiRowInsertChunkSize( parametersPerRow ) )
+					: 0;
+		}
+		else {
+			return 0;
+		}
+	}
+
+	private static boolean hasSimpleRowCountExpectation(Expectation expectation) {
+		// the row count of a multi-row or bulk insert is checked
+		// against the number of rows, only sensible for these
+		return expectation.getNumberOfParametersUsed() == 0
+			&& ( expectation.getClass() == Expectation.RowCount.class
+				|| expectation instanceof Expectation.None );
+	}
+
 	@Override
 	protected void performBatchedOperations(
 			ValuesAnalysis valuesAnalysis,
@@ -29,6 +29,8 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 	private final JdbcServices jdbcServices;
 
 	private PreparedStatement statement;
+	// a detached statement which was handed back, and may be reused
+	private PreparedStatement spareStatement;
 
 	private boolean toRelease;
 
@@ -65,8 +67,12 @@ public TableMapping getMutatingTableDetails() {
 
 	@Override
 	public void releaseStatement(SharedSessionContractImplementor session) {
+		final var jdbcCoordinator = session.getJdbcCoordinator();
+		if ( spareStatement != null ) {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( spareStatement );
+			spareStatement = null;
+		}
 		if ( statement != null ) {
-			final var jdbcCoordinator = session.getJdbcCoordinator();
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
 			statement = null;
 			toRelease = false;
@@ -74,6 +80,25 @@ public void releaseStatement(SharedSessionContractImplementor session) {
 		}
 	}
 
+	@Override
+	public PreparedStatement detachStatement() {
+		final var detached = statement;
+		statement = null;
+		toRelease = false;
+		return detached;
+	}
+
+	@Override
+	public boolean reattachStatement(PreparedStatement statement) {
+		if ( spareStatement == null ) {
+			spareStatement = statement;
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	@Override
 	public String getSqlString() {
 		return sql;
@@ -86,7 +111,13 @@ public PreparedStatement getStatement() {
 
 	@Override
 	public PreparedStatement resolveStatement() {
-		if ( statement == null ) {
+		if ( statement == null && spareStatement != null ) {
+			// the expectation was already prepared
+			toRelease = true;
+			statement = spareStatement;
+			spareStatement = null;
+		}
+		else if ( statement == null ) {
 			toRelease = true;
 			statement = jdbcStatementCreator.get();
 			try {
@@ -110,7 +141,7 @@ public Expectation getExpectation() {
 
 	@Override
 	public boolean toRelease() {
-		return toRelease;
+		return toRelease || spareStatement != null;
 	}
 
 	@Override
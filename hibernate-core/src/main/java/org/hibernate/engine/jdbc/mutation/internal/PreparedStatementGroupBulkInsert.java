@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.mutation.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.Set;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Incubating;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+
+/**
+ * {@link org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup}
+ * for a single-table insert whose rows may be inserted using the
+ * {@linkplain BulkInsertSupport bulk loading protocol} of the dialect.
+ * <p>
+ * The JDBC values of a row are obtained by binding the row to a stand-in
+ * for a {@link PreparedStatement} which just records the values passed
+ * to its setter methods.
+ *
+ * @see org.hibernate.engine.jdbc.batch.internal.BulkInsertBatch
+ * @see org.hibernate.cfg.BatchSettings#BULK_INSERTS
+ *
+ * @since 7.4
+ */
+@Incubating
+public class PreparedStatementGroupBulkInsert extends PreparedStatementGroupDeferredInsert {
+	private final BulkInsertSupport bulkInsertSupport;
+	private final List<String> columnNames;
+	private final JdbcValueRecorder recorder = new JdbcValueRecorder();
+	private final PreparedStatement recordingStatement = recorder.createStatement();
+
+	public PreparedStatementGroupBulkInsert(
+			JdbcInsertMutation jdbcInsert,
+			List<String> columnNames,
+			BulkInsertSupport bulkInsertSupport,
+			SharedSessionContractImplementor session) {
+		super( jdbcInsert, session );
+		this.columnNames = columnNames;
+		this.bulkInsertSupport = bulkInsertSupport;
+	}
+
+	public BulkInsertSupport getBulkInsertSupport() {
+		return bulkInsertSupport;
+	}
+
+	/**
+	 * The names of the columns, in the order of the JDBC values of a row.
+	 */
+	public List<String> getColumnNames() {
+		return columnNames;
+	}
+
+	/**
+	 * The JDBC values of a row, or {@code null} if some value can't be transferred
+	 * using the bulk loading protocol, in which case the row must be inserted using
+	 * the usual single-row statement.
+	 */
+	public Object @Nullable [] recordRow(Binding[] bindings) {
+		final Object[] values = new Object[getParametersPerRow()];
+		recorder.values = values;
+		try {
+			bindRow( recordingStatement, bindings, 0 );
+		}
+		catch (SQLException e) {
+			// the binder uses a feature of JDBC
+			// other than the basic setter methods
+			return null;
+		}
+		finally {
+			recorder.values = null;
+		}
+		for ( Object value : values ) {
+			if ( value != null && !bulkInsertSupport.supportsValue( value ) ) {
+				return null;
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Records the values passed to the basic setter methods of a {@link PreparedStatement},
+	 * and rejects every other call.
+	 */
+	private static final class JdbcValueRecorder implements InvocationHandler {
+		private static final Set<String> SETTERS = Set.of(
+				"setString", "setNString", "setBoolean", "setByte", "setShort", "setInt", "setLong",
+				"setFloat", "setDouble", "setBigDecimal", "setBytes", "setDate", "setTime", "setTimestamp",
+				"setObject"
+		);
+
+		private Object[] values;
+
+		private PreparedStatement createStatement() {
+			return (PreparedStatement) Proxy.newProxyInstance(
+					PreparedStatement.class.getClassLoader(),
+					new Class<?>[] { PreparedStatement.class },
+					this
+			);
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final String name = method.getName();
+			if ( args != null && args.length > 1 && args[0] instanceof Integer position ) {
+				if ( "setNull".equals( name ) ) {
+					values[position - 1] = null;
+					return null;
+				}
+				// setObject() may specify the SQL type, but the other setters
+				// must not specify a Calendar, since it determines the value
+				else if ( SETTERS.contains( name ) && ( args.length == 2 || "setObject".equals( name ) ) ) {
+					values[position - 1] = args[1];
+					return null;
+				}
+			}
+			switch ( name ) {
+				case "hashCode":
+					return System.identityHashCode( proxy );
+				case "equals":
+					return proxy == args[0];
+				case "toString":
+					return "JdbcValueRecorder";
+				default:
+					throw new SQLFeatureNotSupportedException( "Not supported by bulk inserts: " + method );
+			}
+		}
+	}
+}
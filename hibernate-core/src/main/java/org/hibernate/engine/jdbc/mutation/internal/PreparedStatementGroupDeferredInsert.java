@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.mutation.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Locale;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+
+/**
+ * {@link org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup}
+ * for a single-table insert whose rows are bound to JDBC statements only
+ * when the batch is executed.
+ * <p>
+ * Only the single-row statement is exposed via {@link #forEachStatement},
+ * so that the group behaves exactly like a {@link PreparedStatementGroupSingleTable}
+ * if the batch does not know how to handle it.
+ *
+ * @see org.hibernate.engine.jdbc.batch.internal.AbstractDeferredInsertBatch
+ *
+ * @since 7.4
+ */
+@Incubating
+public abstract class PreparedStatementGroupDeferredInsert extends PreparedStatementGroupSingleTable {
+	private final SharedSessionContractImplementor session;
+	private final int parametersPerRow;
+
+	public PreparedStatementGroupDeferredInsert(
+			JdbcInsertMutation jdbcInsert,
+			SharedSessionContractImplementor session) {
+		super( jdbcInsert, session );
+		this.session = session;
+		this.parametersPerRow = jdbcInsert.getParameterBinders().size();
+	}
+
+	protected SharedSessionContractImplementor getSession() {
+		return session;
+	}
+
+	/**
+	 * The number of JDBC parameters of a single row.
+	 */
+	public int getParametersPerRow() {
+		return parametersPerRow;
+	}
+
+	/**
+	 * Bind the values of a row to the parameters of the given statement.
+	 *
+	 * @param row The position of the row in the statement, counting from zero
+	 */
+	public void bindRow(PreparedStatementDetails statementDetails, Binding[] bindings, int row) {
+		try {
+			bindRow( statementDetails.resolveStatement(), bindings, row );
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					String.format(
+							Locale.ROOT,
+							"Unable to bind parameters of row #%s",
+							row
+					)
+			);
+		}
+	}
+
+	protected void bindRow(PreparedStatement statement, Binding[] bindings, int row) throws SQLException {
+		final int offset = row * parametersPerRow;
+		for ( Binding binding : bindings ) {
+			binding.getValueBinder().bind( statement, binding.getValue(), binding.getPosition() + offset, session );
+		}
+	}
+}
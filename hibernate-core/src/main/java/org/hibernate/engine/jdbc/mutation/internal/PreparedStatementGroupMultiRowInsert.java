@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.mutation.internal;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+
+/**
+ * {@link org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup}
+ * for a single-table insert which, in addition to the statement inserting
+ * one row, has a statement inserting a fixed number of rows at once.
+ *
+ * @see org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatch
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+ *
+ * @since 7.4
+ */
+@Incubating
+public class PreparedStatementGroupMultiRowInsert extends PreparedStatementGroupDeferredInsert {
+	private final int rowsPerStatement;
+	private final PreparedStatementDetails multiRowStatementDetails;
+
+	public PreparedStatementGroupMultiRowInsert(
+			JdbcInsertMutation jdbcInsert,
+			int rowsPerStatement,
+			SharedSessionContractImplementor session) {
+		super( jdbcInsert, session );
+		this.rowsPerStatement = rowsPerStatement;
+		this.multiRowStatementDetails = ModelMutationHelper.standardPreparation(
+				jdbcInsert.getMultiRowInsert( rowsPerStatement, session.getFactory() ),
+				null,
+				session
+		);
+	}
+
+	/**
+	 * The number of rows inserted by the {@linkplain #getMultiRowStatementDetails
+	 * multi-row statement}.
+	 */
+	public int getRowsPerStatement() {
+		return rowsPerStatement;
+	}
+
+	/**
+	 * The statement inserting {@link #getRowsPerStatement()} rows at once.
+	 */
+	public PreparedStatementDetails getMultiRowStatementDetails() {
+		return multiRowStatementDetails;
+	}
+
+	@Override
+	public int getNumberOfActiveStatements() {
+		return super.getNumberOfActiveStatements()
+			+ ( multiRowStatementDetails.getStatement() == null ? 0 : 1 );
+	}
+
+	@Override
+	public void release() {
+		super.release();
+		release( multiRowStatementDetails );
+	}
+}
@@ -4,11 +4,16 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.Incubating;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.metamodel.mapping.EntityMappingType;
@@ -22,6 +27,7 @@
 import org.jboss.logging.Logger;
 
 import static org.hibernate.engine.internal.CacheHelper.fromSharedCache;
+import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.internal.util.collections.CollectionHelper.linkedMapOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.linkedSetOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
@@ -63,6 +69,13 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * The number of lazy fetches of each entity or collection role by the session,
+	 * used to detect "N+1 selects" problems when adaptive batch fetching is enabled.
+	 * Unlike the batch-fetchable keys, this is not reset by {@link #clear()}.
+	 */
+	private @Nullable Map<String, Integer> fetchCountsByRole;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -84,6 +97,53 @@ public void clear() {
 	}
 
 
+	/**
+	 * Record a lazy fetch of the given entity or collection role by the session,
+	 * unless other keys of the role are waiting to be batch fetched, in which
+	 * case the fetch is going to load them all at once, and is not counted.
+	 *
+	 * @param role The entity name or collection role
+	 * @return The number of lazy fetches of a single key of the role by the session,
+	 *         including this one, or {@code 0} if this fetch was not counted
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_THRESHOLD
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public int countFetch(String role) {
+		if ( countBatchLoadable( role ) > 1 ) {
+			return 0;
+		}
+		else {
+			if ( fetchCountsByRole == null ) {
+				fetchCountsByRole = mapOfSize( 8 );
+			}
+			return fetchCountsByRole.merge( role, 1, Integer::sum );
+		}
+	}
+
+	/**
+	 * The number of entities or collections of the given role which are
+	 * waiting to be batch fetched, including the one about to be fetched.
+	 */
+	private int countBatchLoadable(String role) {
+		if ( batchLoadableEntityKeys != null ) {
+			final var entityKeys = batchLoadableEntityKeys.get( role );
+			if ( entityKeys != null ) {
+				return entityKeys.size();
+			}
+		}
+		if ( batchLoadableCollections != null ) {
+			final var collections = batchLoadableCollections.get( role );
+			if ( collections != null ) {
+				return collections.size();
+			}
+		}
+		return 0;
+	}
+
+
 	// sub-select support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -205,10 +265,14 @@ public <T> void collectBatchLoadableEntityIds(
 			if ( entityKeys != null ) {
 				final var session = context.getSession();
 				final var identifierMapping = entityDescriptor.getIdentifierMapping();
+				final var cachedKeys =
+						cachedEntityKeys( entityKeys, entityDescriptor.getEntityPersister(), domainBatchSize );
 				int batchPosition = 1;
 				int end = -1;
 				boolean checkForEnd = false;
+				int position = 0;
 				for ( var entityKey : entityKeys ) {
+					final int keyPosition = position++;
 					if ( checkForEnd && batchPosition == end ) {
 						// the first id found after the given id
 						return; // end the loop
@@ -218,7 +282,7 @@ public <T> void collectBatchLoadableEntityIds(
 						if ( identifierMapping.areEqual( loadingId, identifier, session ) ) {
 							end = batchPosition;
 						}
-						else if ( !isCached( entityKey, entityDescriptor.getEntityPersister() ) ) {
+						else if ( !isCached( cachedKeys, keyPosition ) ) {
 							//noinspection unchecked
 							collector.accept( batchPosition++, (T) identifier );
 						}
@@ -259,7 +323,10 @@ else if ( !isCached( entityKey, entityDescriptor.getEntityPersister() ) ) {
 			if ( entityKeys != null ) {
 				final var entityPersister = entityDescriptor.getEntityPersister();
 				final var identifierType = entityPersister.getIdentifierType();
+				final var cachedKeys = cachedEntityKeys( entityKeys, entityPersister, maxBatchSize );
+				int position = 0;
 				for ( var entityKey : entityKeys ) {
+					final int keyPosition = position++;
 					if ( checkForEnd && i == end ) {
 						// the first id found after the given id
 						return ids;
@@ -267,7 +334,7 @@ else if ( !isCached( entityKey, entityDescriptor.getEntityPersister() ) ) {
 					else if ( identifierType.isEqual( loadingId, entityKey.getIdentifier() ) ) {
 						end = i;
 					}
-					else if ( !isCached( entityKey, entityPersister ) ) {
+					else if ( !isCached( cachedKeys, keyPosition ) ) {
 						ids[i++] = entityKey.getIdentifier();
 					}
 
@@ -334,10 +401,14 @@ public <T> void collectBatchLoadableCollectionKeys(
 		if ( batchLoadableCollections != null ) {
 			final var map = batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
 			if ( map != null ) {
+				final var cachedKeys =
+						cachedCollectionKeys( map.keySet(), pluralAttributeMapping.getCollectionDescriptor(), batchSize );
 				int i = 1;
 				int end = -1;
 				boolean checkForEnd = false;
+				int position = 0;
 				for ( var me : map.entrySet() ) {
+					final int keyPosition = position++;
 					final var ce = me.getKey();
 					final Object loadedKey = ce.getLoadedKey();
 					final var collection = me.getValue();
@@ -363,7 +434,7 @@ else if ( checkForEnd && i == end ) {
 							if ( isEqual ) {
 								end = i;
 							}
-							else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+							else if ( !isCached( cachedKeys, keyPosition ) ) {
 								//noinspection unchecked
 								collector.accept( i++, (T) loadedKey );
 							}
@@ -406,7 +477,10 @@ else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor()
 
 			final var map = batchLoadableCollections.get( collectionPersister.getRole() );
 			if ( map != null ) {
+				final var cachedKeys = cachedCollectionKeys( map.keySet(), collectionPersister, batchSize );
+				int position = 0;
 				for ( var me : map.entrySet() ) {
+					final int keyPosition = position++;
 					final var collectionEntry = me.getKey();
 					final Object loadedKey = collectionEntry.getLoadedKey();
 					final var collection = me.getValue();
@@ -432,7 +506,7 @@ else if ( checkForEnd && i == end ) {
 								end = i;
 								//checkForEnd = false;
 							}
-							else if ( !isCached( loadedKey, collectionPersister ) ) {
+							else if ( !isCached( cachedKeys, keyPosition ) ) {
 								keys[i++] = loadedKey;
 								//count++;
 							}
@@ -456,31 +530,92 @@ public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
+	private static boolean isCached(@Nullable CachedKeys<?> cachedKeys, int position) {
+		return cachedKeys != null && cachedKeys.isCached( position );
+	}
+
+	private @Nullable CachedKeys<CollectionEntry> cachedCollectionKeys(
+			Collection<CollectionEntry> collectionEntries,
+			CollectionPersister persister,
+			int batchSize) {
 		final var session = getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
 			final var cache = persister.getCacheAccessStrategy();
-			final Object cacheKey =
-					cache.generateCacheKey( collectionKey, persister,
-							session.getFactory(), session.getTenantIdentifier() );
-			return fromSharedCache( session, cacheKey, persister, cache ) != null;
+			return new CachedKeys<>( collectionEntries, batchSize, entries -> {
+				final List<Object> cacheKeys = arrayList( entries.size() );
+				for ( var collectionEntry : entries ) {
+					final Object loadedKey = collectionEntry.getLoadedKey();
+					cacheKeys.add( loadedKey == null ? null
+							: cache.generateCacheKey( loadedKey, persister,
+									session.getFactory(), session.getTenantIdentifier() ) );
+				}
+				final List<Object> keysToLookUp = new ArrayList<>( cacheKeys );
+				keysToLookUp.removeIf( key -> key == null );
+				return found( cacheKeys, fromSharedCache( session, keysToLookUp, persister, cache ) );
+			} );
 		}
 		else {
-			return false;
+			return null;
 		}
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private @Nullable CachedKeys<EntityKey> cachedEntityKeys(
+			Collection<EntityKey> entityKeys,
+			EntityPersister persister,
+			int batchSize) {
 		final var session = getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final var cache = persister.getCacheAccessStrategy();
-			final Object key =
-					cache.generateCacheKey( entityKey.getIdentifier(), persister,
-							session.getFactory(), session.getTenantIdentifier() );
-			return fromSharedCache( session, key, persister, cache ) != null;
+			return new CachedKeys<>( entityKeys, batchSize, keys -> {
+				final List<Object> cacheKeys = arrayList( keys.size() );
+				for ( var entityKey : keys ) {
+					cacheKeys.add( cache.generateCacheKey( entityKey.getIdentifier(), persister,
+							session.getFactory(), session.getTenantIdentifier() ) );
+				}
+				return found( cacheKeys, fromSharedCache( session, cacheKeys, persister, cache ) );
+			} );
 		}
 		else {
-			return false;
+			return null;
+		}
+	}
+
+	private static boolean[] found(List<Object> cacheKeys, Map<Object, Object> cachedValues) {
+		final boolean[] found = new boolean[cacheKeys.size()];
+		for ( int i = 0; i < found.length; i++ ) {
+			final Object cacheKey = cacheKeys.get( i );
+			found[i] = cacheKey != null && cachedValues.containsKey( cacheKey );
+		}
+		return found;
+	}
+
+	/**
+	 * Determines which of the keys queued for batch fetching are already in
+	 * the second-level cache, looking up a whole batch of keys in a single
+	 * interaction with the cache, instead of one key at a time.
+	 */
+	private static final class CachedKeys<K> {
+		private final List<K> keys;
+		private final int batchSize;
+		private final Function<List<K>, boolean[]> lookup;
+		private final boolean[] cached;
+		private int lookedUp;
+
+		private CachedKeys(Collection<K> keys, int batchSize, Function<List<K>, boolean[]> lookup) {
+			this.keys = new ArrayList<>( keys );
+			this.batchSize = Math.max( batchSize, 1 );
+			this.lookup = lookup;
+			this.cached = new boolean[this.keys.size()];
+		}
+
+		boolean isCached(int position) {
+			if ( position >= lookedUp ) {
+				final int end = Math.min( keys.size(), position + batchSize );
+				final boolean[] found = lookup.apply( keys.subList( position, end ) );
+				System.arraycopy( found, 0, cached, position, found.length );
+				lookedUp = end;
+			}
+			return cached[position];
 		}
 	}
 }
@@ -7,6 +7,7 @@
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.LockMode;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -40,6 +41,24 @@ public interface EntityEntry {
 
 	Object[] getLoadedState();
 
+	/**
+	 * Determine if the given current state of the entity is certainly identical
+	 * to its loaded state, without needing to {@linkplain #getLoadedState()
+	 * materialize} the loaded state when it is held in a compact form.
+	 *
+	 * @return {@code true} if the entity is known not to be dirty, or {@code false}
+	 *         if a dirty check against the {@linkplain #getLoadedState() loaded state}
+	 *         is still required
+	 *
+	 * @see LoadedStateStore
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default boolean isLoadedStateIdentical(Object[] currentState) {
+		return false;
+	}
+
 	Object getLoadedValue(String propertyName);
 
 	void overwriteLoadedStateCollectionValue(String propertyName, PersistentCollection<?> collection);
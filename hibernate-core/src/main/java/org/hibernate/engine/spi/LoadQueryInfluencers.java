@@ -299,7 +299,10 @@ public int effectiveBatchSize(CollectionPersister persister) {
 		final int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
-		return persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		// and, otherwise, any batch size learned adaptively
+		return persisterBatchSize >= 0
+				? persisterBatchSize
+				: Math.max( batchSize, persister.getAdaptiveBatchSize() );
 	}
 
 	public boolean effectivelyBatchLoadable(CollectionPersister persister) {
@@ -310,7 +313,10 @@ public int effectiveBatchSize(EntityPersister persister) {
 		final int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
-		return persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		// and, otherwise, any batch size learned adaptively
+		return persisterBatchSize >= 0
+				? persisterBatchSize
+				: Math.max( batchSize, persister.getAdaptiveBatchSize() );
 	}
 
 	public boolean effectivelyBatchLoadable(EntityPersister persister) {
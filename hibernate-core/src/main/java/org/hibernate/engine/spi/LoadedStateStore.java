@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Strategy for holding the {@linkplain EntityEntry#getLoadedState() loaded state}
+ * of a managed entity in a representation more compact than an {@code Object[]}.
+ * <p>
+ * The loaded state is compacted once the entity has been loaded, and is expanded
+ * back to an {@code Object[]} only when it is actually needed, typically because
+ * the entity turned out to be dirty. A flush-time dirty check compares the current
+ * state of the entity directly against the compact representation via
+ * {@link #isIdentical}, so that the loaded state of a non-dirty entity never needs
+ * to be expanded.
+ * <p>
+ * An implementation must be thread-safe, since a single instance is shared by
+ * every session of the {@link org.hibernate.SessionFactory}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_LOADED_STATE_STORE
+ *
+ * @since 7.4
+ */
+@Incubating
+public interface LoadedStateStore {
+	/**
+	 * Produce a compact representation of the given loaded state.
+	 *
+	 * @param loadedState the loaded state, which must not be modified
+	 * @param persister the persister of the entity
+	 *
+	 * @return the compact representation, which must not be an {@code Object[]},
+	 *         or {@code null} if the given state cannot be compacted
+	 */
+	@Nullable Object compact(Object[] loadedState, EntityPersister persister);
+
+	/**
+	 * Expand a compact representation produced by {@link #compact} back to
+	 * the loaded state it was produced from.
+	 */
+	Object[] expand(Object compactState, EntityPersister persister);
+
+	/**
+	 * Determine if the given current state of the entity is identical to the
+	 * loaded state held in the given compact representation.
+	 *
+	 * @return {@code true} only if every element of the current state is equal
+	 *         to the corresponding element of the loaded state, so that the entity
+	 *         is certainly not dirty; {@code false} if a regular dirty check must
+	 *         be performed against the expanded loaded state
+	 */
+	boolean isIdentical(Object compactState, Object[] currentState, EntityPersister persister);
+}
@@ -6,6 +6,7 @@
 
 import java.util.Collection;
 
+import org.hibernate.Incubating;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 
 /**
@@ -86,6 +87,24 @@ default void removeSharedResolution(Object id, Object naturalId, EntityMappingTy
 	 */
 	Object findCachedIdByNaturalId(Object naturalId, EntityMappingType entityDescriptor);
 
+	/**
+	 * Find the cached identifiers for the given natural-ids, looking up every
+	 * natural-id missing from the local cache in the second-level cache at once.
+	 *
+	 * @return The cross-referenced primary keys, {@link #INVALID_NATURAL_ID_REFERENCE}
+	 *         or {@code null}, in the order of the given natural-ids.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default Object[] findCachedIdsByNaturalIds(Object[] naturalIds, EntityMappingType entityDescriptor) {
+		final Object[] ids = new Object[naturalIds.length];
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			ids[i] = findCachedIdByNaturalId( naturalIds[i], entityDescriptor );
+		}
+		return ids;
+	}
+
 	/**
 	 * Find all the locally cached primary key cross-reference entries for the given entity.
 	 *
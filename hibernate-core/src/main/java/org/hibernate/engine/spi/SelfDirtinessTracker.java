@@ -4,7 +4,11 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.function.ToIntFunction;
+
+import org.hibernate.Incubating;
 import org.hibernate.bytecode.enhance.spi.CollectionTracker;
+import org.hibernate.bytecode.enhance.spi.DirtyAttributeMasks;
 
 /**
  * Contract for an entity to report that it tracks the dirtiness of its own state,
@@ -32,6 +36,27 @@ public interface SelfDirtinessTracker extends PrimeAmongSecondarySupertypes {
 	 */
 	String[] $$_hibernate_getDirtyAttributes();
 
+	/**
+	 * Retrieve the persistent attributes whose values have changed, as a bitmask
+	 * in which bit {@code i} is set if the attribute at position {@code i} of the
+	 * entity state has changed. The mask may be shorter than the number of
+	 * attributes, and must not be modified by the caller.
+	 * <p>
+	 * An enhanced entity caches the mask until its dirty attributes change, so
+	 * that a repeated flush of the same entity does not resolve names again.
+	 *
+	 * @param attributePositions resolves the position of an attribute in the entity
+	 *                           state given its name, or returns {@code -1}
+	 *
+	 * @return The mask of changed persistent attributes
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default long[] $$_hibernate_getDirtyAttributeMask(ToIntFunction<String> attributePositions) {
+		return DirtyAttributeMasks.of( $$_hibernate_getDirtyAttributes(), attributePositions );
+	}
+
 	/**
 	 * Adds persistent attribute to the set of values that have changed
 	 */
@@ -76,6 +76,8 @@
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * A wrapper class that delegates all method invocations to a delegate instance of
@@ -876,6 +878,11 @@ public void remove(Object entity) {
 		return delegate.find( entityClass, primaryKey );
 	}
 
+	@Override
+	public <T> CompletionStage<T> findAsync(Class<T> entityClass, Object primaryKey, FindOption... options) {
+		return delegate.findAsync( entityClass, primaryKey, options );
+	}
+
 	@Override
 	public <T> @Nullable T find(Class<T> entityClass, Object primaryKey, Map<String, Object> properties) {
 		return delegate.find( entityClass, primaryKey, properties );
@@ -1286,6 +1293,21 @@ public Object loadFromSecondLevelCache(EntityPersister persister, EntityKey enti
 		return delegate.loadFromSecondLevelCache( persister, entityKey, instanceToLoad, lockMode );
 	}
 
+	@Override
+	public Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry) {
+		return delegate.loadFromSecondLevelCacheEntry( persister, entityKey, cacheEntry );
+	}
+
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		return delegate.executeAsync( work );
+	}
+
+	@Override
+	public int countSqlExecution(String sql) {
+		return delegate.countSqlExecution( sql );
+	}
+
 	@Override
 	public SessionAssociationMarkers getSessionAssociationMarkers() {
 		return delegate.getSessionAssociationMarkers();
@@ -59,6 +59,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 /**
@@ -785,6 +786,11 @@ public NativeQuery getNamedNativeQuery(String name, String resultSetMapping) {
 		return this.lazySession.get().find( entityClass, primaryKey );
 	}
 
+	@Override
+	public <T> CompletionStage<T> findAsync(Class<T> entityClass, Object primaryKey, FindOption... options) {
+		return this.lazySession.get().findAsync( entityClass, primaryKey, options );
+	}
+
 	@Override
 	public <T> @Nullable T find(Class<T> entityClass, Object primaryKey, Map<String, Object> properties) {
 		return this.lazySession.get().find( entityClass, primaryKey, properties );
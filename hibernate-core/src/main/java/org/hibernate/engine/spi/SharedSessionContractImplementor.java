@@ -6,6 +6,9 @@
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import jakarta.persistence.TransactionRequiredException;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -20,6 +23,7 @@
 import org.hibernate.dialect.Dialect;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.loader.internal.CacheLoadHelper;
 import org.hibernate.query.Query;
 import org.hibernate.SharedSessionContract;
 import org.hibernate.Transaction;
@@ -621,6 +625,77 @@ default boolean isStatelessSession() {
 	@Incubating
 	Object loadFromSecondLevelCache(EntityPersister persister, EntityKey entityKey, Object instanceToLoad, LockMode lockMode);
 
+	/**
+	 * Assembles the entity from an entry which was already retrieved from
+	 * the second-level cache, usually by a lookup of multiple entries at once.
+	 *
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntry The entry retrieved from the second-level cache
+	 *
+	 * @return The entity, or null if the entry could not be used.
+	 *
+	 * @implSpec The default implementation assembles the entity in the
+	 *           same way as {@link #loadFromSecondLevelCache}, but fires
+	 *           no events.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry) {
+		return CacheLoadHelper.loadFromCacheEntry( this, persister, cacheEntry, entityKey );
+	}
+
+	/**
+	 * Execute the given work asynchronously, after every asynchronous work
+	 * previously requested from this session completes, so that the session
+	 * is never used by more than one thread at a time. The session must not
+	 * be used by the calling thread until the returned stage completes.
+	 * <p>
+	 * The asynchronous work of a session is therefore serialized: it never
+	 * fans out over several threads, and only frees the calling thread.
+	 *
+	 * @implSpec The default implementation executes the work immediately,
+	 *           on the calling thread.
+	 *
+	 * @throws IllegalStateException if the session is joined to a JTA transaction
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#ASYNC_EXECUTOR
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		try {
+			return CompletableFuture.completedFuture( work.get() );
+		}
+		catch (RuntimeException e) {
+			return CompletableFuture.failedFuture( e );
+		}
+	}
+
+	/**
+	 * Count an execution of the given SQL query by this session, so that
+	 * repeated executions of the same query, the mark of the "N+1 selects"
+	 * problem, may be detected.
+	 *
+	 * @implSpec The default implementation does not count executions,
+	 *           and always returns {@code 1}.
+	 *
+	 * @param sql The SQL query
+	 *
+	 * @return The number of executions of the query by this session,
+	 *         including this execution
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SQL_PROFILING
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int countSqlExecution(String sql) {
+		return 1;
+	}
+
 	/**
 	 * Wrap all state that lazy loading interceptors might need to
 	 * manage association with this session, or to handle lazy loading
@@ -53,6 +53,8 @@
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * A wrapper class that delegates all method invocations to a delegate instance of
@@ -714,6 +716,21 @@ public Object loadFromSecondLevelCache(EntityPersister persister, EntityKey enti
 		return delegate.loadFromSecondLevelCache( persister, entityKey, instanceToLoad, lockMode );
 	}
 
+	@Override
+	public Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry) {
+		return delegate.loadFromSecondLevelCacheEntry( persister, entityKey, cacheEntry );
+	}
+
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		return delegate.executeAsync( work );
+	}
+
+	@Override
+	public int countSqlExecution(String sql) {
+		return delegate.countSqlExecution( sql );
+	}
+
 	@Override
 	public SessionAssociationMarkers getSessionAssociationMarkers() {
 		return delegate.getSessionAssociationMarkers();
@@ -217,15 +217,23 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 		final var entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
+		// null unless the dirty check is parallelized
+		final var dirtyCheckResults = ParallelDirtyCheck.dirtyCheck( entityEntries, source );
+
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
-		for ( var me : entityEntries ) {
+		for ( int i = 0; i < count; i++ ) {
+			final var me = entityEntries[i];
 			// Update the status of the object and if necessary, schedule an update
 			final var entry = me.getValue();
 			final var status = entry.getStatus();
 			if ( status != Status.LOADING && status != Status.GONE ) {
-				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
+				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry,
+						dirtyCheckResults != null );
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
+				if ( dirtyCheckResults != null ) {
+					( (PrecomputedFlushEntityEvent) entityEvent ).setDirtyCheckResult( dirtyCheckResults[i] );
+				}
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
 				entityEvent.setAllowedToReuse( true );
 				assert entityEvent.getInstanceGenerationId() == eventGenerationId;
@@ -245,10 +253,13 @@ private FlushEntityEvent createOrReuseEventInstance(
 			FlushEntityEvent possiblyValidExistingInstance,
 			EventSource source,
 			Object key,
-			EntityEntry entry) {
+			EntityEntry entry,
+			boolean precomputed) {
 		if ( possiblyValidExistingInstance == null || !possiblyValidExistingInstance.isAllowedToReuse() ) {
 			//need to create a new instance
-			return new FlushEntityEvent( source, key, entry );
+			return precomputed
+					? new PrecomputedFlushEntityEvent( source, key, entry )
+					: new FlushEntityEvent( source, key, entry );
 		}
 		else {
 			possiblyValidExistingInstance.resetAndReuseEventInstance( key, entry );
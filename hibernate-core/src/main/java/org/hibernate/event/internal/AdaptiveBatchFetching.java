@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static org.hibernate.event.internal.EventListenerLogging.EVENT_LISTENER_LOGGER;
+
+/**
+ * Detects "N+1 selects" problems, that is, storms of lazy fetches of the
+ * same entity or collection role, one key at a time, and responds by
+ * enabling batch fetching for the role, when {@linkplain
+ * org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_THRESHOLD adaptive
+ * batch fetching} is enabled.
+ *
+ * @since 7.4
+ */
+final class AdaptiveBatchFetching {
+
+	/**
+	 * The largest batch size which may be learned
+	 */
+	static final int MAX_BATCH_SIZE = 256;
+
+	private AdaptiveBatchFetching() {
+	}
+
+	/**
+	 * Called before an entity is lazily fetched from the database.
+	 */
+	static void beforeFetch(EntityPersister persister, SharedSessionContractImplementor session) {
+		final int threshold = threshold( persister.getBatchSize(), session );
+		if ( threshold > 0 ) {
+			final var persistenceContext = session.getPersistenceContextInternal();
+			final var batchFetchQueue = persistenceContext.getBatchFetchQueue();
+			final String entityName = persister.getEntityName();
+			if ( batchFetchQueue.countFetch( entityName ) == threshold ) {
+				// the proxies of this entity which are still waiting to be fetched
+				final List<EntityKey> pending = new ArrayList<>();
+				final var holders = persistenceContext.getEntityHoldersByKey();
+				if ( holders != null ) {
+					for ( var holder : holders.values() ) {
+						if ( holder.getDescriptor() == persister
+								&& holder.getManagedObject() != null
+								&& !holder.isEventuallyInitialized()
+								&& !holder.isDetached() ) {
+							pending.add( holder.getEntityKey() );
+						}
+					}
+				}
+				final int previousBatchSize = persister.getAdaptiveBatchSize();
+				final int batchSize = batchSize( previousBatchSize, threshold, pending.size() );
+				if ( batchSize > previousBatchSize ) {
+					EVENT_LISTENER_LOGGER.adaptingBatchSize( entityName, batchSize );
+					persister.adaptBatchSize( batchSize );
+				}
+				if ( persister.getAdaptiveBatchSize() > 0 ) {
+					// make them available for batch fetching,
+					// including the one about to be fetched
+					for ( var entityKey : pending ) {
+						batchFetchQueue.addBatchLoadableEntityKey( entityKey );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Called before a collection is lazily fetched from the database.
+	 */
+	static void beforeFetch(CollectionPersister persister, SharedSessionContractImplementor session) {
+		final int threshold = threshold( persister.getBatchSize(), session );
+		if ( threshold > 0 ) {
+			final var persistenceContext = session.getPersistenceContextInternal();
+			final var batchFetchQueue = persistenceContext.getBatchFetchQueue();
+			final String role = persister.getRole();
+			if ( batchFetchQueue.countFetch( role ) == threshold ) {
+				// the collections of this role which are still waiting to be fetched
+				final Map<CollectionEntry, PersistentCollection<?>> pending = new LinkedHashMap<>();
+				persistenceContext.forEachCollectionEntry(
+						(collection, entry) -> {
+							if ( entry.getLoadedPersister() == persister
+									&& entry.getLoadedKey() != null
+									&& !collection.wasInitialized() ) {
+								pending.put( entry, collection );
+							}
+						},
+						false
+				);
+				final int previousBatchSize = persister.getAdaptiveBatchSize();
+				final int batchSize = batchSize( previousBatchSize, threshold, pending.size() );
+				if ( batchSize > previousBatchSize ) {
+					EVENT_LISTENER_LOGGER.adaptingBatchSize( role, batchSize );
+					persister.adaptBatchSize( batchSize );
+				}
+				if ( persister.getAdaptiveBatchSize() > 0 ) {
+					// make them available for batch fetching,
+					// including the one about to be fetched
+					pending.forEach( (entry, collection) -> batchFetchQueue.addBatchLoadableCollection( collection, entry ) );
+				}
+			}
+		}
+	}
+
+	/**
+	 * The number of lazy fetches of a role after which batch fetching is
+	 * enabled, or {@code 0} if batch fetching may not be enabled for the
+	 * role, either because adaptive batch fetching is disabled, or because
+	 * a batch size was explicitly specified.
+	 */
+	private static int threshold(int explicitBatchSize, SharedSessionContractImplementor session) {
+		final int threshold = session.getFactory().getSessionFactoryOptions().getAdaptiveBatchFetchThreshold();
+		// note that due to legacy, -1 means no explicit setting
+		return threshold > 0 && explicitBatchSize < 0 && session.getLoadQueryInfluencers().getBatchSize() <= 1
+				? threshold
+				: 0;
+	}
+
+	/**
+	 * The learned batch size: a power of two, large enough to fetch every
+	 * pending proxy or collection at once, and never smaller than the
+	 * previous batch size. Since only fetches of a single key are counted,
+	 * a storm of lazy fetches in spite of batch fetching means that there
+	 * was nothing more to fetch, not that the batches were too small.
+	 */
+	private static int batchSize(int previousBatchSize, int threshold, int pending) {
+		final int size = Math.min( MAX_BATCH_SIZE, Math.max( previousBatchSize, Math.max( threshold, pending ) ) );
+		return Math.max( 2, Integer.highestOneBit( size - 1 ) << 1 );
+	}
+}
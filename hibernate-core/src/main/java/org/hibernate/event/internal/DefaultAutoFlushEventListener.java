@@ -10,6 +10,7 @@
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.EventSource;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.event.internal.EventListenerLogging.EVENT_LISTENER_LOGGER;
 
 
@@ -44,6 +45,7 @@ public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 					preFlush( session, persistenceContext );
 				}
 				final int oldSize = actionQueue.numberOfCollectionRemovals();
+				final long startTime = System.nanoTime();
 				flushEverythingToExecutions( event, persistenceContext, session );
 				if ( flushIsReallyNeeded( event, source ) ) {
 					EVENT_LISTENER_LOGGER.needToExecuteFlush();
@@ -63,6 +65,7 @@ public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 					final var statistics = source.getFactory().getStatistics();
 					if ( statistics.isStatisticsEnabled() ) {
 						statistics.flush();
+						statistics.flushTime( NANOSECONDS.toMicros( System.nanoTime() - startTime ) );
 					}
 				}
 				else {
@@ -25,8 +25,10 @@
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.FlushEntityEvent;
 import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.internal.EmptyInterceptor;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
 import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
+import org.hibernate.jpa.event.spi.CallbackType;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.type.Type;
 
@@ -59,6 +61,14 @@ public void injectCallbackRegistry(CallbackRegistry callbackRegistry) {
 		this.callbackRegistry = callbackRegistry;
 	}
 
+	/**
+	 * Does the given entity class have a JPA {@link jakarta.persistence.PreUpdate}
+	 * callback, which might modify the state of any entity during the flush?
+	 */
+	boolean hasPreUpdateCallbacks(Class<?> entityClass) {
+		return callbackRegistry.hasRegisteredCallbacks( entityClass, CallbackType.PRE_UPDATE );
+	}
+
 	/**
 	 * Make sure user didn't mangle the id.
 	 */
@@ -94,12 +104,11 @@ private void checkNaturalId(
 			Object entity,
 			EntityEntry entry,
 			Object[] current,
-			Object[] loaded,
 			SessionImplementor session) {
 		if ( !isUninitializedEnhanced( entity ) ) {
 			final var naturalIdMapping = persister.getNaturalIdMapping();
 			if ( naturalIdMapping != null && entry.getStatus() != Status.READ_ONLY ) {
-				naturalIdMapping.verifyFlushState( entry.getId(), current, loaded, session );
+				naturalIdMapping.verifyFlushState( entry.getId(), current, entry.getLoadedState(), session );
 			}
 		}
 	}
@@ -134,7 +143,7 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, mightBeDirty );
 
 		event.setPropertyValues( values );
 
@@ -163,22 +172,31 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty) {
+		final Object entity = event.getEntity();
+		final var entry = event.getEntityEntry();
+		final var session = event.getSession();
 		if ( entry.getStatus() == Status.DELETED ) {
 			//grab its state saved at deletion
 			return entry.getDeletedState();
 		}
 		else {
-			final Object[] loadedState = entry.getLoadedState();
-			if ( !mightBeDirty && loadedState != null ) {
+			// avoid materializing a compact loaded state unless we can use it
+			final Object[] loadedState = mightBeDirty ? null : entry.getLoadedState();
+			if ( loadedState != null ) {
 				return loadedState;
 			}
 			else {
 				final var persister = entry.getPersister();
 				checkId( entity, persister, entry, session );
-				// grab its current state
-				final Object[] values = persister.getValues( entity );
-				checkNaturalId( persister, entity, entry, values, loadedState, session );
+				// grab its current state, unless it was already obtained
+				// by the parallel dirty check
+				final var precomputed = PrecomputedFlushEntityEvent.getDirtyCheckResult( event );
+				final Object[] values =
+						precomputed == null
+								? persister.getValues( entity )
+								: precomputed.propertyValues();
+				checkNaturalId( persister, entity, entry, values, session );
 				return values;
 			}
 		}
@@ -484,9 +502,22 @@ private static int[] performDirtyCheck(FlushEntityEvent event) {
 			session.getEventListenerManager().dirtyCalculationStart();
 			// object loaded by update()
 			final Object[] values = event.getPropertyValues();
-			final Object[] loadedState = entry.getLoadedState();
 			final Object entity = event.getEntity();
-			if ( loadedState != null ) {
+			final Object[] loadedState;
+			final var precomputed = PrecomputedFlushEntityEvent.getDirtyCheckResult( event );
+			if ( values != null && precomputed != null && values == precomputed.propertyValues() ) {
+				// the parallel dirty check already compared the state to the
+				// loaded state, and the state has not been replaced since
+				dirtyProperties = precomputed.dirtyProperties();
+				dirtyCheckPossible = true;
+				// it might be modified in place by an Interceptor
+				( (PrecomputedFlushEntityEvent) event ).setDirtyCheckResult( null );
+			}
+			else if ( entry.isLoadedStateIdentical( values ) ) {
+				// the compact loaded state is identical to the current state
+				dirtyCheckPossible = true;
+			}
+			else if ( ( loadedState = entry.getLoadedState() ) != null ) {
 				// dirty check against the usual snapshot of the entity
 				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
 				dirtyCheckPossible = true;
@@ -550,9 +581,14 @@ private static int[] getDirtyProperties(FlushEntityEvent event) {
 	}
 
 	private static int[] getDirtyPropertiesFromInterceptor(FlushEntityEvent event) {
+		final var interceptor = event.getSession().getInterceptor();
+		if ( interceptor == EmptyInterceptor.INSTANCE ) {
+			// don't materialize the loaded state for nothing
+			return null;
+		}
 		final var entry = event.getEntityEntry();
 		final var persister = entry.getPersister();
-		return event.getSession().getInterceptor().findDirty(
+		return interceptor.findDirty(
 				event.getEntity(),
 				entry.getId(),
 				event.getPropertyValues(),
@@ -596,7 +632,7 @@ private static int[] resolveDirtyAttributeIndex(
 		return persister.resolveDirtyAttributeIndexes(
 				event.getPropertyValues(),
 				entry.getLoadedState(),
-				tracker.$$_hibernate_getDirtyAttributes(),
+				tracker,
 				event.getSession()
 		);
 	}
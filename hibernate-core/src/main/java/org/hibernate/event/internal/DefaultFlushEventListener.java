@@ -8,6 +8,7 @@
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.event.spi.FlushEventListener;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.event.internal.EventListenerLogging.EVENT_LISTENER_LOGGER;
 
 /**
@@ -36,6 +37,7 @@ public void onFlush(FlushEvent event) throws HibernateException {
 			if ( persistenceContext.getNumberOfManagedEntities() > 0
 					|| persistenceContext.getCollectionEntriesSize() > 0 ) {
 				EVENT_LISTENER_LOGGER.executingFlush();
+				final long startTime = System.nanoTime();
 				flushEverythingToExecutions( event );
 				performExecutions( source );
 				postFlush( source );
@@ -44,6 +46,7 @@ public void onFlush(FlushEvent event) throws HibernateException {
 				final var statistics = source.getFactory().getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.flush();
+					statistics.flushTime( NANOSECONDS.toMicros( System.nanoTime() - startTime ) );
 				}
 			}
 			else if ( source.getActionQueue().hasAnyQueuedActions() ) {
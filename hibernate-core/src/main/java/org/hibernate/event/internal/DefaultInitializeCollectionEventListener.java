@@ -13,6 +13,7 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.sql.results.internal.ResultsHelper;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.collection.spi.AbstractPersistentCollection.checkPersister;
 import static org.hibernate.event.internal.EventListenerLogging.EVENT_LISTENER_LOGGER;
 import static org.hibernate.loader.internal.CacheLoadHelper.initializeCollectionFromCache;
@@ -50,13 +51,18 @@ public void onInitializeCollection(InitializeCollectionEvent event) throws Hiber
 			}
 			else {
 				EVENT_LISTENER_LOGGER.collectionNotCached();
+				AdaptiveBatchFetching.beforeFetch( loadedPersister, source );
+				final var statistics = source.getFactory().getStatistics();
+				final boolean stats = statistics.isStatisticsEnabled();
+				final long startTime = stats ? System.nanoTime() : 0;
 				loadedPersister.initialize( loadedKey, source );
 				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 				EVENT_LISTENER_LOGGER.collectionInitialized();
 
-				final var statistics = source.getFactory().getStatistics();
-				if ( statistics.isStatisticsEnabled() ) {
+				if ( stats ) {
 					statistics.fetchCollection( loadedPersister.getRole() );
+					statistics.collectionFetchTime( loadedPersister.getRole(),
+							NANOSECONDS.toMicros( System.nanoTime() - startTime ) );
 				}
 			}
 		}
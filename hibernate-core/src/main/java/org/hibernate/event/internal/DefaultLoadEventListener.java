@@ -24,6 +24,7 @@
 import org.hibernate.metamodel.mapping.NonAggregatedIdentifierMapping;
 import org.hibernate.persister.entity.EntityPersister;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.event.internal.EventListenerLogging.EVENT_LISTENER_LOGGER;
@@ -573,6 +574,13 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 					infoString( persister, event.getEntityId(), event.getFactory() ) );
 		}
 
+		if ( event.isAssociationFetch() ) {
+			AdaptiveBatchFetching.beforeFetch( persister, event.getSession() );
+		}
+
+		final var statistics = event.getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
 		final Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -589,9 +597,12 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 
 		final var lazyInitializer = extractLazyInitializer( entity );
 		final Object impl = lazyInitializer != null ? lazyInitializer.getImplementation() : entity;
-		final var statistics = event.getFactory().getStatistics();
-		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
-			statistics.fetchEntity( event.getEntityClassName() );
+		if ( stats ) {
+			statistics.entityLoadTime( persister.getEntityName(),
+					NANOSECONDS.toMicros( System.nanoTime() - startTime ) );
+			if ( event.isAssociationFetch() ) {
+				statistics.fetchEntity( event.getEntityClassName() );
+			}
 		}
 		return impl;
 	}
@@ -329,4 +329,10 @@ public interface EventListenerLogging extends BasicLogger {
 	@LogMessage(level = TRACE)
 	@Message(id = 90060067, value = "Wrapped collection in role: %s")
 	void wrappedCollectionInRole(String role);
+
+	// Adaptive batch fetching
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 90060077, value = "Detected N+1 selects for '%s', enabling batch fetching with batch size %s")
+	void adaptingBatchSize(String role, int batchSize);
 }
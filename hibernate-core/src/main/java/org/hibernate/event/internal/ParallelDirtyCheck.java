@@ -0,0 +1,257 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.internal;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.metamodel.mapping.ManagedMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessEnhancedImpl;
+import org.hibernate.property.access.internal.PropertyAccessFieldImpl;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+
+/**
+ * Compares the current state of managed entities with their loaded state
+ * in parallel, ahead of the {@linkplain org.hibernate.event.spi.FlushEntityEvent
+ * flush entity events}, which then pick up the precomputed results.
+ * <p>
+ * The worker threads never touch the session: they only read the state of the
+ * entities and compare it with the loaded state using {@link Type#isSame}. Only
+ * entities which are found to be unmodified get a result, and the dirty check of
+ * every other entity happens in the usual way on the flushing thread. Only entities
+ * whose state consists exclusively of basic values and embeddables, and is accessed
+ * directly via fields, are handled here, since a getter method might not be safe to
+ * call from another thread.
+ * <p>
+ * Since an {@link org.hibernate.Interceptor}, a custom
+ * {@link org.hibernate.event.spi.FlushEntityEventListener}, or a JPA
+ * {@link jakarta.persistence.PreUpdate} callback might modify any entity during the
+ * flush, invalidating the precomputed results, the parallel dirty check is skipped
+ * for sessions where any of these is present.
+ * <p>
+ * The work is split into chunks which are submitted to the
+ * {@linkplain org.hibernate.boot.spi.SessionFactoryOptions#getAsyncExecutor
+ * asynchronous executor}. The flushing thread processes chunks too, and only ever
+ * waits for chunks already being processed by another thread, so that the flush
+ * completes even when no thread of the executor is available.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+ *
+ * @since 7.4
+ */
+final class ParallelDirtyCheck implements Runnable {
+
+	/**
+	 * The number of entities processed sequentially by a single task.
+	 */
+	private static final int CHUNK_SIZE = 256;
+
+	/**
+	 * The current state of an unmodified entity.
+	 */
+	record Result(Object[] propertyValues, int[] dirtyProperties) {
+	}
+
+	private final Map.Entry<Object, EntityEntry>[] entityEntries;
+	private final Result[] results;
+	private final boolean compactLoadedState;
+	private final int chunkCount;
+	private final AtomicInteger nextChunk = new AtomicInteger();
+	private final CountDownLatch completedChunks;
+
+	private ParallelDirtyCheck(
+			Map.Entry<Object, EntityEntry>[] entityEntries,
+			boolean compactLoadedState) {
+		this.entityEntries = entityEntries;
+		this.compactLoadedState = compactLoadedState;
+		results = new Result[entityEntries.length];
+		chunkCount = ( entityEntries.length + CHUNK_SIZE - 1 ) / CHUNK_SIZE;
+		completedChunks = new CountDownLatch( chunkCount );
+	}
+
+	/**
+	 * Perform the dirty check of the given entities in parallel, if enabled
+	 * and if there are enough of them.
+	 *
+	 * @return the results, indexed by position in the given array, or {@code null}
+	 *         if the dirty check is not to be performed in parallel
+	 */
+	static Result[] dirtyCheck(Map.Entry<Object, EntityEntry>[] entityEntries, EventSource session) {
+		final var options = session.getFactory().getSessionFactoryOptions();
+		final int threshold = options.getParallelDirtyCheckThreshold();
+		if ( threshold <= 0 || entityEntries.length < threshold
+				|| !isParallelizable( entityEntries, session ) ) {
+			return null;
+		}
+		else {
+			final var dirtyCheck =
+					new ParallelDirtyCheck( entityEntries, options.getLoadedStateStore() != null );
+			dirtyCheck.execute( options.getAsyncExecutor() );
+			return dirtyCheck.results;
+		}
+	}
+
+	/**
+	 * Nothing but the entity itself may modify its state during the flush.
+	 */
+	private static boolean isParallelizable(Map.Entry<Object, EntityEntry>[] entityEntries, EventSource session) {
+		if ( session.getInterceptor() != EmptyInterceptor.INSTANCE ) {
+			return false;
+		}
+		final var flushListeners =
+				session.getFactory().getEventListenerGroups().eventListenerGroup_FLUSH_ENTITY;
+		if ( flushListeners.count() != 1 ) {
+			return false;
+		}
+		final var listener = flushListeners.listeners().iterator().next();
+		if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+			return false;
+		}
+		final var flushEntityListener = (DefaultFlushEntityEventListener) listener;
+		Class<?> checkedClass = null;
+		for ( var entry : entityEntries ) {
+			final Class<?> entityClass = entry.getKey().getClass();
+			if ( entityClass != checkedClass ) {
+				if ( flushEntityListener.hasPreUpdateCallbacks( entityClass ) ) {
+					return false;
+				}
+				checkedClass = entityClass;
+			}
+		}
+		return true;
+	}
+
+	private void execute(Executor executor) {
+		try {
+			for ( int i = 1; i < chunkCount; i++ ) {
+				executor.execute( this );
+			}
+		}
+		catch (RejectedExecutionException e) {
+			// the flushing thread processes the remaining chunks
+		}
+		run();
+		try {
+			completedChunks.await();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted during parallel dirty check", e );
+		}
+	}
+
+	@Override
+	public void run() {
+		int chunk;
+		while ( ( chunk = nextChunk.getAndIncrement() ) < chunkCount ) {
+			try {
+				final int start = chunk * CHUNK_SIZE;
+				final int end = Math.min( start + CHUNK_SIZE, entityEntries.length );
+				for ( int i = start; i < end; i++ ) {
+					final var entry = entityEntries[i];
+					results[i] = dirtyCheck( entry.getKey(), entry.getValue() );
+				}
+			}
+			finally {
+				completedChunks.countDown();
+			}
+		}
+	}
+
+	private Result dirtyCheck(Object entity, EntityEntry entry) {
+		final var persister = entry.getPersister();
+		if ( entry.getStatus() == Status.MANAGED
+				&& persister.isMutable()
+				&& !isPersistentAttributeInterceptable( entity )
+				&& hasOnlyBasicValues( persister )
+				&& hasOnlyFieldAccess( persister ) ) {
+			try {
+				final Object[] values = persister.getValues( entity );
+				return entry.isLoadedStateIdentical( values ) || isUnmodified( values, entry, persister )
+						? new Result( values, null )
+						: null;
+			}
+			catch (RuntimeException e) {
+				// let the flushing thread report the problem
+				return null;
+			}
+		}
+		else {
+			return null;
+		}
+	}
+
+	private boolean isUnmodified(Object[] values, EntityEntry entry, EntityPersister persister) {
+		if ( compactLoadedState ) {
+			// expanding the compact loaded state would modify the entry
+			return false;
+		}
+		final Object[] loadedState = entry.getLoadedState();
+		if ( loadedState == null ) {
+			return false;
+		}
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( !types[i].isSame( loadedState[i], values[i] ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reading the state must not run any code of the application,
+	 * which might not be thread safe: a getter might access the
+	 * session, or lazily initialize some state of the entity.
+	 */
+	private static boolean hasOnlyFieldAccess(ManagedMappingType mappingType) {
+		final int count = mappingType.getNumberOfAttributeMappings();
+		for ( int i = 0; i < count; i++ ) {
+			final var attribute = mappingType.getAttributeMapping( i );
+			final var propertyAccess = attribute.getPropertyAccess();
+			if ( !( propertyAccess instanceof PropertyAccessFieldImpl
+					|| propertyAccess instanceof PropertyAccessEnhancedImpl )
+					|| attribute instanceof EmbeddableValuedModelPart embedded
+							&& !hasOnlyFieldAccess( embedded.getEmbeddableTypeDescriptor() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasOnlyBasicValues(EntityPersister persister) {
+		return !persister.hasCollections()
+			&& hasOnlyBasicValues( persister.getPropertyTypes() );
+	}
+
+	private static boolean hasOnlyBasicValues(Type[] types) {
+		for ( Type type : types ) {
+			if ( type.isAssociationType()
+					// such values are always considered dirty
+					|| type instanceof AbstractStandardBasicType<?> basicType
+							&& basicType.getJavaTypeDescriptor().getMutabilityPlan() == MutableMutabilityPlan.INSTANCE
+					|| type instanceof CompositeType compositeType
+							&& !hasOnlyBasicValues( compositeType.getSubtypes() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.internal;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+
+/**
+ * A {@link FlushEntityEvent} which carries the result of the
+ * {@linkplain ParallelDirtyCheck parallel dirty check} of its
+ * entity, if any, to {@link DefaultFlushEntityEventListener}.
+ *
+ * @since 7.4
+ */
+final class PrecomputedFlushEntityEvent extends FlushEntityEvent {
+
+	private ParallelDirtyCheck.Result dirtyCheckResult;
+
+	PrecomputedFlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
+		super( source, entity, entry );
+	}
+
+	/**
+	 * The current state of the entity, obtained ahead of the event, along
+	 * with the result of the dirty check against its loaded state, or
+	 * {@code null} if there is no such result.
+	 */
+	static ParallelDirtyCheck.Result getDirtyCheckResult(FlushEntityEvent event) {
+		return event instanceof PrecomputedFlushEntityEvent precomputed
+				? precomputed.dirtyCheckResult
+				: null;
+	}
+
+	void setDirtyCheckResult(ParallelDirtyCheck.Result dirtyCheckResult) {
+		this.dirtyCheckResult = dirtyCheckResult;
+	}
+
+	@Override
+	public void resetAndReuseEventInstance(Object entity, EntityEntry entry) {
+		super.resetAndReuseEventInstance( entity, entry );
+		dirtyCheckResult = null;
+	}
+}
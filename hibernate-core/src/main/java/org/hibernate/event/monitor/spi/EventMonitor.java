@@ -4,6 +4,8 @@
  */
 package org.hibernate.event.monitor.spi;
 
+import java.util.Collection;
+
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
 import org.hibernate.cache.spi.Region;
@@ -13,6 +15,7 @@
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.service.JavaServiceLoadable;
 
 /**
@@ -201,6 +204,137 @@ void completePrePartialFlush(
 
 	void completeCollectionRemoveEvent(DiagnosticEvent event, Object id, String role, boolean success, SharedSessionContractImplementor session);
 
+	/**
+	 * @since 7.4
+	 */
+	default DiagnosticEvent beginHqlInterpretationEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete the event representing the interpretation of a HQL or JPQL query.
+	 *
+	 * @param statement The SQM tree produced, or {@code null} if the query could not be interpreted
+	 *
+	 * @since 7.4
+	 */
+	default void completeHqlInterpretationEvent(
+			DiagnosticEvent hqlInterpretationEvent,
+			SharedSessionContractImplementor session,
+			String hql,
+			SqmStatement<?> statement) {
+	}
+
+	/**
+	 * @since 7.4
+	 */
+	default DiagnosticEvent beginQueryPlanCompilationEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete the event representing the translation of a SQM tree to SQL.
+	 *
+	 * @param sql The SQL produced, or {@code null} if the query could not be translated
+	 *
+	 * @since 7.4
+	 */
+	default void completeQueryPlanCompilationEvent(
+			DiagnosticEvent queryPlanCompilationEvent,
+			SharedSessionContractImplementor session,
+			String hql,
+			SqmStatement<?> statement,
+			String sql) {
+	}
+
+	/**
+	 * @since 7.4
+	 */
+	default DiagnosticEvent beginRowProcessingEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete the event representing the processing of the rows of a JDBC result set.
+	 *
+	 * @param rowCount The number of rows processed
+	 * @param results The entity names, collection roles, or paths of the results read from each row
+	 *
+	 * @since 7.4
+	 */
+	default void completeRowProcessingEvent(
+			DiagnosticEvent rowProcessingEvent,
+			SharedSessionContractImplementor session,
+			long rowCount,
+			String results) {
+	}
+
+	/**
+	 * @since 7.4
+	 */
+	default DiagnosticEvent beginLazyAttributeFetchEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete the event representing the fetching of a lazy attribute of an enhanced entity.
+	 *
+	 * @since 7.4
+	 */
+	default void completeLazyAttributeFetchEvent(
+			DiagnosticEvent lazyAttributeFetchEvent,
+			SharedSessionContractImplementor session,
+			String entityName,
+			String attributeName,
+			Object id,
+			boolean success) {
+	}
+
+	/**
+	 * @since 7.4
+	 */
+	default DiagnosticEvent beginProxyInitializationEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete the event representing the initialization of a proxy.
+	 *
+	 * @since 7.4
+	 */
+	default void completeProxyInitializationEvent(
+			DiagnosticEvent proxyInitializationEvent,
+			SharedSessionContractImplementor session,
+			String entityName,
+			Object id,
+			boolean success) {
+	}
+
+	/**
+	 * @since 7.4
+	 */
+	default DiagnosticEvent beginQueryCacheGetEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete the event representing a lookup of the results of a query in the query cache.
+	 *
+	 * @param querySpaces The tables affecting the results of the query
+	 * @param hit Whether usable cached results were found
+	 * @param stale Whether cached results were found, but were stale
+	 *
+	 * @since 7.4
+	 */
+	default void completeQueryCacheGetEvent(
+			DiagnosticEvent queryCacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			Collection<String> querySpaces,
+			boolean hit,
+			boolean stale) {
+	}
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
@@ -112,11 +112,16 @@
 import java.io.Serial;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 
 import static java.lang.Boolean.TRUE;
@@ -191,6 +196,16 @@ abstract class AbstractSharedSessionContract implements SharedSessionContractImp
 	private transient ExceptionConverter exceptionConverter;
 	private transient SessionAssociationMarkers sessionAssociationMarkers;
 
+	// the completion of the asynchronous work most recently requested
+	private transient volatile CompletableFuture<?> lastAsyncWork;
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<AbstractSharedSessionContract, CompletableFuture> LAST_ASYNC_WORK =
+			AtomicReferenceFieldUpdater.newUpdater( AbstractSharedSessionContract.class, CompletableFuture.class,
+					"lastAsyncWork" );
+
+	// the number of executions of each SQL query, when SQL profiling is enabled
+	private transient Map<String, Integer> sqlExecutionCounts;
+
 	AbstractSharedSessionContract(SessionFactoryImpl factory, SessionCreationOptions options) {
 		this.factory = factory;
 
@@ -590,6 +605,40 @@ public void checkOpen(boolean markForRollbackIfClosed) {
 		}
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		checkOpen();
+		if ( factory.transactionCoordinatorBuilder.isJta() ) {
+			pulseTransactionCoordinator();
+			if ( transactionCoordinator.isJoined() ) {
+				// the JTA transaction is associated with the calling thread
+				throw new IllegalStateException( "Asynchronous operations may not be used within a JTA transaction" );
+			}
+		}
+		final var executor = getSessionFactoryOptions().getAsyncExecutor();
+		final var start = new CompletableFuture<Void>();
+		final CompletableFuture<T> result = start.thenApplyAsync( ignored -> work.get(), executor );
+		// enqueue the work atomically, so that concurrent requests
+		// never both run after the same previous work
+		final CompletableFuture<?> previous = LAST_ASYNC_WORK.getAndSet( this, result );
+		if ( previous == null ) {
+			start.complete( null );
+		}
+		else {
+			// wait for the previous work, whether it succeeded or not
+			previous.whenComplete( (value, failure) -> start.complete( null ) );
+		}
+		return result;
+	}
+
+	@Override
+	public int countSqlExecution(String sql) {
+		if ( sqlExecutionCounts == null ) {
+			sqlExecutionCounts = new HashMap<>();
+		}
+		return sqlExecutionCounts.merge( sql, 1, Integer::sum );
+	}
+
 	private void checksBeforeQueryCreation() {
 		checkOpen();
 		checkTransactionSynchStatus();
@@ -995,7 +1044,21 @@ private <R> SelectionQuery<R> createSelectionQuery(String hql, Class<R> resultTy
 	}
 
 	protected <R> HqlInterpretation<R> interpretHql(String hql, Class<R> resultType) {
-		return getFactory().getQueryEngine().interpretHql( hql, resultType );
+		final var eventMonitor = getEventMonitor();
+		final var interpretationEvent = eventMonitor.beginHqlInterpretationEvent();
+		HqlInterpretation<R> interpretation = null;
+		try {
+			interpretation = getFactory().getQueryEngine().interpretHql( hql, resultType );
+			return interpretation;
+		}
+		finally {
+			eventMonitor.completeHqlInterpretationEvent(
+					interpretationEvent,
+					this,
+					hql,
+					interpretation == null ? null : interpretation.getSqmStatement()
+			);
+		}
 	}
 
 	protected static void checkSelectionQuery(String hql, HqlInterpretation<?> hqlInterpretation) {
@@ -83,6 +83,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.Integer.parseInt;
@@ -998,12 +999,21 @@ public Object immediateLoad(String entityName, Object id) {
 			final var persister = requireEntityPersister( entityName );
 			SESSION_LOGGER.initializingProxy( infoString( persister, id, getFactory() ) );
 		}
-		final var event = makeLoadEvent( entityName, id, getReadOnlyFromLoadQueryInfluencers(), true );
-		fireLoadNoChecks( event, IMMEDIATE_LOAD );
-		final Object result = event.getResult();
-		releaseLoadEvent( event );
-		final var lazyInitializer = extractLazyInitializer( result );
-		return lazyInitializer != null ? lazyInitializer.getImplementation() : result;
+		final var eventMonitor = getEventMonitor();
+		final var initializationEvent = eventMonitor.beginProxyInitializationEvent();
+		boolean success = false;
+		try {
+			final var event = makeLoadEvent( entityName, id, getReadOnlyFromLoadQueryInfluencers(), true );
+			fireLoadNoChecks( event, IMMEDIATE_LOAD );
+			final Object result = event.getResult();
+			releaseLoadEvent( event );
+			final var lazyInitializer = extractLazyInitializer( result );
+			success = true;
+			return lazyInitializer != null ? lazyInitializer.getImplementation() : result;
+		}
+		finally {
+			eventMonitor.completeProxyInitializationEvent( initializationEvent, this, entityName, id, success );
+		}
 	}
 
 	@Override
@@ -1051,8 +1061,17 @@ protected static LoadType internalLoadType(boolean eager, boolean nullable) {
 	@Override
 	public Object loadFromSecondLevelCache(
 			EntityPersister persister, EntityKey entityKey, Object instanceToLoad, LockMode lockMode) {
-		final Object entity =
-				CacheLoadHelper.loadFromSecondLevelCache( this, instanceToLoad, lockMode, persister, entityKey );
+		return afterLoadFromSecondLevelCache( persister, entityKey,
+				CacheLoadHelper.loadFromSecondLevelCache( this, instanceToLoad, lockMode, persister, entityKey ) );
+	}
+
+	@Override
+	public Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry) {
+		return afterLoadFromSecondLevelCache( persister, entityKey,
+				CacheLoadHelper.loadFromCacheEntry( this, persister, cacheEntry, entityKey ) );
+	}
+
+	private Object afterLoadFromSecondLevelCache(EntityPersister persister, EntityKey entityKey, Object entity) {
 		if ( entity != null ) {
 			final Object id = entityKey.getIdentifierValue();
 			final var postLoadEvent = makePostLoadEvent( persister, id, entity );
@@ -2126,6 +2145,11 @@ public <T> T find(Class<T> entityClass, Object primaryKey) {
 		return find( entityClass, primaryKey, (LockOptions) null, null );
 	}
 
+	@Override
+	public <T> CompletionStage<T> findAsync(Class<T> entityClass, Object primaryKey, FindOption... options) {
+		return executeAsync( () -> find( entityClass, primaryKey, options ) );
+	}
+
 	@Override
 	public <T> T find(Class<T> entityClass, Object primaryKey, Map<String, Object> properties) {
 		return find( entityClass, primaryKey, (LockOptions) null, properties );
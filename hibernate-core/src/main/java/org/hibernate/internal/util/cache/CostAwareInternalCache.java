@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * An {@link InternalCache} which evicts the entries which were cheapest to produce,
+ * according to the <em>GreedyDual</em> algorithm, instead of simply the least
+ * recently used entries.
+ * <p>
+ * Each entry has a priority, which is set to the current <em>inflation</em> of the
+ * cache plus the cost of the entry whenever the entry is stored or read. When the
+ * cache is full, the entry with the lowest priority is evicted, and the inflation is
+ * raised to the priority of the evicted entry. So an expensive entry survives longer
+ * than a cheap one, but an expensive entry which is no longer used eventually ages
+ * out as the inflation grows.
+ * <p>
+ * The entries are distributed over lock-striped segments, one per available core
+ * (up to a limit), each holding its own share of the maximum size. Reads never lock.
+ * <p>
+ * Since reads update the priority of an entry without locking, the entries are not
+ * kept ordered by priority. Instead, like the approximated LRU of Redis, the victim
+ * is the entry with the lowest priority among a random sample of the entries of the
+ * segment, or among all its entries if the segment is small. So the cost of an
+ * eviction does not grow with the size of the cache.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ *
+ * @since 7.4
+ */
+public final class CostAwareInternalCache<K, V> implements InternalCache<K, V> {
+	private static final int MAX_SEGMENTS = 64;
+	private static final int MIN_SEGMENT_SIZE = 16;
+	private static final int EVICTION_SAMPLE_SIZE = 16;
+
+	private final Segment<K, V>[] segments;
+	private final int segmentMask;
+	private final ToLongFunction<? super V> additionalCost;
+	private final LongConsumer evictionListener;
+
+	/**
+	 * @param maxSize The maximum number of entries
+	 * @param additionalCost The cost of a value, in nanoseconds, in addition to the cost it was
+	 *                       {@linkplain #put(Object, Object, long) stored with}, for example, the
+	 *                       cost of some lazy initialization of the value
+	 * @param evictionListener Called with the cost, in nanoseconds, of each evicted entry
+	 */
+	public CostAwareInternalCache(
+			int maxSize,
+			ToLongFunction<? super V> additionalCost,
+			LongConsumer evictionListener) {
+		this.additionalCost = additionalCost;
+		this.evictionListener = evictionListener;
+		final int segmentCount = segmentCount( maxSize );
+		final int segmentSize = Math.max( 1, ( maxSize + segmentCount - 1 ) / segmentCount );
+		@SuppressWarnings("unchecked")
+		final Segment<K, V>[] segments = new Segment[segmentCount];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = new Segment<>( segmentSize );
+		}
+		this.segments = segments;
+		segmentMask = segmentCount - 1;
+	}
+
+	private static int segmentCount(int maxSize) {
+		final int cores = Runtime.getRuntime().availableProcessors();
+		final int bySize = Math.max( 1, maxSize / MIN_SEGMENT_SIZE );
+		// a power of two, for masking
+		return Integer.highestOneBit( Math.min( MAX_SEGMENTS, Math.min( cores, bySize ) ) );
+	}
+
+	private Segment<K, V> segmentFor(Object key) {
+		final int hash = key.hashCode();
+		return segments[( hash ^ ( hash >>> 16 ) ) & segmentMask];
+	}
+
+	private long cost(Entry<K, V> entry) {
+		return entry.cost + additionalCost.applyAsLong( entry.value );
+	}
+
+	@Override
+	public int heldElementsEstimate() {
+		int count = 0;
+		for ( var segment : segments ) {
+			count += segment.entries.size();
+		}
+		return count;
+	}
+
+	@Override
+	public V get(K key) {
+		final var segment = segmentFor( key );
+		final var entry = segment.entries.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		else {
+			entry.priority = segment.inflation + cost( entry );
+			return entry.value;
+		}
+	}
+
+	@Override
+	public void put(K key, V value) {
+		put( key, value, 0 );
+	}
+
+	@Override
+	public void put(K key, V value, long cost) {
+		final var segment = segmentFor( key );
+		final var entry = new Entry<>( key, value, cost );
+		segment.lock();
+		try {
+			entry.priority = segment.inflation + cost( entry );
+			segment.add( entry );
+			evictIfNecessary( segment, entry );
+		}
+		finally {
+			segment.unlock();
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final V existing = get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		// don't hold the lock while computing the value
+		final long startTime = System.nanoTime();
+		final V value = mappingFunction.apply( key );
+		final long cost = System.nanoTime() - startTime;
+		if ( value == null ) {
+			return null;
+		}
+		final var segment = segmentFor( key );
+		segment.lock();
+		try {
+			final var concurrent = segment.entries.get( key );
+			if ( concurrent != null ) {
+				return concurrent.value;
+			}
+			final var entry = new Entry<>( key, value, cost );
+			entry.priority = segment.inflation + cost( entry );
+			segment.add( entry );
+			evictIfNecessary( segment, entry );
+			return value;
+		}
+		finally {
+			segment.unlock();
+		}
+	}
+
+	/**
+	 * Must be called while holding the lock of the segment.
+	 *
+	 * @param added The entry which was just added, and must not be evicted
+	 */
+	private void evictIfNecessary(Segment<K, V> segment, Entry<K, V> added) {
+		while ( segment.size > segment.maxSize ) {
+			final var victim = selectVictim( segment, added );
+			if ( victim == null ) {
+				return;
+			}
+			segment.remove( victim );
+			segment.inflation = Math.max( segment.inflation, victim.priority );
+			evictionListener.accept( cost( victim ) );
+		}
+	}
+
+	/**
+	 * The entry with the lowest priority among a sample of the entries
+	 * of the segment, other than the given entry.
+	 */
+	private static <K, V> Entry<K, V> selectVictim(Segment<K, V> segment, Entry<K, V> added) {
+		final var slots = segment.slots;
+		final int size = segment.size;
+		Entry<K, V> victim = null;
+		if ( size <= EVICTION_SAMPLE_SIZE ) {
+			for ( int slot = 0; slot < size; slot++ ) {
+				victim = lowerPriority( victim, slots[slot], added );
+			}
+		}
+		else {
+			final var random = ThreadLocalRandom.current();
+			for ( int i = 0; i < EVICTION_SAMPLE_SIZE; i++ ) {
+				victim = lowerPriority( victim, slots[random.nextInt( size )], added );
+			}
+		}
+		return victim;
+	}
+
+	private static <K, V> Entry<K, V> lowerPriority(Entry<K, V> victim, Entry<K, V> candidate, Entry<K, V> added) {
+		return candidate != added && ( victim == null || candidate.priority < victim.priority )
+				? candidate
+				: victim;
+	}
+
+	@Override
+	public void clear() {
+		for ( var segment : segments ) {
+			segment.lock();
+			try {
+				segment.clear();
+			}
+			finally {
+				segment.unlock();
+			}
+		}
+	}
+
+	private static final class Entry<K, V> {
+		private final K key;
+		private final V value;
+		private final long cost;
+		private volatile long priority;
+		// the position in the slots of the segment,
+		// only accessed while holding the lock
+		private int slot;
+
+		private Entry(K key, V value, long cost) {
+			this.key = key;
+			this.value = value;
+			this.cost = cost;
+		}
+	}
+
+	/*
+	 * Like the segments of ConcurrentHashMap, extends ReentrantLock
+	 * just to simplify locking.
+	 */
+	private static final class Segment<K, V> extends ReentrantLock {
+		private final ConcurrentHashMap<K, Entry<K, V>> entries;
+		private final int maxSize;
+		// the entries, densely packed for sampling,
+		// only accessed while holding the lock
+		private final Entry<K, V>[] slots;
+		private int size;
+		// only written while holding the lock
+		private volatile long inflation;
+
+		@SuppressWarnings("unchecked")
+		private Segment(int maxSize) {
+			this.maxSize = maxSize;
+			this.entries = new ConcurrentHashMap<>( Math.min( maxSize, 1024 ) );
+			// room for the entry added before an eviction
+			this.slots = new Entry[maxSize + 1];
+		}
+
+		private void add(Entry<K, V> entry) {
+			final var replaced = entries.put( entry.key, entry );
+			if ( replaced == null ) {
+				entry.slot = size++;
+			}
+			else {
+				entry.slot = replaced.slot;
+			}
+			slots[entry.slot] = entry;
+		}
+
+		private void remove(Entry<K, V> entry) {
+			entries.remove( entry.key, entry );
+			final int last = --size;
+			final var moved = slots[last];
+			slots[entry.slot] = moved;
+			moved.slot = entry.slot;
+			slots[last] = null;
+		}
+
+		private void clear() {
+			entries.clear();
+			Arrays.fill( slots, null );
+			size = 0;
+			inflation = 0;
+		}
+	}
+}
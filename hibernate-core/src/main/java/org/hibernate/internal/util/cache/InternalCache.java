@@ -36,6 +36,19 @@
 	 */
 	void put(K key, V value);
 
+	/**
+	 * Stores a key/value pair into the cache, along with the cost of producing the value,
+	 * which implementations may take into account when choosing which entries to evict.
+	 * By default, the cost is ignored.
+	 *
+	 * @param cost The cost of producing the value, in nanoseconds
+	 *
+	 * @since 7.4
+	 */
+	default void put(K key, V value, long cost) {
+		put( key, value );
+	}
+
 	/**
 	 * Attempts to clear the content of the cache. Note that in some cache implementations this
 	 * is not a trivial operation and should not be used on a performance critical path.
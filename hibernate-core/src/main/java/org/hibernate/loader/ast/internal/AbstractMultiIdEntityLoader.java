@@ -24,11 +24,13 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hibernate.event.spi.LoadEventListener.GET;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.loader.internal.CacheLoadHelper.getAllFromSecondLevelCache;
 import static org.hibernate.loader.internal.CacheLoadHelper.loadFromSessionCache;
 
 /**
@@ -126,22 +128,24 @@ private List<T> orderedMultiLoad(
 
 		final List<Object> results = arrayList( ids.length );
 
-		final List<Object> idsInBatch = new ArrayList<>();
+		final List<List<Object>> chunks = new ArrayList<>();
+		List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
 		final var lockOptions = lockOptions( loadOptions );
+		final var cachedEntries = prefetchFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = coerce( idType, ids[i] );
 			final var entityKey = new EntityKey( id, persister );
-			if ( !loadFromEnabledCaches( loadOptions, session, lockOptions, entityKey, results, i ) ) {
+			if ( !loadFromEnabledCaches( loadOptions, session, lockOptions, entityKey, cachedEntries, results, i ) ) {
 				// if we did not hit any of the continues above,
 				// then we need to batch load the entity state.
 				idsInBatch.add( id );
 				if ( idsInBatch.size() >= maxBatchSize ) {
-					// we've hit the allotted max-batch-size, perform an "intermediate load"
-					loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
-					idsInBatch.clear();
+					// we've hit the allotted max-batch-size, start a new chunk
+					chunks.add( idsInBatch );
+					idsInBatch = new ArrayList<>();
 				}
 				// Save the EntityKey instance for use later
 				results.add( i, entityKey );
@@ -151,8 +155,11 @@ private List<T> orderedMultiLoad(
 
 		if ( !idsInBatch.isEmpty() ) {
 			// we still have ids to load from the processing above since
-			// the last max-batch-size trigger, perform a load for them
-			loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
+			// the last max-batch-size trigger
+			chunks.add( idsInBatch );
+		}
+		if ( !chunks.isEmpty() ) {
+			loadEntitiesByIdInChunks( chunks, lockOptions, loadOptions, session );
 		}
 
 		// for each result where we set the EntityKey earlier, replace them
@@ -204,22 +211,39 @@ protected abstract void loadEntitiesById(
 			MultiIdLoadOptions loadOptions,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Load the entities with the given chunks of ids, each chunk
+	 * containing at most {@linkplain #maxBatchSize the maximum
+	 * batch size} ids.
+	 */
+	protected void loadEntitiesByIdInChunks(
+			List<List<Object>> chunks,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session) {
+		for ( var idsInBatch : chunks ) {
+			loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
+		}
+	}
+
 	private boolean loadFromEnabledCaches(
 			MultiIdLoadOptions loadOptions,
 			SharedSessionContractImplementor session,
 			LockOptions lockOptions,
 			EntityKey entityKey,
+			Map<EntityKey, Object> cachedEntries,
 			List<Object> result,
 			int i) {
 		return ( loadOptions.getSessionCheckMode() == SessionCheckMode.ENABLED
 				|| loadOptions.isSecondLevelCacheCheckingEnabled() )
-			&& isLoadFromCaches( loadOptions, entityKey, lockOptions, result, i, session );
+			&& isLoadFromCaches( loadOptions, entityKey, lockOptions, cachedEntries, result, i, session );
 	}
 
 	private boolean isLoadFromCaches(
 			MultiIdLoadOptions loadOptions,
 			EntityKey entityKey,
 			LockOptions lockOptions,
+			Map<EntityKey, Object> cachedEntries,
 			List<Object> results, int i,
 			SharedSessionContractImplementor session) {
 		if ( loadOptions.getSessionCheckMode() == SessionCheckMode.ENABLED ) {
@@ -246,7 +270,7 @@ private boolean isLoadFromCaches(
 		if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 			// look for it in the second-level cache
 			final Object entity =
-					loadFromSecondLevelCache( entityKey, lockOptions, session );
+					loadFromSecondLevelCache( entityKey, lockOptions, cachedEntries, session );
 			if ( entity != null ) {
 				results.add( i, entity );
 				return true;
@@ -343,6 +367,7 @@ private <R> List<Object> unresolvedIds(
 		final var loadable = getLoadable();
 		final var persister = loadable.getEntityPersister();
 		final var idType = loadable.getIdentifierMapping().getJavaType();
+		final var cachedEntries = prefetchFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 		List<Object> unresolvedIds = null;
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = coerce( idType, ids[i] );
@@ -353,6 +378,7 @@ private <R> List<Object> unresolvedIds(
 							resolutionConsumer,
 							id,
 							new EntityKey( id, persister ),
+							cachedEntries,
 							unresolvedIds,
 							i,
 							session
@@ -374,6 +400,7 @@ private <R> List<Object> loadFromCaches(
 			ResolutionConsumer<R> resolutionConsumer,
 			Object id,
 			EntityKey entityKey,
+			Map<EntityKey, Object> cachedEntries,
 			List<Object> unresolvedIds, int i,
 			SharedSessionContractImplementor session) {
 
@@ -399,7 +426,7 @@ private <R> List<Object> loadFromCaches(
 		final Object cachedEntity =
 				sessionEntity == null
 					&& loadOptions.isSecondLevelCacheCheckingEnabled()
-						? loadFromSecondLevelCache( entityKey, lockOptions, session )
+						? loadFromSecondLevelCache( entityKey, lockOptions, cachedEntries, session )
 						: sessionEntity;
 
 		if ( cachedEntity != null ) {
@@ -418,8 +445,55 @@ private <R> List<Object> loadFromCaches(
 	private Object loadFromSecondLevelCache(
 			EntityKey entityKey,
 			LockOptions lockOptions,
+			Map<EntityKey, Object> cachedEntries,
 			SharedSessionContractImplementor session) {
-		return session.loadFromSecondLevelCache( getLoadable().getEntityPersister(),
-				entityKey, null, lockOptions.getLockMode() );
+		final var persister = getLoadable().getEntityPersister();
+		if ( cachedEntries != null && cachedEntries.containsKey( entityKey ) ) {
+			// we already looked for it in the second-level cache
+			final Object cacheEntry = cachedEntries.get( entityKey );
+			return cacheEntry == null ? null
+					: session.loadFromSecondLevelCacheEntry( persister, entityKey, cacheEntry );
+		}
+		else {
+			return session.loadFromSecondLevelCache( persister, entityKey, null, lockOptions.getLockMode() );
+		}
+	}
+
+	/**
+	 * Look up all the given ids which are not already associated with the
+	 * session in the second-level cache, in a single interaction with the
+	 * cache, instead of one interaction per id.
+	 *
+	 * @return the cache entries by entity key, or {@code null} if the
+	 *         second-level cache is not to be consulted
+	 */
+	private Map<EntityKey, Object> prefetchFromSecondLevelCache(
+			Object[] ids,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final var persister = getLoadable().getEntityPersister();
+		if ( ids.length > 1
+				&& loadOptions.isSecondLevelCacheCheckingEnabled()
+				&& persister.canReadFromCache()
+				&& session.getCacheMode().isGetEnabled()
+				&& lockOptions.getLockMode().lessThan( LockMode.READ ) ) {
+			final var idType = getLoadable().getIdentifierMapping().getJavaType();
+			final var persistenceContext = session.getPersistenceContextInternal();
+			final boolean checkSession = loadOptions.getSessionCheckMode() == SessionCheckMode.ENABLED;
+			final List<EntityKey> entityKeys = arrayList( ids.length );
+			for ( Object id : ids ) {
+				if ( id != null ) {
+					final var entityKey = new EntityKey( coerce( idType, id ), persister );
+					if ( !checkSession || persistenceContext.getEntity( entityKey ) == null ) {
+						entityKeys.add( entityKey );
+					}
+				}
+			}
+			return entityKeys.size() > 1 ? getAllFromSecondLevelCache( session, persister, entityKeys ) : null;
+		}
+		else {
+			return null;
+		}
 	}
 }
@@ -5,6 +5,7 @@
 package org.hibernate.loader.ast.internal;
 
 
+import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.OrderingMode;
 import org.hibernate.RemovalsMode;
@@ -19,10 +20,12 @@
 import java.util.function.Consumer;
 
 import static java.util.Collections.emptyList;
+import static org.hibernate.engine.spi.NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
 import static org.hibernate.loader.ast.internal.LoaderHelper.upgradeLock;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.loader.internal.CacheLoadHelper.getAllFromSecondLevelCache;
 
 /**
  * @author Jan Schatteman
@@ -131,9 +134,53 @@ private <K> List<E> sortResults(
 
 	private Object entityForNaturalId(PersistenceContext context, Object naturalId) {
 		final var descriptor = getEntityDescriptor();
-		final Object id = context.getNaturalIdResolutions().findCachedIdByNaturalId( naturalId, descriptor );
+		return entityForId( context, context.getNaturalIdResolutions().findCachedIdByNaturalId( naturalId, descriptor ) );
+	}
+
+	private Object entityForId(PersistenceContext context, Object id) {
 		// id can be null if a non-existent natural id is requested, or a mutable natural id was changed and then deleted
-		return id == null ? null : context.getEntity( new EntityKey( id, descriptor.getEntityPersister() ) );
+		return id == null || id == INVALID_NATURAL_ID_REFERENCE
+				? null
+				: context.getEntity( new EntityKey( id, getEntityDescriptor().getEntityPersister() ) );
+	}
+
+	/**
+	 * Add the entities whose natural ids were resolved to identifiers, but
+	 * which are not yet in the persistence context, to the persistence
+	 * context from the second-level cache, looking them up all at once.
+	 * Only done for immutable natural ids, since a cached resolution of a
+	 * mutable natural id is not necessarily consistent with the cached
+	 * state of the entity.
+	 */
+	private void loadFromSecondLevelCache(
+			Object[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final var descriptor = getEntityDescriptor();
+		final var persister = descriptor.getEntityPersister();
+		if ( !descriptor.getNaturalIdMapping().isMutable()
+				&& persister.canReadFromCache()
+				&& session.getCacheMode().isGetEnabled()
+				&& lockOptions.getLockMode().lessThan( LockMode.READ ) ) {
+			final var context = session.getPersistenceContextInternal();
+			final List<EntityKey> entityKeys = arrayList( ids.length );
+			for ( Object id : ids ) {
+				if ( id != null && id != INVALID_NATURAL_ID_REFERENCE ) {
+					final var entityKey = new EntityKey( id, persister );
+					if ( context.getEntity( entityKey ) == null ) {
+						entityKeys.add( entityKey );
+					}
+				}
+			}
+			if ( !entityKeys.isEmpty() ) {
+				getAllFromSecondLevelCache( session, persister, entityKeys )
+						.forEach( (entityKey, cacheEntry) -> {
+							if ( cacheEntry != null ) {
+								session.loadFromSecondLevelCacheEntry( persister, entityKey, cacheEntry );
+							}
+						} );
+			}
+		}
 	}
 
 	private <K> Object[] checkPersistenceContextForCachedResults(
@@ -149,8 +196,15 @@ private <K> Object[] checkPersistenceContextForCachedResults(
 		}
 		final List<K> unresolvedIds = arrayList( naturalIds.length );
 		final var context = session.getPersistenceContextInternal();
-		for ( K naturalId : naturalIds ) {
-			final Object entity = entityForNaturalId( context, naturalId );
+		// resolve all the natural ids at once, and then
+		// fetch all the entities at once, if possible
+		final Object[] ids =
+				context.getNaturalIdResolutions()
+						.findCachedIdsByNaturalIds( naturalIds, getEntityDescriptor() );
+		loadFromSecondLevelCache( ids, lockOptions, session );
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			final K naturalId = naturalIds[i];
+			final Object entity = entityForId( context, ids[i] );
 			if ( entity != null ) {
 				// Entity is already in the persistence context
 				final var entry = context.getEntry( entity );
@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.spi.SqlAliasBaseManager;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.results.internal.RowTransformerArrayImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+import static org.hibernate.sql.exec.spi.JdbcParameterBindings.NO_BINDINGS;
+
+/**
+ * A load plan for loading the attributes of a lazy fetch group of several
+ * entities of the same type at once, using a SQL IN predicate restriction
+ * on the identifier - e.g., {@code ... where id in (?,?,...)}.
+ * <p>
+ * Each row of the results holds the identifier of an entity, followed by
+ * the values of the attributes of the fetch group. Any unused parameter
+ * slots for a particular execution are set to {@code null}.
+ *
+ * @see org.hibernate.cfg.FetchSettings#DEFAULT_BATCH_FETCH_SIZE
+ * @see org.hibernate.annotations.BatchSize
+ *
+ * @since 7.4
+ */
+public class LazyFetchGroupBatchLoadPlan {
+	private final EntityMappingType entityMappingType;
+	private final int domainBatchSize;
+	private final int sqlBatchSize;
+	private final JdbcParametersList jdbcParameters;
+	private final JdbcSelect jdbcSelect;
+
+	/**
+	 * @param partsToSelect The attributes of the fetch group
+	 * @param domainBatchSize The maximum number of entities we will initialize for each load
+	 */
+	public LazyFetchGroupBatchLoadPlan(
+			EntityMappingType entityMappingType,
+			List<ModelPart> partsToSelect,
+			int domainBatchSize,
+			SessionFactoryImplementor sessionFactory) {
+		this.entityMappingType = entityMappingType;
+		this.domainBatchSize = domainBatchSize;
+
+		final var identifierMapping = entityMappingType.getIdentifierMapping();
+		final int idColumnCount = identifierMapping.getJdbcTypeCount();
+		sqlBatchSize =
+				sessionFactory.getJdbcServices().getDialect().getBatchLoadSizingStrategy()
+						.determineOptimalBatchLoadSize( idColumnCount, domainBatchSize, false );
+
+		// select the identifier first, so that we can match each row to its entity
+		final List<ModelPart> parts = new ArrayList<>( partsToSelect.size() + 1 );
+		parts.add( identifierMapping );
+		parts.addAll( partsToSelect );
+
+		final int expectedNumberOfParameters = idColumnCount * sqlBatchSize;
+		final var builder = JdbcParametersList.newBuilder( expectedNumberOfParameters );
+		final var sqlAst = LoaderSelectBuilder.createSelect(
+				entityMappingType,
+				parts,
+				identifierMapping,
+				null,
+				sqlBatchSize,
+				new LoadQueryInfluencers( sessionFactory ),
+				new LockOptions(),
+				builder::add,
+				new SqlAliasBaseManager(),
+				sessionFactory
+		);
+		jdbcParameters = builder.build();
+		assert jdbcParameters.size() == expectedNumberOfParameters;
+
+		jdbcSelect =
+				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildSelectTranslator( sessionFactory, sqlAst )
+						.translate( NO_BINDINGS, QueryOptions.NONE );
+	}
+
+	public int getDomainBatchSize() {
+		return domainBatchSize;
+	}
+
+	public int getSqlBatchSize() {
+		return sqlBatchSize;
+	}
+
+	/**
+	 * Load the attributes of the fetch group for the entities with the given
+	 * identifiers, executing one query for each chunk of {@link #getSqlBatchSize()}
+	 * identifiers.
+	 *
+	 * @return a row for each entity found, holding the identifier followed by
+	 *         the values of the attributes of the fetch group
+	 */
+	public List<Object[]> load(Object[] ids, SharedSessionContractImplementor session) {
+		final var identifierMapping = entityMappingType.getIdentifierMapping();
+		final List<Object[]> rows = new ArrayList<>( ids.length );
+		for ( int start = 0; start < ids.length; start += sqlBatchSize ) {
+			final var jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int offset = 0;
+			for ( int i = 0; i < sqlBatchSize; i++ ) {
+				final int position = start + i;
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						position < ids.length ? ids[position] : null,
+						offset,
+						identifierMapping,
+						jdbcParameters,
+						session
+				);
+			}
+			assert offset == jdbcParameters.size();
+			rows.addAll( session.getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new BaseExecutionContext( session ),
+					RowTransformerArrayImpl.instance(),
+					null,
+					ListResultsConsumer.UniqueSemantic.NONE,
+					Math.min( sqlBatchSize, ids.length - start )
+			) );
+		}
+		return rows;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"LazyFetchGroupBatchLoadPlan(%s [%s (%s)])",
+				entityMappingType.getEntityName(),
+				domainBatchSize,
+				sqlBatchSize
+		);
+	}
+}
@@ -4,7 +4,11 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -18,8 +22,10 @@
 import org.hibernate.sql.ast.spi.SqlAliasBaseManager;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
@@ -28,6 +34,7 @@
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hibernate.engine.spi.SubselectFetch.createRegistrationHandler;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 import static org.hibernate.loader.ast.internal.LoaderSelectBuilder.createSelect;
 
 /**
@@ -67,6 +74,15 @@ protected int maxBatchSize(Object[] ids, MultiIdLoadOptions loadOptions) {
 								isInClauseParameterPaddingEnabled() );
 	}
 
+	@Override
+	protected void loadEntitiesByIdInChunks(
+			List<List<Object>> chunks,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session) {
+		loadChunks( chunks, lockOptions, loadOptions, session, results -> {} );
+	}
+
 	@Override
 	protected void loadEntitiesById(
 			List<Object> idsInBatch,
@@ -99,7 +115,25 @@ private List<T> performRegularMultiLoad(
 //			MULTI_KEY_LOAD_LOGGER.tracef( "#loadEntitiesById(`%s`, `%s`, ..)",
 //					getLoadable().getEntityName(), numberOfIdsInBatch );
 //		}
+		final var chunkSelect =
+				chunkSelect( idsInBatch, lockOptions, loadOptions, session, numberOfIdsInBatch );
+		return getJdbcSelectExecutor().list(
+				chunkSelect.jdbcSelect(),
+				chunkSelect.jdbcParameterBindings(),
+				chunkSelect.executionContext(),
+				RowTransformerStandardImpl.instance(),
+				null,
+				ListResultsConsumer.UniqueSemantic.FILTER,
+				numberOfIdsInBatch
+		);
+	}
 
+	private ChunkSelect chunkSelect(
+			List<Object> idsInBatch,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session,
+			int numberOfIdsInBatch) {
 		final var jdbcParametersBuilder =
 				JdbcParametersList.newBuilder( numberOfIdsInBatch * idJdbcTypeCount );
 
@@ -133,7 +167,7 @@ private List<T> performRegularMultiLoad(
 		// we should have used all the JdbcParameter references (created bindings for all)
 		assert offset == jdbcParameters.size();
 
-		return getJdbcSelectExecutor().list(
+		return new ChunkSelect(
 				getSqlAstTranslatorFactory().buildSelectTranslator( getSessionFactory(), sqlAst )
 						.translate( jdbcParameterBindings, new QueryOptionsAdapter() {
 							@Override
@@ -149,13 +183,143 @@ public LockOptions getLockOptions() {
 								&& TRUE.equals( loadOptions.getReadOnly( statefulSession ) ),
 						lockOptions
 				),
-				RowTransformerStandardImpl.instance(),
-				null,
-				ListResultsConsumer.UniqueSemantic.FILTER,
-				idsInBatch.size()
+				numberOfIdsInBatch
 		);
 	}
 
+	private record ChunkSelect(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			int numberOfIds) {
+	}
+
+	/**
+	 * The number of chunks to fetch concurrently, or {@code 1} if
+	 * the chunks must be fetched one after the other.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MULTI_LOAD_CONCURRENCY
+	 */
+	private int concurrency(
+			int numberOfChunks,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		return isConcurrencyAllowed( lockOptions, session )
+				? Math.min( numberOfChunks, getSessionFactory().getSessionFactoryOptions().getMultiLoadConcurrency() )
+				: 1;
+	}
+
+	/**
+	 * Chunks fetched concurrently are read using connections which do not
+	 * participate in the transaction of the session. They would not see the
+	 * writes already executed by the transaction, nor share its snapshot of
+	 * the database, and so chunks are only fetched concurrently when the
+	 * session has no transaction in progress. A lock must be obtained by
+	 * the connection of the session.
+	 */
+	private static boolean isConcurrencyAllowed(
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		return !lockOptions.getLockMode().isPessimistic()
+			&& !session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta()
+			&& !session.isTransactionInProgress();
+	}
+
+	/**
+	 * Load the given chunks of ids, fetching several chunks concurrently
+	 * if {@linkplain #concurrency enabled}, and pass the results for each
+	 * chunk to the given consumer, in order.
+	 */
+	private void loadChunks(
+			List<List<Object>> chunks,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session,
+			Consumer<List<T>> resultsConsumer) {
+		final int concurrency = concurrency( chunks.size(), lockOptions, session );
+		if ( concurrency > 1 ) {
+			if ( MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
+				MULTI_KEY_LOAD_LOGGER.fetchingChunksConcurrently( getLoadable().getEntityName(),
+						chunks.size(), concurrency );
+			}
+			try ( var prefetcher = new MultiKeyLoadPrefetcher( session ) ) {
+				// the first chunk is fetched using the connection of the session,
+				// while the selects for the following chunks are executed ahead
+				// of time, each on its own connection
+				final Deque<ChunkSelect> prefetched = new ArrayDeque<>( concurrency );
+				int next = 1;
+				while ( next < concurrency
+						&& prefetch( chunks.get( next ), lockOptions, loadOptions, session, prefetcher, prefetched ) ) {
+					next++;
+				}
+				final var firstChunk = chunks.get( 0 );
+				resultsConsumer.accept( performRegularMultiLoad( firstChunk, lockOptions, loadOptions, session,
+						firstChunk.size() ) );
+				while ( !prefetched.isEmpty() ) {
+					final var chunkSelect = prefetched.remove();
+					final var statementCreator = prefetcher.next();
+					// keep the same number of chunks in flight
+					if ( next < chunks.size()
+							&& prefetch( chunks.get( next ), lockOptions, loadOptions, session, prefetcher, prefetched ) ) {
+						next++;
+					}
+					resultsConsumer.accept( getJdbcSelectExecutor().executeQuery(
+							chunkSelect.jdbcSelect(),
+							chunkSelect.jdbcParameterBindings(),
+							chunkSelect.executionContext(),
+							RowTransformerStandardImpl.instance(),
+							null,
+							chunkSelect.numberOfIds(),
+							statementCreator,
+							ListResultsConsumer.instance( ListResultsConsumer.UniqueSemantic.FILTER )
+					) );
+				}
+				if ( next < chunks.size() ) {
+					// no separate connection was available
+					MULTI_KEY_LOAD_LOGGER.fetchingRemainingChunksSequentially( getLoadable().getEntityName() );
+					for ( ; next < chunks.size(); next++ ) {
+						resultsConsumer.accept( listEntitiesById( chunks.get( next ), lockOptions, loadOptions, session ) );
+					}
+				}
+			}
+		}
+		else {
+			for ( var chunk : chunks ) {
+				resultsConsumer.accept( listEntitiesById( chunk, lockOptions, loadOptions, session ) );
+			}
+		}
+	}
+
+	/**
+	 * Start fetching the given chunk on a separate connection.
+	 *
+	 * @return {@code false} if there was no connection available
+	 */
+	private boolean prefetch(
+			List<Object> idsInBatch,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session,
+			MultiKeyLoadPrefetcher prefetcher,
+			Deque<ChunkSelect> prefetched) {
+		if ( prefetcher.isExhausted() ) {
+			return false;
+		}
+		final var chunkSelect =
+				chunkSelect( idsInBatch, lockOptions, loadOptions, session, idsInBatch.size() );
+		if ( prefetcher.prefetch(
+				chunkSelect.jdbcSelect(),
+				chunkSelect.jdbcParameterBindings(),
+				chunkSelect.executionContext()
+		) ) {
+			prefetched.add( chunkSelect );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	private SubselectFetch.RegistrationHandler fetchableKeysHandler(
 			SharedSessionContractImplementor session,
 			SelectStatement sqlAst,
@@ -181,16 +345,18 @@ protected void loadEntitiesWithUnresolvedIds(
 			List<T> results,
 			SharedSessionContractImplementor session) {
 		final int maxBatchSize = maxBatchSize( unresolvableIds, loadOptions );
+		final List<List<Object>> chunks = new ArrayList<>();
 		int numberOfIdsLeft = unresolvableIds.length;
 		int idPosition = 0;
 		while ( numberOfIdsLeft > 0 ) {
 			final int batchSize =  Math.min( numberOfIdsLeft, maxBatchSize );
 			final Object[] idsInBatch = new Object[batchSize];
 			arraycopy( unresolvableIds, idPosition, idsInBatch, 0, batchSize );
-			results.addAll( listEntitiesById( asList( idsInBatch ), lockOptions, loadOptions, session ) );
+			chunks.add( asList( idsInBatch ) );
 			numberOfIdsLeft = numberOfIdsLeft - batchSize;
 			idPosition += batchSize;
 		}
+		loadChunks( chunks, lockOptions, loadOptions, session, results::addAll );
 	}
 
 	@Override
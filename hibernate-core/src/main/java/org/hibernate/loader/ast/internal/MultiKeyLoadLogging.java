@@ -16,6 +16,7 @@
 
 import java.lang.invoke.MethodHandles;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.TRACE;
 
 /**
@@ -102,4 +103,12 @@ public interface MultiKeyLoadLogging extends BasicLogger {
 	@LogMessage(level = TRACE)
 	@Message(id = 90006124, value = "Finishing collection batch fetch chunk (%s) %s - %s (%s)")
 	void finishingCollectionBatchFetchChunk(String collectionInfoString, int startIndex, int endIndex, int nonNullElementCount);
+
+	@LogMessage(level = TRACE)
+	@Message(id = 90006125, value = "Fetching multi-load (%s) in %s chunks with concurrency %s")
+	void fetchingChunksConcurrently(String entityName, int numberOfChunks, int concurrency);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 90006126, value = "No JDBC connection available for concurrent multi-load (%s), fetching remaining chunks sequentially")
+	void fetchingRemainingChunksSequentially(String entityName);
 }
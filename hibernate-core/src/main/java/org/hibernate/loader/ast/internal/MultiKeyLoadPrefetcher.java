@@ -0,0 +1,362 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor.StatementCreator;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_LOGGER;
+
+/**
+ * Executes the SQL statements which fetch the chunks of a multi-key load
+ * ahead of time, in the background, each on its own JDBC connection, so
+ * that the round trips to the database overlap with each other, and with
+ * the processing of the results of the earlier chunks.
+ * <p>
+ * Only the acquisition of the connection and the execution of the statement
+ * happen in the background. The statement is prepared, and its parameters
+ * bound, by the thread which owns the session. The {@link ResultSet} of each
+ * chunk is handed to the usual result processing, via a {@link StatementCreator},
+ * by that same thread, and so the persistence context is only ever accessed
+ * by the thread which owns it.
+ * <p>
+ * Since the separate connections do not participate in the transaction of the
+ * session, the caller is responsible for using this only when the session has no
+ * transaction in progress. Any work done on a separate connection is rolled back
+ * before the connection is released.
+ * <p>
+ * If no connection can be obtained within {@value #CONNECTION_ACQUISITION_TIMEOUT}
+ * milliseconds, which happens when the connection pool is exhausted, perhaps by
+ * other sessions doing the same thing, no further chunks are fetched ahead of time,
+ * and the caller fetches them sequentially, using the connection of the session.
+ *
+ * @see org.hibernate.cfg.FetchSettings#MULTI_LOAD_CONCURRENCY
+ *
+ * @since 7.4
+ */
+class MultiKeyLoadPrefetcher implements AutoCloseable {
+	/**
+	 * The maximum time, in milliseconds, to wait for a separate connection.
+	 */
+	static final long CONNECTION_ACQUISITION_TIMEOUT = 500;
+
+	private final SharedSessionContractImplementor session;
+	private final Deque<Prefetch> prefetches = new ArrayDeque<>();
+	private boolean exhausted;
+
+	MultiKeyLoadPrefetcher(SharedSessionContractImplementor session) {
+		this.session = session;
+	}
+
+	/**
+	 * Start executing the given select on a new connection.
+	 *
+	 * @return {@code false} if no connection could be obtained in time,
+	 *         in which case the select must be executed by the caller
+	 */
+	boolean prefetch(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) {
+		if ( exhausted ) {
+			return false;
+		}
+		final Connection connection = acquireConnection();
+		if ( connection == null ) {
+			exhausted = true;
+			return false;
+		}
+		final PreparedStatement statement;
+		try {
+			statement = prepare( connection, jdbcSelect, jdbcParameterBindings, executionContext );
+		}
+		catch (RuntimeException e) {
+			release( connection );
+			throw e;
+		}
+		CompletableFuture<ResultSet> execution;
+		try {
+			execution = CompletableFuture.supplyAsync( () -> execute( statement ), asyncExecutor() );
+		}
+		catch (RejectedExecutionException e) {
+			execution = CompletableFuture.failedFuture( e );
+		}
+		prefetches.add( new Prefetch( connection, statement, execution ) );
+		return true;
+	}
+
+	/**
+	 * Has an attempt to obtain a connection already failed?
+	 */
+	boolean isExhausted() {
+		return exhausted;
+	}
+
+	/**
+	 * A {@link StatementCreator} which supplies the oldest select
+	 * which was prefetched and not yet processed.
+	 */
+	StatementCreator next() {
+		final var prefetch = prefetches.remove();
+		return (executionContext, sql) -> prefetch.statement();
+	}
+
+	/**
+	 * Discard the selects which were prefetched and not processed,
+	 * because the load failed.
+	 */
+	@Override
+	public void close() {
+		while ( !prefetches.isEmpty() ) {
+			prefetches.remove().discard();
+		}
+	}
+
+	private Executor asyncExecutor() {
+		return session.getFactory().getSessionFactoryOptions().getAsyncExecutor();
+	}
+
+	/**
+	 * Obtain a separate connection, waiting no longer than the
+	 * {@linkplain #CONNECTION_ACQUISITION_TIMEOUT timeout}.
+	 *
+	 * @return the connection, or {@code null} if none was obtained in time
+	 */
+	private Connection acquireConnection() {
+		final CompletableFuture<Connection> acquisition;
+		try {
+			acquisition = CompletableFuture.supplyAsync( () -> {
+				try {
+					return session.getJdbcConnectionAccess().obtainConnection();
+				}
+				catch (SQLException e) {
+					throw new CompletionException( e );
+				}
+			}, asyncExecutor() );
+		}
+		catch (RejectedExecutionException e) {
+			return null;
+		}
+		try {
+			return acquisition.get( CONNECTION_ACQUISITION_TIMEOUT, MILLISECONDS );
+		}
+		catch (TimeoutException e) {
+			// give the connection back whenever it eventually arrives
+			acquisition.thenAccept( this::release );
+			return null;
+		}
+		catch (InterruptedException e) {
+			acquisition.thenAccept( this::release );
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while obtaining JDBC connection for concurrent multi-load", e );
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof SQLException sqlException ) {
+				throw session.getJdbcServices().getSqlExceptionHelper()
+						.convert( sqlException, "Unable to obtain JDBC connection for concurrent multi-load" );
+			}
+			else {
+				throw new HibernateException( "Unable to obtain JDBC connection for concurrent multi-load", e.getCause() );
+			}
+		}
+	}
+
+	// called on the thread which owns the session
+	private PreparedStatement prepare(
+			Connection connection,
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) {
+		final String sql = inspect( jdbcSelect.getSqlString() );
+		final var jdbcServices = session.getJdbcServices();
+		try {
+			jdbcServices.getSqlStatementLogger().logStatement( sql );
+			final var statement = connection.prepareStatement( sql );
+			try {
+				final int timeout = session.getJdbcCoordinator().determineRemainingTransactionTimeOutPeriod();
+				if ( timeout > 0 ) {
+					statement.setQueryTimeout( timeout );
+				}
+				int position = 1;
+				for ( var parameterBinder : jdbcSelect.getParameterBinders() ) {
+					parameterBinder.bindParameterValue(
+							statement,
+							position++,
+							jdbcParameterBindings,
+							executionContext
+					);
+				}
+				return statement;
+			}
+			catch (SQLException | RuntimeException e) {
+				try {
+					statement.close();
+				}
+				catch (SQLException suppressed) {
+					e.addSuppressed( suppressed );
+				}
+				throw e;
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper()
+					.convert( e, "Unable to prepare statement for concurrent multi-load", sql );
+		}
+	}
+
+	private String inspect(String sql) {
+		final String inspectedSql =
+				session.getJdbcSessionContext().getStatementInspector().inspect( sql );
+		return inspectedSql == null ? sql : inspectedSql;
+	}
+
+	// called on a thread of the async executor: never touches the session
+	private static ResultSet execute(PreparedStatement statement) {
+		try {
+			return statement.executeQuery();
+		}
+		catch (SQLException e) {
+			throw new CompletionException( e );
+		}
+	}
+
+	/**
+	 * End the work done on the connection, which only ever read data,
+	 * and return the connection to the pool.
+	 */
+	private void release(Connection connection) {
+		try {
+			if ( !connection.getAutoCommit() ) {
+				connection.rollback();
+			}
+		}
+		catch (Exception e) {
+			JDBC_LOGGER.unableToReleaseIsolatedConnection( e );
+		}
+		try {
+			session.getJdbcConnectionAccess().releaseConnection( connection );
+		}
+		catch (Exception e) {
+			JDBC_LOGGER.unableToReleaseIsolatedConnection( e );
+		}
+	}
+
+	private class Prefetch {
+		private final Connection connection;
+		private final PreparedStatement statement;
+		private final CompletableFuture<ResultSet> execution;
+		private boolean released;
+
+		private Prefetch(Connection connection, PreparedStatement statement, CompletableFuture<ResultSet> execution) {
+			this.connection = connection;
+			this.statement = statement;
+			this.execution = execution;
+		}
+
+		/**
+		 * Wait for the execution of the select, and wrap its statement so
+		 * that {@code executeQuery()} returns the result set which was already
+		 * obtained, and {@code close()} also releases the connection.
+		 */
+		private PreparedStatement statement() throws SQLException {
+			final var eventHandler = session.getJdbcSessionContext().getEventHandler();
+			final ResultSet resultSet;
+			eventHandler.jdbcPrepareStatementStart();
+			try {
+				resultSet = execution.join();
+			}
+			catch (CompletionException e) {
+				closeStatement();
+				final var cause = e.getCause();
+				if ( cause instanceof SQLException sqlException ) {
+					throw sqlException;
+				}
+				else if ( cause instanceof RuntimeException runtimeException ) {
+					throw runtimeException;
+				}
+				else {
+					throw new HibernateException( "Concurrent multi-load failed", cause );
+				}
+			}
+			finally {
+				eventHandler.jdbcPrepareStatementEnd();
+			}
+			final var proxy = (PreparedStatement) Proxy.newProxyInstance(
+					MultiKeyLoadPrefetcher.class.getClassLoader(),
+					new Class<?>[] { PreparedStatement.class },
+					(self, method, args) -> switch ( method.getName() ) {
+						case "executeQuery" -> args == null ? resultSet : invoke( method, args );
+						case "close" -> {
+							closeStatement();
+							yield null;
+						}
+						case "equals" -> self == args[0];
+						case "hashCode" -> System.identityHashCode( self );
+						default -> invoke( method, args );
+					}
+			);
+			session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+					.register( proxy, false );
+			return proxy;
+		}
+
+		private Object invoke(Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke( statement, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+
+		private void closeStatement() throws SQLException {
+			try {
+				statement.close();
+			}
+			finally {
+				releaseConnection();
+			}
+		}
+
+		private void discard() {
+			try {
+				// the statement may not be closed while it's still executing
+				execution.handle( (resultSet, failure) -> null ).join();
+				closeStatement();
+			}
+			catch (RuntimeException | SQLException e) {
+				releaseConnection();
+			}
+		}
+
+		private void releaseConnection() {
+			if ( !released ) {
+				released = true;
+				release( connection );
+			}
+		}
+	}
+}
@@ -4,6 +4,9 @@
  */
 package org.hibernate.loader.internal;
 
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -27,6 +30,8 @@
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 import static org.hibernate.engine.internal.Versioning.getVersion;
 import static org.hibernate.loader.internal.CacheLoadHelper.PersistenceContextEntry.EntityStatus.INCONSISTENT_RTN_CLASS_MARKER;
 import static org.hibernate.loader.internal.CacheLoadHelper.PersistenceContextEntry.EntityStatus.MANAGED;
@@ -162,6 +167,69 @@ private static Object getFromSharedCache(
 		return cacheEntry;
 	}
 
+	/**
+	 * Looks up the entities with the given keys in the second-level cache,
+	 * in a single interaction with the cache.
+	 *
+	 * @param source The source
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return The entries retrieved from the second-level cache, by entity
+	 *         key, with a {@code null} value for each key which was not found
+	 *
+	 * @see #loadFromCacheEntry
+	 *
+	 * @since 7.4
+	 */
+	public static Map<EntityKey, Object> getAllFromSecondLevelCache(
+			final SharedSessionContractImplementor source,
+			final EntityPersister persister,
+			final List<EntityKey> entityKeys) {
+		final var cache = persister.getCacheAccessStrategy();
+		final var factory = source.getFactory();
+		final List<Object> cacheKeys = arrayList( entityKeys.size() );
+		for ( var entityKey : entityKeys ) {
+			cacheKeys.add( cache.generateCacheKey( entityKey.getIdentifier(), persister, factory,
+					source.getTenantIdentifier() ) );
+		}
+		final var cachedValues = fromSharedCache( source, cacheKeys, persister, cache );
+		final var statistics = factory.getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final Map<EntityKey, Object> cacheEntries = mapOfSize( entityKeys.size() );
+		for ( int i = 0; i < entityKeys.size(); i++ ) {
+			final Object cacheEntry = cachedValues.get( cacheKeys.get( i ) );
+			cacheEntries.put( entityKeys.get( i ), cacheEntry );
+			if ( stats ) {
+				final var rootEntityRole = getRootEntityRole( persister );
+				final String regionName = cache.getRegion().getName();
+				if ( cacheEntry == null ) {
+					statistics.entityCacheMiss( rootEntityRole, regionName );
+				}
+				else {
+					statistics.entityCacheHit( rootEntityRole, regionName );
+				}
+			}
+		}
+		return cacheEntries;
+	}
+
+	/**
+	 * Assembles the entity from an entry retrieved from the second-level
+	 * cache by {@link #getAllFromSecondLevelCache}.
+	 *
+	 * @return The entity, or null if the entry is stale.
+	 *
+	 * @since 7.4
+	 */
+	public static Object loadFromCacheEntry(
+			final SharedSessionContractImplementor source,
+			final EntityPersister persister,
+			final Object cacheEntry,
+			final EntityKey entityKey) {
+		return processCachedEntry( null, persister, cacheEntry, source, entityKey );
+	}
+
 	private static Object processCachedEntry(
 			final Object instanceToLoad,
 			final EntityPersister persister,
@@ -170,7 +238,11 @@ private static Object processCachedEntry(
 			final EntityKey entityKey) {
 		final var entry = (CacheEntry)
 				persister.getCacheEntryStructure().destructure( cacheEntry, source.getFactory() );
-		if ( entry.isReferenceEntry() ) {
+		if ( entry == null ) {
+			// a stale entry, written for a different mapping of the entity
+			return null;
+		}
+		else if ( entry.isReferenceEntry() ) {
 			if ( instanceToLoad != null ) {
 				throw new HibernateException( "Attempt to load entity from cache using provided object instance, "
 						+ "but cache is storing references: " + entityKey.getIdentifier() );
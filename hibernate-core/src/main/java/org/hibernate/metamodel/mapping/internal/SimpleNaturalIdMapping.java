@@ -8,6 +8,8 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.BiConsumer;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -43,8 +45,24 @@
  */
 public class SimpleNaturalIdMapping extends AbstractNaturalIdMapping
 		implements BasicValuedMapping {
+	/**
+	 * Types whose {@link Object#equals} and {@link Object#hashCode} agree
+	 * with {@link JavaType#areEqual} and {@link JavaType#extractHashCode}.
+	 */
+	private static final Set<Class<?>> VALUE_KEYED_TYPES = Set.of(
+			String.class,
+			Long.class,
+			Integer.class,
+			Short.class,
+			Byte.class,
+			Character.class,
+			Boolean.class,
+			UUID.class
+	);
+
 	private final SingularAttributeMapping attribute;
 	private final SessionFactoryImplementor sessionFactory;
+	private final boolean keyedByValue;
 
 	public SimpleNaturalIdMapping(
 			SingularAttributeMapping attribute,
@@ -53,12 +71,24 @@ public SimpleNaturalIdMapping(
 		super( declaringType, attribute.getAttributeMetadata().isUpdatable() );
 		this.attribute = attribute;
 		this.sessionFactory = creationProcess.getCreationContext().getSessionFactory();
+		this.keyedByValue = VALUE_KEYED_TYPES.contains( attribute.getJavaType().getJavaTypeClass() );
 	}
 
 	public SingularAttributeMapping getAttribute() {
 		return attribute;
 	}
 
+	/**
+	 * Whether a value of the natural id may be used as a hash key as it
+	 * is, without being wrapped, because its Java type compares values
+	 * using {@link Object#equals} and {@link Object#hashCode}.
+	 *
+	 * @since 7.4
+	 */
+	public boolean isKeyedByValue() {
+		return keyedByValue;
+	}
+
 	@Override
 	public void verifyFlushState(
 			Object id,
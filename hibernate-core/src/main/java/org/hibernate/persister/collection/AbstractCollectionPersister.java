@@ -239,6 +239,9 @@
 
 	private CollectionLoader collectionLoader;
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
+	// the batch size learned by adaptive batch fetching, and the corresponding loader
+	private volatile int adaptiveBatchSize;
+	private volatile @Nullable CollectionLoader adaptiveBatchLoader;
 
 	private PluralAttributeMapping attributeMapping;
 	private volatile Set<String> affectingFetchProfiles;
@@ -805,9 +808,11 @@ protected CollectionLoader determineLoaderToUse(Object key, SharedSessionContrac
 					return subSelectLoader;
 				}
 			}
-			return attributeMapping.isAffectedByInfluencers( influencers, true )
-					? createCollectionLoader( influencers )
-					: getCollectionLoader();
+			if ( attributeMapping.isAffectedByInfluencers( influencers, true ) ) {
+				return createCollectionLoader( influencers );
+			}
+			final var adaptiveLoader = adaptiveBatchLoader;
+			return adaptiveLoader == null ? getCollectionLoader() : adaptiveLoader;
 		}
 	}
 
@@ -1521,6 +1526,22 @@ public int getBatchSize() {
 		return batchSize;
 	}
 
+	@Override
+	public int getAdaptiveBatchSize() {
+		return adaptiveBatchSize;
+	}
+
+	@Override
+	public synchronized void adaptBatchSize(int batchSize) {
+		if ( batchSize > adaptiveBatchSize && !hasNamedQueryLoader() ) {
+			adaptiveBatchLoader =
+					factory.getServiceRegistry().requireService( BatchLoaderFactory.class )
+							.createCollectionBatchLoader( batchSize, new LoadQueryInfluencers( factory ),
+									attributeMapping, factory );
+			adaptiveBatchSize = batchSize;
+		}
+	}
+
 	@Override
 	public String getMappedByProperty() {
 		return mappedByProperty;
@@ -337,6 +337,33 @@ default int getBatchSize() {
 	default boolean isBatchLoadable() {
 		return getBatchSize() > 1;
 	}
+
+	/**
+	 * The batch size learned by {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_THRESHOLD
+	 * adaptive batch fetching}, or {@code 0} if batch fetching has not been enabled adaptively.
+	 *
+	 * @see org.hibernate.engine.spi.LoadQueryInfluencers#effectiveBatchSize(CollectionPersister)
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int getAdaptiveBatchSize() {
+		return 0;
+	}
+
+	/**
+	 * Enable batch fetching of this collection with the given batch size, after an
+	 * "N+1 selects" problem was detected by adaptive batch fetching. Has no effect
+	 * if the given batch size is not larger than the {@linkplain #getAdaptiveBatchSize
+	 * batch size learned previously}.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_THRESHOLD
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default void adaptBatchSize(int batchSize) {
+	}
 	default boolean isSubselectLoadable() {
 		return false;
 	}
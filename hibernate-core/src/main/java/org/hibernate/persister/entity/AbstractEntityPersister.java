@@ -28,10 +28,12 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementHelper;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -54,9 +56,11 @@
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.MergeContext;
 import org.hibernate.generator.BeforeExecutionGenerator;
@@ -78,6 +82,7 @@
 import org.hibernate.internal.util.collections.LockModeEnumMap;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.loader.ast.internal.EntityConcreteTypeLoader;
+import org.hibernate.loader.ast.internal.LazyFetchGroupBatchLoadPlan;
 import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
 import org.hibernate.loader.ast.internal.MultiIdEntityLoaderArrayParam;
@@ -225,6 +230,7 @@
 
 import java.io.Serializable;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -242,6 +248,7 @@
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -263,6 +270,9 @@
 import static org.hibernate.internal.util.StringHelper.replace;
 import static org.hibernate.internal.util.StringHelper.root;
 import static org.hibernate.internal.util.StringHelper.unqualify;
+import static org.hibernate.bytecode.enhance.spi.DirtyAttributeMasks.setDirty;
+import static org.hibernate.bytecode.enhance.spi.DirtyAttributeMasks.toPositions;
+import static org.hibernate.bytecode.enhance.spi.DirtyAttributeMasks.wordCount;
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_INT_ARRAY;
 import static org.hibernate.internal.util.collections.ArrayHelper.contains;
 import static org.hibernate.internal.util.collections.ArrayHelper.indexOf;
@@ -319,8 +329,14 @@
 	private final String sqlAliasStem;
 	private final String jpaEntityName;
 
+	// the identity of this function is the cache key of the dirty attribute mask of enhanced entities
+	private final ToIntFunction<String> dirtyAttributePositions = this::dirtyAttributePosition;
+
 	private SingleIdEntityLoader<?> singleIdLoader;
 	private MultiIdEntityLoader<?> multiIdLoader;
+	// the batch size learned by adaptive batch fetching, and the corresponding loader
+	private volatile int adaptiveBatchSize;
+	private volatile @Nullable SingleIdEntityLoader<?> adaptiveBatchLoader;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
 
@@ -452,6 +468,8 @@
 
 	private List<UniqueKeyEntry> uniqueKeyEntries = null; //lazily initialized
 	private ConcurrentHashMap<String,SingleIdArrayLoadPlan> nonLazyPropertyLoadPlansByName;
+	private final ConcurrentHashMap<LazyFetchGroupBatchKey,LazyFetchGroupBatchLoadPlan> lazyFetchGroupBatchLoadPlans =
+			new ConcurrentHashMap<>();
 
 	public AbstractEntityPersister(
 			final PersistentClass persistentClass,
@@ -1155,9 +1173,15 @@ else if ( canUseReferenceCacheEntries() ) {
 			return new ReferenceCacheEntryHelper( this );
 		}
 		else {
-			return options.isStructuredCacheEntriesEnabled()
-					? new StructuredCacheEntryHelper( this )
-					: new StandardCacheEntryHelper( this );
+			if ( options.isStructuredCacheEntriesEnabled() ) {
+				return new StructuredCacheEntryHelper( this );
+			}
+			else if ( options.isBinaryCacheEntriesEnabled() ) {
+				return new BinaryCacheEntryHelper( this );
+			}
+			else {
+				return new StandardCacheEntryHelper( this );
+			}
 		}
 	}
 
@@ -1508,7 +1532,11 @@ && isLazyPropertiesCacheable() ) {
 			final Object structuredEntry = fromSharedCache( session, cacheKey, this, cacheAccess );
 			if ( structuredEntry != null ) {
 				final var cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( structuredEntry, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+				// the cache entry is null if it was stale
+				final Object initializedValue =
+						cacheEntry == null
+								? LazyPropertyInitializer.UNFETCHED_PROPERTY
+								: initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
 				if ( initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 					// The following should be redundant, since the setter should have set this already.
 					// interceptor.attributeInitialized(fieldName);
@@ -1633,43 +1661,21 @@ private Object initLazyProperties(
 		assert hasLazyProperties();
 		CORE_LOGGER.initializingLazyPropertiesFromDatastore( fieldName );
 
-		final var interceptor = asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor();
-		assert interceptor != null : "Expecting bytecode interceptor to be non-null";
-
 		final var lazyAttributesMetadata = getBytecodeEnhancementMetadata().getLazyAttributesMetadata();
 		final String fetchGroup = lazyAttributesMetadata.getFetchGroupName( fieldName );
 		final var fetchGroupAttributeDescriptors =
 				lazyAttributesMetadata.getFetchGroupAttributeDescriptors( fetchGroup );
-		final var lazySelectLoadPlan = getSQLLazySelectLoadPlan( fetchGroup );
 		try {
-			Object finalResult = null;
-			final var results = lazySelectLoadPlan.load( id, session );
-			final var initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
-			int i = 0;
-			for ( var fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
-				final String attributeName = fetchGroupAttributeDescriptor.getName();
-				if ( fieldName.equals( attributeName ) ) {
-					finalResult = results[i];
-				}
-				if ( !initializedLazyAttributeNames.contains( attributeName ) ) {
-					initializeLazyProperty(
-							entity,
-							entry,
-							results[i],
-							getPropertyIndex( attributeName ),
-							fetchGroupAttributeDescriptor.getType()
-					);
-				}
-				// if the attribute has already been initialized (e.g. by a write) we don't want to overwrite
-				i++;
-				// TODO: we should consider un-marking an attribute as dirty based on the selected value
-				// - we know the current value:
-				//   getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
-				// - we know the selected value (see selectedValue below)
-				// - we can use the attribute Type to tell us if they are the same
-				// - assuming entity is a SelfDirtinessTracker we can also know if the attribute is currently
-				//   considered dirty, and if really not dirty we would do the un-marking
-				// - of course that would mean a new method on SelfDirtinessTracker to allow un-marking
+			final Object finalResult;
+			final int batchSize = session.getLoadQueryInfluencers().effectiveBatchSize( this );
+			if ( batchSize > 1 && isBatchLoadableFetchGroup( fetchGroupAttributeDescriptors ) ) {
+				finalResult = initLazyPropertiesInBatch(
+						entity, id, entry, fieldName, fetchGroup, fetchGroupAttributeDescriptors, batchSize, session
+				);
+			}
+			else {
+				final var results = getSQLLazySelectLoadPlan( fetchGroup ).load( id, session );
+				finalResult = initializeFetchGroup( entity, entry, fieldName, fetchGroupAttributeDescriptors, results, 0 );
 			}
 			CORE_LOGGER.doneInitializingLazyProperties();
 			return finalResult;
@@ -1684,6 +1690,192 @@ private Object initLazyProperties(
 		}
 	}
 
+	/**
+	 * Assign the values of the attributes of a fetch group read from the
+	 * database, starting at the given offset, to the given entity.
+	 *
+	 * @return the value of the attribute with the given name
+	 */
+	private Object initializeFetchGroup(
+			Object entity,
+			EntityEntry entry,
+			String fieldName,
+			List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			Object[] results,
+			int offset) {
+		final var interceptor = asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor();
+		assert interceptor != null : "Expecting bytecode interceptor to be non-null";
+
+		Object finalResult = null;
+		final var initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
+		int i = offset;
+		for ( var fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			final String attributeName = fetchGroupAttributeDescriptor.getName();
+			if ( fieldName.equals( attributeName ) ) {
+				finalResult = results[i];
+			}
+			if ( !initializedLazyAttributeNames.contains( attributeName ) ) {
+				initializeLazyProperty(
+						entity,
+						entry,
+						results[i],
+						getPropertyIndex( attributeName ),
+						fetchGroupAttributeDescriptor.getType()
+				);
+			}
+			// if the attribute has already been initialized (e.g. by a write) we don't want to overwrite
+			i++;
+			// TODO: we should consider un-marking an attribute as dirty based on the selected value
+			// - we know the current value:
+			//   getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
+			// - we know the selected value (see selectedValue below)
+			// - we can use the attribute Type to tell us if they are the same
+			// - assuming entity is a SelfDirtinessTracker we can also know if the attribute is currently
+			//   considered dirty, and if really not dirty we would do the un-marking
+			// - of course that would mean a new method on SelfDirtinessTracker to allow un-marking
+		}
+		return finalResult;
+	}
+
+	/**
+	 * Only fetch groups made up of basic attributes are loaded in batches,
+	 * since associations have their own batch fetching.
+	 */
+	private static boolean isBatchLoadableFetchGroup(List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors) {
+		for ( var fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			final var type = fetchGroupAttributeDescriptor.getType();
+			if ( type.isAssociationType() || type.isComponentType() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Initialize the fetch group of the given entity together with the same
+	 * fetch group of other entities of this type which belong to the session
+	 * and for which it is not yet initialized, using a single query for up to
+	 * the given batch size of entities.
+	 */
+	private Object initLazyPropertiesInBatch(
+			Object entity,
+			Object id,
+			EntityEntry entry,
+			String fieldName,
+			String fetchGroup,
+			List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		final var batch = collectLazyFetchGroupBatch( entity, fieldName, batchSize, session );
+		if ( batch.isEmpty() ) {
+			final var results = getSQLLazySelectLoadPlan( fetchGroup ).load( id, session );
+			return initializeFetchGroup( entity, entry, fieldName, fetchGroupAttributeDescriptors, results, 0 );
+		}
+
+		final Object[] ids = new Object[batch.size() + 1];
+		ids[0] = id;
+		for ( int i = 0; i < batch.size(); i++ ) {
+			ids[i + 1] = batch.get( i ).getValue().getId();
+		}
+		final var rows = getLazyFetchGroupBatchLoadPlan( fetchGroup, batchSize ).load( ids, session );
+		final Map<EntityKey, Object[]> rowsByKey = new HashMap<>( rows.size() );
+		for ( var row : rows ) {
+			rowsByKey.put( session.generateEntityKey( row[0], this ), row );
+		}
+
+		for ( var other : batch ) {
+			final var otherEntry = other.getValue();
+			final var otherRow = rowsByKey.get( session.generateEntityKey( otherEntry.getId(), this ) );
+			if ( otherRow != null ) {
+				initializeFetchGroup( other.getKey(), otherEntry, fieldName, fetchGroupAttributeDescriptors, otherRow, 1 );
+			}
+		}
+
+		final var row = rowsByKey.get( session.generateEntityKey( id, this ) );
+		return row == null
+				// should not happen, but let the usual single-entity load handle it
+				? initializeFetchGroup( entity, entry, fieldName, fetchGroupAttributeDescriptors,
+						getSQLLazySelectLoadPlan( fetchGroup ).load( id, session ), 0 )
+				: initializeFetchGroup( entity, entry, fieldName, fetchGroupAttributeDescriptors, row, 1 );
+	}
+
+	/**
+	 * Collect up to {@code batchSize - 1} other managed entities of this type
+	 * for which the fetch group containing the given attribute has not been
+	 * initialized, preferring entities added to the persistence context after
+	 * the given entity, since they are the most likely to be accessed next.
+	 */
+	private List<Map.Entry<Object, EntityEntry>> collectLazyFetchGroupBatch(
+			Object entity,
+			String fieldName,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		final int maxSize = batchSize - 1;
+		final List<Map.Entry<Object, EntityEntry>> following = new ArrayList<>();
+		// the nearest preceding entities, most recent last
+		final ArrayDeque<Map.Entry<Object, EntityEntry>> preceding = new ArrayDeque<>();
+		boolean afterEntity = false;
+		for ( var entityEntry : session.getPersistenceContextInternal().reentrantSafeEntityEntries() ) {
+			final Object instance = entityEntry.getKey();
+			if ( instance == entity ) {
+				afterEntity = true;
+			}
+			else if ( isLazyFetchGroupBatchCandidate( instance, entityEntry.getValue(), fieldName ) ) {
+				if ( afterEntity ) {
+					following.add( entityEntry );
+					if ( following.size() == maxSize ) {
+						break;
+					}
+				}
+				else {
+					if ( preceding.size() == maxSize ) {
+						preceding.removeFirst();
+					}
+					preceding.addLast( entityEntry );
+				}
+			}
+		}
+		while ( following.size() < maxSize && !preceding.isEmpty() ) {
+			following.add( preceding.removeLast() );
+		}
+		return following;
+	}
+
+	private boolean isLazyFetchGroupBatchCandidate(Object instance, EntityEntry entry, String fieldName) {
+		if ( entry.getPersister() == this
+				&& ( entry.getStatus() == Status.MANAGED || entry.getStatus() == Status.READ_ONLY )
+				&& entry.isExistsInDatabase()
+				&& isPersistentAttributeInterceptable( instance ) ) {
+			final var interceptor = asPersistentAttributeInterceptable( instance ).$$_hibernate_getInterceptor();
+			return interceptor instanceof LazyAttributeLoadingInterceptor lazyAttributeLoadingInterceptor
+				&& !lazyAttributeLoadingInterceptor.isAttributeLoaded( fieldName );
+		}
+		else {
+			return false;
+		}
+	}
+
+	private record LazyFetchGroupBatchKey(String fetchGroup, int batchSize) {
+	}
+
+	private LazyFetchGroupBatchLoadPlan getLazyFetchGroupBatchLoadPlan(String fetchGroup, int batchSize) {
+		return lazyFetchGroupBatchLoadPlans.computeIfAbsent(
+				new LazyFetchGroupBatchKey( fetchGroup, batchSize ),
+				key -> createLazyFetchGroupBatchLoadPlan( key.fetchGroup(), key.batchSize() )
+		);
+	}
+
+	private LazyFetchGroupBatchLoadPlan createLazyFetchGroupBatchLoadPlan(String fetchGroup, int batchSize) {
+		final var fetchGroupAttributeDescriptors =
+				getBytecodeEnhancementMetadata().getLazyAttributesMetadata()
+						.getFetchGroupAttributeDescriptors( fetchGroup );
+		final List<ModelPart> partsToSelect = new ArrayList<>( fetchGroupAttributeDescriptors.size() );
+		for ( var lazyAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			partsToSelect.add( getAttributeMapping( getSubclassPropertyIndex( lazyAttributeDescriptor.getName() ) ) );
+		}
+		return new LazyFetchGroupBatchLoadPlan( this, partsToSelect, batchSize, factory );
+	}
+
 	private Object initLazyProperty(
 			Object entity,
 			Object id,
@@ -1844,6 +2036,21 @@ public int getBatchSize() {
 		return batchSize;
 	}
 
+	@Override
+	public int getAdaptiveBatchSize() {
+		return adaptiveBatchSize;
+	}
+
+	@Override
+	public synchronized void adaptBatchSize(int batchSize) {
+		if ( batchSize > adaptiveBatchSize && !hasNamedQueryLoader() ) {
+			adaptiveBatchLoader =
+					factory.getServiceRegistry().requireService( BatchLoaderFactory.class )
+							.createEntityBatchLoader( batchSize, this, new LoadQueryInfluencers( factory ) );
+			adaptiveBatchSize = batchSize;
+		}
+	}
+
 	@Override
 	public String[] getIdentifierColumnNames() {
 		return rootTableKeyColumnNames;
@@ -2552,6 +2759,59 @@ class ChildEntity extends SuperEntity {
 		return toIntArray( fields );
 	}
 
+	@Override
+	public int[] resolveDirtyAttributeIndexes(
+			final Object[] currentState,
+			final Object[] previousState,
+			final SelfDirtinessTracker tracker,
+			final SessionImplementor session) {
+		final long[] trackedMask = tracker.$$_hibernate_getDirtyAttributeMask( dirtyAttributePositions );
+		final var mutablePropertiesIndexes = getMutablePropertiesIndexes();
+		if ( trackedMask.length == 0 && mutablePropertiesIndexes.isEmpty() ) {
+			return EMPTY_INT_ARRAY;
+		}
+
+		final long[] dirty = new long[wordCount( getPropertySpan() )];
+
+		if ( !mutablePropertiesIndexes.isEmpty() ) {
+			// We have to check the state for "mutable" properties as dirty tracking isn't aware of mutable types
+			final Type[] propertyTypes = getPropertyTypes();
+			final boolean[] propertyCheckability = getPropertyCheckability();
+			for ( int i = mutablePropertiesIndexes.nextSetBit(0); i >= 0;
+					i = mutablePropertiesIndexes.nextSetBit(i + 1) ) {
+				if ( isDirty( currentState, previousState, propertyTypes, propertyCheckability, i, session ) ) {
+					setDirty( dirty, i );
+				}
+			}
+		}
+
+		final boolean[] propertyUpdateability = getPropertyUpdateability();
+		for ( int word = 0; word < trackedMask.length; word++ ) {
+			long bits = trackedMask[word];
+			while ( bits != 0 ) {
+				final int position = ( word << 6 ) + Long.numberOfTrailingZeros( bits );
+				if ( propertyUpdateability[position] ) {
+					setDirty( dirty, position );
+				}
+				bits &= bits - 1;
+			}
+		}
+
+		return toPositions( dirty );
+	}
+
+	/**
+	 * The position in the entity state of the attribute with the given name,
+	 * or of the embedded attribute containing the attribute with the given
+	 * path, or {@code -1} if there is no such attribute.
+	 */
+	private int dirtyAttributePosition(String attributeName) {
+		final int dot = attributeName.indexOf( '.' );
+		final Integer index =
+				getPropertyIndexOrNull( dot < 0 ? attributeName : attributeName.substring( 0, dot ) );
+		return index == null ? -1 : index;
+	}
+
 	private boolean isDirty(
 			Object[] currentState,
 			Object[] previousState,
@@ -3568,7 +3828,8 @@ protected SingleIdEntityLoader<?> determineLoaderToUse(SharedSessionContractImpl
 		if ( isAffectedByInfluencers( influencers, true ) ) {
 			return buildSingleIdEntityLoader( influencers, lockOptions );
 		}
-		return getSingleIdLoader();
+		final var adaptiveLoader = adaptiveBatchLoader;
+		return adaptiveLoader == null ? getSingleIdLoader() : adaptiveLoader;
 //		if ( hasNamedQueryLoader() ) {
 //			return getSingleIdLoader();
 //		}
@@ -4657,6 +4918,26 @@ public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version,
 		}
 	}
 
+	private static class BinaryCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final BinaryCacheEntry structure;
+
+		private BinaryCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new BinaryCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
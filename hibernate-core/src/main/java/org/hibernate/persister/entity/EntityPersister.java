@@ -28,6 +28,7 @@
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.EntityEntryFactory;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -974,6 +975,33 @@ default boolean isBatchLoadable() {
 		return getBatchSize() > 1;
 	}
 
+	/**
+	 * The batch size learned by {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_THRESHOLD
+	 * adaptive batch fetching}, or {@code 0} if batch fetching has not been enabled adaptively.
+	 *
+	 * @see org.hibernate.engine.spi.LoadQueryInfluencers#effectiveBatchSize(EntityPersister)
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int getAdaptiveBatchSize() {
+		return 0;
+	}
+
+	/**
+	 * Enable batch fetching of this entity with the given batch size, after an
+	 * "N+1 selects" problem was detected by adaptive batch fetching. Has no effect
+	 * if the given batch size is not larger than the {@linkplain #getAdaptiveBatchSize
+	 * batch size learned previously}.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_THRESHOLD
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default void adaptBatchSize(int batchSize) {
+	}
+
 	/**
 	 * Is select snapshot before update enabled?
 	 */
@@ -1369,6 +1397,25 @@ default int[] resolveDirtyAttributeIndexes(
 		return resolveAttributeIndexes( attributeNames );
 	}
 
+	/**
+	 * Like {@link #resolveDirtyAttributeIndexes(Object[], Object[], String[], SessionImplementor)},
+	 * but obtains the dirty attributes from the given tracker.
+	 *
+	 * @param tracker The entity, which tracks its own dirty attributes
+	 *
+	 * @return A set of unique indexes of the dirty attributes
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default int[] resolveDirtyAttributeIndexes(
+			Object[] values,
+			Object[] loadedState,
+			SelfDirtinessTracker tracker,
+			SessionImplementor session) {
+		return resolveDirtyAttributeIndexes( values, loadedState, tracker.$$_hibernate_getDirtyAttributes(), session );
+	}
+
 	boolean canUseReferenceCacheEntries();
 
 	@Incubating
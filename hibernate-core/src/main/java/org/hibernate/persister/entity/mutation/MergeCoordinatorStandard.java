@@ -115,6 +115,7 @@ protected UpdateValuesAnalysisImpl analyzeUpdateValues(
 			Object oldVersion,
 			Object[] oldValues,
 			int[] dirtyAttributeIndexes,
+			long[] dirtyAttributeMask,
 			InclusionChecker inclusionChecker,
 			InclusionChecker lockingChecker,
 			InclusionChecker dirtinessChecker,
@@ -128,6 +129,7 @@ protected UpdateValuesAnalysisImpl analyzeUpdateValues(
 				oldVersion,
 				oldValues,
 				dirtyAttributeIndexes,
+				dirtyAttributeMask,
 				inclusionChecker,
 				lockingChecker,
 				dirtinessChecker,
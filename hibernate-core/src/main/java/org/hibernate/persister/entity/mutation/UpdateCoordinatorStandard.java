@@ -11,6 +11,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.Internal;
+import org.hibernate.bytecode.enhance.spi.DirtyAttributeMasks;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
@@ -48,11 +49,11 @@
 import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
 
 import static org.hibernate.engine.OptimisticLockStyle.DIRTY;
+import static org.hibernate.bytecode.enhance.spi.DirtyAttributeMasks.ofPositions;
 import static org.hibernate.engine.internal.Versioning.isVersionIncrementRequired;
 import static org.hibernate.generator.EventType.UPDATE;
 import static org.hibernate.internal.CoreMessageLogger.CORE_LOGGER;
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_INT_ARRAY;
-import static org.hibernate.internal.util.collections.ArrayHelper.contains;
 import static org.hibernate.internal.util.collections.ArrayHelper.join;
 import static org.hibernate.internal.util.collections.ArrayHelper.trim;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
@@ -268,11 +269,14 @@ protected GeneratedValues performUpdate(
 			boolean forceDynamicUpdate,
 			boolean temporalExcludedUpdate) {
 
+		// avoid a linear search of the dirty indexes for every attribute
+		final long[] dirtyAttributeMask = dirtyAttributeIndexes == null ? null : ofPositions( dirtyAttributeIndexes );
 		final InclusionChecker dirtinessChecker =
 				(position, attribute) -> isDirty(
 						hasDirtyCollection,
 						versionMapping,
 						dirtyAttributeIndexes,
+						dirtyAttributeMask,
 						attributeUpdateability,
 						position,
 						attribute,
@@ -294,6 +298,7 @@ protected GeneratedValues performUpdate(
 				oldVersion,
 				incomingOldValues,
 				dirtyAttributeIndexes,
+				dirtyAttributeMask,
 				createInclusionChecker( attributeUpdateability ),
 				lockingChecker,
 				dirtinessChecker,
@@ -348,6 +353,7 @@ private static boolean isDirty(
 			boolean hasDirtyCollection,
 			EntityVersionMapping versionMapping,
 			int[] dirtyAttributeIndexes,
+			long[] dirtyAttributeMask,
 			boolean[] attributeUpdateability,
 			int position,
 			SingularAttributeMapping attribute,
@@ -363,12 +369,12 @@ else if ( versionMapping != null
 					persister.getPropertyVersionability()
 			);
 		}
-		else if ( dirtyAttributeIndexes == null ) {
+		else if ( dirtyAttributeMask == null ) {
 			// we do not know, so assume it is
 			return true;
 		}
 		else {
-			return contains( dirtyAttributeIndexes, position );
+			return DirtyAttributeMasks.isDirty( dirtyAttributeMask, position );
 		}
 	}
 
@@ -620,6 +626,7 @@ protected UpdateValuesAnalysisImpl analyzeUpdateValues(
 			Object oldVersion,
 			Object[] oldValues,
 			int[] dirtyAttributeIndexes,
+			long[] dirtyAttributeMask,
 			InclusionChecker inclusionChecker,
 			InclusionChecker lockingChecker,
 			InclusionChecker dirtinessChecker,
@@ -640,6 +647,7 @@ protected UpdateValuesAnalysisImpl analyzeUpdateValues(
 				values,
 				oldValues,
 				dirtyAttributeIndexes,
+				dirtyAttributeMask,
 				dirtinessChecker,
 				rowId,
 				forceDynamicUpdate
@@ -1327,6 +1335,7 @@ protected void forEachUpdatable(AttributeMapping attributeMapping, TableUpdateBu
 	protected class UpdateValuesAnalysisImpl implements UpdateValuesAnalysis {
 		private final Object[] values;
 		private final int[] dirtyAttributeIndexes;
+		private final long[] dirtyAttributeMask;
 		private final InclusionChecker dirtinessChecker;
 
 		private final TableSet tablesNeedingUpdate = new TableSet();
@@ -1345,11 +1354,13 @@ public UpdateValuesAnalysisImpl(
 				Object[] values,
 				Object[] oldValues,
 				int[] dirtyAttributeIndexes,
+				long[] dirtyAttributeMask,
 				InclusionChecker dirtinessChecker,
 				Object rowId,
 				boolean forceDynamicUpdate) {
 			this.values = values;
 			this.dirtyAttributeIndexes = dirtyAttributeIndexes;
+			this.dirtyAttributeMask = dirtyAttributeMask;
 			this.dirtinessChecker = dirtinessChecker;
 
 			entityPersister().forEachMutableTable( (tableMapping) -> {
@@ -1446,8 +1457,8 @@ public void startingAttribute(AttributeMapping attribute) {
 			}
 			else {
 				currentAttributeAnalysis = new IncludedAttributeAnalysis( singularAttributeMapping );
-				if ( dirtyAttributeIndexes == null
-						|| contains( dirtyAttributeIndexes, attribute.getStateArrayPosition() ) ) {
+				if ( dirtyAttributeMask == null
+						|| DirtyAttributeMasks.isDirty( dirtyAttributeMask, attribute.getStateArrayPosition() ) ) {
 					currentAttributeAnalysis.markDirty( dirtyAttributeIndexes != null );
 				}
 			}
@@ -1680,6 +1691,7 @@ protected MutationOperationGroup buildStaticUpdateGroup() {
 				null,
 				null,
 				null,
+				null,
 				(index, attribute) -> includeInStaticUpdate( index, attribute, persister.getPropertyUpdateability() ),
 				(index,attribute) ->
 						switch ( persister.optimisticLockStyle() ) {
@@ -34,6 +34,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 /**
@@ -145,6 +147,36 @@ default List<R> getResultList() {
 		return list();
 	}
 
+	/**
+	 * Asynchronously execute the query and return the query results as a
+	 * {@link List}, as specified by {@link #getResultList()}.
+	 * <p>
+	 * The query is executed on the {@linkplain org.hibernate.cfg.QuerySettings#ASYNC_EXECUTOR
+	 * executor} configured for asynchronous operations, after every asynchronous
+	 * operation previously requested from the session completes. The session must
+	 * not be used by the calling thread until the returned stage completes.
+	 * <p>
+	 * Since the asynchronous operations of a session are executed one at a time,
+	 * this is not a way to execute several queries concurrently. It only frees the
+	 * calling thread.
+	 *
+	 * @implSpec The default implementation executes the query immediately, on the
+	 *           calling thread.
+	 *
+	 * @return a stage completed with the results as a list
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default CompletionStage<List<R>> getResultListAsync() {
+		try {
+			return CompletableFuture.completedFuture( getResultList() );
+		}
+		catch (RuntimeException e) {
+			return CompletableFuture.failedFuture( e );
+		}
+	}
+
 	/**
 	 * Returns scrollable access to the query results, using the
 	 * {@linkplain org.hibernate.dialect.Dialect#defaultScrollMode
@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.Version;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.spi.QueryEngine;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Remembers the HQL queries interpreted by the {@link QueryInterpretationCacheStandardImpl},
+ * saves them to a file when the {@code SessionFactory} is closed, and interprets them again
+ * on a background thread when the next {@code SessionFactory} is started, so that the first
+ * executions of the queries find their interpretations already cached.
+ * <p>
+ * The file is only used if it was written for the same version of Hibernate, the same
+ * {@linkplain org.hibernate.dialect.Dialect dialect}, and the same domain model. A query
+ * which can no longer be interpreted is silently dropped.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_WARMUP_FILE
+ *
+ * @since 7.4
+ */
+class HqlInterpretationWarmup {
+	private static final Logger LOG = QueryLogging.subLogger( "plan.warmup" );
+
+	private static final int MAGIC = 0x48514C57;
+	private static final int VERSION = 1;
+
+	private final Path file;
+	private final int maxSize;
+	private final Set<Query> queries = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean started = new AtomicBoolean();
+	private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+	private volatile String key;
+	private volatile boolean closed;
+
+	HqlInterpretationWarmup(Path file, int maxSize) {
+		this.file = file;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Called when an HQL query is interpreted.
+	 */
+	void interpreted(String queryString, Class<?> expectedResultType) {
+		if ( queries.size() < maxSize ) {
+			queries.add( new Query( queryString, expectedResultType == null ? "" : expectedResultType.getName() ) );
+		}
+	}
+
+	/**
+	 * Read the queries saved by {@link #save}, and interpret them on a background thread,
+	 * unless this was already done.
+	 *
+	 * @return a future which completes when all the saved queries have been interpreted
+	 */
+	CompletableFuture<Void> start(QueryEngine queryEngine) {
+		if ( !started.compareAndSet( false, true ) ) {
+			return completion;
+		}
+		key = key( queryEngine );
+		final List<Query> saved = read( key );
+		if ( saved.isEmpty() ) {
+			completion.complete( null );
+		}
+		else {
+			// remember them right away, in case we're closed before they're all interpreted
+			for ( var query : saved ) {
+				if ( queries.size() < maxSize ) {
+					queries.add( query );
+				}
+			}
+			final var thread = new Thread( () -> warmUp( queryEngine, saved ), "hibernate-query-plan-warmup" );
+			thread.setDaemon( true );
+			thread.start();
+		}
+		return completion;
+	}
+
+	private void warmUp(QueryEngine queryEngine, List<Query> saved) {
+		final long startTime = System.nanoTime();
+		int count = 0;
+		try {
+			final var classLoaderService = queryEngine.getClassLoaderService();
+			for ( var query : saved ) {
+				if ( closed ) {
+					break;
+				}
+				try {
+					queryEngine.interpretHql( query.queryString, resultType( query, classLoaderService ) );
+					count++;
+				}
+				catch (RuntimeException e) {
+					// the domain model or the query changed
+					queries.remove( query );
+					LOG.debugf( "Could not interpret saved query [%s]: %s", query.queryString, e.getMessage() );
+				}
+			}
+		}
+		finally {
+			completion.complete( null );
+		}
+		LOG.debugf( "Interpreted %s saved queries in %s ms", count, ( System.nanoTime() - startTime ) / 1_000_000 );
+	}
+
+	private static Class<?> resultType(Query query, ClassLoaderService classLoaderService) {
+		return query.resultTypeName.isEmpty() ? null : classLoaderService.classForName( query.resultTypeName );
+	}
+
+	private List<Query> read(String key) {
+		if ( !Files.isRegularFile( file ) ) {
+			return List.of();
+		}
+		try ( var input = new DataInputStream( new BufferedInputStream( Files.newInputStream( file ) ) ) ) {
+			if ( input.readInt() != MAGIC || input.readInt() != VERSION ) {
+				LOG.debugf( "Ignoring query plan warmup file '%s' with unknown format", file );
+				return List.of();
+			}
+			if ( !key.equals( input.readUTF() ) ) {
+				LOG.debugf( "Ignoring query plan warmup file '%s' written for a different domain model or dialect", file );
+				return List.of();
+			}
+			final int count = input.readInt();
+			final List<Query> saved = new ArrayList<>( Math.min( count, maxSize ) );
+			for ( int i = 0; i < count && saved.size() < maxSize; i++ ) {
+				final String resultTypeName = input.readUTF();
+				saved.add( new Query( readString( input ), resultTypeName ) );
+			}
+			return saved;
+		}
+		catch (IOException e) {
+			LOG.debugf( e, "Could not read query plan warmup file '%s'", file );
+			return List.of();
+		}
+	}
+
+	/**
+	 * Save the queries interpreted so far, along with the queries read by
+	 * {@link #start}, to the file.
+	 */
+	void save() {
+		if ( key == null ) {
+			// never started, the SessionFactory failed to initialize
+			return;
+		}
+		final List<Query> toSave = new ArrayList<>( queries );
+		try {
+			final var parent = file.toAbsolutePath().getParent();
+			if ( parent != null ) {
+				Files.createDirectories( parent );
+			}
+			// write to a temporary file, so that a concurrent reader never sees half a file
+			final var temporary = Files.createTempFile( parent, file.getFileName().toString(), ".tmp" );
+			try ( var output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporary ) ) ) ) {
+				output.writeInt( MAGIC );
+				output.writeInt( VERSION );
+				output.writeUTF( key );
+				output.writeInt( toSave.size() );
+				for ( var query : toSave ) {
+					output.writeUTF( query.resultTypeName );
+					writeString( output, query.queryString );
+				}
+			}
+			Files.move( temporary, file, StandardCopyOption.REPLACE_EXISTING );
+			LOG.debugf( "Saved %s queries to query plan warmup file '%s'", toSave.size(), file );
+		}
+		catch (IOException e) {
+			LOG.debugf( e, "Could not write query plan warmup file '%s'", file );
+		}
+	}
+
+	void close() {
+		closed = true;
+		save();
+	}
+
+	// writeUTF() is limited to 64K bytes, which is not enough for a long query
+	private static void writeString(DataOutputStream output, String string) throws IOException {
+		final byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * A digest of the Hibernate version, the dialect, and the names and
+	 * types of the entities and their attributes.
+	 */
+	private static String key(QueryEngine queryEngine) {
+		final var dialect = queryEngine.getDialect();
+		final Set<String> model = new TreeSet<>();
+		for ( var entity : queryEngine.getJpaMetamodel().getEntities() ) {
+			model.add( entity.getName() + ':' + entity.getJavaType() );
+			for ( var attribute : entity.getAttributes() ) {
+				model.add( entity.getName() + '.' + attribute.getName() + ':' + attribute.getJavaType() );
+			}
+		}
+		try {
+			final var digest = MessageDigest.getInstance( "SHA-256" );
+			update( digest, Version.getVersionString() );
+			update( digest, dialect.getClass().getName() );
+			update( digest, String.valueOf( dialect.getVersion() ) );
+			for ( String element : model ) {
+				update( digest, element );
+			}
+			return HexFormat.of().formatHex( digest.digest() );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	private static void update(MessageDigest digest, String string) {
+		digest.update( string.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	private record Query(String queryString, String resultTypeName) {
+	}
+}
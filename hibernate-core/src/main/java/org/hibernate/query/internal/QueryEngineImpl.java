@@ -33,15 +33,22 @@
 import org.hibernate.type.spi.TypeConfiguration;
 import org.jboss.logging.Logger;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import static java.util.Comparator.comparingInt;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_COST_AWARE;
 import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_ENABLED;
 import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_MAX_SIZE;
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_WARMUP_FILE;
+import static org.hibernate.internal.util.StringHelper.isEmpty;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 
 /**
  * Aggregation and encapsulation of the components Hibernate uses
@@ -64,6 +71,7 @@ public class QueryEngineImpl implements QueryEngine {
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final SqmFunctionRegistry sqmFunctionRegistry;
 	private final Dialect dialect;
+	private final HqlInterpretationWarmup interpretationWarmup;
 
 	public QueryEngineImpl(
 			MetadataImplementor metadata,
@@ -79,6 +87,7 @@ public QueryEngineImpl(
 		sqmTranslatorFactory = resolveSqmTranslatorFactory( options, dialect );
 		namedObjectRepository = metadata.buildNamedQueryRepository();
 		interpretationCache = buildInterpretationCache( serviceRegistry, properties );
+		interpretationWarmup = buildInterpretationWarmup( interpretationCache, properties );
 		nativeQueryInterpreter = serviceRegistry.getService( NativeQueryInterpreter.class );
 		classLoaderService = serviceRegistry.getService( ClassLoaderService.class );
 		// here we have something nasty: we need to pass a reference to the current object to
@@ -201,11 +210,44 @@ public static QueryInterpretationCache buildInterpretationCache(
 												+ QUERY_PLAN_CACHE_ENABLED + "' to 'false')" );
 		}
 
+		final boolean costAware = getBoolean( QUERY_PLAN_CACHE_COST_AWARE, properties );
 		return useCache
-				? new QueryInterpretationCacheStandardImpl( appliedMaxPlanSize, serviceRegistry )
+				? new QueryInterpretationCacheStandardImpl( appliedMaxPlanSize, costAware, serviceRegistry )
 				: new QueryInterpretationCacheDisabledImpl( serviceRegistry ); // disabled
 	}
 
+	private static HqlInterpretationWarmup buildInterpretationWarmup(
+			QueryInterpretationCache interpretationCache, Map<String, Object> properties) {
+		final String warmupFile = getString( QUERY_PLAN_CACHE_WARMUP_FILE, properties );
+		if ( isEmpty( warmupFile )
+				|| !( interpretationCache instanceof QueryInterpretationCacheStandardImpl standardCache ) ) {
+			return null;
+		}
+		else {
+			final Integer explicitMaxPlanSize = getInteger( QUERY_PLAN_CACHE_MAX_SIZE, properties );
+			final var warmup = new HqlInterpretationWarmup(
+					Path.of( warmupFile ),
+					explicitMaxPlanSize == null ? DEFAULT_QUERY_PLAN_MAX_COUNT : explicitMaxPlanSize
+			);
+			standardCache.setWarmup( warmup );
+			return warmup;
+		}
+	}
+
+	@Override
+	public CompletionStage<Void> startInterpretationCacheWarmup() {
+		return interpretationWarmup == null
+				? completedFuture( null )
+				: interpretationWarmup.start( this );
+	}
+
+	@Override
+	public void saveInterpretationCacheWarmup() {
+		if ( interpretationWarmup != null ) {
+			interpretationWarmup.save();
+		}
+	}
+
 	@Override
 	public void validateNamedQueries() {
 		namedObjectRepository.validateNamedQueries( this );
@@ -273,6 +315,10 @@ public Dialect getDialect() {
 
 	@Override
 	public void close() {
+		if ( interpretationWarmup != null ) {
+			interpretationWarmup.close();
+		}
+
 		if ( namedObjectRepository != null ) {
 			namedObjectRepository.close();
 		}
@@ -8,6 +8,7 @@
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.hibernate.internal.util.cache.CostAwareInternalCache;
 import org.hibernate.internal.util.cache.InternalCache;
 import org.hibernate.internal.util.cache.InternalCacheFactory;
 import org.hibernate.query.QueryLogging;
@@ -19,6 +20,7 @@
 import org.hibernate.query.spi.QueryPlan;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
+import org.hibernate.query.sqm.internal.ConcreteSqmSelectQueryPlan;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -43,14 +45,55 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	private final InternalCache<String, ParameterInterpretation> nativeQueryParamCache;
 
 	private StatisticsImplementor statistics;
+	private HqlInterpretationWarmup warmup;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, false, serviceRegistry );
+	}
+
+	/**
+	 * @param costAware If enabled, query plans and HQL interpretations are cached
+	 *                  by a {@link CostAwareInternalCache}, weighted by the time
+	 *                  spent producing them
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_COST_AWARE
+	 */
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			boolean costAware,
+			ServiceRegistry serviceRegistry) {
 		LOG.tracef( "Starting query interpretation cache (size %s)", maxQueryPlanCount );
+		this.serviceRegistry = serviceRegistry;
 		final var cacheFactory = serviceRegistry.requireService( InternalCacheFactory.class );
-		this.queryPlanCache = cacheFactory.createInternalCache( maxQueryPlanCount );
-		this.hqlInterpretationCache = cacheFactory.createInternalCache( maxQueryPlanCount );
+		if ( costAware ) {
+			this.queryPlanCache = new CostAwareInternalCache<>(
+					maxQueryPlanCount,
+					// the SQL translation happens lazily, when
+					// the plan is executed for the first time
+					plan -> plan instanceof ConcreteSqmSelectQueryPlan<?> sqmPlan
+							? sqmPlan.getTranslationNanos()
+							: 0L,
+					this::evicted
+			);
+			this.hqlInterpretationCache =
+					new CostAwareInternalCache<>( maxQueryPlanCount, interpretation -> 0L, this::evicted );
+		}
+		else {
+			this.queryPlanCache = cacheFactory.createInternalCache( maxQueryPlanCount );
+			this.hqlInterpretationCache = cacheFactory.createInternalCache( maxQueryPlanCount );
+		}
 		this.nativeQueryParamCache = cacheFactory.createInternalCache( maxQueryPlanCount );
-		this.serviceRegistry = serviceRegistry;
+	}
+
+	void setWarmup(HqlInterpretationWarmup warmup) {
+		this.warmup = warmup;
+	}
+
+	private void evicted(long nanoseconds) {
+		final var statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction( TimeUnit.NANOSECONDS.toMicros( nanoseconds ) );
+		}
 	}
 
 	@Override
@@ -94,8 +137,9 @@ public <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(
 			return cached;
 		}
 
+		final long startTime = System.nanoTime();
 		final var plan = creator.apply( key );
-		queryPlanCache.put( key.prepareForStore(), plan );
+		queryPlanCache.put( key.prepareForStore(), plan, System.nanoTime() - startTime );
 		if ( statisticsEnabled ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
 		}
@@ -143,9 +187,13 @@ else if ( expectedResultType != null ) {
 			}
 		}
 
+		final long startTime = System.nanoTime();
 		final var hqlInterpretation =
 				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
-		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
+		hqlInterpretationCache.put( cacheKey, hqlInterpretation, System.nanoTime() - startTime );
+		if ( warmup != null ) {
+			warmup.interpreted( queryString, expectedResultType );
+		}
 		return hqlInterpretation;
 	}
 
@@ -12,6 +12,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -269,6 +270,11 @@ public ScrollableResultsImplementor<R> scroll(ScrollMode scrollMode) {
 
 	protected abstract ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode);
 
+	@Override
+	public CompletionStage<List<R>> getResultListAsync() {
+		return getSession().executeAsync( this::getResultList );
+	}
+
 	@Override
 	public Stream<R> getResultStream() {
 		return stream();
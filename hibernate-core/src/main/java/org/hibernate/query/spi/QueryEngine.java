@@ -4,6 +4,9 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
@@ -45,6 +48,31 @@ public interface QueryEngine extends BindingContext {
 
 	void validateNamedQueries();
 
+	/**
+	 * Start interpreting, on a background thread, the HQL queries saved to the
+	 * {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_WARMUP_FILE
+	 * warmup file} by a previous run, if any. If the warmup was already started,
+	 * it is not started again.
+	 *
+	 * @return a stage which completes when all the saved queries have been interpreted
+	 *
+	 * @since 7.4
+	 */
+	default CompletionStage<Void> startInterpretationCacheWarmup() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	/**
+	 * Save the HQL queries interpreted so far to the
+	 * {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_WARMUP_FILE
+	 * warmup file}, if any. This happens automatically when the query engine
+	 * is {@linkplain #close closed}.
+	 *
+	 * @since 7.4
+	 */
+	default void saveInterpretationCacheWarmup() {
+	}
+
 	NamedObjectRepository getNamedObjectRepository();
 
 	HqlTranslator getHqlTranslator();
@@ -13,6 +13,9 @@
 import org.hibernate.query.sqm.tree.SqmDmlStatement;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 
 /**
  * @since 7.1
@@ -24,6 +27,11 @@
 
 	private volatile MultiTableHandler handler;
 
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock lock = new ReentrantLock();
+
 	public AbstractMultiTableMutationQueryPlan(S statement, DomainParameterXref domainParameterXref, F strategy) {
 		this.statement = statement;
 		this.domainParameterXref = domainParameterXref;
@@ -54,7 +62,8 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 		MultiTableHandler localCopy = handler;
 
 		if ( localCopy == null ) {
-			synchronized (this) {
+			lock.lock();
+			try {
 				localCopy = handler;
 				if ( localCopy == null ) {
 					final MultiTableHandlerBuildResult buildResult = buildHandler(
@@ -74,6 +83,9 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 					builtInterpretation = updateInterpretation( localCopy, context );
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		else {
 			builtInterpretation = updateInterpretation( localCopy, context );
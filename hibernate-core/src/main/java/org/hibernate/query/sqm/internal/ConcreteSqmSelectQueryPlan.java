@@ -49,6 +49,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static java.util.Collections.emptyList;
 import static org.hibernate.internal.util.ReflectHelper.isClass;
@@ -67,6 +69,7 @@
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 	private final SqmInterpreter<?, ? extends ResultsConsumer<?, R>> executeQueryInterpreter;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
@@ -74,6 +77,12 @@
 
 	private volatile CacheableSqmInterpretation<SelectStatement, JdbcSelect> cacheableSqmInterpretation;
 
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock lock = new ReentrantLock();
+	private volatile long translationNanos;
+
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
 			String hql,
@@ -82,6 +91,7 @@ public ConcreteSqmSelectQueryPlan(
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		final var uniqueSemantic =
@@ -369,7 +379,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 
 		// IMPORTANT NOTE: Intentional double-lock checking
 		// Another solution would be to use ReadWriteLock
-		// to protect access. But synchronized is simpler here.
+		// to protect access. But a simple lock is enough here.
 		// We will verify during throughput testing whether
 		// this is an issue and consider changes then.
 
@@ -377,11 +387,12 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 		JdbcParameterBindings jdbcParameterBindings = null;
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			lock.lock();
+			try {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
 					final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
-					localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
+					localCopy = timedBuildInterpretation( executionContext, mutableValue );
 					jdbcParameterBindings = mutableValue.get();
 					cacheableSqmInterpretation = localCopy;
 				}
@@ -396,12 +407,15 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					// We could avoid this by putting the lock options into the cache key
 					if ( !jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 						final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
-						localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
+						localCopy = timedBuildInterpretation( executionContext, mutableValue );
 						jdbcParameterBindings = mutableValue.get();
 						cacheableSqmInterpretation = localCopy;
 					}
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
@@ -414,7 +428,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 			// We could avoid this by putting the lock options into the cache key
 			if ( !jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 				final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
-				localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
+				localCopy = timedBuildInterpretation( executionContext, mutableValue );
 				jdbcParameterBindings = mutableValue.get();
 				cacheableSqmInterpretation = localCopy;
 			}
@@ -427,6 +441,41 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings, preFlushed );
 	}
 
+	private CacheableSqmInterpretation<SelectStatement, JdbcSelect> timedBuildInterpretation(
+			DomainQueryExecutionContext executionContext,
+			MutableObject<JdbcParameterBindings> firstJdbcParameterBindingsConsumer) {
+		final var session = executionContext.getSession();
+		final var eventMonitor = session.getEventMonitor();
+		final var compilationEvent = eventMonitor.beginQueryPlanCompilationEvent();
+		CacheableSqmInterpretation<SelectStatement, JdbcSelect> interpretation = null;
+		try {
+			final long startTime = System.nanoTime();
+			interpretation =
+					buildInterpretation( sqm, domainParameterXref, executionContext, firstJdbcParameterBindingsConsumer );
+			translationNanos = System.nanoTime() - startTime;
+			return interpretation;
+		}
+		finally {
+			eventMonitor.completeQueryPlanCompilationEvent(
+					compilationEvent,
+					session,
+					hql,
+					sqm,
+					interpretation == null ? null : interpretation.jdbcOperation().getSqlString()
+			);
+		}
+	}
+
+	/**
+	 * The time, in nanoseconds, spent by the most recent translation of the
+	 * SQM tree to SQL, or {@code 0} if the query was never translated.
+	 *
+	 * @since 7.4
+	 */
+	public long getTranslationNanos() {
+		return translationNanos;
+	}
+
 	// For Hibernate Reactive
 	protected JdbcParameterBindings createJdbcParameterBindings(
 			CacheableSqmInterpretation<SelectStatement, JdbcSelect> sqmInterpretation,
@@ -25,6 +25,8 @@
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.hibernate.query.sqm.internal.SqmUtil.generateJdbcParamsXref;
 
@@ -38,6 +40,11 @@ public class SimpleNonSelectQueryPlan implements NonSelectQueryPlan {
 
 	private volatile CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> interpretation;
 
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock lock = new ReentrantLock();
+
 	public SimpleNonSelectQueryPlan(SqmDmlStatement<?> statement, DomainParameterXref domainParameterXref) {
 		this.statement = statement;
 		this.domainParameterXref = domainParameterXref;
@@ -111,7 +118,8 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 		CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> localCopy = interpretation;
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			lock.lock();
+			try {
 				localCopy = interpretation;
 				if ( localCopy == null ) {
 					builtInterpretation = buildInterpretation( statement, domainParameterXref, context );
@@ -122,6 +130,9 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 					builtInterpretation = updateInterpretation( localCopy, context );
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		else {
 			builtInterpretation = updateInterpretation( localCopy, context );
@@ -8753,12 +8753,19 @@ protected void renderInsertInto(TableInsertStandard tableInsert) {
 		try {
 			sqlBuffer.append( ") values (" );
 
-			tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
-				if ( columnPosition > 0 ) {
-					sqlBuffer.append( ',' );
-				}
-				columnValueBinding.getValueExpression().accept( this );
-			} );
+			// a multi-row insert repeats the values once per row,
+			// so that each row has its own JDBC parameters
+			for ( int row = 0; row < tableInsert.getValuesRowCount(); row++ ) {
+				if ( row > 0 ) {
+					sqlBuffer.append( "),(" );
+				}
+				tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
+					if ( columnPosition > 0 ) {
+						sqlBuffer.append( ',' );
+					}
+					columnValueBinding.getValueExpression().accept( this );
+				} );
+			}
 		}
 		finally {
 			getCurrentClauseStack().pop();
@@ -249,6 +249,8 @@ private void logQueryStatistics(
 		final int rows = getResultSize( result );
 		STATISTICS_LOGGER.queryExecuted( query, milliseconds, (long) rows );
 		statistics.queryExecuted( query, rows, milliseconds );
+		statistics.queryExecutionTime( query,
+				TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS ) );
 	}
 
 	protected static <R> RowTransformer<R> getRowTransformer(ExecutionContext executionContext, JdbcValues jdbcValues) {
@@ -408,8 +410,13 @@ private static AbstractJdbcValues resolveJdbcValues(
 						&& cachedResults.get( 0 ) instanceof JdbcValuesMetadata jdbcValuesMetadata
 							? jdbcValuesMetadata
 							: resultSetAccess;
-			return new JdbcValuesCacheHit( cachedResults,
-					mappingProducer.resolve( valuesMetadata, loadQueryInfluencers, factory ) );
+			final var cacheHit =
+					new JdbcValuesCacheHit( cachedResults,
+							mappingProducer.resolve( valuesMetadata, loadQueryInfluencers, factory ) );
+			if ( factory.getSessionFactoryOptions().isQueryCacheBatchLoadEnabled() ) {
+				cacheHit.batchLoadShallowCachedEntities( executionContext );
+			}
+			return cacheHit;
 		}
 	}
 
@@ -7,19 +7,24 @@
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import org.hibernate.Incubating;
 import org.hibernate.sql.ast.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
+import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ast.AbstractTableInsert;
 import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
 import org.hibernate.sql.model.ast.MutatingTableReference;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * @author Steve Ebersole
  */
 public class TableInsertStandard extends AbstractTableInsert {
 	private final List<ColumnReference> returningColumns;
+	private final int valuesRowCount;
 
 	public TableInsertStandard(
 			MutatingTableReference mutatingTable,
@@ -27,8 +32,26 @@ public TableInsertStandard(
 			List<ColumnValueBinding> valueBindings,
 			List<ColumnReference> returningColumns,
 			List<ColumnValueParameter> parameters) {
+		this( mutatingTable, mutationTarget, valueBindings, returningColumns, parameters, 1 );
+	}
+
+	/**
+	 * @param valuesRowCount The number of rows inserted by the statement,
+	 *                       each with its own JDBC parameters
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public TableInsertStandard(
+			MutatingTableReference mutatingTable,
+			MutationTarget<?> mutationTarget,
+			List<ColumnValueBinding> valueBindings,
+			List<ColumnReference> returningColumns,
+			List<ColumnValueParameter> parameters,
+			int valuesRowCount) {
 		super( mutatingTable, mutationTarget, parameters, valueBindings );
 		this.returningColumns = returningColumns;
+		this.valuesRowCount = valuesRowCount;
 	}
 
 	@Override
@@ -46,6 +69,50 @@ public void forEachReturningColumn(BiConsumer<Integer,ColumnReference> consumer)
 		forEachThing( returningColumns, consumer );
 	}
 
+	/**
+	 * The number of rows inserted by the statement, that is, the number
+	 * of times the values are repeated in the {@code values} clause.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public int getValuesRowCount() {
+		return valuesRowCount;
+	}
+
+	/**
+	 * Whether this insert may be rendered as a multi-row insert of
+	 * {@linkplain #withValuesRowCount several rows}.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public boolean supportsMultipleValuesRows() {
+		return getClass() == TableInsertStandard.class
+			&& getNumberOfValueBindings() > 0
+			&& getNumberOfReturningColumns() == 0;
+	}
+
+	/**
+	 * A copy of this insert which inserts the given number of rows.
+	 *
+	 * @see #supportsMultipleValuesRows()
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public TableInsertStandard withValuesRowCount(int valuesRowCount) {
+		assert supportsMultipleValuesRows();
+		return new TableInsertStandard(
+				getMutatingTable(),
+				getMutationTarget(),
+				getValueBindings(),
+				returningColumns,
+				getParameters(),
+				valuesRowCount
+		);
+	}
+
 	@Override
 	public boolean isCallable() {
 		return false;
@@ -55,4 +122,20 @@ public boolean isCallable() {
 	public void accept(SqlAstWalker walker) {
 		walker.visitStandardTableInsert( this );
 	}
+
+	@Override
+	protected JdbcInsertMutation createMutationOperation(
+			TableMapping tableDetails,
+			String sql,
+			List<JdbcParameterBinder> effectiveBinders) {
+		return new JdbcInsertMutation(
+				tableDetails,
+				getMutationTarget(),
+				sql,
+				isCallable(),
+				getExpectation(),
+				effectiveBinders,
+				valuesRowCount == 1 && supportsMultipleValuesRows() ? this : null
+		);
+	}
 }
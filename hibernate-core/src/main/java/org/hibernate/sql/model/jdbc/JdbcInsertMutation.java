@@ -6,11 +6,17 @@
 
 import java.util.List;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.internal.TableInsertStandard;
+
+import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 
 /**
  * Descriptor for a table insert originating from a flush
@@ -18,6 +24,11 @@
  * @author Steve Ebersole
  */
 public class JdbcInsertMutation extends AbstractJdbcMutation {
+	private final @Nullable TableInsertStandard tableInsert;
+	private final @Nullable List<String> parameterColumnNames;
+
+	private volatile @Nullable JdbcInsertMutation multiRowInsert;
+
 	public JdbcInsertMutation(
 			TableMapping tableDetails,
 			MutationTarget<?> mutationTarget,
@@ -25,7 +36,47 @@ public JdbcInsertMutation(
 			boolean callable,
 			Expectation expectation,
 			List<? extends JdbcParameterBinder> parameterBinders) {
+		this( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders, null );
+	}
+
+	/**
+	 * @param tableInsert The insert from which this mutation was translated,
+	 *                    if it may be turned into a multi-row insert
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public JdbcInsertMutation(
+			TableMapping tableDetails,
+			MutationTarget<?> mutationTarget,
+			String sql,
+			boolean callable,
+			Expectation expectation,
+			List<? extends JdbcParameterBinder> parameterBinders,
+			@Nullable TableInsertStandard tableInsert) {
 		super( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders );
+		this.tableInsert = tableInsert;
+		this.parameterColumnNames =
+				tableInsert == null ? null : parameterColumnNames( tableInsert, parameterBinders.size() );
+	}
+
+	private static @Nullable List<String> parameterColumnNames(TableInsertStandard tableInsert, int parameterCount) {
+		final var valueBindings = tableInsert.getValueBindings();
+		if ( valueBindings.size() != parameterCount ) {
+			return null;
+		}
+		final List<String> columnNames = arrayList( parameterCount );
+		for ( var valueBinding : valueBindings ) {
+			final var valueExpression = valueBinding.getValueExpression();
+			if ( valueExpression == null
+					|| valueExpression.getParameters().size() != 1
+					|| !"?".equals( valueExpression.getFragment() ) ) {
+				// a literal or a custom write expression
+				return null;
+			}
+			columnNames.add( valueBinding.getColumnReference().getColumnExpression() );
+		}
+		return columnNames;
 	}
 
 	@Override
@@ -33,6 +84,61 @@ public MutationType getMutationType() {
 		return MutationType.INSERT;
 	}
 
+	/**
+	 * Whether this insert may be turned into a
+	 * {@linkplain #getMultiRowInsert multi-row insert}.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public boolean supportsMultiRowInsert() {
+		return tableInsert != null;
+	}
+
+	/**
+	 * The variant of this insert which inserts the given number of rows
+	 * using a single statement. The JDBC parameters of the row {@code n}
+	 * (counting from zero) of the multi-row insert are those of this insert,
+	 * shifted by {@code n * getParameterBinders().size()} positions.
+	 *
+	 * @see #supportsMultiRowInsert()
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public JdbcInsertMutation getMultiRowInsert(int rowCount, SessionFactoryImplementor factory) {
+		if ( tableInsert == null ) {
+			throw new UnsupportedOperationException( "Multi-row insert not supported: " + this );
+		}
+		// the number of rows only depends on the batch size and
+		// on the dialect, so a single cached variant is enough
+		final var cached = multiRowInsert;
+		if ( cached != null
+				&& cached.getParameterBinders().size() == rowCount * getParameterBinders().size() ) {
+			return cached;
+		}
+		else {
+			final var created =
+					tableInsert.withValuesRowCount( rowCount )
+							.createMutationOperation( null, factory );
+			multiRowInsert = created;
+			return created;
+		}
+	}
+
+	/**
+	 * The names of the columns into which the JDBC parameters of this insert
+	 * are inserted, in the order of the parameters, or {@code null} if the
+	 * value of some column is not simply a JDBC parameter, for example, if it
+	 * is a literal, or a custom write expression.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	public @Nullable List<String> getParameterColumnNames() {
+		return parameterColumnNames;
+	}
+
 	@Override
 	public String toString() {
 		return "JdbcInsertMutation(" + getTableDetails().getTableName() + ")";
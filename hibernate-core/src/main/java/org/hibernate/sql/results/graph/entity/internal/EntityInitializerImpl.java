@@ -4,8 +4,10 @@
  */
 package org.hibernate.sql.results.graph.entity.internal;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
@@ -144,6 +146,9 @@ public static class EntityInitializerData extends InitializerData {
 		protected @Nullable Object entityInstanceForNotify;
 		protected @Nullable EntityHolder entityHolder;
 
+		// entries waiting to be put in the second-level cache
+		private @Nullable CachePutBatch cachePutBatch;
+
 		public EntityInitializerData(EntityInitializerImpl initializer, RowProcessingState rowProcessingState) {
 			super( rowProcessingState );
 			final var entityDescriptor = initializer.entityDescriptor;
@@ -187,6 +192,40 @@ public EntityInitializerData(EntityInitializerData original) {
 			this.entityKey = original.entityKey;
 			this.entityInstanceForNotify = original.entityInstanceForNotify;
 			this.entityHolder = original.entityHolder;
+			this.cachePutBatch = original.cachePutBatch;
+		}
+	}
+
+	/**
+	 * The maximum number of entries buffered before they're written
+	 * to the second-level cache in a single interaction.
+	 */
+	private static final int CACHE_PUT_BATCH_SIZE = 64;
+
+	/**
+	 * Entries read from the result set which are written to the
+	 * second-level cache together, instead of one at a time.
+	 */
+	private static final class CachePutBatch {
+		private final EntityDataAccess cacheAccess;
+		private final EntityPersister concreteDescriptor;
+		private final List<Object> keys = new ArrayList<>();
+		private final List<Object> values = new ArrayList<>();
+		private final List<Object> versions = new ArrayList<>();
+
+		private CachePutBatch(EntityDataAccess cacheAccess, EntityPersister concreteDescriptor) {
+			this.cacheAccess = cacheAccess;
+			this.concreteDescriptor = concreteDescriptor;
+		}
+
+		private void add(Object key, Object value, Object version) {
+			keys.add( key );
+			values.add( value );
+			versions.add( version );
+		}
+
+		private int size() {
+			return keys.size();
 		}
 	}
 
@@ -1756,43 +1795,72 @@ private void putInCache(
 			Object version,
 			EntityDataAccess cacheAccess,
 			Object cacheKey, CacheEntry cacheEntry) {
-		final boolean minimalPutsEnabled =
-				session.getFactory().getSessionFactoryOptions().isMinimalPutsEnabled()
-						&& session.getCacheMode() != CacheMode.REFRESH;
-		final var eventListenerManager = session.getEventListenerManager();
-		boolean cacheContentChanged = false;
-		final var eventMonitor = session.getEventMonitor();
-		final var cachePutEvent = eventMonitor.beginCachePutEvent();
-		try {
-			eventListenerManager.cachePutStart();
-			cacheContentChanged = cacheAccess.putFromLoad(
-					session,
-					cacheKey,
-					data.concreteDescriptor.getCacheEntryStructure().structure( cacheEntry ),
-					version,
-					minimalPutsEnabled
-			);
-		}
-		finally {
-			eventMonitor.completeCachePutEvent(
-					cachePutEvent,
-					session,
-					cacheAccess,
-					data.concreteDescriptor,
-					cacheContentChanged,
-					EventMonitor.CacheActionDescription.ENTITY_LOAD
-			);
-			if ( cacheContentChanged ) {
+		// the entries are buffered, and written to the cache
+		// in batches, or at the end of the result processing
+		var batch = data.cachePutBatch;
+		if ( batch != null && batch.cacheAccess != cacheAccess ) {
+			flushCachePuts( data, session );
+			batch = null;
+		}
+		if ( batch == null ) {
+			batch = new CachePutBatch( cacheAccess, data.concreteDescriptor );
+			data.cachePutBatch = batch;
+		}
+		batch.add( cacheKey, data.concreteDescriptor.getCacheEntryStructure().structure( cacheEntry ), version );
+		if ( batch.size() >= CACHE_PUT_BATCH_SIZE ) {
+			flushCachePuts( data, session );
+		}
+	}
+
+	private void flushCachePuts(EntityInitializerData data, SharedSessionContractImplementor session) {
+		final var batch = data.cachePutBatch;
+		if ( batch != null ) {
+			data.cachePutBatch = null;
+			final var cacheAccess = batch.cacheAccess;
+			final boolean minimalPutsEnabled =
+					session.getFactory().getSessionFactoryOptions().isMinimalPutsEnabled()
+							&& session.getCacheMode() != CacheMode.REFRESH;
+			final var eventListenerManager = session.getEventListenerManager();
+			int cachePuts = 0;
+			final var eventMonitor = session.getEventMonitor();
+			final var cachePutEvent = eventMonitor.beginCachePutEvent();
+			try {
+				eventListenerManager.cachePutStart();
+				cachePuts = cacheAccess.putAllFromLoad(
+						session,
+						batch.keys,
+						batch.values,
+						batch.versions,
+						minimalPutsEnabled
+				);
+			}
+			finally {
+				eventMonitor.completeCachePutEvent(
+						cachePutEvent,
+						session,
+						cacheAccess,
+						batch.concreteDescriptor,
+						cachePuts > 0,
+						EventMonitor.CacheActionDescription.ENTITY_LOAD
+				);
 				final var statistics = session.getFactory().getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
-					statistics.entityCachePut( rootEntityDescriptor.getNavigableRole(),
-							cacheAccess.getRegion().getName() );
+					for ( int i = 0; i < cachePuts; i++ ) {
+						statistics.entityCachePut( rootEntityDescriptor.getNavigableRole(),
+								cacheAccess.getRegion().getName() );
+					}
 				}
+				eventListenerManager.cachePutEnd();
 			}
-			eventListenerManager.cachePutEnd();
 		}
 	}
 
+	@Override
+	public void endLoading(EntityInitializerData data) {
+		super.endLoading( data );
+		flushCachePuts( data, data.getRowProcessingState().getSession() );
+	}
+
 	private static void putRecentlyInsertedInCache(
 			EntityInitializerData data,
 			SharedSessionContractImplementor session,
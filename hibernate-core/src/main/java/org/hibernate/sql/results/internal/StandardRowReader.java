@@ -6,9 +6,13 @@
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.StringJoiner;
 
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.build.AllowReflection;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
@@ -38,6 +42,11 @@
 
 	private final ComponentType componentType;
 	private final Class<?> resultElementClass;
+	private final Object @Nullable [] reusableResultRow;
+
+	private @Nullable EventMonitor eventMonitor;
+	private @Nullable DiagnosticEvent rowProcessingEvent;
+	private long rowCount;
 
 	public StandardRowReader(
 			JdbcValuesMappingResolution jdbcValuesMappingResolution,
@@ -90,6 +99,16 @@ public StandardRowReader(
 			this.resultElementClass = domainResultJavaType.getComponentType();
 			this.componentType = ComponentType.determineComponentType( domainResultJavaType );
 		}
+		// a constructor does not hold on to the array of its arguments,
+		// so the same array may be used for every row; this only saves
+		// the allocation of the array of arguments, the JDBC values are
+		// still extracted, boxed, into the buffer of the JdbcValues
+		this.reusableResultRow =
+				this.rowTransformer instanceof RowTransformerConstructorImpl<?>
+						&& componentType == ComponentType.OBJECT
+						&& resultElementClass == Object.class
+					? new Object[resultAssemblers.length]
+					: null;
 	}
 
 	@Override
@@ -134,6 +153,10 @@ public boolean hasCollectionInitializers() {
 
 	@Override
 	public T readRow(RowProcessingState rowProcessingState) {
+		if ( rowCount++ == 0 && eventMonitor != null ) {
+			// the query was already executed by the time we read the first row
+			rowProcessingEvent = eventMonitor.beginRowProcessingEvent();
+		}
 		coordinateInitializers();
 		final T result = getResult( rowProcessingState );
 		finishUpRow();
@@ -149,6 +172,9 @@ private T getResult(RowProcessingState rowProcessingState) {
 		else if ( resultAssemblers.length == 1 && rowTransformer == null ) {
 			return (T) resultAssemblers[0].assemble( rowProcessingState );
 		}
+		else if ( reusableResultRow != null ) {
+			return readReusableRow( rowProcessingState, reusableResultRow );
+		}
 		else {
 			final var resultRow = (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length );
 			for ( int i = 0; i < resultAssemblers.length; i++ ) {
@@ -160,6 +186,20 @@ else if ( resultAssemblers.length == 1 && rowTransformer == null ) {
 		}
 	}
 
+	private T readReusableRow(RowProcessingState rowProcessingState, Object[] resultRow) {
+		try {
+			for ( int i = 0; i < resultAssemblers.length; i++ ) {
+				resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
+			}
+			//noinspection DataFlowIssue
+			return rowTransformer.transformRow( resultRow );
+		}
+		finally {
+			// don't keep the values of the row reachable
+			Arrays.fill( resultRow, null );
+		}
+	}
+
 	private Object readPrimitiveRow(RowProcessingState rowProcessingState) {
 		// The following is ugly, but unfortunately necessary to not hurt performance.
 		// This implementation was micro-benchmarked and discussed with Francesco Nigro,
@@ -243,6 +283,8 @@ private void coordinateInitializers() {
 
 	@Override
 	public void startLoading(RowProcessingState processingState) {
+		eventMonitor = processingState.getSession().getEventMonitor();
+		rowCount = 0;
 		for ( int i = 0; i < resultInitializers.length; i++ ) {
 			final var initializer = resultInitializers[i];
 			initializer.startLoading( processingState );
@@ -261,6 +303,29 @@ public void finishUp(RowProcessingState rowProcessingState) {
 		for ( int i = 0; i < initializers.length; i++ ) {
 			initializers[i].endLoading( initializersData[i] );
 		}
+		if ( eventMonitor != null ) {
+			eventMonitor.completeRowProcessingEvent(
+					rowProcessingEvent,
+					rowProcessingState.getSession(),
+					rowCount,
+					rowProcessingEvent == null ? null : resultNames()
+			);
+			rowProcessingEvent = null;
+		}
+	}
+
+	/**
+	 * The entity names, collection roles, or types of the results of each row
+	 */
+	private String resultNames() {
+		final var names = new StringJoiner( ", " );
+		for ( var resultAssembler : resultAssemblers ) {
+			final var initializer = resultAssembler.getInitializer();
+			names.add( initializer == null
+					? resultAssembler.getAssembledJavaType().getTypeName()
+					: initializer.getInitializedPart().getNavigableRole().getFullPath() );
+		}
+		return names.toString();
 	}
 
 	enum ComponentType {
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.util.BitSet;
+
+/**
+ * Policy for growing the JDBC fetch size of a result set as its rows are consumed.
+ * <p>
+ * Each time a full fetch of rows has been consumed, the fetch size is doubled,
+ * limited by the {@linkplain #estimateRowWidth estimated width} of the rows, so
+ * that a single fetch never occupies more than {@value #MAX_FETCH_BYTES} bytes.
+ * The fetch size stops growing once the time spent processing a fetch makes the
+ * cost of the round trip to the database negligible.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE
+ *
+ * @since 7.4
+ */
+class AdaptiveFetchSize {
+	static final int MAX_FETCH_SIZE = 10_000;
+	static final long MAX_FETCH_BYTES = 4L * 1024 * 1024;
+	// once the rows of a fetch take this long to process, the
+	// latency of fetching them no longer matters
+	static final long SLOW_FETCH_NANOS = 500_000_000L;
+
+	private final int initialFetchSize;
+	private int fetchSize;
+	private int rowsInFetch;
+	private long fetchStartNanos;
+	private long rowWidth;
+
+	AdaptiveFetchSize(int initialFetchSize) {
+		assert initialFetchSize > 0;
+		this.initialFetchSize = initialFetchSize;
+		this.fetchSize = initialFetchSize;
+		this.fetchStartNanos = System.nanoTime();
+	}
+
+	int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * Called after a row has been processed.
+	 *
+	 * @param rowValues The JDBC values of the row
+	 * @param readValues The indexes of the JDBC values which were actually read
+	 *
+	 * @return The new fetch size, or {@code 0} if the fetch size is unchanged
+	 */
+	int rowProcessed(Object[] rowValues, BitSet readValues) {
+		if ( ++rowsInFetch < fetchSize ) {
+			return 0;
+		}
+		else {
+			final long now = System.nanoTime();
+			final long elapsedNanos = now - fetchStartNanos;
+			rowsInFetch = 0;
+			fetchStartNanos = now;
+			// a moving average of the width of the last row of each fetch
+			final long width = estimateRowWidth( rowValues, readValues );
+			rowWidth = rowWidth == 0 ? width : ( rowWidth + width ) / 2;
+			final int newFetchSize = nextFetchSize( elapsedNanos );
+			if ( newFetchSize == fetchSize ) {
+				return 0;
+			}
+			else {
+				fetchSize = newFetchSize;
+				return newFetchSize;
+			}
+		}
+	}
+
+	private int nextFetchSize(long elapsedNanos) {
+		final long limit = Math.min( MAX_FETCH_SIZE, MAX_FETCH_BYTES / Math.max( rowWidth, 1 ) );
+		if ( fetchSize > limit ) {
+			// the rows are wider than they were, but
+			// never go below what was asked for
+			return (int) Math.max( limit, initialFetchSize );
+		}
+		else if ( elapsedNanos >= SLOW_FETCH_NANOS ) {
+			return fetchSize;
+		}
+		else {
+			return (int) Math.min( 2L * fetchSize, limit );
+		}
+	}
+
+	/**
+	 * A rough estimate of the memory occupied by the given JDBC values.
+	 */
+	static long estimateRowWidth(Object[] rowValues, BitSet readValues) {
+		long width = 16;
+		for ( int i = readValues.nextSetBit( 0 ); i >= 0; i = readValues.nextSetBit( i + 1 ) ) {
+			final Object value = rowValues[i];
+			if ( value instanceof String string ) {
+				width += 40 + string.length();
+			}
+			else if ( value instanceof byte[] bytes ) {
+				width += 16 + bytes.length;
+			}
+			else if ( value instanceof char[] chars ) {
+				width += 16 + 2L * chars.length;
+			}
+			else {
+				width += 24;
+			}
+		}
+		return width;
+	}
+}
@@ -49,6 +49,10 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 	private PreparedStatement preparedStatement;
 	private ResultSet resultSet;
 
+	// only measured when SQL profiling is enabled
+	private long executionStartNanos;
+	private long executionEndNanos;
+
 	public DeferredResultSetAccess(
 			JdbcSelect jdbcSelect,
 			JdbcParameterBindings jdbcParameterBindings,
@@ -195,6 +199,28 @@ protected SessionFactoryImplementor getFactory() {
 		return executionContext.getSession().getFactory();
 	}
 
+	/**
+	 * The {@link System#nanoTime()} at which the execution of the query started,
+	 * or {@code 0} if {@linkplain org.hibernate.cfg.StatisticsSettings#SQL_PROFILING
+	 * SQL profiling} is disabled.
+	 *
+	 * @since 7.4
+	 */
+	public long getExecutionStartNanos() {
+		return executionStartNanos;
+	}
+
+	/**
+	 * The {@link System#nanoTime()} at which the execution of the query completed,
+	 * or {@code 0} if {@linkplain org.hibernate.cfg.StatisticsSettings#SQL_PROFILING
+	 * SQL profiling} is disabled.
+	 *
+	 * @since 7.4
+	 */
+	public long getExecutionEndNanos() {
+		return executionEndNanos;
+	}
+
 	public String getFinalSql() {
 		return finalSql;
 	}
@@ -257,8 +283,9 @@ private void executeQuery() {
 			bindParameters( preparedStatement );
 
 			final var eventListenerManager = session.getEventListenerManager();
+			final boolean profiling = session.getFactory().getStatistics().isSqlProfilingEnabled();
 			long executeStartNanos = 0;
-			if ( sqlStatementLogger.getLogSlowQuery() > 0 ) {
+			if ( profiling || sqlStatementLogger.getLogSlowQuery() > 0 ) {
 				executeStartNanos = System.nanoTime();
 			}
 			final var eventMonitor = session.getEventMonitor();
@@ -275,6 +302,10 @@ private void executeQuery() {
 			finally {
 				eventMonitor.completeJdbcPreparedStatementExecutionEvent( jdbcPreparedStatementExecutionEvent, finalSql );
 				eventListenerManager.jdbcExecuteStatementEnd();
+				if ( profiling ) {
+					executionStartNanos = executeStartNanos;
+					executionEndNanos = System.nanoTime();
+				}
 				sqlStatementLogger.logSlowQuery( finalSql, executeStartNanos, context() );
 			}
 
@@ -4,9 +4,21 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import java.util.BitSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.OrderingMode;
+import org.hibernate.RemovalsMode;
+import org.hibernate.SessionCheckMode;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.results.graph.entity.EntityResult;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
@@ -34,6 +46,55 @@ public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMappi
 		this.valueIndexesToCacheIndexes = resolvedMapping.getValueIndexesToCacheIndexes();
 	}
 
+	/**
+	 * Load the entities of the entity results which were cached using the
+	 * {@linkplain org.hibernate.annotations.CacheLayout#SHALLOW shallow layout},
+	 * all at once, from the second-level cache and then in batches from the
+	 * database, instead of one at a time as each row is processed.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_BATCH_LOAD
+	 */
+	public void batchLoadShallowCachedEntities(ExecutionContext executionContext) {
+		final var session = executionContext.getSession();
+		final var lockOptions = executionContext.getQueryOptions().getLockOptions();
+		if ( numberOfRows > 1 && !session.isStateless()
+				&& !lockOptions.getLockMode().greaterThan( LockMode.READ ) ) {
+			for ( var domainResult : resolvedMapping.getDomainResults() ) {
+				if ( domainResult instanceof EntityResult<?> entityResult ) {
+					batchLoadShallowCachedEntities( entityResult, executionContext.getQueryOptions().isReadOnly(), session );
+				}
+			}
+		}
+	}
+
+	private void batchLoadShallowCachedEntities(
+			EntityResult<?> entityResult,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		final var persister = entityResult.getReferencedMappingContainer().getEntityPersister();
+		if ( persister.useShallowQueryCacheLayout()
+				&& !persister.storeDiscriminatorInShallowQueryCacheLayout()
+				&& persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping identifierMapping
+				&& identifierMapping.getJdbcMapping().getValueConverter() == null ) {
+			// with the shallow layout, only the identifier is cached
+			final var valueIndexes = new BitSet();
+			entityResult.collectValueIndexesToCache( valueIndexes );
+			if ( valueIndexes.cardinality() == 1 ) {
+				final int valueIndex = valueIndexes.nextSetBit( 0 );
+				final var ids = new LinkedHashSet<>( numberOfRows );
+				for ( int row = 0; row < numberOfRows; row++ ) {
+					final Object id = getRowValue( row, valueIndex );
+					if ( id != null ) {
+						ids.add( id );
+					}
+				}
+				if ( ids.size() > 1 ) {
+					persister.multiLoad( ids.toArray(), session, new ShallowCachedEntityLoadOptions( readOnly, session ) );
+				}
+			}
+		}
+	}
+
 	@Override
 	protected boolean processNext(RowProcessingState rowProcessingState) {
 		// NOTE: explicitly skipping limit handling because the cached state ought
@@ -167,9 +228,10 @@ public boolean usesFollowOnLocking() {
 
 	@Override
 	public Object getCurrentRowValue(int valueIndex) {
-		if ( position >= numberOfRows ) {
-			return null;
-		}
+		return position >= numberOfRows ? null : getRowValue( position, valueIndex );
+	}
+
+	private Object getRowValue(int position, int valueIndex) {
 		final Object row = cachedResults.get( position + offset );
 		if ( row instanceof Object[] array ) {
 			return valueIndexesToCacheIndexes == null
@@ -199,4 +261,42 @@ public void setFetchSize(int fetchSize) {}
 	public int getResultCountEstimate() {
 		return resultCount;
 	}
+
+	private record ShallowCachedEntityLoadOptions(Boolean readOnly, SharedSessionContractImplementor session)
+			implements MultiIdLoadOptions {
+		@Override
+		public SessionCheckMode getSessionCheckMode() {
+			return SessionCheckMode.ENABLED;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return session.getCacheMode().isGetEnabled();
+		}
+
+		@Override
+		public Boolean getReadOnly(SessionImplementor session) {
+			return readOnly;
+		}
+
+		@Override
+		public RemovalsMode getRemovalsMode() {
+			return RemovalsMode.REPLACE;
+		}
+
+		@Override
+		public OrderingMode getOrderingMode() {
+			return OrderingMode.UNORDERED;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
 }
@@ -6,6 +6,7 @@
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.BitSet;
 
@@ -23,8 +24,13 @@
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.stat.SqlExecutionSample;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static java.util.Arrays.copyOf;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_LOGGER;
 
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
@@ -50,6 +56,13 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	// represents the inverted index of the single value to cache
 	private final int rowToCacheSize;
 	private int resultCount;
+	private @Nullable AdaptiveFetchSize adaptiveFetchSize;
+
+	// only when SQL profiling is enabled
+	private final @Nullable DeferredResultSetAccess profiledResultSetAccess;
+	private long firstRowNanos;
+	private long profiledRowCount;
+	private long estimatedBytesRead;
 
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
@@ -73,6 +86,11 @@ public JdbcValuesResultSetImpl(
 		this.executionContext = executionContext;
 		this.usesFollowOnLocking = usesFollowOnLocking;
 		this.resultCountEstimate = determineResultCountEstimate( resultSetAccess, queryOptions, executionContext );
+		this.profiledResultSetAccess =
+				resultSetAccess instanceof DeferredResultSetAccess deferredResultSetAccess
+						&& deferredResultSetAccess.getExecutionStartNanos() != 0
+						? deferredResultSetAccess
+						: null;
 
 		final int rowSize = valuesMapping.getRowSize();
 		this.sqlSelections = new SqlSelection[rowSize];
@@ -141,11 +159,43 @@ private static QueryCachePutManager resolveQueryCachePutManager(
 		}
 	}
 
+	/**
+	 * Grow the fetch size of the {@link ResultSet} as its rows are consumed,
+	 * starting from its current fetch size. Does nothing if the result set
+	 * has no positive fetch size.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE
+	 *
+	 * @since 7.4
+	 */
+	public void enableAdaptiveFetchSize() {
+		try {
+			final int fetchSize = resultSet.getFetchSize();
+			if ( fetchSize > 0 ) {
+				adaptiveFetchSize = new AdaptiveFetchSize( fetchSize );
+			}
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error calling ResultSet#getFetchSize()", e );
+		}
+	}
+
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
+		if ( adaptiveFetchSize != null && !initializedIndexes.isEmpty() ) {
+			adaptFetchSize( adaptiveFetchSize );
+		}
 		return advance( advanceNext() );
 	}
 
+	private void adaptFetchSize(AdaptiveFetchSize adaptiveFetchSize) {
+		final int fetchSize = adaptiveFetchSize.rowProcessed( currentRowJdbcValues, initializedIndexes );
+		if ( fetchSize > 0 ) {
+			JDBC_LOGGER.settingFetchSize( fetchSize );
+			applyFetchSize( fetchSize );
+		}
+	}
+
 	@Override
 	protected boolean processPrevious(RowProcessingState rowProcessingState) {
 		return advance( advancePrevious() );
@@ -298,6 +348,9 @@ private boolean advancePrevious() {
 	}
 
 	private boolean advance(final boolean hasResult) {
+		if ( profiledResultSetAccess != null && firstRowNanos == 0 ) {
+			firstRowNanos = System.nanoTime();
+		}
 		if ( hasResult ) {
 			readCurrentRowValues();
 		}
@@ -327,9 +380,30 @@ public final void finishUp(SharedSessionContractImplementor session) {
 		if ( queryCachePutManager != null ) {
 			queryCachePutManager.finishUp( resultCount, session );
 		}
+		if ( profiledResultSetAccess != null ) {
+			profileExecution( profiledResultSetAccess, session );
+		}
 		resultSetAccess.release();
 	}
 
+	private void profileExecution(DeferredResultSetAccess resultSetAccess, SharedSessionContractImplementor session) {
+		final var statistics = session.getFactory().getStatistics();
+		if ( statistics.isSqlProfilingEnabled() ) {
+			final long startNanos = resultSetAccess.getExecutionStartNanos();
+			final long executionEndNanos = resultSetAccess.getExecutionEndNanos();
+			final long endNanos = System.nanoTime();
+			statistics.sqlExecuted( session, new SqlExecutionSample(
+					resultSetAccess.getFinalSql(),
+					Instant.now().minusNanos( endNanos - startNanos ),
+					profiledRowCount,
+					estimatedBytesRead,
+					NANOSECONDS.toMicros( executionEndNanos - startNanos ),
+					firstRowNanos == 0 ? 0 : NANOSECONDS.toMicros( firstRowNanos - startNanos ),
+					NANOSECONDS.toMicros( endNanos - executionEndNanos )
+			) );
+		}
+	}
+
 	@Override
 	public JdbcValuesMapping getValuesMapping() {
 		return valuesMapping;
@@ -342,6 +416,10 @@ public boolean usesFollowOnLocking() {
 
 	@Override
 	public void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded) {
+		if ( profiledResultSetAccess != null ) {
+			profiledRowCount++;
+			estimatedBytesRead += AdaptiveFetchSize.estimateRowWidth( currentRowJdbcValues, initializedIndexes );
+		}
 		if ( queryCachePutManager != null ) {
 			if ( wasAdded ) {
 				resultCount++;
@@ -395,6 +473,12 @@ public Object getCurrentRowValue(int valueIndex) {
 
 	@Override
 	public void setFetchSize(int fetchSize) {
+		// an explicit fetch size overrides the adaptive fetch size
+		adaptiveFetchSize = null;
+		applyFetchSize( fetchSize );
+	}
+
+	private void applyFetchSize(int fetchSize) {
 		try {
 			resultSet.setFetchSize( fetchSize );
 		}
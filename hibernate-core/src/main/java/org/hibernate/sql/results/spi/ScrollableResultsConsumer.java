@@ -9,6 +9,7 @@
 import org.hibernate.internal.scrollable.FetchingScrollableResultsImpl;
 import org.hibernate.internal.scrollable.ScrollableResultsImpl;
 import org.hibernate.sql.results.graph.entity.EntityResult;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
@@ -43,6 +44,10 @@ public ScrollableResultsImplementor<R> consume(
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader) {
 		rowReader.startLoading( rowProcessingState );
+		if ( jdbcValues instanceof JdbcValuesResultSetImpl resultSetValues
+				&& session.getFactory().getSessionFactoryOptions().isAdaptiveFetchSizeEnabled() ) {
+			resultSetValues.enableAdaptiveFetchSize();
+		}
 		if ( containsCollectionFetches( jdbcValues.getValuesMapping() ) ) {
 			return new FetchingScrollableResultsImpl<>(
 					jdbcValues,
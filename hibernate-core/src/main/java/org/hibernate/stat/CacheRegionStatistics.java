@@ -6,6 +6,8 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Second-level cache statistics of a specific region.
  *
@@ -44,6 +46,15 @@ public interface CacheRegionStatistics extends Serializable {
 	 */
 	long getRemoveCount();
 
+	/**
+	 * The distribution (since last Statistics clearing) of the time taken
+	 * to look up entities or collections in this region.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	LatencyHistogram getLookupTimeHistogram();
+
 	/**
 	 * The number of elements currently in memory within the cache provider.
 	 * <p>
@@ -6,6 +6,8 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Collection-related statistics.
  *
@@ -42,4 +44,13 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The distribution (since last Statistics clearing) of the time taken
+	 * to fetch this collection from the database.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	LatencyHistogram getFetchTimeHistogram();
 }
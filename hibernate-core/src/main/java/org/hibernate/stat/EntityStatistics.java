@@ -6,6 +6,8 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Entity-related statistics.
  *
@@ -48,4 +50,14 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The distribution (since last Statistics clearing) of the time taken to
+	 * load an instance of this entity by id from the database, whether it was
+	 * requested directly, or fetched as an association.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	LatencyHistogram getLoadTimeHistogram();
 }
@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * The distribution of the durations of an operation, for example, of the
+ * executions of a query, recorded (since last Statistics clearing) with a
+ * resolution of one microsecond.
+ * <p>
+ * The durations are counted in buckets whose width grows with the duration,
+ * so that a histogram occupies a bounded amount of memory. A duration reported
+ * by {@link #getMicrosecondsAtPercentile(double)} is the upper bound of its
+ * bucket, and exceeds the exact duration by at most 12.5%.
+ *
+ * @since 7.4
+ */
+@Incubating
+public interface LatencyHistogram extends Serializable {
+	/**
+	 * The number of durations recorded.
+	 */
+	long getCount();
+
+	/**
+	 * The sum of the durations recorded, in microseconds.
+	 */
+	long getTotalMicroseconds();
+
+	/**
+	 * The longest duration recorded, in microseconds.
+	 */
+	long getMaxMicroseconds();
+
+	/**
+	 * The duration, in microseconds, which is not exceeded by the given
+	 * percentage of the durations recorded. For example, {@code 99} for
+	 * the 99th percentile.
+	 *
+	 * @param percentile a percentage between {@code 0} and {@code 100}
+	 *
+	 * @return the duration, or {@code 0} if no duration was recorded
+	 */
+	long getMicrosecondsAtPercentile(double percentile);
+
+	/**
+	 * A new histogram holding the durations recorded by this histogram and
+	 * by the given histogram, for example, to aggregate the statistics of
+	 * several queries, or of several session factories.
+	 */
+	LatencyHistogram merge(LatencyHistogram other);
+}
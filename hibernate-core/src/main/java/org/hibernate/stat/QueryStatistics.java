@@ -6,6 +6,8 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Statistics relating to a particular query written in HQL or SQL.
  * <p>
@@ -78,6 +80,14 @@ public interface QueryStatistics extends Serializable {
 	 */
 	long getCachePutCount();
 
+	/**
+	 * The distribution of the execution times of this query.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	LatencyHistogram getExecutionTimeHistogram();
+
 	/**
 	 * The number of query plans successfully fetched from the
 	 * cache.
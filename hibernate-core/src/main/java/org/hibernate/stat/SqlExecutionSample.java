@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import org.hibernate.Incubating;
+
+/**
+ * The profile of a single execution of a SQL query, collected when
+ * {@linkplain org.hibernate.cfg.StatisticsSettings#SQL_PROFILING
+ * SQL profiling} is enabled.
+ *
+ * @param sql The SQL query, as rendered by Hibernate
+ * @param timestamp When the execution of the query started
+ * @param rows The number of {@link java.sql.ResultSet} rows processed
+ * @param estimatedBytesRead A rough estimate of the memory occupied by the values read, in bytes
+ * @param executionMicroseconds The time taken by the database to execute the query
+ * @param firstRowMicroseconds The time from the start of the execution until the first row was read
+ * @param rowProcessingMicroseconds The time taken to read and process the results, once the query was executed
+ *
+ * @see Statistics#getSlowSqlSamples()
+ *
+ * @since 7.4
+ */
+@Incubating
+public record SqlExecutionSample(
+		String sql,
+		Instant timestamp,
+		long rows,
+		long estimatedBytesRead,
+		long executionMicroseconds,
+		long firstRowMicroseconds,
+		long rowProcessingMicroseconds)
+		implements Serializable {
+
+	/**
+	 * The time taken to execute the query and process its results,
+	 * in microseconds.
+	 */
+	public long totalMicroseconds() {
+		return executionMicroseconds + rowProcessingMicroseconds;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * The aggregated profile of the executions of a SQL query, as rendered
+ * by Hibernate, and collected when {@linkplain
+ * org.hibernate.cfg.StatisticsSettings#SQL_PROFILING SQL profiling} is
+ * enabled.
+ * <p>
+ * Queries which differ only in the number of parameters in a list of
+ * parameters, for example, in an {@code in} predicate, share the same
+ * statistics.
+ *
+ * @see Statistics#getSqlStatistics(String)
+ *
+ * @since 7.4
+ */
+@Incubating
+public interface SqlStatistics extends Serializable {
+	/**
+	 * The SQL query, with every list of parameters collapsed to a single
+	 * parameter.
+	 */
+	String getSql();
+
+	/**
+	 * How many times has this query been executed?
+	 */
+	long getExecutionCount();
+
+	/**
+	 * How many {@link java.sql.ResultSet} rows have been processed for
+	 * this query?
+	 */
+	long getRowCount();
+
+	/**
+	 * A rough estimate of the memory occupied by the values read from
+	 * the {@link java.sql.ResultSet} rows processed for this query, in
+	 * bytes.
+	 */
+	long getEstimatedBytesRead();
+
+	/**
+	 * How long, cumulatively, in microseconds, has the database taken to
+	 * {@linkplain java.sql.PreparedStatement#executeQuery execute} this
+	 * query?
+	 */
+	long getExecutionTotalMicroseconds();
+
+	/**
+	 * How long, cumulatively, in microseconds, has it taken from the start
+	 * of an execution of this query until its first row was read?
+	 */
+	long getFirstRowTotalMicroseconds();
+
+	/**
+	 * How long, cumulatively, in microseconds, has it taken to read and
+	 * process the results of this query, once executed?
+	 */
+	long getRowProcessingTotalMicroseconds();
+
+	/**
+	 * The distribution of the durations of the executions of this query,
+	 * each including the processing of its results.
+	 */
+	LatencyHistogram getTimeHistogram();
+
+	/**
+	 * How many executions of this query happened in a session which had
+	 * already executed this query? A large number, relative to the
+	 * {@linkplain #getExecutionCount execution count}, is the mark of the
+	 * "N+1 selects" problem.
+	 */
+	long getRepeatedExecutionCount();
+
+	/**
+	 * The greatest number of times this query has been executed within a
+	 * single session.
+	 */
+	long getMaxExecutionsPerSession();
+}
@@ -5,9 +5,11 @@
 package org.hibernate.stat;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Incubating;
 
 /**
  * Exposes statistics collected from all sessions belonging to a given
@@ -151,6 +153,17 @@ public interface Statistics {
 	 */
 	long getEntityFetchCount();
 
+	/**
+	 * The global distribution of the time taken to load an entity by id
+	 * from the database.
+	 *
+	 * @see EntityStatistics#getLoadTimeHistogram()
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	LatencyHistogram getEntityLoadTimeHistogram();
+
 	/**
 	 * The global number of entity updates.
 	 */
@@ -171,6 +184,16 @@ public interface Statistics {
 	 */
 	long getQueryExecutionMaxTime();
 
+	/**
+	 * The global distribution of the execution times of queries.
+	 *
+	 * @see QueryStatistics#getExecutionTimeHistogram()
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	LatencyHistogram getQueryExecutionTimeHistogram();
+
 	/**
 	 * The query string for the slowest query.
 	 */
@@ -248,12 +271,49 @@ public interface Statistics {
 	 */
 	long getUpdateTimestampsCachePutCount();
 
+	/**
+	 * The global number of timestamps which were not put in cache
+	 * immediately, but coalesced with later invalidations of the same
+	 * query space.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#TIMESTAMPS_FLUSH_INTERVAL
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default long getUpdateTimestampsCacheCoalescedPutCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of invalidations of a query space which occurred
+	 * while a transaction which had already invalidated the same query
+	 * space was still in progress.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#TIMESTAMPS_FLUSH_INTERVAL
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default long getUpdateTimestampsCacheContendedInvalidationCount() {
+		return 0;
+	}
+
 	/**
 	 * The global number of flush operations executed, including automatic
 	 * (either manual or automatic).
 	 */
 	long getFlushCount();
 
+	/**
+	 * The global distribution of the time taken by flush operations which
+	 * executed SQL statements, including automatic flushes.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	LatencyHistogram getFlushTimeHistogram();
+
 	/**
 	 * The global number of connections requested by sessions.
 	 * <p>
@@ -274,6 +334,17 @@ public interface Statistics {
 	 */
 	long getSecondLevelCacheMissCount();
 
+	/**
+	 * The global distribution of the time taken to look up entities and
+	 * collections in the second-level cache.
+	 *
+	 * @see CacheRegionStatistics#getLookupTimeHistogram()
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	LatencyHistogram getSecondLevelCacheLookupTimeHistogram();
+
 	/**
 	 * The global number of cacheable entities and collections put in the
 	 * cache.
@@ -300,6 +371,17 @@ public interface Statistics {
 	 */
 	long getCollectionFetchCount();
 
+	/**
+	 * The global distribution of the time taken to fetch a collection
+	 * from the database.
+	 *
+	 * @see CollectionStatistics#getFetchTimeHistogram()
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	LatencyHistogram getCollectionFetchTimeHistogram();
+
 	/**
 	 * The global number of collections updated.
 	 */
@@ -354,6 +436,60 @@ public interface Statistics {
 	 */
 	Map<String,Long> getSlowQueries();
 
+	/**
+	 * All SQL queries profiled, if {@value org.hibernate.cfg.StatisticsSettings#SQL_PROFILING}
+	 * is enabled, with every list of parameters collapsed to a single parameter.
+	 * <p>
+	 * The maximum number of SQL queries tracked is determined by the configuration
+	 * property {@value org.hibernate.cfg.StatisticsSettings#QUERY_STATISTICS_MAX_SIZE}.
+	 *
+	 * @since 7.4
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SQL_PROFILING
+	 */
+	@Incubating
+	String[] getSqlQueries();
+
+	/**
+	 * Obtain the aggregated profile of the executions of the given SQL query.
+	 *
+	 * @param sql the SQL query, as rendered by Hibernate
+	 *
+	 * @since 7.4
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SQL_PROFILING
+	 */
+	@Incubating
+	SqlStatistics getSqlStatistics(String sql);
+
+	/**
+	 * The most recent executions of SQL queries which took longer than
+	 * {@value org.hibernate.cfg.StatisticsSettings#SQL_PROFILING_SLOW_THRESHOLD},
+	 * oldest first. At most
+	 * {@value org.hibernate.cfg.StatisticsSettings#SQL_PROFILING_SLOW_SAMPLES}
+	 * samples are kept.
+	 *
+	 * @since 7.4
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SQL_PROFILING
+	 */
+	@Incubating
+	List<SqlExecutionSample> getSlowSqlSamples();
+
+	/**
+	 * If {@value org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_THRESHOLD}
+	 * is enabled, a map from the name of each entity or collection role for which
+	 * an "N+1 selects" problem was detected, to the batch size which was learned
+	 * for batch fetching it. An entry in this map suggests that the entity or
+	 * collection should be annotated {@link org.hibernate.annotations.BatchSize}.
+	 *
+	 * @since 7.4
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_THRESHOLD
+	 */
+	@Incubating
+	Map<String,Integer> getAdaptiveBatchSizes();
+
 	/**
 	 * The names of all entities.
 	 */
@@ -406,4 +542,26 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from the cache.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
+
+	/**
+	 * The total time, in milliseconds, spent producing the query plans which
+	 * were later evicted from the cache, and which will have to be produced
+	 * again if they're needed.
+	 *
+	 * @since 7.4
+	 */
+	@Incubating
+	default long getQueryPlanCacheEvictionTime() {
+		return 0;
+	}
 }
@@ -11,6 +11,7 @@
 import org.hibernate.cache.spi.ExtendedStatisticsSupport;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.LatencyHistogram;
 
 /**
  * Second level cache statistics of a specific region
@@ -25,6 +26,7 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 	private final LongAdder missCount = new LongAdder();
 	private final LongAdder putCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
+	private final LatencyHistogramImpl lookupTimeHistogram = new LatencyHistogramImpl();
 
 	CacheRegionStatisticsImpl(Region region) {
 		regionName = region.getName();
@@ -59,6 +61,11 @@ public long getRemoveCount() {
 		return removeCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getLookupTimeHistogram() {
+		return lookupTimeHistogram;
+	}
+
 	@Override
 	public long getElementCountInMemory() {
 		return extendedStatisticsSupport == null
@@ -92,6 +99,10 @@ void incrementPutCount() {
 		putCount.increment();
 	}
 
+	void lookupTime(long microseconds) {
+		lookupTimeHistogram.record( microseconds );
+	}
+
 
 	public void incrementRemoveCount() {
 		removeCount.increment();
@@ -9,6 +9,7 @@
 
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.LatencyHistogram;
 
 /**
  * Collection related statistics
@@ -20,6 +21,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final String collectionRole;
 	private final LongAdder loadCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
+	private final LatencyHistogramImpl fetchTimeHistogram = new LatencyHistogramImpl();
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
@@ -52,6 +54,11 @@ public long getUpdateCount() {
 		return updateCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getFetchTimeHistogram() {
+		return fetchTimeHistogram;
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -60,6 +67,10 @@ void incrementFetchCount() {
 		fetchCount.increment();
 	}
 
+	void fetchTime(long microseconds) {
+		fetchTimeHistogram.record( microseconds );
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
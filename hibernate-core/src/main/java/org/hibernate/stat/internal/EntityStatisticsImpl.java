@@ -9,6 +9,7 @@
 
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.LatencyHistogram;
 
 /**
  * Entity related statistics
@@ -25,6 +26,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LatencyHistogramImpl loadTimeHistogram = new LatencyHistogramImpl();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super( () -> {
@@ -62,6 +64,11 @@ public long getOptimisticFailureCount() {
 		return optimisticFailureCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getLoadTimeHistogram() {
+		return loadTimeHistogram;
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -90,6 +97,10 @@ void incrementOptimisticFailureCount() {
 		optimisticFailureCount.increment();
 	}
 
+	void loadTime(long microseconds) {
+		loadTimeHistogram.record( microseconds );
+	}
+
 	public String toString() {
 		final var text = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyHistogram;
+
+/**
+ * A lock-free {@link LatencyHistogram} with log-linear buckets: each power
+ * of two is divided into eight buckets of equal width, and durations shorter
+ * than eight microseconds are counted exactly. Durations longer than about
+ * 38 hours are counted in the last bucket. A histogram occupies a little over
+ * 2KB, whatever the number of durations recorded.
+ *
+ * @since 7.4
+ */
+public class LatencyHistogramImpl implements LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 36;
+	private static final int BUCKETS = ( MAX_EXPONENT - SUB_BUCKET_BITS + 2 ) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKETS );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalMicroseconds = new LongAdder();
+	private final AtomicLong maxMicroseconds = new AtomicLong();
+
+	/**
+	 * Record a duration
+	 *
+	 * @param microseconds the duration in microseconds
+	 */
+	public void record(long microseconds) {
+		final long duration = Math.max( 0L, microseconds );
+		counts.incrementAndGet( bucket( duration ) );
+		count.increment();
+		totalMicroseconds.add( duration );
+		//noinspection StatementWithEmptyBody
+		for ( long old = maxMicroseconds.get();
+				duration > old && !maxMicroseconds.compareAndSet( old, duration );
+				old = maxMicroseconds.get() ) {
+			// nothing to do here given the odd loop structure...
+		}
+	}
+
+	/**
+	 * Forget all the durations recorded
+	 */
+	public void reset() {
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			counts.set( i, 0L );
+		}
+		count.reset();
+		totalMicroseconds.reset();
+		maxMicroseconds.set( 0L );
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getTotalMicroseconds() {
+		return totalMicroseconds.sum();
+	}
+
+	@Override
+	public long getMaxMicroseconds() {
+		return maxMicroseconds.get();
+	}
+
+	@Override
+	public long getMicrosecondsAtPercentile(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100: " + percentile );
+		}
+		final long[] snapshot = new long[BUCKETS];
+		long total = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			snapshot[i] = counts.get( i );
+			total += snapshot[i];
+		}
+		if ( total == 0 ) {
+			return 0L;
+		}
+		final long rank = Math.max( 1L, (long) Math.ceil( percentile * total / 100 ) );
+		long cumulative = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			cumulative += snapshot[i];
+			if ( cumulative >= rank ) {
+				return Math.min( upperBound( i ), getMaxMicroseconds() );
+			}
+		}
+		return getMaxMicroseconds();
+	}
+
+	@Override
+	public LatencyHistogram merge(LatencyHistogram other) {
+		if ( !( other instanceof LatencyHistogramImpl that ) ) {
+			throw new IllegalArgumentException( "Unsupported histogram: " + other.getClass().getName() );
+		}
+		final var merged = new LatencyHistogramImpl();
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			merged.counts.set( i, counts.get( i ) + that.counts.get( i ) );
+		}
+		merged.count.add( getCount() + that.getCount() );
+		merged.totalMicroseconds.add( getTotalMicroseconds() + that.getTotalMicroseconds() );
+		merged.maxMicroseconds.set( Math.max( getMaxMicroseconds(), that.getMaxMicroseconds() ) );
+		return merged;
+	}
+
+	private static int bucket(long microseconds) {
+		if ( microseconds < SUB_BUCKETS ) {
+			return (int) microseconds;
+		}
+		else {
+			final int exponent = 63 - Long.numberOfLeadingZeros( microseconds );
+			if ( exponent > MAX_EXPONENT ) {
+				return BUCKETS - 1;
+			}
+			else {
+				final int subBucket = (int) ( microseconds >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKETS - 1 );
+				return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS + subBucket;
+			}
+		}
+	}
+
+	private static long upperBound(int bucket) {
+		if ( bucket < SUB_BUCKETS ) {
+			return bucket;
+		}
+		else {
+			final int shift = bucket / SUB_BUCKETS - 1;
+			final long lowerBound = (long) ( SUB_BUCKETS + bucket % SUB_BUCKETS ) << shift;
+			return lowerBound + ( 1L << shift ) - 1;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram"
+				+ "[count=" + getCount()
+				+ ",p50=" + getMicrosecondsAtPercentile( 50 )
+				+ ",p99=" + getMicrosecondsAtPercentile( 99 )
+				+ ",max=" + getMaxMicroseconds()
+				+ ']';
+	}
+}
@@ -10,6 +10,7 @@
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.query.Query;
+import org.hibernate.stat.LatencyHistogram;
 import org.hibernate.stat.QueryStatistics;
 
 /**
@@ -30,6 +31,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final AtomicLong executionMaxTime = new AtomicLong();
 	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
 	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LatencyHistogramImpl executionTimeHistogram = new LatencyHistogramImpl();
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
@@ -130,6 +132,13 @@ public long getExecutionTotalTime() {
 		return totalExecutionTime.get();
 	}
 
+	/**
+	 * distribution of the times taken by the execution of this query onto the DB
+	 */
+	public LatencyHistogram getExecutionTimeHistogram() {
+		return executionTimeHistogram;
+	}
+
 	/**
 	 * Query plan successfully fetched from the cache
 	 */
@@ -174,6 +183,15 @@ public void executed(long rows, long time) {
 		}
 	}
 
+	/**
+	 * add the time taken by an execution of a DB query
+	 *
+	 * @param microseconds time taken
+	 */
+	void executionTime(long microseconds) {
+		executionTimeHistogram.record( microseconds );
+	}
+
 	/**
 	 * add plan statistics report of a DB query
 	 *
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.stat.SqlExecutionSample;
+
+/**
+ * A lock-free ring buffer holding the most recent {@link SqlExecutionSample}s.
+ *
+ * @since 7.4
+ */
+final class SqlExecutionSamples {
+	private final AtomicReferenceArray<SqlExecutionSample> samples;
+	private final AtomicLong added = new AtomicLong();
+
+	SqlExecutionSamples(int capacity) {
+		samples = new AtomicReferenceArray<>( Math.max( capacity, 0 ) );
+	}
+
+	void add(SqlExecutionSample sample) {
+		final int capacity = samples.length();
+		if ( capacity > 0 ) {
+			samples.set( (int) ( added.getAndIncrement() % capacity ), sample );
+		}
+	}
+
+	/**
+	 * The samples, oldest first
+	 */
+	List<SqlExecutionSample> toList() {
+		final int capacity = samples.length();
+		final long end = added.get();
+		final List<SqlExecutionSample> list = new ArrayList<>( (int) Math.min( end, capacity ) );
+		for ( long i = Math.max( 0L, end - capacity ); i < end; i++ ) {
+			final var sample = samples.get( (int) ( i % capacity ) );
+			if ( sample != null ) {
+				list.add( sample );
+			}
+		}
+		return list;
+	}
+
+	void clear() {
+		added.set( 0L );
+		for ( int i = 0; i < samples.length(); i++ ) {
+			samples.set( i, null );
+		}
+	}
+}
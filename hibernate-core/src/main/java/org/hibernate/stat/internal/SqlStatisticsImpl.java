@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.SqlExecutionSample;
+import org.hibernate.stat.SqlStatistics;
+
+/**
+ * SQL query profile
+ *
+ * @since 7.4
+ */
+public class SqlStatisticsImpl implements SqlStatistics {
+	private final String sql;
+
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder rowCount = new LongAdder();
+	private final LongAdder estimatedBytesRead = new LongAdder();
+	private final LongAdder executionTotalMicroseconds = new LongAdder();
+	private final LongAdder firstRowTotalMicroseconds = new LongAdder();
+	private final LongAdder rowProcessingTotalMicroseconds = new LongAdder();
+	private final LatencyHistogramImpl timeHistogram = new LatencyHistogramImpl();
+	private final LongAdder repeatedExecutionCount = new LongAdder();
+	private final AtomicLong maxExecutionsPerSession = new AtomicLong();
+
+	SqlStatisticsImpl(String sql) {
+		this.sql = sql;
+	}
+
+	@Override
+	public String getSql() {
+		return sql;
+	}
+
+	@Override
+	public long getExecutionCount() {
+		return executionCount.sum();
+	}
+
+	@Override
+	public long getRowCount() {
+		return rowCount.sum();
+	}
+
+	@Override
+	public long getEstimatedBytesRead() {
+		return estimatedBytesRead.sum();
+	}
+
+	@Override
+	public long getExecutionTotalMicroseconds() {
+		return executionTotalMicroseconds.sum();
+	}
+
+	@Override
+	public long getFirstRowTotalMicroseconds() {
+		return firstRowTotalMicroseconds.sum();
+	}
+
+	@Override
+	public long getRowProcessingTotalMicroseconds() {
+		return rowProcessingTotalMicroseconds.sum();
+	}
+
+	@Override
+	public LatencyHistogram getTimeHistogram() {
+		return timeHistogram;
+	}
+
+	@Override
+	public long getRepeatedExecutionCount() {
+		return repeatedExecutionCount.sum();
+	}
+
+	@Override
+	public long getMaxExecutionsPerSession() {
+		return maxExecutionsPerSession.get();
+	}
+
+	/**
+	 * add the profile of an execution of the SQL query
+	 *
+	 * @param execution the profile of the execution
+	 * @param executionsInSession the number of executions of the query
+	 *                            by the session, including this execution
+	 */
+	void executed(SqlExecutionSample execution, int executionsInSession) {
+		executionCount.increment();
+		rowCount.add( execution.rows() );
+		estimatedBytesRead.add( execution.estimatedBytesRead() );
+		executionTotalMicroseconds.add( execution.executionMicroseconds() );
+		firstRowTotalMicroseconds.add( execution.firstRowMicroseconds() );
+		rowProcessingTotalMicroseconds.add( execution.rowProcessingMicroseconds() );
+		timeHistogram.record( execution.totalMicroseconds() );
+		if ( executionsInSession > 1 ) {
+			repeatedExecutionCount.increment();
+		}
+		//noinspection StatementWithEmptyBody
+		for ( long old = maxExecutionsPerSession.get();
+				executionsInSession > old && !maxExecutionsPerSession.compareAndSet( old, executionsInSession );
+				old = maxExecutionsPerSession.get() ) {
+			// nothing to do here given the odd loop structure...
+		}
+	}
+
+	/**
+	 * Collapse every list of JDBC parameters in the given SQL, for example,
+	 * {@code in (?,?,?)}, to a single parameter, so that executions of the
+	 * same query with different numbers of arguments share statistics.
+	 */
+	static String normalize(String sql) {
+		final int length = sql.length();
+		StringBuilder normalized = null;
+		int copied = 0;
+		int index = sql.indexOf( '?' );
+		while ( index >= 0 ) {
+			// find the end of the list of parameters starting here
+			int end = index + 1;
+			while ( true ) {
+				final int comma = skipWhitespace( sql, end );
+				if ( comma < length && sql.charAt( comma ) == ',' ) {
+					final int next = skipWhitespace( sql, comma + 1 );
+					if ( next < length && sql.charAt( next ) == '?' ) {
+						end = next + 1;
+						continue;
+					}
+				}
+				break;
+			}
+			if ( end > index + 1 ) {
+				if ( normalized == null ) {
+					normalized = new StringBuilder( length );
+				}
+				normalized.append( sql, copied, index + 1 );
+				copied = end;
+			}
+			index = sql.indexOf( '?', end );
+		}
+		return normalized == null ? sql : normalized.append( sql, copied, length ).toString();
+	}
+
+	private static int skipWhitespace(String sql, int index) {
+		while ( index < sql.length() && Character.isWhitespace( sql.charAt( index ) ) ) {
+			index++;
+		}
+		return index;
+	}
+
+	@Override
+	public String toString() {
+		return "SqlStatistics"
+				+ "[sql=" + sql
+				+ ",executionCount=" + executionCount
+				+ ",rowCount=" + rowCount
+				+ ",estimatedBytesRead=" + estimatedBytesRead
+				+ ",executionTotalMicroseconds=" + executionTotalMicroseconds
+				+ ",firstRowTotalMicroseconds=" + firstRowTotalMicroseconds
+				+ ",rowProcessingTotalMicroseconds=" + rowProcessingTotalMicroseconds
+				+ ",repeatedExecutionCount=" + repeatedExecutionCount
+				+ ",maxExecutionsPerSession=" + maxExecutionsPerSession
+				+ ']';
+	}
+}
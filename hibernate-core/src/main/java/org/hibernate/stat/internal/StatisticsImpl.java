@@ -9,6 +9,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
@@ -18,11 +19,14 @@
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.NullnessUtil;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.SqlExecutionSample;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -47,6 +51,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
+	private final boolean sqlProfilingEnabled;
+	private final long sqlProfilingSlowThresholdMicros;
 
 	private volatile boolean isStatisticsEnabled;
 	private volatile Instant startTime;
@@ -92,16 +98,26 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionMicros = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
 	private final LongAdder updateTimestampsCachePutCount = new LongAdder();
+	private final LongAdder updateTimestampsCacheCoalescedPutCount = new LongAdder();
+	private final LongAdder updateTimestampsCacheContendedInvalidationCount = new LongAdder();
 
 	private final LongAdder committedTransactionCount = new LongAdder();
 	private final LongAdder transactionCount = new LongAdder();
 
 	private final LongAdder optimisticFailureCount = new LongAdder();
 
+	private final LatencyHistogramImpl entityLoadTimeHistogram = new LatencyHistogramImpl();
+	private final LatencyHistogramImpl collectionFetchTimeHistogram = new LatencyHistogramImpl();
+	private final LatencyHistogramImpl queryExecutionTimeHistogram = new LatencyHistogramImpl();
+	private final LatencyHistogramImpl flushTimeHistogram = new LatencyHistogramImpl();
+	private final LatencyHistogramImpl secondLevelCacheLookupTimeHistogram = new LatencyHistogramImpl();
+
 	private final StatsNamedContainer<EntityStatisticsImpl> entityStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<NaturalIdStatisticsImpl> naturalIdQueryStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<CollectionStatisticsImpl> collectionStatsMap = new StatsNamedContainer<>();
@@ -121,6 +137,13 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
 
+	/**
+	 * Keyed by normalized SQL
+	 */
+	private final StatsNamedContainer<SqlStatisticsImpl> sqlStatsMap;
+
+	private final SqlExecutionSamples slowSqlSamples;
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		final var sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -128,6 +151,13 @@ public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 				sessionFactoryOptions.getQueryStatisticsMaxSize(),
 				20
 		);
+		sqlStatsMap = new StatsNamedContainer<>(
+				sessionFactoryOptions.getQueryStatisticsMaxSize(),
+				20
+		);
+		sqlProfilingEnabled = sessionFactoryOptions.isSqlProfilingEnabled();
+		sqlProfilingSlowThresholdMicros = sessionFactoryOptions.getSqlProfilingSlowThreshold() * 1000L;
+		slowSqlSamples = new SqlExecutionSamples( sessionFactoryOptions.getSqlProfilingSlowSamples() );
 		resetStart();
 		metamodel = sessionFactory.getMappingMetamodel();
 		cache = sessionFactory.getCache();
@@ -190,20 +220,32 @@ public void clear() {
 		updateTimestampsCacheMissCount.reset();
 		updateTimestampsCacheHitCount.reset();
 		updateTimestampsCachePutCount.reset();
+		updateTimestampsCacheCoalescedPutCount.reset();
+		updateTimestampsCacheContendedInvalidationCount.reset();
 
 		transactionCount.reset();
 		committedTransactionCount.reset();
 
 		optimisticFailureCount.reset();
 
+		entityLoadTimeHistogram.reset();
+		collectionFetchTimeHistogram.reset();
+		queryExecutionTimeHistogram.reset();
+		flushTimeHistogram.reset();
+		secondLevelCacheLookupTimeHistogram.reset();
+
 		entityStatsMap.clear();
 		collectionStatsMap.clear();
 		naturalIdQueryStatsMap.clear();
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
+		sqlStatsMap.clear();
+		slowSqlSamples.clear();
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
+		queryPlanCacheEvictionMicros.reset();
 
 		resetStart();
 
@@ -270,6 +312,11 @@ public long getEntityFetchCount() {
 		return entityFetchCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getEntityLoadTimeHistogram() {
+		return entityLoadTimeHistogram;
+	}
+
 	@Override
 	public long getEntityDeleteCount() {
 		return entityDeleteCount.sum();
@@ -307,6 +354,12 @@ public void fetchEntity(String entityName) {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void entityLoadTime(String entityName, long microseconds) {
+		entityLoadTimeHistogram.record( microseconds );
+		getEntityStatistics( entityName ).loadTime( microseconds );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -394,6 +447,11 @@ public long getCollectionFetchCount() {
 		return collectionFetchCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getCollectionFetchTimeHistogram() {
+		return collectionFetchTimeHistogram;
+	}
+
 	@Override
 	public long getCollectionUpdateCount() {
 		return collectionUpdateCount.sum();
@@ -421,6 +479,12 @@ public void fetchCollection(String role) {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void collectionFetchTime(String role, long microseconds) {
+		collectionFetchTimeHistogram.record( microseconds );
+		getCollectionStatistics( role ).fetchTime( microseconds );
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -635,6 +699,17 @@ public long getSecondLevelCacheMissCount() {
 		return secondLevelCacheMissCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getSecondLevelCacheLookupTimeHistogram() {
+		return secondLevelCacheLookupTimeHistogram;
+	}
+
+	@Override
+	public void secondLevelCacheLookupTime(String regionName, long microseconds) {
+		secondLevelCacheLookupTimeHistogram.record( microseconds );
+		getDomainDataRegionStatistics( regionName ).lookupTime( microseconds );
+	}
+
 	@Override
 	public long getSecondLevelCachePutCount() {
 		return secondLevelCachePutCount.sum();
@@ -655,6 +730,16 @@ public long getUpdateTimestampsCachePutCount() {
 		return updateTimestampsCachePutCount.sum();
 	}
 
+	@Override
+	public long getUpdateTimestampsCacheCoalescedPutCount() {
+		return updateTimestampsCacheCoalescedPutCount.sum();
+	}
+
+	@Override
+	public long getUpdateTimestampsCacheContendedInvalidationCount() {
+		return updateTimestampsCacheContendedInvalidationCount.sum();
+	}
+
 	@Override
 	public void updateTimestampsCacheHit() {
 		updateTimestampsCacheHitCount.increment();
@@ -670,6 +755,16 @@ public void updateTimestampsCachePut() {
 		updateTimestampsCachePutCount.increment();
 	}
 
+	@Override
+	public void updateTimestampsCacheCoalescedPut() {
+		updateTimestampsCacheCoalescedPutCount.increment();
+	}
+
+	@Override
+	public void updateTimestampsCacheContendedInvalidation() {
+		updateTimestampsCacheContendedInvalidationCount.increment();
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Query statistics
@@ -694,6 +789,19 @@ public long getQueryExecutionCount() {
 		return queryExecutionCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getQueryExecutionTimeHistogram() {
+		return queryExecutionTimeHistogram;
+	}
+
+	@Override
+	public void queryExecutionTime(String query, long microseconds) {
+		queryExecutionTimeHistogram.record( microseconds );
+		if ( query != null ) {
+			getQueryStatistics( query ).executionTime( microseconds );
+		}
+	}
+
 	@Override
 	public long getQueryCacheHitCount() {
 		return queryCacheHitCount.sum();
@@ -782,6 +890,16 @@ public long getQueryPlanCacheMissCount() {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
+	@Override
+	public long getQueryPlanCacheEvictionTime() {
+		return queryPlanCacheEvictionMicros.sum() / 1000;
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -809,6 +927,12 @@ public void queryPlanCacheMiss(String query) {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction(long microseconds) {
+		queryPlanCacheEvictionCount.increment();
+		queryPlanCacheEvictionMicros.add( microseconds );
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -836,6 +960,11 @@ public long getFlushCount() {
 		return flushCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getFlushTimeHistogram() {
+		return flushTimeHistogram;
+	}
+
 	@Override
 	public long getConnectCount() {
 		return connectCount.sum();
@@ -876,6 +1005,11 @@ public void flush() {
 		flushCount.increment();
 	}
 
+	@Override
+	public void flushTime(long microseconds) {
+		flushTimeHistogram.record( microseconds );
+	}
+
 	@Override
 	public void connect() {
 		connectCount.increment();
@@ -983,9 +1117,12 @@ public String toString() {
 				",update timestamps cache puts=" + updateTimestampsCachePutCount +
 				",update timestamps cache hits=" + updateTimestampsCacheHitCount +
 				",update timestamps cache misses=" + updateTimestampsCacheMissCount +
+				",update timestamps cache coalesced puts=" + updateTimestampsCacheCoalescedPutCount +
+				",update timestamps cache contended invalidations=" + updateTimestampsCacheContendedInvalidationCount +
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
 				']';
 	}
 
@@ -1045,8 +1182,72 @@ public void slowQuery(String sql, long executionTime) {
 		slowQueries.merge( sql, executionTime, Math::max );
 	}
 
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// SQL profiling
+
+	@Override
+	public boolean isSqlProfilingEnabled() {
+		return sqlProfilingEnabled && isStatisticsEnabled;
+	}
+
+	@Override
+	public String[] getSqlQueries() {
+		return sqlStatsMap.keysAsArray();
+	}
+
+	@Override
+	public SqlStatisticsImpl getSqlStatistics(String sql) {
+		return NullnessUtil.castNonNull(
+					sqlStatsMap.getOrCompute(
+						SqlStatisticsImpl.normalize( sql ),
+						SqlStatisticsImpl::new
+					)
+		);
+	}
+
+	@Override
+	public List<SqlExecutionSample> getSlowSqlSamples() {
+		return slowSqlSamples.toList();
+	}
+
+	@Override
+	public void sqlExecuted(SharedSessionContractImplementor session, SqlExecutionSample execution) {
+		final String sql = SqlStatisticsImpl.normalize( execution.sql() );
+		final int executionsInSession = session.countSqlExecution( sql );
+		final var sqlStatistics = sqlStatsMap.getOrCompute( sql, SqlStatisticsImpl::new );
+		if ( sqlStatistics != null ) {
+			sqlStatistics.executed( execution, executionsInSession );
+		}
+		if ( execution.totalMicroseconds() >= sqlProfilingSlowThresholdMicros ) {
+			slowSqlSamples.add( execution );
+		}
+	}
+
 	@Override
 	public void normalizeNaturalId(String entityName) {
 		getNaturalIdStatistics( entityName ).valueNormalized();
 	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Adaptive batch fetching
+
+	@Override
+	public Map<String, Integer> getAdaptiveBatchSizes() {
+		final Map<String, Integer> adaptiveBatchSizes = new TreeMap<>();
+		metamodel.forEachEntityDescriptor( entity -> {
+			final int batchSize = entity.getAdaptiveBatchSize();
+			if ( batchSize > 0 ) {
+				adaptiveBatchSizes.put( entity.getEntityName(), batchSize );
+			}
+		} );
+		metamodel.forEachCollectionDescriptor( collection -> {
+			final int batchSize = collection.getAdaptiveBatchSize();
+			if ( batchSize > 0 ) {
+				adaptiveBatchSizes.put( collection.getRole(), batchSize );
+			}
+		} );
+		return adaptiveBatchSizes;
+	}
 }
@@ -4,8 +4,10 @@
  */
 package org.hibernate.stat.spi;
 
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.SqlExecutionSample;
 import org.hibernate.stat.Statistics;
 
 import java.util.Map;
@@ -265,6 +267,26 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void updateTimestampsCachePut();
 
+	/**
+	 * Callback indicating a put to the timestamp cache was deferred
+	 * and coalesced with later puts
+	 *
+	 * @since 7.4
+	 */
+	default void updateTimestampsCacheCoalescedPut() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a query space was invalidated while another
+	 * transaction which invalidated it was still in progress
+	 *
+	 * @since 7.4
+	 */
+	default void updateTimestampsCacheContendedInvalidation() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating a get from the query plan cache resulted in a hit.
 	 *
@@ -283,6 +305,17 @@ default void queryPlanCacheMiss(String query) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating an entry was evicted from the query plan cache.
+	 *
+	 * @param microseconds The time spent producing the evicted entry
+	 *
+	 * @since 7.4
+	 */
+	default void queryPlanCacheEviction(long microseconds) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -309,4 +342,88 @@ default Map<String, Long> getSlowQueries() {
 	default void normalizeNaturalId(String entityName) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating the time taken to execute a SQL or HQL query
+	 *
+	 * @param query The query
+	 * @param microseconds The execution time
+	 *
+	 * @since 7.4
+	 */
+	default void queryExecutionTime(String query, long microseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the time taken to load an entity by id from the database
+	 *
+	 * @param entityName The name of the entity
+	 * @param microseconds The time taken
+	 *
+	 * @since 7.4
+	 */
+	default void entityLoadTime(String entityName, long microseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the time taken to fetch a collection from the database
+	 *
+	 * @param role The collection role
+	 * @param microseconds The time taken
+	 *
+	 * @since 7.4
+	 */
+	default void collectionFetchTime(String role, long microseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the time taken by a flush which executed SQL statements
+	 *
+	 * @param microseconds The time taken
+	 *
+	 * @since 7.4
+	 */
+	default void flushTime(long microseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the time taken by a lookup in the second-level cache
+	 *
+	 * @param regionName The name of the cache region
+	 * @param microseconds The time taken
+	 *
+	 * @since 7.4
+	 */
+	default void secondLevelCacheLookupTime(String regionName, long microseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Should every SQL query be profiled, and reported via {@link #sqlExecuted}?
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SQL_PROFILING
+	 *
+	 * @since 7.4
+	 */
+	default boolean isSqlProfilingEnabled() {
+		//For backward compatibility
+		return false;
+	}
+
+	/**
+	 * Callback indicating the execution of a SQL query, and the processing
+	 * of its results, is complete.
+	 *
+	 * @param session The session which executed the query
+	 * @param execution The profile of the execution
+	 *
+	 * @since 7.4
+	 */
+	default void sqlExecuted(SharedSessionContractImplementor session, SqlExecutionSample execution) {
+		//For backward compatibility
+	}
 }
@@ -293,22 +293,13 @@ private CollectionPersister getPersister(SharedSessionContractImplementor sessio
 
 	private CollectionPersister getPersister(SessionFactoryImplementor factory) {
 		CollectionPersister persister = this.persister;
-		if ( persister != null ) {
-			return persister;
-		}
-		else {
-			synchronized ( this ) {
-				persister  = this.persister;
-				if ( persister != null ) {
-					return persister;
-				}
-				else {
-					persister = factory.getMappingMetamodel().getCollectionDescriptor( role );
-					this.persister = persister;
-					return persister;
-				}
-			}
+		if ( persister == null ) {
+			// the lookup is idempotent, so there's no need to
+			// lock: a racing thread just looks it up again
+			persister = factory.getMappingMetamodel().getCollectionDescriptor( role );
+			this.persister = persister;
 		}
+		return persister;
 	}
 
 	@Override
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CostAwareInternalCacheTest {
+
+	@Test
+	public void testExpensiveEntriesSurvive() {
+		final AtomicLong evictions = new AtomicLong();
+		final var cache = new CostAwareInternalCache<String, String>( 16, value -> 0L, cost -> evictions.incrementAndGet() );
+		cache.put( "expensive", "plan", 1_000_000L );
+		for ( int i = 0; i < 100; i++ ) {
+			cache.put( "cheap" + i, "plan" + i, 1_000L );
+		}
+		assertThat( cache.heldElementsEstimate() ).isLessThanOrEqualTo( 16 );
+		assertThat( evictions.get() ).isEqualTo( 101 - cache.heldElementsEstimate() );
+		assertThat( cache.get( "expensive" ) ).isEqualTo( "plan" );
+		// the most recently added entry is never evicted immediately
+		assertThat( cache.get( "cheap99" ) ).isEqualTo( "plan99" );
+	}
+
+	@Test
+	public void testUnusedExpensiveEntryAgesOut() {
+		final var cache = new CostAwareInternalCache<String, String>( 16, value -> 0L, cost -> {} );
+		cache.put( "expensive", "plan", 10_000L );
+		// each eviction raises the inflation by the cost of a cheap entry,
+		// so eventually even the expensive entry is the cheapest to lose
+		for ( int i = 0; i < 1_000; i++ ) {
+			final String key = "cheap" + i;
+			cache.put( key, "plan" + i, 1_000L );
+			cache.get( key );
+		}
+		assertThat( cache.get( "expensive" ) ).isNull();
+	}
+
+	@Test
+	public void testAdditionalCost() {
+		final var cache = new CostAwareInternalCache<String, String>(
+				16,
+				value -> value.startsWith( "translated" ) ? 1_000_000L : 0L,
+				cost -> {}
+		);
+		cache.put( "lazy", "translated plan", 0L );
+		for ( int i = 0; i < 100; i++ ) {
+			cache.put( "cheap" + i, "plan" + i, 1_000L );
+		}
+		assertThat( cache.get( "lazy" ) ).isEqualTo( "translated plan" );
+	}
+
+	@Test
+	public void testSampledEviction() {
+		final AtomicLong evictions = new AtomicLong();
+		final var cache = new CostAwareInternalCache<String, String>( 4_096, value -> 0L, cost -> evictions.incrementAndGet() );
+		for ( int i = 0; i < 20_000; i++ ) {
+			cache.put( "key" + i, "value" + i, i % 10 == 0 ? 1_000_000L : 1_000L );
+			// the entry is never evicted while it's still being added
+			assertThat( cache.get( "key" + i ) ).isEqualTo( "value" + i );
+		}
+		assertThat( cache.heldElementsEstimate() ).isLessThanOrEqualTo( 4_096 );
+		assertThat( evictions.get() ).isEqualTo( 20_000 - cache.heldElementsEstimate() );
+		// replacing an entry does not count it twice
+		cache.put( "key19999", "other", 1_000L );
+		assertThat( cache.get( "key19999" ) ).isEqualTo( "other" );
+		assertThat( evictions.get() ).isEqualTo( 20_000 - cache.heldElementsEstimate() );
+	}
+
+	@Test
+	public void testComputeIfAbsent() {
+		final var cache = new CostAwareInternalCache<String, String>( 100, value -> 0L, cost -> {} );
+		assertThat( cache.computeIfAbsent( "key", key -> "value" ) ).isEqualTo( "value" );
+		assertThat( cache.computeIfAbsent( "key", key -> "other" ) ).isEqualTo( "value" );
+		cache.clear();
+		assertThat( cache.get( "key" ) ).isNull();
+		assertThat( cache.heldElementsEstimate() ).isZero();
+	}
+}
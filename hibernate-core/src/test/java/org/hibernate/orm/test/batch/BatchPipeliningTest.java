@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Version;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value BatchSettings#BATCH_PIPELINING}, which requires
+ * a JDBC driver which allows it, and so H2 can't be used
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5" ),
+				@Setting( name = BatchSettings.BATCH_PIPELINING, value = "true" ),
+				@Setting( name = QuerySettings.ASYNC_EXECUTOR,
+						value = "org.hibernate.orm.test.batch.BatchPipeliningTest$GatedExecutor" ),
+				@Setting( name = StatisticsSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+@DomainModel( annotatedClasses = BatchPipeliningTest.Item.class )
+@SessionFactory
+@RequiresDialect( PostgreSQLDialect.class )
+public class BatchPipeliningTest {
+	private static final int BATCH_SIZE = 5;
+	private static final int ITEMS = 23;
+
+	@Test
+	public void testPipelinedInserts(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final int executions = GatedExecutor.EXECUTIONS.get();
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= ITEMS; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+		// the four full batches were executed in the background,
+		// and the remaining three rows at the end of the flush
+		assertThat( GatedExecutor.EXECUTIONS.get() - executions ).isEqualTo( 4 );
+		// the statement of an executed batch is reused by a later batch
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Item", Long.class )
+					.getSingleResult() ).isEqualTo( (long) ITEMS );
+			assertThat( session.find( Item.class, 1L ).name ).isEqualTo( "item 1" );
+			assertThat( session.find( Item.class, 12L ).name ).isEqualTo( "item 12" );
+			assertThat( session.find( Item.class, 23L ).name ).isEqualTo( "item 23" );
+		} );
+	}
+
+	@Test
+	public void testOverlap(SessionFactoryScope scope) {
+		final int executions = GatedExecutor.EXECUTIONS.get();
+		final int overlapped = GatedExecutor.OVERLAPPED.get();
+		// the execution of the first batch waits until the
+		// first row of the second batch has been added
+		GatedExecutor.gate = new CountDownLatch( 1 );
+		try {
+			scope.inTransaction( session -> {
+				for ( long i = 1; i <= ITEMS; i++ ) {
+					session.persist( new Item( i, "item " + i ) );
+				}
+			} );
+		}
+		finally {
+			GatedExecutor.gate = null;
+		}
+		assertThat( GatedExecutor.EXECUTIONS.get() - executions ).isEqualTo( 4 );
+		assertThat( GatedExecutor.OVERLAPPED.get() - overlapped ).isEqualTo( 4 );
+		scope.inTransaction( session ->
+				assertThat( session.createSelectionQuery( "select count(*) from Item", Long.class )
+						.getSingleResult() ).isEqualTo( (long) ITEMS ) );
+	}
+
+	@Test
+	public void testStaleStateDetected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= ITEMS; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final var items = session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			// a concurrent update of a row in the first batch
+			session.createMutationQuery( "update versioned Item set name = 'changed' where id = 2" )
+					.executeUpdate();
+			items.forEach( item -> item.name = item.name + " updated" );
+			// the row counts of a pipelined batch are still checked, and the
+			// failure is attributed to the row of the first batch, even though
+			// it is only detected while a later batch is being built
+			assertThatThrownBy( session::flush )
+					.isInstanceOf( OptimisticLockException.class )
+					.cause()
+					.isInstanceOfSatisfying( StaleObjectStateException.class,
+							e -> assertThat( e.getIdentifier() ).isEqualTo( 2L ) );
+			session.getTransaction().markRollbackOnly();
+		} );
+		scope.inTransaction( session ->
+				assertThat( session.find( Item.class, 1L ).name ).isEqualTo( "item 1" ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	public static class GatedExecutor implements Executor {
+		static final AtomicInteger EXECUTIONS = new AtomicInteger();
+		static final AtomicInteger OVERLAPPED = new AtomicInteger();
+		static volatile CountDownLatch gate;
+
+		@Override
+		public void execute(Runnable command) {
+			EXECUTIONS.incrementAndGet();
+			final var latch = gate;
+			new Thread( () -> {
+				if ( latch != null ) {
+					try {
+						// times out if the session waits for this batch
+						if ( latch.await( 10, SECONDS ) ) {
+							OVERLAPPED.incrementAndGet();
+						}
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				command.run();
+			} ).start();
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		@Version
+		Integer version;
+		String name;
+
+		Item() {
+		}
+
+		Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@PostPersist
+		void postPersist() {
+			final var latch = GatedExecutor.gate;
+			if ( latch != null && id == BATCH_SIZE + 1 ) {
+				latch.countDown();
+			}
+		}
+	}
+}
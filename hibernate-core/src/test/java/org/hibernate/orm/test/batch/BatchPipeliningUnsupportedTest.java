@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@value BatchSettings#BATCH_PIPELINING} has no effect
+ * unless the dialect declares that the JDBC driver supports it
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5" ),
+				@Setting( name = BatchSettings.BATCH_PIPELINING, value = "true" ),
+				@Setting( name = QuerySettings.ASYNC_EXECUTOR,
+						value = "org.hibernate.orm.test.batch.BatchPipeliningUnsupportedTest$CountingExecutor" ),
+		}
+)
+@DomainModel( annotatedClasses = BatchPipeliningUnsupportedTest.Item.class )
+@SessionFactory
+@RequiresDialect( H2Dialect.class )
+public class BatchPipeliningUnsupportedTest {
+
+	@Test
+	public void testNotPipelined(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 12; i++ ) {
+				session.persist( new Item( i ) );
+			}
+		} );
+		assertThat( CountingExecutor.EXECUTIONS.get() ).isZero();
+		scope.inTransaction( session ->
+				assertThat( session.createSelectionQuery( "select count(*) from Item", Long.class )
+						.getSingleResult() ).isEqualTo( 12L ) );
+	}
+
+	public static class CountingExecutor implements Executor {
+		static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable command) {
+			EXECUTIONS.incrementAndGet();
+			command.run();
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+
+		Item() {
+		}
+
+		Item(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		MultiRowInsertTest.Author.class,
+		MultiRowInsertTest.Book.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = BatchSettings.ORDER_INSERTS, value = "true"),
+		@Setting(name = BatchSettings.MULTI_ROW_INSERTS, value = "true")
+})
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+@RequiresDialect(MySQLDialect.class)
+@RequiresDialect(SQLServerDialect.class)
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testMultiRowInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 25; i++ ) {
+				session.persist( new Book( i, "title_" + i, null ) );
+			}
+		} );
+		// two full batches of ten rows share the same multi-row
+		// statement, and the five remaining rows are inserted one
+		// by one in a single batch
+		final List<String> inserts = inspector.getSqlQueries();
+		assertThat( inserts ).hasSize( 2 );
+		assertThat( countRows( inserts.get( 0 ) ) ).isEqualTo( 10 );
+		assertThat( countRows( inserts.get( 1 ) ) ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Book", Long.class )
+					.getSingleResult() ).isEqualTo( 25L );
+			assertThat( session.find( Book.class, 0L ).title ).isEqualTo( "title_0" );
+			assertThat( session.find( Book.class, 17L ).title ).isEqualTo( "title_17" );
+			assertThat( session.find( Book.class, 24L ).title ).isEqualTo( "title_24" );
+		} );
+	}
+
+	@Test
+	public void testMultiRowInsertOfSeveralEntities(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 10; i++ ) {
+				final var author = new Author( i, "author_" + i );
+				session.persist( author );
+				session.persist( new Book( 2 * i, "first_" + i, author ) );
+				session.persist( new Book( 2 * i + 1, "second_" + i, author ) );
+			}
+		} );
+		assertThat( inspector.getSqlQueries() )
+				.hasSize( 2 )
+				.allMatch( sql -> countRows( sql ) == 10 );
+
+		scope.inTransaction( session -> {
+			final var book = session.find( Book.class, 15L );
+			assertThat( book.title ).isEqualTo( "second_7" );
+			assertThat( book.author.name ).isEqualTo( "author_7" );
+		} );
+	}
+
+	private static int countRows(String sql) {
+		assertThat( sql ).startsWithIgnoringCase( "insert" );
+		return sql.split( "\\),\\(", -1 ).length;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+		@ManyToOne
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value FetchSettings#ADAPTIVE_BATCH_FETCH_THRESHOLD}
+ */
+@ServiceRegistry( settings = @Setting( name = FetchSettings.ADAPTIVE_BATCH_FETCH_THRESHOLD, value = "3" ) )
+@DomainModel( annotatedClasses = {
+		AdaptiveBatchFetchTest.Author.class,
+		AdaptiveBatchFetchTest.Publisher.class,
+		AdaptiveBatchFetchTest.Book.class
+} )
+@SessionFactory( useCollectingStatementInspector = true )
+public class AdaptiveBatchFetchTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				final var author = new Author( i, "Author " + i );
+				final var publisher = new Publisher( i, "Publisher " + i );
+				session.persist( author );
+				session.persist( publisher );
+				session.persist( new Book( i, "Book " + i, author, publisher ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntityFetchStorm(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		final var statistics = scope.getSessionFactory().getStatistics();
+		final String entityName = Publisher.class.getName();
+		assertThat( statistics.getAdaptiveBatchSizes() ).doesNotContainKey( entityName );
+
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final var books = session.createSelectionQuery( "from Book order by id", Book.class ).getResultList();
+			for ( var book : books ) {
+				Hibernate.initialize( book.publisher );
+			}
+		} );
+		// the query, two single fetches, and then a batch with the remaining eight publishers
+		assertThat( inspector.getSqlQueries() ).hasSize( 4 );
+		assertThat( statistics.getAdaptiveBatchSizes() ).containsEntry( entityName, 8 );
+
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final var books = session.createSelectionQuery( "from Book order by id", Book.class ).getResultList();
+			for ( var book : books ) {
+				Hibernate.initialize( book.publisher );
+			}
+		} );
+		// the query, and then two batches of eight
+		assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+	}
+
+	@Test
+	public void testCollectionFetchStorm(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		final var statistics = scope.getSessionFactory().getStatistics();
+		final String role = Author.class.getName() + ".books";
+		assertThat( statistics.getAdaptiveBatchSizes() ).doesNotContainKey( role );
+
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final var authors = session.createSelectionQuery( "from Author order by id", Author.class ).getResultList();
+			for ( var author : authors ) {
+				assertThat( Hibernate.isInitialized( author.books ) ).isFalse();
+				assertThat( author.books ).hasSize( 1 );
+			}
+		} );
+		// the query, two single fetches, and then a batch with the remaining eight collections
+		assertThat( inspector.getSqlQueries() ).hasSize( 4 );
+		assertThat( statistics.getAdaptiveBatchSizes() ).containsEntry( role, 8 );
+
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final var authors = session.createSelectionQuery( "from Author order by id", Author.class ).getResultList();
+			for ( var author : authors ) {
+				assertThat( author.books ).hasSize( 1 );
+			}
+		} );
+		// the query, and then two batches of eight
+		assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+	}
+
+	@Test
+	public void testBatchedFetchesNotCounted(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		final var statistics = scope.getSessionFactory().getStatistics();
+		final String entityName = Author.class.getName();
+		scope.inTransaction( session -> {
+			for ( long i = 11; i <= 30; i++ ) {
+				final var author = new Author( i, "Author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "Book " + i, author, null ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final var books =
+					session.createSelectionQuery( "from Book where id <= 10 order by id", Book.class )
+							.getResultList();
+			for ( var book : books ) {
+				Hibernate.initialize( book.author );
+			}
+		} );
+		assertThat( statistics.getAdaptiveBatchSizes() ).containsEntry( entityName, 8 );
+
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final var books = session.createSelectionQuery( "from Book order by id", Book.class ).getResultList();
+			for ( var book : books ) {
+				Hibernate.initialize( book.author );
+			}
+		} );
+		// the query, and then four batches, none of which counts as a fetch of a single key
+		assertThat( inspector.getSqlQueries() ).hasSize( 5 );
+		assertThat( statistics.getAdaptiveBatchSizes() ).containsEntry( entityName, 8 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+		@OneToMany(mappedBy = "author")
+		List<Book> books = new ArrayList<>();
+
+		Author() {
+		}
+
+		Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		Long id;
+		String name;
+
+		Publisher() {
+		}
+
+		Publisher(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Publisher publisher;
+
+		Book() {
+		}
+
+		Book(Long id, String title, Author author, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+			this.publisher = publisher;
+		}
+	}
+}
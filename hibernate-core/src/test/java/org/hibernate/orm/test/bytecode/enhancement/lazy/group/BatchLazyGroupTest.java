@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.lazy.group;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.LazyGroup;
+
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a lazy fetch group is initialized for a batch of entities
+ * of the same type at once, respecting {@link BatchSize}.
+ */
+@DomainModel( annotatedClasses = {
+		BatchLazyGroupTest.Document.class,
+		BatchLazyGroupTest.Note.class
+} )
+@SessionFactory( useCollectingStatementInspector = true )
+@BytecodeEnhanced
+public class BatchLazyGroupTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 12; i++ ) {
+				session.persist( new Document( i, "Document " + i, "Content " + i, "Summary " + i, "Notes " + i ) );
+				session.persist( new Note( i, "Text " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testLazyGroupLoadedInBatches(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final var documents =
+					session.createSelectionQuery( "from Document order by id", Document.class ).getResultList();
+			assertThat( documents ).hasSize( 12 );
+			for ( var document : documents ) {
+				assertThat( document.getContent() ).isEqualTo( "Content " + document.getId() );
+				assertThat( Hibernate.isPropertyInitialized( document, "summary" ) ).isTrue();
+				assertThat( document.getSummary() ).isEqualTo( "Summary " + document.getId() );
+				// another fetch group is not initialized
+				assertThat( Hibernate.isPropertyInitialized( document, "notes" ) ).isFalse();
+			}
+			// the query, and then three batches of at most five documents
+			assertThat( inspector.getSqlQueries() ).hasSize( 4 );
+		} );
+	}
+
+	@Test
+	public void testLazyGroupOfFollowingEntitiesLoaded(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final var documents =
+					session.createSelectionQuery( "from Document order by id", Document.class ).getResultList();
+			// start in the middle of the list
+			assertThat( documents.get( 9 ).getContent() ).isEqualTo( "Content 10" );
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+			for ( int i = 0; i < documents.size(); i++ ) {
+				// the two following documents, and then the two preceding documents
+				assertThat( Hibernate.isPropertyInitialized( documents.get( i ), "content" ) )
+						.isEqualTo( i >= 7 );
+			}
+		} );
+	}
+
+	@Test
+	public void testWithoutBatchSize(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final var notes =
+					session.createSelectionQuery( "from Note order by id", Note.class ).getResultList();
+			for ( var note : notes ) {
+				assertThat( note.getText() ).isEqualTo( "Text " + note.getId() );
+			}
+			// the query, and then one select per note
+			assertThat( inspector.getSqlQueries() ).hasSize( 13 );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Entity(name = "Document")
+	@BatchSize(size = 5)
+	public static class Document {
+		@Id
+		Long id;
+		String title;
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("text")
+		String content;
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("text")
+		String summary;
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("notes")
+		String notes;
+
+		Document() {
+		}
+
+		Document(Long id, String title, String content, String summary, String notes) {
+			this.id = id;
+			this.title = title;
+			this.content = content;
+			this.summary = summary;
+			this.notes = notes;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getContent() {
+			return content;
+		}
+
+		public String getSummary() {
+			return summary;
+		}
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		Long id;
+		@Basic(fetch = FetchType.LAZY)
+		String text;
+
+		Note() {
+		}
+
+		Note(Long id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+}
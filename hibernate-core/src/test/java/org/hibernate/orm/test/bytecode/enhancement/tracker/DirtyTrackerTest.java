@@ -4,6 +4,9 @@
  */
 package org.hibernate.orm.test.bytecode.enhancement.tracker;
 
+import java.util.function.ToIntFunction;
+
+import org.hibernate.bytecode.enhance.spi.DirtyAttributeMasks;
 import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SortedFieldTracker;
@@ -12,6 +15,8 @@
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -76,6 +81,62 @@ public void testSortedTracker() {
 		assertEquals( 4, tracker.get().length );
 	}
 
+	@Test
+	public void testMask() {
+		testMask( new SimpleFieldTracker() );
+		testMask( new SortedFieldTracker() );
+	}
+
+	private void testMask(DirtyTracker tracker) {
+		final ToIntFunction<String> positions = name -> switch ( name ) {
+			case "foo" -> 0;
+			case "bar" -> 3;
+			case "another" -> 70;
+			default -> -1;
+		};
+		assertEquals( 0, tracker.getMask( positions ).length );
+
+		tracker.add( "foo" );
+		tracker.add( "unknown" );
+		final long[] mask = tracker.getMask( positions );
+		assertArrayEquals( new int[] {0}, DirtyAttributeMasks.toPositions( mask ) );
+		// the mask is cached until the tracked names change
+		assertSame( mask, tracker.getMask( positions ) );
+		tracker.add( "foo" );
+		assertSame( mask, tracker.getMask( positions ) );
+
+		tracker.add( "another" );
+		tracker.add( "bar" );
+		final long[] newMask = tracker.getMask( positions );
+		assertNotSame( mask, newMask );
+		assertArrayEquals( new int[] {0, 3, 70}, DirtyAttributeMasks.toPositions( newMask ) );
+		assertTrue( DirtyAttributeMasks.isDirty( newMask, 70 ) );
+		assertFalse( DirtyAttributeMasks.isDirty( newMask, 71 ) );
+		assertFalse( DirtyAttributeMasks.isDirty( newMask, 200 ) );
+
+		tracker.clear();
+		assertEquals( 0, tracker.getMask( positions ).length );
+	}
+
+	@Test
+	public void testMaskOfPositions() {
+		final long[] mask = DirtyAttributeMasks.ofPositions( new int[] {130, 5, 64, 5} );
+		assertEquals( 3, mask.length );
+		assertArrayEquals( new int[] {5, 64, 130}, DirtyAttributeMasks.toPositions( mask ) );
+		final long[] copy = new long[DirtyAttributeMasks.wordCount( 131 )];
+		DirtyAttributeMasks.setDirty( copy, 5 );
+		DirtyAttributeMasks.setDirty( copy, 64 );
+		DirtyAttributeMasks.setDirty( copy, 130 );
+		assertArrayEquals( mask, copy );
+	}
+
+	@Test
+	public void testMaskOfUnknownPositions() {
+		final long[] mask = DirtyAttributeMasks.ofPositions( new int[] {-1, 3, -1} );
+		assertArrayEquals( new int[] {3}, DirtyAttributeMasks.toPositions( mask ) );
+		assertEquals( 0, DirtyAttributeMasks.ofPositions( new int[] {-1} ).length );
+	}
+
 	private boolean isSorted(String[] arr) {
 		for ( int i = 1; i < arr.length; i++ ) {
 			if ( arr[i - 1].compareTo( arr[i] ) > 0 ) {
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StatisticsSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value CacheSettings#USE_BINARY_CACHE}
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory" ),
+				@Setting( name = CacheSettings.USE_BINARY_CACHE, value = "true" ),
+				@Setting( name = StatisticsSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+@DomainModel( annotatedClasses = BinaryCacheEntryTest.Item.class )
+@SessionFactory
+public class BinaryCacheEntryTest {
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) {
+		final var uuid = UUID.randomUUID();
+		final var instant = Instant.parse( "2024-05-06T07:08:09.123456Z" );
+		final byte[] bytes = "binary".getBytes( StandardCharsets.UTF_8 );
+		scope.inTransaction( session -> {
+			final var item = new Item();
+			item.id = 1L;
+			item.name = "widget";
+			item.quantity = 5;
+			item.price = new BigDecimal( "12.50" );
+			item.released = LocalDate.of( 2024, 5, 6 );
+			item.updated = instant;
+			item.uuid = uuid;
+			item.data = bytes;
+			item.status = Status.ACTIVE;
+			item.dimensions = new Dimensions( 2.5, 3 );
+			session.persist( item );
+		} );
+
+		final var persister =
+				scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Item.class );
+		assertThat( persister.getCacheEntryStructure() ).isInstanceOf( BinaryCacheEntry.class );
+
+		final var cacheAccess = persister.getCacheAccessStrategy();
+		final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, scope.getSessionFactory(), null );
+		final Object[] cached = new Object[1];
+		scope.inSession( session -> cached[0] = cacheAccess.get( session, cacheKey ) );
+		assertThat( cached[0] ).isInstanceOf( byte[].class );
+
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final var item = session.find( Item.class, 1L );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+			assertThat( statistics.getPrepareStatementCount() ).isZero();
+			assertThat( item.name ).isEqualTo( "widget" );
+			assertThat( item.quantity ).isEqualTo( 5 );
+			assertThat( item.price ).isEqualTo( new BigDecimal( "12.50" ) );
+			assertThat( item.released ).isEqualTo( LocalDate.of( 2024, 5, 6 ) );
+			assertThat( item.updated ).isEqualTo( instant );
+			assertThat( item.uuid ).isEqualTo( uuid );
+			assertThat( item.data ).isEqualTo( bytes );
+			assertThat( item.status ).isEqualTo( Status.ACTIVE );
+			assertThat( item.dimensions.width ).isEqualTo( 2.5 );
+			assertThat( item.dimensions.height ).isEqualTo( 3 );
+			assertThat( item.version ).isZero();
+		} );
+
+		final var structure = persister.getCacheEntryStructure();
+		final var entry = (CacheEntry) structure.destructure( cached[0], scope.getSessionFactory() );
+		assertThat( entry.getSubclass() ).isEqualTo( Item.class.getName() );
+		assertThat( entry.getVersion() ).isEqualTo( 0 );
+
+		// an entry written for a different mapping of the entity is rejected
+		final byte[] stale = ( (byte[]) cached[0] ).clone();
+		final int fingerprintOffset = 1 + 2 + Item.class.getName().length();
+		stale[fingerprintOffset] ^= 1;
+		assertThat( structure.destructure( stale, scope.getSessionFactory() ) ).isNull();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	public enum Status {
+		ACTIVE,
+		RETIRED
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		double width;
+		int height;
+
+		Dimensions() {
+		}
+
+		Dimensions(double width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	public static class Item {
+		@Id
+		Long id;
+		@Version
+		int version;
+		String name;
+		Integer quantity;
+		BigDecimal price;
+		LocalDate released;
+		Instant updated;
+		UUID uuid;
+		byte[] data;
+		@Enumerated(EnumType.STRING)
+		Status status;
+		@Embedded
+		Dimensions dimensions;
+	}
+}
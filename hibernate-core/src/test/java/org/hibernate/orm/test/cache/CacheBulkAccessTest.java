@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StatisticsSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the bulk operations of the second-level cache, as used
+ * by multi-id loading, batch fetching, and loading from result sets
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory" ),
+				@Setting( name = StatisticsSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+@DomainModel( annotatedClasses = CacheBulkAccessTest.Book.class )
+@SessionFactory
+public class CacheBulkAccessTest {
+	private static final List<Integer> IDS = List.of( 1, 2, 3, 4, 5 );
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( Integer id : IDS ) {
+				session.persist( new Book( id, "Book " + id ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictAll();
+	}
+
+	@Test
+	public void testMultiLoad(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+
+		// loaded from the database, and put in the cache together
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertBooks( session.findMultiple( Book.class, IDS ) );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 5 );
+
+		// all served by the cache
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertBooks( session.findMultiple( Book.class, IDS ) );
+			assertThat( statistics.getPrepareStatementCount() ).isZero();
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 5 );
+		} );
+
+		// only the missing entity is loaded from the database
+		scope.getSessionFactory().getCache().evictEntityData( Book.class, 3 );
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertBooks( session.findMultiple( Book.class, IDS ) );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 4 );
+			assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testBatchFetch(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.find( Book.class, 1 ) );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final var books = IDS.stream().map( id -> session.getReference( Book.class, id ) ).toList();
+			// the cached entity is left out of the batch
+			Hibernate.initialize( books.get( 1 ) );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+			books.forEach( Hibernate::initialize );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+			assertBooks( books );
+		} );
+	}
+
+	private static void assertBooks(List<Book> books) {
+		assertThat( books ).hasSize( IDS.size() );
+		for ( int i = 0; i < IDS.size(); i++ ) {
+			assertThat( books.get( i ).getTitle() ).isEqualTo( "Book " + IDS.get( i ) );
+		}
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAll();
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = 10)
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.NearCacheDomainDataStorageAccess;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value CacheSettings#NEAR_CACHE_MAX_ENTRIES}
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.USE_QUERY_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory" ),
+				@Setting( name = CacheSettings.NEAR_CACHE_MAX_ENTRIES, value = "100" ),
+				@Setting( name = StatisticsSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+@DomainModel( annotatedClasses = { NearCacheTest.Country.class, NearCacheTest.Account.class } )
+@SessionFactory
+public class NearCacheTest {
+
+	@Test
+	public void testNearCacheOnlyForNonStrictRegions(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		assertThat( storageAccess( factory, Country.class ) )
+				.isInstanceOf( NearCacheDomainDataStorageAccess.class );
+		assertThat( storageAccess( factory, Account.class ) )
+				.isNotInstanceOf( NearCacheDomainDataStorageAccess.class );
+	}
+
+	@Test
+	public void testNearCache(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		final var statistics = factory.getStatistics();
+		final var nearCache = (NearCacheDomainDataStorageAccess) storageAccess( factory, Country.class );
+
+		scope.inTransaction( session -> session.persist( new Country( 1L, "France" ) ) );
+		scope.inTransaction( session -> session.find( Country.class, 1L ) );
+		assertThat( nearCache.getNearCacheSize() ).isEqualTo( 1 );
+
+		// served by the near cache even though the region lost the entry
+		nearCache.getDelegate().evictData();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertThat( session.find( Country.class, 1L ).name ).isEqualTo( "France" );
+			assertThat( statistics.getPrepareStatementCount() ).isZero();
+		} );
+
+		// an update removes the entry from the near cache
+		scope.inTransaction( session -> session.find( Country.class, 1L ).name = "French Republic" );
+		assertThat( nearCache.getNearCacheSize() ).isZero();
+		scope.inTransaction( session ->
+				assertThat( session.find( Country.class, 1L ).name ).isEqualTo( "French Republic" ) );
+
+		// so does eviction of the region
+		factory.getCache().evictEntityData( Country.class );
+		assertThat( nearCache.getNearCacheSize() ).isZero();
+	}
+
+	@Test
+	public void testNearCacheCoherence(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		final var statistics = factory.getStatistics();
+		final var nearCache = (NearCacheDomainDataStorageAccess) storageAccess( factory, Country.class );
+
+		scope.inTransaction( session -> session.persist( new Country( 2L, "Italy" ) ) );
+		scope.inTransaction( session -> session.find( Country.class, 2L ) );
+		assertThat( nearCache.getNearCacheSize() ).isEqualTo( 1 );
+		nearCache.getDelegate().evictData();
+
+		// the table was updated elsewhere after the entry was cached
+		final String[] spaces = factory.getMappingMetamodel().getEntityDescriptor( Country.class ).getPropertySpaces();
+		scope.inSession( session -> factory.getCache().getTimestampsCache().invalidate( spaces, session ) );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertThat( session.find( Country.class, 2L ).name ).isEqualTo( "Italy" );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	private static Object storageAccess(SessionFactoryImplementor factory, Class<?> entityClass) {
+		final var region = factory.getMappingMetamodel().getEntityDescriptor( entityClass )
+				.getCacheAccessStrategy().getRegion();
+		return ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAll();
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "countries")
+	public static class Country {
+		@Id
+		Long id;
+		String name;
+
+		Country() {
+		}
+
+		Country(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Account")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "accounts")
+	public static class Account {
+		@Id
+		Long id;
+		String owner;
+	}
+}
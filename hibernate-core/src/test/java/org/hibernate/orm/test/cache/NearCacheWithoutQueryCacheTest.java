@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.NearCacheDomainDataStorageAccess;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value CacheSettings#NEAR_CACHE_MAX_ENTRIES} when the query
+ * cache, and so the update timestamps, are disabled
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.USE_QUERY_CACHE, value = "false" ),
+				@Setting( name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory" ),
+				@Setting( name = CacheSettings.NEAR_CACHE_MAX_ENTRIES, value = "100" ),
+				@Setting( name = StatisticsSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+@DomainModel( annotatedClasses = NearCacheWithoutQueryCacheTest.City.class )
+@SessionFactory
+public class NearCacheWithoutQueryCacheTest {
+
+	@Test
+	public void testNearCache(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		final var statistics = factory.getStatistics();
+		final var region = factory.getMappingMetamodel().getEntityDescriptor( City.class )
+				.getCacheAccessStrategy().getRegion();
+		final var nearCache =
+				(NearCacheDomainDataStorageAccess) ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+
+		scope.inTransaction( session -> session.persist( new City( 1L, "Paris" ) ) );
+		scope.inTransaction( session -> session.find( City.class, 1L ) );
+		assertThat( nearCache.getNearCacheSize() ).isEqualTo( 1 );
+
+		// served by the near cache even though the region lost the entry
+		nearCache.getDelegate().evictData();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertThat( session.find( City.class, 1L ).name ).isEqualTo( "Paris" );
+			assertThat( statistics.getPrepareStatementCount() ).isZero();
+		} );
+
+		// an update removes the entry from the near cache
+		scope.inTransaction( session -> session.find( City.class, 1L ).name = "Lutetia" );
+		assertThat( nearCache.getNearCacheSize() ).isZero();
+		scope.inTransaction( session ->
+				assertThat( session.find( City.class, 1L ).name ).isEqualTo( "Lutetia" ) );
+
+		// and so does a bulk update
+		scope.inTransaction( session -> session.createMutationQuery( "update City set name = 'Paris'" )
+				.executeUpdate() );
+		assertThat( nearCache.getNearCacheSize() ).isZero();
+		scope.inTransaction( session ->
+				assertThat( session.find( City.class, 1L ).name ).isEqualTo( "Paris" ) );
+	}
+
+	@Test
+	public void testRemovalDuringRead(SessionFactoryScope scope) {
+		final Map<Object, Object> storage = new ConcurrentHashMap<>();
+		final var delegate = new RacingStorageAccess( storage );
+		final var nearCache = new NearCacheDomainDataStorageAccess( delegate, null, 10, 0 );
+		delegate.nearCache = nearCache;
+		storage.put( "key", "value" );
+		scope.inSession( session -> {
+			assertThat( nearCache.getFromCache( "key", session ) ).isEqualTo( "value" );
+			// the value read before the removal was not admitted
+			assertThat( nearCache.getNearCacheSize() ).isZero();
+			assertThat( nearCache.getFromCache( "key", session ) ).isNull();
+		} );
+	}
+
+	/**
+	 * Simulates a removal by another thread right after a value is read.
+	 */
+	private static class RacingStorageAccess implements DomainDataStorageAccess {
+		private final Map<Object, Object> storage;
+		private NearCacheDomainDataStorageAccess nearCache;
+
+		private RacingStorageAccess(Map<Object, Object> storage) {
+			this.storage = storage;
+		}
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			final Object value = storage.get( key );
+			if ( value != null ) {
+				nearCache.removeFromCache( key, session );
+			}
+			return value;
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			storage.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return storage.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			storage.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			storage.remove( key );
+		}
+
+		@Override
+		public void release() {
+			storage.clear();
+		}
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAll();
+	}
+
+	@Entity(name = "City")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "cities")
+	public static class City {
+		@Id
+		Long id;
+		String name;
+
+		City() {
+		}
+
+		City(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
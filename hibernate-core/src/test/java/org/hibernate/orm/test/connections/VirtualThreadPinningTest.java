@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connections;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs sessions on virtual threads, and checks, using the JFR
+ * {@code jdk.VirtualThreadPinned} event, that no virtual thread
+ * is pinned to its carrier while blocked inside Hibernate.
+ * <p>
+ * Pinning inside the JDBC driver is outside the control of
+ * Hibernate, and is ignored.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DomainModel( annotatedClasses = VirtualThreadPinningTest.Item.class )
+@SessionFactory
+public class VirtualThreadPinningTest {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int TASKS = 50;
+
+	@Test
+	public void testNoPinning(SessionFactoryScope scope) throws Exception {
+		final Path dump = Files.createTempFile( "pinning", ".jfr" );
+		try ( var recording = new Recording() ) {
+			recording.enable( PINNED_EVENT ).withThreshold( Duration.ZERO ).withStackTrace();
+			recording.start();
+			runOnVirtualThreads( scope );
+			recording.stop();
+			recording.dump( dump );
+
+			final List<String> pinned = new ArrayList<>();
+			for ( var event : RecordingFile.readAllEvents( dump ) ) {
+				if ( PINNED_EVENT.equals( event.getEventType().getName() ) && isPinnedInHibernate( event ) ) {
+					pinned.add( event.toString() );
+				}
+			}
+			assertThat( pinned ).as( "virtual threads pinned inside Hibernate" ).isEmpty();
+		}
+		finally {
+			Files.deleteIfExists( dump );
+		}
+	}
+
+	private static void runOnVirtualThreads(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < TASKS; i++ ) {
+				final String name = "item " + i;
+				futures.add( executor.submit( () -> {
+					final var item = new Item( name );
+					scope.inTransaction( session -> session.persist( item ) );
+					scope.inTransaction( session -> {
+						assertThat( session.find( Item.class, item.id ).name ).isEqualTo( name );
+						session.createSelectionQuery( "from Item where name = :name", Item.class )
+								.setParameter( "name", name )
+								.getResultList();
+					} );
+				} ) );
+			}
+			for ( var future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+			assertThat( executor.awaitTermination( 1, TimeUnit.MINUTES ) ).isTrue();
+		}
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+		// not available in the baseline JDK
+		return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+	}
+
+	private static boolean isPinnedInHibernate(RecordedEvent event) {
+		final var stackTrace = event.getStackTrace();
+		if ( stackTrace == null ) {
+			return false;
+		}
+		boolean inHibernate = false;
+		for ( RecordedFrame frame : stackTrace.getFrames() ) {
+			final var method = frame.getMethod();
+			if ( method != null ) {
+				final String className = method.getType().getName();
+				if ( className.startsWith( "org.hibernate." ) ) {
+					inHibernate = true;
+				}
+				else if ( !className.startsWith( "java." ) && !className.startsWith( "jdk." )
+						&& !className.startsWith( "sun." ) && !inHibernate ) {
+					// blocked inside the JDBC driver
+					return false;
+				}
+			}
+		}
+		return inHibernate;
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE)
+		Long id;
+		String name;
+
+		Item() {
+		}
+
+		Item(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.dialect;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.dialect.bulk.PostgreSQLCopyBulkInsertSupport;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the text format written by {@link PostgreSQLCopyBulkInsertSupport}.
+ */
+public class PostgreSQLCopyBulkInsertSupportTest {
+
+	@Test
+	public void testCopyFormat() throws Exception {
+		final var bulkInsertSupport = new CapturingBulkInsertSupport();
+		final long count = bulkInsertSupport.insertRows(
+				null,
+				"items",
+				List.of( "id", "name", "flag", "amount", "day", "data", "uuid" ),
+				List.of(
+						new Object[] { 1L, "tab\there", true, new BigDecimal( "1E+3" ), LocalDate.of( 2025, 2, 3 ),
+								new byte[] { 0, 15, -1 }, new UUID( 0L, 1L ) },
+						new Object[] { 2, "back\\slash\r\nnew line", false, null, null, null, null }
+				)
+		);
+		assertThat( count ).isEqualTo( 2L );
+		assertThat( bulkInsertSupport.sql ).isEqualTo( "copy items (id,name,flag,amount,day,data,uuid) from stdin" );
+		assertThat( bulkInsertSupport.payload ).isEqualTo(
+				"1\ttab\\there\tt\t1000\t2025-02-03\t\\\\x000fff\t00000000-0000-0000-0000-000000000001\n"
+				+ "2\tback\\\\slash\\r\\nnew line\tf\t\\N\t\\N\t\\N\t\\N\n"
+		);
+	}
+
+	@Test
+	public void testSupportedValues() {
+		final var bulkInsertSupport = PostgreSQLCopyBulkInsertSupport.INSTANCE;
+		assertThat( bulkInsertSupport.supportsValue( "text" ) ).isTrue();
+		assertThat( bulkInsertSupport.supportsValue( new byte[0] ) ).isTrue();
+		assertThat( bulkInsertSupport.supportsValue( LocalDate.now() ) ).isTrue();
+		assertThat( bulkInsertSupport.supportsValue( new Object() ) ).isFalse();
+		assertThat( bulkInsertSupport.supportsValue( new int[0] ) ).isFalse();
+	}
+
+	private static class CapturingBulkInsertSupport extends PostgreSQLCopyBulkInsertSupport {
+		private String sql;
+		private String payload;
+
+		@Override
+		protected long copyIn(Connection connection, String sql, InputStream rows) throws IOException {
+			this.sql = sql;
+			this.payload = new String( rows.readAllBytes(), UTF_8 );
+			return payload.lines().count();
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.CompactLoadedStateStore;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = CompactLoadedStateStoreTest.Person.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PERSISTENCE_CONTEXT_LOADED_STATE_STORE, value = "compact"))
+public class CompactLoadedStateStoreTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Person( 1L, "Gavin", 40, 1.85, true, 'G' ) );
+			session.persist( new Person( 2L, "Ζήνων", null, null, false, null ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) {
+		final EntityPersister persister =
+				scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Person.class );
+		final Object[] state = { true, 'x', 1.5, (byte) 2, 3.5f, 4, 5L, "Ζήνων", (short) 6, "latin", null };
+		final Object compact = CompactLoadedStateStore.INSTANCE.compact( state, persister );
+		assertThat( compact ).isInstanceOf( byte[].class );
+		assertThat( CompactLoadedStateStore.INSTANCE.isIdentical( compact, state.clone(), persister ) ).isTrue();
+
+		final Object[] modified = state.clone();
+		modified[7] = "Zenon";
+		assertThat( CompactLoadedStateStore.INSTANCE.isIdentical( compact, modified, persister ) ).isFalse();
+
+		// a state containing a value which cannot be encoded is not compacted
+		assertThat( CompactLoadedStateStore.INSTANCE.compact( new Object[] { new Object() }, persister ) ).isNull();
+	}
+
+	@Test
+	public void testExpand(SessionFactoryScope scope) {
+		final EntityPersister persister =
+				scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Person.class );
+		final Object[] state = new Object[persister.getPropertySpan()];
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = i % 2 == 0 ? "value_" + i : (Object) (long) i;
+		}
+		final Object compact = CompactLoadedStateStore.INSTANCE.compact( state, persister );
+		assertThat( CompactLoadedStateStore.INSTANCE.expand( compact, persister ) ).containsExactly( state );
+	}
+
+	@Test
+	public void testDirtyChecking(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Person gavin = session.find( Person.class, 1L );
+			final Person zenon = session.find( Person.class, 2L );
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( gavin );
+			assertThat( entry.getLoadedValue( "name" ) ).isEqualTo( "Gavin" );
+			assertThat( session.getPersistenceContextInternal().getEntry( zenon ).getLoadedValue( "name" ) )
+					.isEqualTo( "Ζήνων" );
+			inspector.clear();
+			session.flush();
+			inspector.assertNoUpdate();
+
+			zenon.setAge( 2500 );
+			session.flush();
+			inspector.assertUpdate();
+			assertThat( session.getPersistenceContextInternal().getEntry( zenon ).getLoadedValue( "age" ) )
+					.isEqualTo( 2500 );
+
+			inspector.clear();
+			session.flush();
+			inspector.assertNoUpdate();
+		} );
+		scope.inTransaction( session -> {
+			final Person zenon = session.find( Person.class, 2L );
+			assertThat( zenon.getAge() ).isEqualTo( 2500 );
+			assertThat( zenon.getName() ).isEqualTo( "Ζήνων" );
+			assertThat( zenon.getHeight() ).isNull();
+			assertThat( zenon.isActive() ).isFalse();
+		} );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Long id;
+		private String name;
+		private Integer age;
+		private Double height;
+		private boolean active;
+		private Character initial;
+
+		public Person() {
+		}
+
+		public Person(Long id, String name, Integer age, Double height, boolean active, Character initial) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+			this.height = height;
+			this.active = active;
+			this.initial = initial;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Integer getAge() {
+			return age;
+		}
+
+		public void setAge(Integer age) {
+			this.age = age;
+		}
+
+		public Double getHeight() {
+			return height;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public Character getInitial() {
+			return initial;
+		}
+	}
+}
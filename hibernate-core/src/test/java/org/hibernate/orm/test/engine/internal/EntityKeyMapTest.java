@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.EntityKeyMap;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		EntityKeyMapTest.LongEntity.class,
+		EntityKeyMapTest.LongSubEntity.class,
+		EntityKeyMapTest.StringEntity.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP, value = "true"))
+public class EntityKeyMapTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testMapOperations(SessionFactoryScope scope) {
+		final var metamodel = scope.getSessionFactory().getMappingMetamodel();
+		final EntityPersister longPersister = metamodel.getEntityDescriptor( LongEntity.class );
+		final EntityPersister subPersister = metamodel.getEntityDescriptor( LongSubEntity.class );
+		final EntityPersister stringPersister = metamodel.getEntityDescriptor( StringEntity.class );
+
+		final EntityKeyMap<String> map = new EntityKeyMap<>();
+		final Map<EntityKey, String> expected = new HashMap<>();
+		for ( long i = 0; i < 10_000; i++ ) {
+			final EntityKey longKey = new EntityKey( i, i % 2 == 0 ? longPersister : subPersister );
+			final EntityKey stringKey = new EntityKey( "id_" + i, stringPersister );
+			map.put( longKey, "long_" + i );
+			map.put( stringKey, "string_" + i );
+			expected.put( longKey, "long_" + i );
+			expected.put( stringKey, "string_" + i );
+		}
+		assertThat( map ).hasSize( 20_000 ).isEqualTo( expected );
+
+		// keys of the same hierarchy are equal, no matter the concrete persister
+		assertThat( map.get( new EntityKey( 1L, longPersister ) ) ).isEqualTo( "long_1" );
+		assertThat( map.get( longPersister, 3L ) ).isEqualTo( "long_3" );
+		assertThat( map.get( subPersister, (Object) 4L ) ).isEqualTo( "long_4" );
+		assertThat( map.get( stringPersister, "id_5" ) ).isEqualTo( "string_5" );
+		assertThat( map.putIfAbsent( new EntityKey( 6L, longPersister ), "other" ) ).isEqualTo( "long_6" );
+		assertThat( map.get( longPersister, 6L ) ).isEqualTo( "long_6" );
+
+		for ( long i = 0; i < 10_000; i += 3 ) {
+			assertThat( map.remove( new EntityKey( i, longPersister ) ) ).isEqualTo( "long_" + i );
+			expected.remove( new EntityKey( i, longPersister ) );
+		}
+		assertThat( map ).isEqualTo( expected );
+		assertThat( map.get( longPersister, 0L ) ).isNull();
+		assertThat( map.get( longPersister, 1L ) ).isEqualTo( "long_1" );
+
+		// removal during iteration must neither skip nor revisit entries
+		int visited = 0;
+		final var iterator = map.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			final var entry = iterator.next();
+			assertThat( expected.get( entry.getKey() ) ).isEqualTo( entry.getValue() );
+			visited++;
+			if ( entry.getValue().hashCode() % 2 == 0 ) {
+				iterator.remove();
+				expected.remove( entry.getKey() );
+			}
+		}
+		assertThat( visited ).isEqualTo( 20_000 - 3334 );
+		assertThat( map ).isEqualTo( expected );
+
+		map.clear();
+		assertThat( map ).isEmpty();
+		assertThat( map.get( longPersister, 1L ) ).isNull();
+	}
+
+	@Test
+	public void testPersistenceContext(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 100; i++ ) {
+				session.persist( i % 2 == 0 ? new LongEntity( i, "long" ) : new LongSubEntity( i, "sub" ) );
+				session.persist( new StringEntity( "id_" + i, "string" ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final var entity = session.find( LongEntity.class, 2L );
+			assertThat( session.find( LongEntity.class, 2L ) ).isSameAs( entity );
+			assertThat( session.find( LongEntity.class, 3L ) ).isInstanceOf( LongSubEntity.class );
+			assertThat( session.find( StringEntity.class, "id_1" ).name ).isEqualTo( "string" );
+			final var persistenceContext = session.getPersistenceContextInternal();
+			assertThat( persistenceContext.getEntityHoldersByKey() ).isInstanceOf( EntityKeyMap.class ).hasSize( 3 );
+			session.remove( entity );
+			session.flush();
+			assertThat( persistenceContext.getEntityHoldersByKey() ).hasSize( 2 );
+			session.clear();
+			assertThat( session.createSelectionQuery( "from StringEntity", StringEntity.class ).getResultList() )
+					.hasSize( 100 );
+			assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 100 );
+		} );
+	}
+
+	@Entity(name = "LongEntity")
+	public static class LongEntity {
+		@Id
+		Long id;
+		String name;
+
+		public LongEntity() {
+		}
+
+		public LongEntity(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "LongSubEntity")
+	public static class LongSubEntity extends LongEntity {
+		public LongSubEntity() {
+		}
+
+		public LongSubEntity(Long id, String name) {
+			super( id, name );
+		}
+	}
+
+	@Entity(name = "StringEntity")
+	public static class StringEntity {
+		@Id
+		String id;
+		String name;
+
+		public StringEntity() {
+		}
+
+		public StringEntity(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
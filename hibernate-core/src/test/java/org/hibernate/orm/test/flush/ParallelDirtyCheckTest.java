@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PreUpdate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckTest.Item.class,
+		ParallelDirtyCheckTest.Owner.class,
+		ParallelDirtyCheckTest.Auditor.class,
+		ParallelDirtyCheckTest.Note.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD, value = "10"))
+public class ParallelDirtyCheckTest {
+
+	private static final int COUNT = 1_000;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var owner = new Owner( 1L, "owner" );
+			session.persist( owner );
+			session.persist( new Auditor( 1L, "auditor" ) );
+			for ( long i = 0; i < COUNT; i++ ) {
+				session.persist( new Item( i, "item_" + i, new Price( i, "EUR" ) ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testDirtyCheck(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Item> items =
+					session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			assertThat( items ).hasSize( COUNT );
+			session.find( Owner.class, 1L ).name = "renamed";
+
+			inspector.clear();
+			session.flush();
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+
+			final List<Long> modified = new ArrayList<>();
+			for ( int i = 0; i < COUNT; i += 7 ) {
+				final Item item = items.get( i );
+				if ( i % 2 == 0 ) {
+					item.name = "modified_" + i;
+				}
+				else {
+					item.price = new Price( (long) -i, "USD" );
+				}
+				modified.add( item.id );
+			}
+			inspector.clear();
+			session.flush();
+			assertThat( inspector.getSqlQueries() )
+					.hasSize( modified.size() )
+					.allMatch( sql -> sql.startsWith( "update" ) );
+
+			inspector.clear();
+			session.flush();
+			inspector.assertNoUpdate();
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Owner.class, 1L ).name ).isEqualTo( "renamed" );
+			assertThat( session.find( Item.class, 14L ).name ).isEqualTo( "modified_14" );
+			assertThat( session.find( Item.class, 7L ).price.amount ).isEqualTo( -7L );
+			assertThat( session.find( Item.class, 8L ).name ).isEqualTo( "item_8" );
+		} );
+	}
+
+	@Test
+	public void testCallbackModifyingOtherEntity(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			// the callback runs before the dirty check of the items
+			final Auditor auditor = session.find( Auditor.class, 1L );
+			final List<Item> items =
+					session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			Auditor.touched = items.get( 3 );
+			try {
+				auditor.name = "renamed";
+				inspector.clear();
+				session.flush();
+				assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+			}
+			finally {
+				Auditor.touched = null;
+			}
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 3L ).name ).isEqualTo( "touched" );
+		} );
+	}
+
+	@Test
+	public void testGettersCalledOnFlushingThread(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < COUNT; i++ ) {
+				session.persist( new Note( i, "note_" + i ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Item", Item.class ).getResultList();
+			session.createSelectionQuery( "from Note", Note.class ).getResultList();
+			Note.callers.clear();
+			session.flush();
+			assertThat( Note.callers ).containsOnly( Thread.currentThread() );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+		@Embedded
+		Price price;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, Price price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+
+	// not eligible for the parallel dirty check
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Long id;
+		String name;
+		@ManyToOne
+		Owner parent;
+
+		public Owner() {
+		}
+
+		public Owner(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	// its callback disables the parallel dirty check
+	@Entity(name = "Auditor")
+	public static class Auditor {
+		static Item touched;
+
+		@Id
+		Long id;
+		String name;
+
+		public Auditor() {
+		}
+
+		public Auditor(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@PreUpdate
+		void preUpdate() {
+			touched.name = "touched";
+		}
+	}
+
+	// uses property access, and so not eligible for the parallel dirty check
+	@Entity(name = "Note")
+	public static class Note {
+		static final Set<Thread> callers = ConcurrentHashMap.newKeySet();
+
+		private Long id;
+		private String text;
+
+		public Note() {
+		}
+
+		public Note(Long id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		@Id
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			callers.add( Thread.currentThread() );
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+	@Embeddable
+	public static class Price {
+		Long amount;
+		String currency;
+
+		public Price() {
+		}
+
+		public Price(Long amount, String currency) {
+			this.amount = amount;
+			this.currency = currency;
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.BatchSize;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value FetchSettings#MULTI_LOAD_CONCURRENCY}
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = FetchSettings.MULTI_LOAD_CONCURRENCY, value = "3" ),
+				@Setting( name = QuerySettings.ASYNC_EXECUTOR,
+						value = "org.hibernate.orm.test.loading.multiLoad.MultiLoadConcurrentChunksTest$CountingExecutor" ),
+				@Setting( name = StatisticsSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+// a composite id, so that the ids are passed using an 'in' predicate
+@DomainModel( annotatedClasses = MultiLoadConcurrentChunksTest.Item.class )
+@SessionFactory
+public class MultiLoadConcurrentChunksTest {
+	private static final int ITEMS = 10;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= ITEMS; i++ ) {
+				session.persist( new Item( new ItemId( i ), "item " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testOrderedLoad(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		final List<ItemId> ids = new ArrayList<>();
+		for ( long i = ITEMS; i >= 1; i-- ) {
+			ids.add( new ItemId( i ) );
+		}
+		ids.add( 5, new ItemId( 100L ) );
+
+		statistics.clear();
+		final int executions = CountingExecutor.EXECUTIONS.get();
+		scope.inSession( session -> {
+			final var items = session.findMultiple( Item.class, ids, new BatchSize( 3 ) );
+			assertThat( items ).hasSize( ids.size() );
+			for ( int i = 0; i < ids.size(); i++ ) {
+				final var item = items.get( i );
+				if ( ids.get( i ).value() > ITEMS ) {
+					assertThat( item ).isNull();
+				}
+				else {
+					assertThat( item.name ).isEqualTo( "item " + ids.get( i ).value() );
+					// the entities belong to the persistence context
+					assertThat( session.find( Item.class, ids.get( i ) ) ).isSameAs( item );
+				}
+			}
+		} );
+		// four chunks, of which the last three were fetched in the background,
+		// each using one task to obtain a connection, and one to execute
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 4 );
+		assertThat( CountingExecutor.EXECUTIONS.get() - executions ).isEqualTo( 6 );
+	}
+
+	@Test
+	public void testSequentialWithinTransaction(SessionFactoryScope scope) {
+		final int executions = CountingExecutor.EXECUTIONS.get();
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final var items = session.findMultiple( Item.class, ids(), new BatchSize( 3 ) );
+			assertThat( items ).hasSize( ITEMS ).doesNotContainNull();
+		} );
+		assertThat( CountingExecutor.EXECUTIONS.get() - executions ).isZero();
+	}
+
+	@Test
+	public void testSequentialAfterWriteWithinTransaction(SessionFactoryScope scope) {
+		final int executions = CountingExecutor.EXECUTIONS.get();
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "update Item set name = 'updated'" ).executeUpdate();
+			final var items = session.findMultiple( Item.class, ids(), new BatchSize( 3 ) );
+			// the separate connections would not see the update
+			assertThat( items ).extracting( item -> item.name ).containsOnly( "updated" );
+		} );
+		assertThat( CountingExecutor.EXECUTIONS.get() - executions ).isZero();
+	}
+
+	@Test
+	public void testSequentialWithoutConnection(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		CountingExecutor.rejecting = true;
+		try {
+			scope.inSession( session -> {
+				final var items = session.findMultiple( Item.class, ids(), new BatchSize( 3 ) );
+				assertThat( items ).extracting( item -> item.name )
+						.containsExactlyElementsOf( ids().stream().map( id -> "item " + id.value() ).toList() );
+			} );
+		}
+		finally {
+			CountingExecutor.rejecting = false;
+		}
+		// all four chunks were fetched using the connection of the session
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 4 );
+	}
+
+	private static List<ItemId> ids() {
+		final List<ItemId> ids = new ArrayList<>();
+		for ( long i = 1; i <= ITEMS; i++ ) {
+			ids.add( new ItemId( i ) );
+		}
+		return ids;
+	}
+
+	@Test
+	public void testUnorderedLoad(SessionFactoryScope scope) {
+		final List<ItemId> ids = new ArrayList<>();
+		for ( long i = 1; i <= ITEMS; i++ ) {
+			ids.add( new ItemId( i ) );
+		}
+		scope.inSession( session -> {
+			// one entity is already associated with the session
+			final var first = session.find( Item.class, ids.get( 0 ) );
+			final var items =
+					session.byMultipleIds( Item.class )
+							.withBatchSize( 2 )
+							.enableOrderedReturn( false )
+							.multiLoad( ids );
+			assertThat( items ).hasSize( ITEMS ).contains( first );
+			assertThat( items ).extracting( item -> item.name )
+					.containsExactlyInAnyOrderElementsOf( ids.stream().map( id -> "item " + id.value() ).toList() );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	public static class CountingExecutor implements Executor {
+		static final AtomicInteger EXECUTIONS = new AtomicInteger();
+		static volatile boolean rejecting;
+
+		@Override
+		public void execute(Runnable command) {
+			if ( rejecting ) {
+				throw new RejectedExecutionException();
+			}
+			EXECUTIONS.incrementAndGet();
+			new Thread( command ).start();
+		}
+	}
+
+	@Embeddable
+	public record ItemId(Long value) {
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@EmbeddedId
+		ItemId id;
+		String name;
+
+		Item() {
+		}
+
+		Item(ItemId id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
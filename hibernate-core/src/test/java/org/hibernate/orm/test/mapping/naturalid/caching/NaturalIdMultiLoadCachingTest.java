@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.mapping.naturalid.caching;
+
+import java.util.List;
+
+import org.hibernate.KeyType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StatisticsSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for loading multiple entities by natural id from the second-level cache
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory" ),
+				@Setting( name = StatisticsSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+@DomainModel( annotatedClasses = NaturalIdMultiLoadCachingTest.Book.class )
+@SessionFactory
+public class NaturalIdMultiLoadCachingTest {
+	private static final List<String> ISBNS = List.of( "isbn-1", "isbn-2", "isbn-3", "isbn-4", "isbn-5" );
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ISBNS.size(); i++ ) {
+				session.persist( new Book( i + 1, ISBNS.get( i ), "Book " + ( i + 1 ) ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictAll();
+	}
+
+	@Test
+	public void testMultiLoad(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+
+		// loaded from the database, and put in the cache
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertBooks( session.findMultiple( Book.class, ISBNS, KeyType.NATURAL ) );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+		assertThat( statistics.getNaturalIdCachePutCount() ).isEqualTo( 5 );
+
+		// the natural ids and the entities are all served by the cache
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertBooks( session.findMultiple( Book.class, ISBNS, KeyType.NATURAL ) );
+			assertThat( statistics.getPrepareStatementCount() ).isZero();
+			assertThat( statistics.getNaturalIdCacheHitCount() ).isEqualTo( 5 );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isGreaterThanOrEqualTo( 5 );
+
+			// and then by the persistence context
+			statistics.clear();
+			assertBooks( session.findMultiple( Book.class, ISBNS, KeyType.NATURAL ) );
+			assertThat( statistics.getPrepareStatementCount() ).isZero();
+			assertThat( statistics.getNaturalIdCacheHitCount() ).isZero();
+		} );
+
+		// only the missing entity is loaded from the database
+		scope.getSessionFactory().getCache().evictEntityData( Book.class, 3 );
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertBooks( session.findMultiple( Book.class, ISBNS, KeyType.NATURAL ) );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	private static void assertBooks(List<Book> books) {
+		assertThat( books ).hasSize( ISBNS.size() );
+		for ( int i = 0; i < ISBNS.size(); i++ ) {
+			assertThat( books.get( i ).getIsbn() ).isEqualTo( ISBNS.get( i ) );
+		}
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAll();
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@NaturalIdCache
+	public static class Book {
+		@Id
+		Integer id;
+		@NaturalId
+		String isbn;
+		String title;
+
+		Book() {
+		}
+
+		Book(Integer id, String isbn, String title) {
+			this.id = id;
+			this.isbn = isbn;
+			this.title = title;
+		}
+
+		public String getIsbn() {
+			return isbn;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.stream.Collectors;
+
+import org.hibernate.cfg.JdbcSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = AdaptiveFetchSizeTest.Record.class)
+@ServiceRegistry(settings = {
+		@Setting(name = JdbcSettings.STATEMENT_FETCH_SIZE, value = "4"),
+		@Setting(name = JdbcSettings.ADAPTIVE_FETCH_SIZE, value = "true")
+})
+@SessionFactory
+public class AdaptiveFetchSizeTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			for ( long i = 0; i < 200; i++ ) {
+				session.insert( new Record( i, "record_" + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testScroll(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( var results = session.createSelectionQuery( "from Record order by id", Record.class ).scroll() ) {
+				long expected = 0;
+				while ( results.next() ) {
+					assertThat( results.get().id ).isEqualTo( expected++ );
+				}
+				assertThat( expected ).isEqualTo( 200L );
+			}
+		} );
+	}
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( var names = session.createSelectionQuery( "select name from Record", String.class )
+					.getResultStream() ) {
+				assertThat( names.collect( Collectors.toSet() ) ).hasSize( 200 ).contains( "record_199" );
+			}
+		} );
+	}
+
+	@Entity(name = "Record")
+	public static class Record {
+		@Id
+		Long id;
+		String name;
+
+		public Record() {
+		}
+
+		public Record(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
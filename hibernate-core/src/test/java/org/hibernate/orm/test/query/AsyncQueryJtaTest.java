@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import org.hibernate.testing.jta.TestingJtaBootstrap;
+import org.hibernate.testing.jta.TestingJtaPlatformImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingConfiguration;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests that asynchronous operations are rejected within a JTA transaction
+ */
+@ServiceRegistry(
+		settingConfigurations = @SettingConfiguration( configurer = TestingJtaBootstrap.class )
+)
+@DomainModel( annotatedClasses = AsyncQueryJtaTest.Item.class )
+@SessionFactory
+public class AsyncQueryJtaTest {
+
+	@Test
+	public void testRejectedWithinJtaTransaction(SessionFactoryScope scope) throws Exception {
+		TestingJtaPlatformImpl.inNoopJtaTransaction( TestingJtaPlatformImpl.transactionManager(), () ->
+				scope.inSession( session -> {
+					assertThatThrownBy( () -> session.findAsync( Item.class, 1L ) )
+							.isInstanceOf( IllegalStateException.class );
+					assertThatThrownBy( () -> session.createSelectionQuery( "from Item", Item.class ).getResultListAsync() )
+							.isInstanceOf( IllegalStateException.class );
+				} )
+		);
+	}
+
+	@Test
+	public void testAllowedOutsideJtaTransaction(SessionFactoryScope scope) {
+		scope.inSession( session ->
+				assertThat( session.findAsync( Item.class, 1L ).toCompletableFuture().join() ).isNull() );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link org.hibernate.query.SelectionQuery#getResultListAsync()}
+ * and {@link org.hibernate.Session#findAsync}
+ */
+@ServiceRegistry(
+		settings = @Setting( name = QuerySettings.ASYNC_EXECUTOR,
+				value = "org.hibernate.orm.test.query.AsyncQueryTest$CountingExecutor" )
+)
+@DomainModel( annotatedClasses = AsyncQueryTest.Item.class )
+@SessionFactory
+public class AsyncQueryTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1L, "first" ) );
+			session.persist( new Item( 2L, "second" ) );
+		} );
+	}
+
+	@Test
+	public void testAsyncOperations(SessionFactoryScope scope) {
+		final int executions = CountingExecutor.EXECUTIONS.get();
+		scope.inSession( session -> {
+			final var names =
+					session.createSelectionQuery( "select name from Item order by id", String.class )
+							.getResultListAsync();
+			final var items =
+					session.createSelectionQuery( "from Item order by id", Item.class )
+							.getResultListAsync();
+			final var item = session.findAsync( Item.class, 2L );
+
+			assertThat( names.toCompletableFuture().join() ).containsExactly( "first", "second" );
+			final List<Item> list = items.toCompletableFuture().join();
+			assertThat( list ).hasSize( 2 );
+			// the operations share the persistence context
+			assertThat( item.toCompletableFuture().join() ).isSameAs( list.get( 1 ) );
+		} );
+		assertThat( CountingExecutor.EXECUTIONS.get() - executions ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testFailure(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final var failed =
+					session.createSelectionQuery( "from Item where id = :id", Item.class )
+							.getResultListAsync();
+			// the failure of one operation doesn't prevent the next
+			final var item = session.findAsync( Item.class, 1L );
+			assertThatThrownBy( () -> failed.toCompletableFuture().join() )
+					.isInstanceOf( CompletionException.class );
+			assertThat( item.toCompletableFuture().join().name ).isEqualTo( "first" );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	public static class CountingExecutor implements Executor {
+		static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable command) {
+			EXECUTIONS.incrementAndGet();
+			new Thread( command ).start();
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+
+		Item() {
+		}
+
+		Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value QuerySettings#QUERY_PLAN_CACHE_WARMUP_FILE}
+ */
+public class QueryPlanWarmupTest {
+
+	@Test
+	public void testWarmup(@TempDir Path tempDir) throws Exception {
+		final var warmupFile = tempDir.resolve( "query-plans.bin" );
+
+		try ( var serviceRegistry = buildServiceRegistry( warmupFile );
+				var sessionFactory = buildSessionFactory( serviceRegistry, Book.class ) ) {
+			final var queryEngine = sessionFactory.getQueryEngine();
+			assertThat( queryEngine.getInterpretationCache().getNumberOfCachedHqlInterpretations() ).isZero();
+			queryEngine.interpretHql( "from Book where title = :title", Book.class );
+			queryEngine.interpretHql( "select count(*) from Book", Long.class );
+			queryEngine.interpretHql( "select b.title from Book b order by b.id", null );
+		}
+		assertThat( Files.exists( warmupFile ) ).isTrue();
+
+		try ( var serviceRegistry = buildServiceRegistry( warmupFile );
+				var sessionFactory = buildSessionFactory( serviceRegistry, Book.class ) ) {
+			final var queryEngine = sessionFactory.getQueryEngine();
+			// already started when the SessionFactory was created
+			queryEngine.startInterpretationCacheWarmup().toCompletableFuture().get( 10, SECONDS );
+			assertThat( queryEngine.getInterpretationCache().getNumberOfCachedHqlInterpretations() ).isEqualTo( 3 );
+		}
+
+		// a different domain model
+		try ( var serviceRegistry = buildServiceRegistry( warmupFile );
+				var sessionFactory = buildSessionFactory( serviceRegistry, Book.class, Author.class ) ) {
+			final var queryEngine = sessionFactory.getQueryEngine();
+			queryEngine.startInterpretationCacheWarmup().toCompletableFuture().get( 10, SECONDS );
+			assertThat( queryEngine.getInterpretationCache().getNumberOfCachedHqlInterpretations() ).isZero();
+		}
+	}
+
+	private static StandardServiceRegistry buildServiceRegistry(Path warmupFile) {
+		return ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( QuerySettings.QUERY_PLAN_CACHE_WARMUP_FILE, warmupFile.toString() )
+				.build();
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(
+			StandardServiceRegistry serviceRegistry, Class<?>... entityClasses) {
+		final var metadataSources = new MetadataSources( serviceRegistry );
+		for ( var entityClass : entityClasses ) {
+			metadataSources.addAnnotatedClass( entityClass );
+		}
+		return (SessionFactoryImplementor) metadataSources.buildMetadata().buildSessionFactory();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+	}
+}
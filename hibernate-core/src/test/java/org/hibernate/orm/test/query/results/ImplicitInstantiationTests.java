@@ -4,6 +4,8 @@
  */
 package org.hibernate.orm.test.query.results;
 
+import java.util.List;
+
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaQuery;
 import org.hibernate.query.criteria.JpaRoot;
@@ -86,6 +88,23 @@ void testCriteria(SessionFactoryScope sessions) {
 		} );
 	}
 
+	@Test
+	void testCreateQueryMultipleRows(SessionFactoryScope sessions) {
+		sessions.inTransaction( (session) -> {
+			session.persist( new SimpleEntity( 2, "second", new SimpleComposite( "value3", "value4" ) ) );
+		} );
+
+		sessions.inTransaction( (session) -> {
+			final List<Dto> results =
+					session.createQuery( Queries.ID_NAME + " order by e.id", Dto.class ).getResultList();
+			assertThat( results ).hasSize( 2 );
+			assertThat( results.get( 0 ).getKey() ).isEqualTo( 1 );
+			assertThat( results.get( 0 ).getText() ).isEqualTo( "first" );
+			assertThat( results.get( 1 ).getKey() ).isEqualTo( 2 );
+			assertThat( results.get( 1 ).getText() ).isEqualTo( "second" );
+		} );
+	}
+
 	@Test
 	@Jira( "https://hibernate.atlassian.net/browse/HHH-18306" )
 	void testCreateQuerySingleSelectItem(SessionFactoryScope sessions) {
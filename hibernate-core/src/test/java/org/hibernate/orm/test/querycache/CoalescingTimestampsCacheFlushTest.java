@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StatisticsSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the invalidations coalesced by the timestamps cache
+ * are written to the region when the cache is destroyed
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.USE_QUERY_CACHE, value = "true" ),
+				// long enough that no flush is ever due during the test
+				@Setting( name = CacheSettings.TIMESTAMPS_FLUSH_INTERVAL, value = "3600000" ),
+				@Setting( name = StatisticsSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+@DomainModel( annotatedClasses = CoalescingTimestampsCacheFlushTest.Item.class )
+@SessionFactory
+public class CoalescingTimestampsCacheFlushTest {
+
+	@Test
+	public void testFlushOnDestroy(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		final var statistics = factory.getStatistics();
+		final var timestampsCache = factory.getCache().getTimestampsCache();
+		final var region = timestampsCache.getRegion();
+
+		statistics.clear();
+		scope.inTransaction( session -> session.persist( new Item( 1L ) ) );
+		// only the pre-invalidation was written
+		assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 1 );
+		final Object preInvalidation = scope.fromSession( session -> region.getFromCache( "Item", session ) );
+
+		// the pending invalidation is written before the region goes away
+		timestampsCache.destroy();
+		assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 2 );
+		scope.inSession( session ->
+				assertThat( (Long) region.getFromCache( "Item", session ) ).isLessThan( (Long) preInvalidation ) );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+
+		Item() {
+		}
+
+		Item(Long id) {
+			this.id = id;
+		}
+	}
+}
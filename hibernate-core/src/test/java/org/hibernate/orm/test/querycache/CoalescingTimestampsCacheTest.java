@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.cache.internal.CoalescingTimestampsCacheImpl;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value CacheSettings#TIMESTAMPS_FLUSH_INTERVAL}
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.USE_QUERY_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.TIMESTAMPS_FLUSH_INTERVAL, value = "600000" ),
+				@Setting( name = StatisticsSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+@DomainModel( annotatedClasses = CoalescingTimestampsCacheTest.Item.class )
+@SessionFactory
+public class CoalescingTimestampsCacheTest {
+
+	@Test
+	public void testLocalInvalidation(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		assertThat( factory.getCache().getTimestampsCache() )
+				.isInstanceOf( CoalescingTimestampsCacheImpl.class );
+		final var statistics = factory.getStatistics();
+
+		scope.inTransaction( session -> session.persist( new Item( 1L, "first" ) ) );
+		scope.inTransaction( session -> assertThat( getNames( session ) ).containsExactly( "first" ) );
+
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( getNames( session ) ).containsExactly( "first" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		// the invalidation is seen immediately, even though
+		// it was not yet written to the timestamps region
+		statistics.clear();
+		scope.inTransaction( session -> session.find( Item.class, 1L ).name = "second" );
+		// only the pre-invalidation was written, and the invalidation was
+		// coalesced with that of the insert, which is not yet written
+		assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getUpdateTimestampsCacheCoalescedPutCount() ).isEqualTo( 1 );
+		scope.inTransaction( session -> assertThat( getNames( session ) ).containsExactly( "second" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+
+		// and the new result is cached
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( getNames( session ) ).containsExactly( "second" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testConcurrentInvalidations(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		final var statistics = factory.getStatistics();
+		final var timestampsCache = factory.getCache().getTimestampsCache();
+		final var regionFactory = factory.getCache().getRegionFactory();
+		final String[] spaces = { "Item" };
+
+		statistics.clear();
+		scope.inSession( first -> scope.inSession( second -> {
+			timestampsCache.preInvalidate( spaces, first );
+			timestampsCache.preInvalidate( spaces, second );
+			assertThat( statistics.getUpdateTimestampsCacheContendedInvalidationCount() ).isEqualTo( 1 );
+
+			// the space remains invalidated until both transactions complete
+			timestampsCache.invalidate( spaces, second );
+			assertThat( timestampsCache.isUpToDate( spaces, regionFactory.nextTimestamp(), second ) ).isFalse();
+			timestampsCache.invalidate( spaces, first );
+			assertThat( timestampsCache.isUpToDate( spaces, regionFactory.nextTimestamp(), first ) ).isTrue();
+		} ) );
+	}
+
+	private static List<String> getNames(SharedSessionContractImplementor session) {
+		return session.createSelectionQuery( "select name from Item", String.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAll();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+
+		Item() {
+		}
+
+		Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value CacheSettings#QUERY_CACHE_BATCH_LOAD}
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.USE_QUERY_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.QUERY_CACHE_LAYOUT, value = "shallow" ),
+				@Setting( name = CacheSettings.QUERY_CACHE_BATCH_LOAD, value = "true" ),
+				@Setting( name = StatisticsSettings.GENERATE_STATISTICS, value = "true" ),
+		}
+)
+@DomainModel( annotatedClasses = QueryCacheBatchLoadTest.Book.class )
+@SessionFactory
+public class QueryCacheBatchLoadTest {
+	private static final String HQL = "from Book order by id";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testBatchLoad(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.getSessionFactory().getCache().evictAll();
+
+		// populates the query cache
+		scope.inTransaction( session -> assertBooks( getBooks( session ) ) );
+
+		// none of the entities are in the second-level cache
+		scope.getSessionFactory().getCache().evictEntityData();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final var books = getBooks( session );
+			assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+			// a single select instead of one per entity
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+			assertBooks( books );
+		} );
+
+		// all the entities are in the second-level cache
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final var books = getBooks( session );
+			assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+			assertThat( statistics.getPrepareStatementCount() ).isZero();
+			assertBooks( books );
+		} );
+	}
+
+	private static List<Book> getBooks(SharedSessionContractImplementor session) {
+		return session.createSelectionQuery( HQL, Book.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	private static void assertBooks(List<Book> books) {
+		assertThat( books ).hasSize( 10 );
+		for ( int i = 0; i < 10; i++ ) {
+			final var book = books.get( i );
+			assertThat( Hibernate.isInitialized( book ) ).isTrue();
+			assertThat( book.id ).isEqualTo( i );
+			assertThat( book.title ).isEqualTo( "Book " + i );
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
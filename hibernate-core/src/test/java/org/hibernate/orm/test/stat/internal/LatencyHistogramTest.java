@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.stat.internal.LatencyHistogramImpl;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@BaseUnitTest
+public class LatencyHistogramTest {
+
+	@Test
+	public void testEmpty() {
+		final var histogram = new LatencyHistogramImpl();
+		assertThat( histogram.getCount() ).isZero();
+		assertThat( histogram.getMaxMicroseconds() ).isZero();
+		assertThat( histogram.getMicrosecondsAtPercentile( 99 ) ).isZero();
+	}
+
+	@Test
+	public void testPercentiles() {
+		final var histogram = new LatencyHistogramImpl();
+		for ( long i = 1; i <= 1000; i++ ) {
+			histogram.record( i );
+		}
+		assertThat( histogram.getCount() ).isEqualTo( 1000 );
+		assertThat( histogram.getTotalMicroseconds() ).isEqualTo( 500_500 );
+		assertThat( histogram.getMaxMicroseconds() ).isEqualTo( 1000 );
+		// short durations are exact
+		assertThat( histogram.getMicrosecondsAtPercentile( 0.5 ) ).isEqualTo( 5 );
+		// longer durations are within the width of their bucket
+		assertThat( histogram.getMicrosecondsAtPercentile( 50 ) ).isCloseTo( 500, within( 63L ) )
+				.isGreaterThanOrEqualTo( 500 );
+		assertThat( histogram.getMicrosecondsAtPercentile( 99 ) ).isCloseTo( 990, within( 124L ) )
+				.isGreaterThanOrEqualTo( 990 );
+		assertThat( histogram.getMicrosecondsAtPercentile( 100 ) ).isEqualTo( 1000 );
+
+		histogram.reset();
+		assertThat( histogram.getCount() ).isZero();
+		assertThat( histogram.getMicrosecondsAtPercentile( 50 ) ).isZero();
+	}
+
+	@Test
+	public void testVeryLongDuration() {
+		final var histogram = new LatencyHistogramImpl();
+		histogram.record( Long.MAX_VALUE );
+		assertThat( histogram.getMicrosecondsAtPercentile( 50 ) ).isPositive();
+		assertThat( histogram.getMaxMicroseconds() ).isEqualTo( Long.MAX_VALUE );
+	}
+
+	@Test
+	public void testMerge() {
+		final var fast = new LatencyHistogramImpl();
+		final var slow = new LatencyHistogramImpl();
+		for ( int i = 0; i < 90; i++ ) {
+			fast.record( 3 );
+		}
+		for ( int i = 0; i < 10; i++ ) {
+			slow.record( 7 );
+		}
+		final var merged = fast.merge( slow );
+		assertThat( merged.getCount() ).isEqualTo( 100 );
+		assertThat( merged.getTotalMicroseconds() ).isEqualTo( 340 );
+		assertThat( merged.getMicrosecondsAtPercentile( 90 ) ).isEqualTo( 3 );
+		assertThat( merged.getMicrosecondsAtPercentile( 91 ) ).isEqualTo( 7 );
+		assertThat( merged.getMaxMicroseconds() ).isEqualTo( 7 );
+		// the merged histograms are unchanged
+		assertThat( fast.getCount() ).isEqualTo( 90 );
+	}
+
+	@Test
+	public void testConcurrentRecording() {
+		final var histogram = new LatencyHistogramImpl();
+		final List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for ( int thread = 0; thread < 8; thread++ ) {
+			futures.add( CompletableFuture.runAsync( () -> {
+				for ( long i = 0; i < 10_000; i++ ) {
+					histogram.record( i % 100 );
+				}
+			} ) );
+		}
+		futures.forEach( CompletableFuture::join );
+		assertThat( histogram.getCount() ).isEqualTo( 80_000 );
+		assertThat( histogram.getMaxMicroseconds() ).isEqualTo( 99 );
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a batch of bulk inserts falls back to single-row inserts when
+ * the rows can't be transferred using the bulk loading protocol.
+ */
+@DomainModel(annotatedClasses = BulkInsertFallbackTest.Item.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.BULK_INSERTS, value = "true"),
+		@Setting(name = AvailableSettings.DIALECT,
+				value = "org.hibernate.orm.test.stateless.BulkInsertFallbackTest$FallbackH2Dialect")
+})
+@RequiresDialect(H2Dialect.class)
+public class BulkInsertFallbackTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		FallbackBulkInsertSupport.usable = true;
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testConnectionNotUsable(SessionFactoryScope scope) {
+		FallbackBulkInsertSupport.usable = false;
+		final List<Item> items = new ArrayList<>();
+		for ( long i = 0; i < 20; i++ ) {
+			items.add( new Item( i, "item_" + i, null ) );
+		}
+		insertAndVerify( scope, items );
+	}
+
+	@Test
+	public void testValueNotSupported(SessionFactoryScope scope) {
+		final List<Item> items = new ArrayList<>();
+		for ( long i = 0; i < 20; i++ ) {
+			items.add( new Item( i, "item_" + i, i == 13 ? new byte[] { 13 } : null ) );
+		}
+		insertAndVerify( scope, items );
+	}
+
+	private static void insertAndVerify(SessionFactoryScope scope, List<Item> items) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( items ) );
+		// the rows are inserted using the usual single-row statement
+		assertThat( inspector.getSqlQueries() )
+				.isNotEmpty()
+				.allMatch( sql -> sql.toLowerCase().startsWith( "insert" ) );
+
+		scope.inStatelessTransaction( session -> {
+			final List<Item> inserted =
+					session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			assertThat( inserted ).hasSize( items.size() );
+			for ( int i = 0; i < items.size(); i++ ) {
+				assertThat( inserted.get( i ).id ).isEqualTo( items.get( i ).id );
+				assertThat( inserted.get( i ).name ).isEqualTo( items.get( i ).name );
+				assertThat( inserted.get( i ).data ).isEqualTo( items.get( i ).data );
+			}
+		} );
+	}
+
+	public static class FallbackH2Dialect extends H2Dialect {
+		@Override
+		public BulkInsertSupport getBulkInsertSupport() {
+			return FallbackBulkInsertSupport.INSTANCE;
+		}
+	}
+
+	/**
+	 * Supports neither binary values nor, if so instructed, the connection.
+	 */
+	public static class FallbackBulkInsertSupport implements BulkInsertSupport {
+		static final FallbackBulkInsertSupport INSTANCE = new FallbackBulkInsertSupport();
+
+		static volatile boolean usable = true;
+
+		@Override
+		public boolean isUsable(Connection connection) {
+			return usable;
+		}
+
+		@Override
+		public boolean supportsValue(Object value) {
+			return !( value instanceof byte[] );
+		}
+
+		@Override
+		public long insertRows(Connection connection, String tableName, List<String> columnNames, List<Object[]> rows) {
+			throw new AssertionError( "rows should not be bulk loaded" );
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+		byte[] data;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, byte[] data) {
+			this.id = id;
+			this.name = name;
+			this.data = data;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = BulkInsertTest.Item.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = BatchSettings.BULK_INSERTS, value = "true"))
+@RequiresDialect(PostgreSQLDialect.class)
+public class BulkInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testInsertMultiple(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		final List<Item> items = new ArrayList<>();
+		for ( long i = 0; i < 100; i++ ) {
+			items.add( new Item( i, "item\t" + i + "\\\n", i % 2 == 0, new BigDecimal( i + ".25" ),
+					LocalDate.of( 2025, 1, 1 ).plusDays( i ), new byte[] { (byte) i, -1 } ) );
+		}
+		items.add( new Item( 100L, null, null, null, null, null ) );
+		scope.inStatelessTransaction( session -> session.insertMultiple( items ) );
+		// the rows are copied, not inserted
+		assertThat( inspector.getSqlQueries() ).noneMatch( sql -> sql.toLowerCase().startsWith( "insert" ) );
+
+		scope.inStatelessTransaction( session -> {
+			final var item = session.get( Item.class, 7L );
+			assertThat( item.name ).isEqualTo( "item\t7\\\n" );
+			assertThat( item.flag ).isFalse();
+			assertThat( item.amount ).isEqualByComparingTo( "7.25" );
+			assertThat( item.date ).isEqualTo( LocalDate.of( 2025, 1, 8 ) );
+			assertThat( item.data ).containsExactly( 7, -1 );
+			final var empty = session.get( Item.class, 100L );
+			assertThat( empty.name ).isNull();
+			assertThat( empty.flag ).isNull();
+			assertThat( empty.data ).isNull();
+			assertThat( session.createSelectionQuery( "select count(*) from Item", Long.class )
+					.getSingleResult() ).isEqualTo( 101L );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+		Boolean flag;
+		BigDecimal amount;
+		LocalDate date;
+		byte[] data;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, Boolean flag, BigDecimal amount, LocalDate date, byte[] data) {
+			this.id = id;
+			this.name = name;
+			this.flag = flag;
+			this.amount = amount;
+			this.date = date;
+			this.data = data;
+		}
+	}
+}
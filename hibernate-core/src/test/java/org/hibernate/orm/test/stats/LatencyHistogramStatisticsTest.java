@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link org.hibernate.stat.LatencyHistogram}s exposed by
+ * {@link org.hibernate.stat.Statistics}
+ */
+@DomainModel( annotatedClasses = {
+		LatencyHistogramStatisticsTest.Publisher.class,
+		LatencyHistogramStatisticsTest.Book.class
+} )
+@SessionFactory( generateStatistics = true )
+public class LatencyHistogramStatisticsTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var publisher = new Publisher( 1L, "Manning" );
+			session.persist( publisher );
+			for ( long i = 1; i <= 3; i++ ) {
+				final var book = new Book( i, "Book " + i );
+				session.persist( book );
+				publisher.books.add( book );
+			}
+		} );
+	}
+
+	@Test
+	public void testHistograms(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final var publisher = session.find( Publisher.class, 1L );
+			Hibernate.initialize( publisher.books );
+			session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			publisher.name = "Manning Publications";
+		} );
+
+		assertThat( statistics.getEntityLoadTimeHistogram().getCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityStatistics( Publisher.class.getName() ).getLoadTimeHistogram().getCount() )
+				.isEqualTo( 1 );
+
+		final String role = Publisher.class.getName() + ".books";
+		assertThat( statistics.getCollectionFetchTimeHistogram().getCount() ).isEqualTo( 1 );
+		assertThat( statistics.getCollectionStatistics( role ).getFetchTimeHistogram().getCount() ).isEqualTo( 1 );
+
+		final var queryHistogram = statistics.getQueryStatistics( "from Book" ).getExecutionTimeHistogram();
+		assertThat( queryHistogram.getCount() ).isEqualTo( 1 );
+		assertThat( queryHistogram.getMicrosecondsAtPercentile( 50 ) )
+				.isLessThanOrEqualTo( queryHistogram.getMaxMicroseconds() );
+		assertThat( statistics.getQueryExecutionTimeHistogram().getCount() ).isEqualTo( 1 );
+
+		assertThat( statistics.getFlushTimeHistogram().getCount() ).isEqualTo( statistics.getFlushCount() );
+		assertThat( statistics.getFlushTimeHistogram().getCount() ).isPositive();
+
+		final var merged = statistics.getEntityLoadTimeHistogram()
+				.merge( statistics.getCollectionFetchTimeHistogram() );
+		assertThat( merged.getCount() ).isEqualTo( 2 );
+
+		statistics.clear();
+		assertThat( statistics.getEntityLoadTimeHistogram().getCount() ).isZero();
+		assertThat( statistics.getFlushTimeHistogram().getCount() ).isZero();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		Long id;
+		String name;
+		@OneToMany
+		List<Book> books = new ArrayList<>();
+
+		Publisher() {
+		}
+
+		Publisher(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
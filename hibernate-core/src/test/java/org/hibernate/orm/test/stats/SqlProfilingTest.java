@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.List;
+
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.SqlExecutionSample;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value StatisticsSettings#SQL_PROFILING}
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = StatisticsSettings.SQL_PROFILING, value = "true" ),
+				@Setting( name = StatisticsSettings.SQL_PROFILING_SLOW_THRESHOLD, value = "0" ),
+				@Setting( name = StatisticsSettings.SQL_PROFILING_SLOW_SAMPLES, value = "3" ),
+		}
+)
+@DomainModel( annotatedClasses = SqlProfilingTest.Book.class )
+@SessionFactory( generateStatistics = true )
+public class SqlProfilingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testRepeatedExecutions(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				session.find( Book.class, i );
+			}
+		} );
+		scope.inTransaction( session -> session.find( Book.class, 1L ) );
+
+		assertThat( statistics.getSqlQueries() ).hasSize( 1 );
+		final var sqlStatistics = statistics.getSqlStatistics( statistics.getSqlQueries()[0] );
+		assertThat( sqlStatistics.getExecutionCount() ).isEqualTo( 4 );
+		assertThat( sqlStatistics.getRowCount() ).isEqualTo( 4 );
+		assertThat( sqlStatistics.getEstimatedBytesRead() ).isPositive();
+		assertThat( sqlStatistics.getTimeHistogram().getCount() ).isEqualTo( 4 );
+		// the same query executed three times by the first session
+		assertThat( sqlStatistics.getRepeatedExecutionCount() ).isEqualTo( 2 );
+		assertThat( sqlStatistics.getMaxExecutionsPerSession() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testParameterListsCollapsed(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final String hql = "from Book where id in :ids";
+			session.createSelectionQuery( hql, Book.class )
+					.setParameter( "ids", List.of( 1L, 2L ) )
+					.getResultList();
+			session.createSelectionQuery( hql, Book.class )
+					.setParameter( "ids", List.of( 1L, 2L, 3L ) )
+					.getResultList();
+		} );
+
+		final var sqlQueries = statistics.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 1 );
+		assertThat( sqlQueries[0] ).contains( "(?)" );
+		final var sqlStatistics = statistics.getSqlStatistics( sqlQueries[0] );
+		assertThat( sqlStatistics.getExecutionCount() ).isEqualTo( 2 );
+		assertThat( sqlStatistics.getRowCount() ).isEqualTo( 5 );
+		assertThat( sqlStatistics.getRepeatedExecutionCount() ).isEqualTo( 1 );
+		assertThat( sqlStatistics.getExecutionTotalMicroseconds() + sqlStatistics.getRowProcessingTotalMicroseconds() )
+				.isEqualTo( sqlStatistics.getTimeHistogram().getTotalMicroseconds() );
+	}
+
+	@Test
+	public void testSlowSamples(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				session.find( Book.class, i );
+			}
+			session.createSelectionQuery( "from Book order by id", Book.class ).getResultList();
+		} );
+
+		// only the three most recent executions are kept
+		final List<SqlExecutionSample> samples = statistics.getSlowSqlSamples();
+		assertThat( samples ).hasSize( 3 );
+		assertThat( samples.get( 2 ).rows() ).isEqualTo( 3 );
+		assertThat( samples.get( 2 ).sql() ).containsIgnoringCase( "order by" );
+		assertThat( samples.get( 0 ).rows() ).isEqualTo( 1 );
+		assertThat( samples ).allSatisfy( sample -> {
+			assertThat( sample.firstRowMicroseconds() ).isGreaterThanOrEqualTo( sample.executionMicroseconds() );
+			assertThat( sample.estimatedBytesRead() ).isPositive();
+		} );
+
+		statistics.clear();
+		assertThat( statistics.getSlowSqlSamples() ).isEmpty();
+		assertThat( statistics.getSqlQueries() ).isEmpty();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
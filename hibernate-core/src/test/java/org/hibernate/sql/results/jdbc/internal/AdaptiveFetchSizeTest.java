@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveFetchSizeTest {
+
+	@Test
+	public void testFetchSizeGrows() {
+		final var adaptiveFetchSize = new AdaptiveFetchSize( 10 );
+		final Object[] row = { 1L, "name" };
+		final BitSet read = new BitSet();
+		read.set( 0, 2 );
+		for ( int i = 0; i < 9; i++ ) {
+			assertThat( adaptiveFetchSize.rowProcessed( row, read ) ).isZero();
+		}
+		assertThat( adaptiveFetchSize.rowProcessed( row, read ) ).isEqualTo( 20 );
+		assertThat( consumeFetch( adaptiveFetchSize, row, read ) ).isEqualTo( 40 );
+		for ( int i = 0; i < 20; i++ ) {
+			consumeFetch( adaptiveFetchSize, row, read );
+		}
+		assertThat( adaptiveFetchSize.getFetchSize() ).isEqualTo( AdaptiveFetchSize.MAX_FETCH_SIZE );
+	}
+
+	@Test
+	public void testFetchSizeLimitedByRowWidth() {
+		final var adaptiveFetchSize = new AdaptiveFetchSize( 10 );
+		final Object[] row = { 1L, new byte[1024 * 1024] };
+		final BitSet read = new BitSet();
+		read.set( 0, 2 );
+		// four rows of a megabyte fill the memory available to a fetch,
+		// but the fetch size never goes below the initial fetch size
+		assertThat( consumeFetch( adaptiveFetchSize, row, read ) ).isZero();
+		assertThat( adaptiveFetchSize.getFetchSize() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void testRowWidth() {
+		final BitSet read = new BitSet();
+		read.set( 1 );
+		final Object[] row = { "ignored, since it was not read", new byte[100] };
+		assertThat( AdaptiveFetchSize.estimateRowWidth( row, read ) ).isEqualTo( 16 + 16 + 100 );
+	}
+
+	private static int consumeFetch(AdaptiveFetchSize adaptiveFetchSize, Object[] row, BitSet read) {
+		final int fetchSize = adaptiveFetchSize.getFetchSize();
+		for ( int i = 0; i < fetchSize - 1; i++ ) {
+			assertThat( adaptiveFetchSize.rowProcessed( row, read ) ).isZero();
+		}
+		return adaptiveFetchSize.rowProcessed( row, read );
+	}
+}
@@ -4,6 +4,9 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -40,6 +43,21 @@ public void putIntoCache(Object key, Object value, SharedSessionContractImplemen
 		underlyingCache.put( key, value );
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return underlyingCache.getAll( new LinkedHashSet<>( keys ) );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		underlyingCache.putAll( items );
+	}
+
+	@Override
+	public void putAllFromLoad(Map<?, ?> items, SharedSessionContractImplementor session) {
+		underlyingCache.putAll( items );
+	}
+
 	@Override
 	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
 		underlyingCache.remove( key );
@@ -68,7 +68,8 @@ public DomainDataRegion buildDomainDataRegion(
 		return new JCacheDomainDataRegionImpl(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				applyNearCache( createDomainDataStorageAccess( regionConfig, buildingContext ),
+						regionConfig, buildingContext ),
 				cacheKeysFactory,
 				buildingContext
 		);
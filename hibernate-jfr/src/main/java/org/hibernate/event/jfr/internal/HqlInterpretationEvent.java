@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( HqlInterpretationEvent.NAME )
+@Label( "HQL Interpretation" )
+@Category( "Hibernate ORM" )
+@Description( "HQL or JPQL query interpreted as an SQM tree" )
+@StackTrace
+@AllowNonPortable
+public class HqlInterpretationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.HqlInterpretation";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "HQL Query" )
+	public String hql;
+
+	@Label( "Entity Names" )
+	public String entityNames;
+
+	@Label( "Success" )
+	public boolean success;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
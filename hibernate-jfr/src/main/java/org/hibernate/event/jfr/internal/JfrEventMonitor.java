@@ -15,11 +15,17 @@
 import org.hibernate.internal.build.AllowNonPortable;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.sqm.tree.SqmDmlStatement;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.stat.internal.StatsHelper;
 
 import jdk.jfr.EventType;
 
+import java.util.Collection;
 import java.util.Objects;
+import java.util.StringJoiner;
 
 
 @AllowNonPortable
@@ -50,6 +56,12 @@ public class JfrEventMonitor implements EventMonitor {
 	private static final EventType collectionRecreateEventType = EventType.getEventType( CollectionRecreateEvent.class );
 	private static final EventType collectionUpdateEventType = EventType.getEventType( CollectionUpdateEvent.class );
 	private static final EventType collectionRemoveEventType = EventType.getEventType( CollectionRemoveEvent.class );
+	private static final EventType hqlInterpretationEventType = EventType.getEventType( HqlInterpretationEvent.class );
+	private static final EventType queryPlanCompilationEventType = EventType.getEventType( QueryPlanCompilationEvent.class );
+	private static final EventType rowProcessingEventType = EventType.getEventType( RowProcessingEvent.class );
+	private static final EventType lazyAttributeFetchEventType = EventType.getEventType( LazyAttributeFetchEvent.class );
+	private static final EventType proxyInitializationEventType = EventType.getEventType( ProxyInitializationEvent.class );
+	private static final EventType queryCacheGetEventType = EventType.getEventType( QueryCacheGetEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -779,6 +791,200 @@ public void completeCollectionRemoveEvent(
 		}
 	}
 
+	@Override
+	public DiagnosticEvent beginHqlInterpretationEvent() {
+		if ( hqlInterpretationEventType.isEnabled() ) {
+			final HqlInterpretationEvent event = new HqlInterpretationEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeHqlInterpretationEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String hql,
+			SqmStatement<?> statement) {
+		if ( event != null ) {
+			final HqlInterpretationEvent hqlInterpretationEvent = (HqlInterpretationEvent) event;
+			hqlInterpretationEvent.end();
+			if ( hqlInterpretationEvent.shouldCommit() ) {
+				hqlInterpretationEvent.sessionIdentifier = getSessionIdentifier( session );
+				hqlInterpretationEvent.hql = hql;
+				hqlInterpretationEvent.entityNames = getEntityNames( statement );
+				hqlInterpretationEvent.success = statement != null;
+				hqlInterpretationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginQueryPlanCompilationEvent() {
+		if ( queryPlanCompilationEventType.isEnabled() ) {
+			final QueryPlanCompilationEvent event = new QueryPlanCompilationEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeQueryPlanCompilationEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String hql,
+			SqmStatement<?> statement,
+			String sql) {
+		if ( event != null ) {
+			final QueryPlanCompilationEvent queryPlanCompilationEvent = (QueryPlanCompilationEvent) event;
+			queryPlanCompilationEvent.end();
+			if ( queryPlanCompilationEvent.shouldCommit() ) {
+				queryPlanCompilationEvent.sessionIdentifier = getSessionIdentifier( session );
+				queryPlanCompilationEvent.hql = hql;
+				queryPlanCompilationEvent.entityNames = getEntityNames( statement );
+				queryPlanCompilationEvent.sql = sql;
+				queryPlanCompilationEvent.success = sql != null;
+				queryPlanCompilationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginRowProcessingEvent() {
+		if ( rowProcessingEventType.isEnabled() ) {
+			final RowProcessingEvent event = new RowProcessingEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeRowProcessingEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			long rowCount,
+			String results) {
+		if ( event != null ) {
+			final RowProcessingEvent rowProcessingEvent = (RowProcessingEvent) event;
+			rowProcessingEvent.end();
+			if ( rowProcessingEvent.shouldCommit() ) {
+				rowProcessingEvent.sessionIdentifier = getSessionIdentifier( session );
+				rowProcessingEvent.rowCount = rowCount;
+				rowProcessingEvent.results = results;
+				rowProcessingEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginLazyAttributeFetchEvent() {
+		if ( lazyAttributeFetchEventType.isEnabled() ) {
+			final LazyAttributeFetchEvent event = new LazyAttributeFetchEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeLazyAttributeFetchEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String entityName,
+			String attributeName,
+			Object id,
+			boolean success) {
+		if ( event != null ) {
+			final LazyAttributeFetchEvent lazyAttributeFetchEvent = (LazyAttributeFetchEvent) event;
+			lazyAttributeFetchEvent.end();
+			if ( lazyAttributeFetchEvent.shouldCommit() ) {
+				lazyAttributeFetchEvent.sessionIdentifier = getSessionIdentifier( session );
+				lazyAttributeFetchEvent.entityName = entityName;
+				lazyAttributeFetchEvent.attributeName = attributeName;
+				lazyAttributeFetchEvent.id = Objects.toString( id );
+				lazyAttributeFetchEvent.success = success;
+				lazyAttributeFetchEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginProxyInitializationEvent() {
+		if ( proxyInitializationEventType.isEnabled() ) {
+			final ProxyInitializationEvent event = new ProxyInitializationEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeProxyInitializationEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String entityName,
+			Object id,
+			boolean success) {
+		if ( event != null ) {
+			final ProxyInitializationEvent proxyInitializationEvent = (ProxyInitializationEvent) event;
+			proxyInitializationEvent.end();
+			if ( proxyInitializationEvent.shouldCommit() ) {
+				proxyInitializationEvent.sessionIdentifier = getSessionIdentifier( session );
+				proxyInitializationEvent.entityName = entityName;
+				proxyInitializationEvent.id = Objects.toString( id );
+				proxyInitializationEvent.success = success;
+				proxyInitializationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginQueryCacheGetEvent() {
+		if ( queryCacheGetEventType.isEnabled() ) {
+			final QueryCacheGetEvent event = new QueryCacheGetEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeQueryCacheGetEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			Region region,
+			Collection<String> querySpaces,
+			boolean hit,
+			boolean stale) {
+		if ( event != null ) {
+			final QueryCacheGetEvent queryCacheGetEvent = (QueryCacheGetEvent) event;
+			queryCacheGetEvent.end();
+			if ( queryCacheGetEvent.shouldCommit() ) {
+				queryCacheGetEvent.sessionIdentifier = getSessionIdentifier( session );
+				queryCacheGetEvent.regionName = region.getName();
+				queryCacheGetEvent.querySpaces = querySpaces == null ? null : String.join( ",", querySpaces );
+				queryCacheGetEvent.hit = hit;
+				queryCacheGetEvent.stale = stale;
+				queryCacheGetEvent.commit();
+			}
+		}
+	}
+
 	private String getSessionIdentifier(SharedSessionContractImplementor session) {
 		return session == null ? null : session.getSessionIdentifier().toString();
 	}
@@ -787,4 +993,20 @@ private String getEntityName(EntityPersister persister) {
 		return StatsHelper.getRootEntityRole( persister ).getFullPath();
 	}
 
+	private String getEntityNames(SqmStatement<?> statement) {
+		if ( statement instanceof SqmSelectStatement<?> selectStatement ) {
+			final StringJoiner entityNames = new StringJoiner( "," );
+			for ( SqmRoot<?> root : selectStatement.getQueryPart().getFirstQuerySpec().getRootList() ) {
+				entityNames.add( root.getEntityName() );
+			}
+			return entityNames.toString();
+		}
+		else if ( statement instanceof SqmDmlStatement<?> dmlStatement ) {
+			return dmlStatement.getTarget().getEntityName();
+		}
+		else {
+			return null;
+		}
+	}
+
 }
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( LazyAttributeFetchEvent.NAME )
+@Label( "Lazy Attribute Fetch" )
+@Category( "Hibernate ORM" )
+@Description( "Lazy attribute of an enhanced entity fetched" )
+@StackTrace
+@AllowNonPortable
+public class LazyAttributeFetchEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.LazyAttributeFetch";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Entity Name" )
+	public String entityName;
+
+	@Label( "Attribute Name" )
+	public String attributeName;
+
+	@Label( "Entity Identifier" )
+	public String id;
+
+	@Label( "Success" )
+	public boolean success;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
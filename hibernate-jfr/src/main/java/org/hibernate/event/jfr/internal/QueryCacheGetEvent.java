@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( QueryCacheGetEvent.NAME )
+@Label( "Query Cache Get Executed" )
+@Category( "Hibernate ORM" )
+@Description( "Query Cache Get Executed" )
+@StackTrace
+@AllowNonPortable
+public class QueryCacheGetEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.QueryCacheGet";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Region Name" )
+	public String regionName;
+
+	@Label( "Query Spaces" )
+	public String querySpaces;
+
+	@Label( "Cache Hit" )
+	public boolean hit;
+
+	@Label( "Stale Results" )
+	public boolean stale;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( QueryPlanCompilationEvent.NAME )
+@Label( "Query Plan Compilation" )
+@Category( "Hibernate ORM" )
+@Description( "SQM tree translated to SQL" )
+@StackTrace
+@AllowNonPortable
+public class QueryPlanCompilationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.QueryPlanCompilation";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "HQL Query" )
+	public String hql;
+
+	@Label( "Entity Names" )
+	public String entityNames;
+
+	@Label( "SQL Query" )
+	public String sql;
+
+	@Label( "Success" )
+	public boolean success;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
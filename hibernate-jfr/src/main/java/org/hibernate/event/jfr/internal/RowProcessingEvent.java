@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( RowProcessingEvent.NAME )
+@Label( "Row Processing" )
+@Category( "Hibernate ORM" )
+@Description( "JDBC result set rows read and processed" )
+@StackTrace
+@AllowNonPortable
+public class RowProcessingEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.RowProcessing";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Row Count" )
+	public long rowCount;
+
+	@Label( "Results" )
+	public String results;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.Hibernate;
+import org.hibernate.event.jfr.internal.HqlInterpretationEvent;
+import org.hibernate.event.jfr.internal.ProxyInitializationEvent;
+import org.hibernate.event.jfr.internal.QueryPlanCompilationEvent;
+import org.hibernate.event.jfr.internal.RowProcessingEvent;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = QueryEventTests.TestEntity.class)
+@SessionFactory
+public class QueryEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new TestEntity( 1, "name_1" ) );
+					session.persist( new TestEntity( 2, "name_2" ) );
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(HqlInterpretationEvent.NAME)
+	@EnableEvent(QueryPlanCompilationEvent.NAME)
+	@EnableEvent(RowProcessingEvent.NAME)
+	public void testQueryEvents(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+					final String hql = "select t from TestEntity t order by t.id";
+					assertThat( session.createQuery( hql, TestEntity.class ).list() ).hasSize( 2 );
+
+					final List<RecordedEvent> interpretationEvents = events( HqlInterpretationEvent.NAME );
+					assertThat( interpretationEvents ).hasSize( 1 );
+					final RecordedEvent interpretationEvent = interpretationEvents.get( 0 );
+					assertThat( interpretationEvent.getString( "sessionIdentifier" ) )
+							.isEqualTo( session.getSessionIdentifier().toString() );
+					assertThat( interpretationEvent.getString( "hql" ) ).isEqualTo( hql );
+					assertThat( interpretationEvent.getString( "entityNames" ) )
+							.isEqualTo( TestEntity.class.getName() );
+					assertThat( interpretationEvent.getBoolean( "success" ) ).isTrue();
+
+					final List<RecordedEvent> compilationEvents = events( QueryPlanCompilationEvent.NAME );
+					assertThat( compilationEvents ).hasSize( 1 );
+					final RecordedEvent compilationEvent = compilationEvents.get( 0 );
+					assertThat( compilationEvent.getDuration() ).isPositive();
+					assertThat( compilationEvent.getString( "hql" ) ).isEqualTo( hql );
+					assertThat( compilationEvent.getString( "sql" ).toLowerCase( Locale.ROOT ) )
+							.contains( "select " );
+					assertThat( compilationEvent.getBoolean( "success" ) ).isTrue();
+
+					final List<RecordedEvent> rowProcessingEvents = events( RowProcessingEvent.NAME );
+					assertThat( rowProcessingEvents ).hasSize( 1 );
+					final RecordedEvent rowProcessingEvent = rowProcessingEvents.get( 0 );
+					assertThat( rowProcessingEvent.getLong( "rowCount" ) ).isEqualTo( 2L );
+					assertThat( rowProcessingEvent.getString( "results" ) )
+							.contains( TestEntity.class.getName() );
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(ProxyInitializationEvent.NAME)
+	public void testProxyInitializationEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+					final TestEntity reference = session.getReference( TestEntity.class, 1 );
+					assertThat( events( ProxyInitializationEvent.NAME ) ).isEmpty();
+					Hibernate.initialize( reference );
+
+					final List<RecordedEvent> events = events( ProxyInitializationEvent.NAME );
+					assertThat( events ).hasSize( 1 );
+					final RecordedEvent event = events.get( 0 );
+					assertThat( event.getDuration() ).isPositive();
+					assertThat( event.getString( "sessionIdentifier" ) )
+							.isEqualTo( session.getSessionIdentifier().toString() );
+					assertThat( event.getString( "entityName" ) ).isEqualTo( TestEntity.class.getName() );
+					assertThat( event.getString( "id" ) ).isEqualTo( "1" );
+					assertThat( event.getBoolean( "success" ) ).isTrue();
+				}
+		);
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -7,6 +7,7 @@
 import io.micrometer.common.lang.NonNullApi;
 import io.micrometer.common.lang.NonNullFields;
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -19,6 +20,7 @@
 
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -31,6 +33,8 @@ public class HibernateMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
 
@@ -99,6 +103,63 @@ private void counter(
 				.register( registry );
 	}
 
+	/**
+	 * Expose a {@link LatencyHistogram} as a {@link FunctionTimer}, together with
+	 * {@link TimeGauge}s for the maximum and for some percentiles of the durations.
+	 */
+	private void latency(
+			MeterRegistry registry,
+			String name,
+			String description,
+			Function<Statistics, LatencyHistogram> f,
+			String... extraTags) {
+		if ( this.statistics == null ) {
+			return;
+		}
+
+		bindLatency( registry, name, description, statistics, f, Tags.concat( tags, extraTags ) );
+	}
+
+	static <T> void bindLatency(
+			MeterRegistry registry,
+			String name,
+			String description,
+			T object,
+			Function<T, LatencyHistogram> f,
+			Iterable<Tag> tags) {
+		FunctionTimer.builder(
+				name,
+				object,
+				o -> f.apply( o ).getCount(),
+				o -> f.apply( o ).getTotalMicroseconds(),
+				TimeUnit.MICROSECONDS
+		)
+				.tags( tags )
+				.description( description )
+				.register( registry );
+		TimeGauge.builder(
+				name + ".max",
+				object,
+				TimeUnit.MICROSECONDS,
+				o -> f.apply( o ).getMaxMicroseconds()
+		)
+				.tags( tags )
+				.description( description )
+				.register( registry );
+		for ( double percentile : PERCENTILES ) {
+			TimeGauge.builder(
+					name + ".percentile",
+					object,
+					TimeUnit.MICROSECONDS,
+					o -> f.apply( o ).getMicrosecondsAtPercentile( percentile * 100 )
+			)
+					.tags( tags )
+					.tags( "phi", String.valueOf( percentile ) )
+					.description( description )
+					.register( registry );
+		}
+	}
+
 	@Override
 	public void bindTo(MeterRegistry registry) {
 		if ( this.statistics == null ) {
@@ -127,6 +188,11 @@ public void bindTo(MeterRegistry registry) {
 				"The global number of flushes executed by sessions (either implicit or explicit)",
 				Statistics::getFlushCount
 		);
+		latency(registry,
+				"hibernate.flushes.latency",
+				"The time taken by flushes which executed SQL statements",
+				Statistics::getFlushTimeHistogram
+		);
 		counter(registry,
 				"hibernate.connections.obtained",
 				"Get the global number of connections asked by the sessions " +
@@ -183,6 +249,14 @@ public void bindTo(MeterRegistry registry) {
 							"region",
 							regionName
 					);
+					latency(
+							registry,
+							"hibernate.second.level.cache.lookups.latency",
+							"The time taken to look up entities/collections in the cache",
+							stats -> stats.getDomainDataRegionStatistics( regionName ).getLookupTimeHistogram(),
+							"region",
+							regionName
+					);
 				} );
 
 		// Entity information
@@ -202,6 +276,11 @@ public void bindTo(MeterRegistry registry) {
 				Statistics::getEntityInsertCount
 		);
 		counter(registry, "hibernate.entities.loads", "The number of entity loads", Statistics::getEntityLoadCount );
+		latency(registry,
+				"hibernate.entities.loads.latency",
+				"The time taken to load entities by id from the database",
+				Statistics::getEntityLoadTimeHistogram
+		);
 		counter(registry,
 				"hibernate.entities.updates",
 				"The number of entity updates",
@@ -224,6 +303,11 @@ public void bindTo(MeterRegistry registry) {
 				"The number of collection fetches",
 				Statistics::getCollectionFetchCount
 		);
+		latency(registry,
+				"hibernate.collections.fetches.latency",
+				"The time taken to fetch collections from the database",
+				Statistics::getCollectionFetchTimeHistogram
+		);
 		counter(registry,
 				"hibernate.collections.loads",
 				"The number of collection loads",
@@ -292,6 +376,12 @@ public void bindTo(MeterRegistry registry) {
 				.tags( tags )
 				.register( registry );
 
+		latency(registry,
+				"hibernate.query.executions.latency",
+				"The execution time of queries",
+				Statistics::getQueryExecutionTimeHistogram
+		);
+
 		// Update timestamp cache
 		counter(registry,
 				"hibernate.cache.update.timestamps.requests",
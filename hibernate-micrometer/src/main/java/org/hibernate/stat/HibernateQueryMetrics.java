@@ -170,6 +170,15 @@ void registerQueryMetric(Statistics statistics) {
 						.description( "Query minimum execution time" )
 						.register( meterRegistry );
 
+				HibernateMetrics.bindLatency(
+						meterRegistry,
+						"hibernate.query.execution.latency",
+						"Query execution time",
+						queryStatistics,
+						QueryStatistics::getExecutionTimeHistogram,
+						Tags.concat( tags, "query", query )
+				);
+
 				FunctionCounter.builder(
 						"hibernate.query.execution.rows",
 						queryStatistics,
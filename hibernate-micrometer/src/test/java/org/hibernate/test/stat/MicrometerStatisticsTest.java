@@ -108,6 +108,12 @@ public void testMicrometerMetrics(SessionFactoryScope factoryScope) {
 
 		assertNotNull(registry.get("hibernate.query.executions").functionCounter());
 		assertNotNull(registry.get("hibernate.query.executions.max").timeGauge());
+		assertNotNull(registry.get("hibernate.query.executions.latency").functionTimer());
+		assertNotNull(registry.get("hibernate.query.executions.latency.max").timeGauge());
+		assertNotNull(registry.get("hibernate.query.executions.latency.percentile").tags("phi", "0.99").timeGauge());
+		assertNotNull(registry.get("hibernate.entities.loads.latency").functionTimer());
+		assertNotNull(registry.get("hibernate.collections.fetches.latency").functionTimer());
+		assertNotNull(registry.get("hibernate.flushes.latency").functionTimer());
 
 		assertNotNull(registry.get("hibernate.cache.update.timestamps.requests").tags("result", "hit").functionCounter());
 		assertNotNull(registry.get("hibernate.cache.update.timestamps.requests").tags("result", "miss").functionCounter());
@@ -129,6 +135,7 @@ public void testMicrometerMetrics(SessionFactoryScope factoryScope) {
 		assertEquals( 1, registry.get("hibernate.sessions.closed").functionCounter().count(), 0 );
 		assertEquals( 1, registry.get("hibernate.entities.inserts").functionCounter().count(), 0 );
 		assertEquals( 1, registry.get("hibernate.transactions").tags("result", "success").functionCounter().count(), 0 );
+		assertEquals( 1, registry.get("hibernate.flushes.latency").functionTimer().count(), 0 );
 
 		// clean up
 		factoryScope.inTransaction( (session) -> {
@@ -57,12 +57,17 @@ public DomainDataRegion buildDomainDataRegion(
 		return new DomainDataRegionImpl(
 				regionConfig,
 				this,
-				new MapStorageAccessImpl(),
+				applyNearCache( new MapStorageAccessImpl(), regionConfig, buildingContext ),
 				cacheKeysFactory,
 				buildingContext
 		);
 	}
 
+	@Override
+	protected boolean isStorageLocal() {
+		return true;
+	}
+
 	@Override
 	protected StorageAccess createQueryResultsRegionStorageAccess(
 			String regionName,